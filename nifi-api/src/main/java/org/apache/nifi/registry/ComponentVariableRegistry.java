@@ -21,4 +21,17 @@ public interface ComponentVariableRegistry extends VariableRegistry {
     VariableRegistry getParent();
 
     void setParent(VariableRegistry parentRegistry);
+
+    /**
+     * Indicates the current version of the variables that are available through this registry, including those that are inherited from its
+     * parents. The version changes whenever any of those variables is updated or the registry is given a different parent, which allows
+     * components to know whether or not the values of variables may have changed since some other point in time. The version is not persisted
+     * across restarts of the application.
+     *
+     * @return the current version
+     */
+    default long getVersion() {
+        final VariableRegistry parent = getParent();
+        return parent instanceof ComponentVariableRegistry ? ((ComponentVariableRegistry) parent).getVersion() : 0L;
+    }
 }
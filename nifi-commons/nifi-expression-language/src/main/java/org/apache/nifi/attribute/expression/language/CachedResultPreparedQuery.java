@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.attribute.expression.language;
+
+import org.apache.nifi.expression.AttributeValueDecorator;
+import org.apache.nifi.processor.exception.ProcessException;
+
+/**
+ * A PreparedQuery that evaluates an attribute-independent PreparedQuery only once and returns the same result for all subsequent
+ * evaluations, rather than evaluating it again for every FlowFile. Because the result may depend on Parameters, an instance must only
+ * be evaluated against EvaluationContexts that provide the same Parameters, such as those created for a single component while it is
+ * scheduled. Evaluations that make use of an {@link AttributeValueDecorator} are always delegated to the wrapped PreparedQuery.
+ */
+public class CachedResultPreparedQuery implements PreparedQuery {
+    private final PreparedQuery preparedQuery;
+
+    private volatile String result;
+    private volatile boolean evaluated = false;
+
+    public CachedResultPreparedQuery(final PreparedQuery preparedQuery) {
+        if (!preparedQuery.isAttributeIndependent()) {
+            throw new IllegalArgumentException("Cannot cache the result of a query that depends on FlowFile attributes");
+        }
+
+        this.preparedQuery = preparedQuery;
+    }
+
+    @Override
+    public String evaluateExpressions(final EvaluationContext evaluationContext, final AttributeValueDecorator decorator) throws ProcessException {
+        if (decorator != null) {
+            return preparedQuery.evaluateExpressions(evaluationContext, decorator);
+        }
+
+        if (evaluated) {
+            return result;
+        }
+
+        final String evaluatedResult = preparedQuery.evaluateExpressions(evaluationContext, null);
+        result = evaluatedResult;
+        evaluated = true;
+        return evaluatedResult;
+    }
+
+    @Override
+    public boolean isExpressionLanguagePresent() {
+        return preparedQuery.isExpressionLanguagePresent();
+    }
+
+    @Override
+    public VariableImpact getVariableImpact() {
+        return preparedQuery.getVariableImpact();
+    }
+
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
+}
@@ -28,12 +28,15 @@ public class CompiledExpression implements Expression {
     private final Tree tree;
     private final String expression;
     private final Set<Evaluator<?>> allEvaluators;
+    private final boolean attributeIndependent;
 
-    public CompiledExpression(final String expression, final Evaluator<?> rootEvaluator, final Tree tree, final Set<Evaluator<?>> allEvaluators) {
+    public CompiledExpression(final String expression, final Evaluator<?> rootEvaluator, final Tree tree, final Set<Evaluator<?>> allEvaluators,
+                              final boolean attributeIndependent) {
         this.rootEvaluator = rootEvaluator;
         this.tree = tree;
         this.expression = expression;
         this.allEvaluators = allEvaluators;
+        this.attributeIndependent = attributeIndependent;
     }
 
     public Evaluator<?> getRootEvaluator() {
@@ -52,8 +55,24 @@ public class CompiledExpression implements Expression {
         return allEvaluators;
     }
 
+    /**
+     * @return <code>true</code> if the expression yields the same value for every FlowFile, because it references no attributes, variables or state
+     *         and calls no function whose value changes between evaluations. The expression may still reference Parameters.
+     */
+    public boolean isAttributeIndependent() {
+        return attributeIndependent;
+    }
+
     @Override
     public String evaluate(final EvaluationContext evaluationContext, final AttributeValueDecorator decorator) {
-        return Query.evaluateExpression(tree, rootEvaluator, expression, evaluationContext, decorator);
+        // Evaluate the root directly rather than going through a new Query each time; the Evaluators that are most commonly
+        // used then pass plain values between one another instead of creating a QueryResult for every step.
+        final Object evaluated = rootEvaluator.evaluateValue(evaluationContext);
+        if (evaluated == null) {
+            return null;
+        }
+
+        final String value = evaluated.toString();
+        return decorator == null ? value : decorator.decorate(value);
     }
 }
@@ -42,4 +42,9 @@ public class EmptyPreparedQuery implements PreparedQuery {
     public VariableImpact getVariableImpact() {
         return VariableImpact.NEVER_IMPACTED;
     }
+
+    @Override
+    public boolean isAttributeIndependent() {
+        return true;
+    }
 }
@@ -51,4 +51,9 @@ public class InvalidPreparedQuery implements PreparedQuery {
     public VariableImpact getVariableImpact() {
         return VariableImpact.NEVER_IMPACTED;
     }
+
+    @Override
+    public boolean isAttributeIndependent() {
+        return false;
+    }
 }
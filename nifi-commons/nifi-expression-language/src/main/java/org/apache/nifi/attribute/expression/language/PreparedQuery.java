@@ -34,4 +34,12 @@ public interface PreparedQuery {
      *         variable impacts this Expression.
      */
     VariableImpact getVariableImpact();
+
+    /**
+     * Indicates whether or not this query yields the same value regardless of the FlowFile, attributes, variables or state that it is
+     * evaluated against, so that it needs to be evaluated only once for a given set of Parameters.
+     *
+     * @return <code>true</code> if the value of this query does not depend on anything other than Parameters
+     */
+    boolean isAttributeIndependent();
 }
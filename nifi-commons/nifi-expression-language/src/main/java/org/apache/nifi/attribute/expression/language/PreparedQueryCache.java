@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.attribute.expression.language;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of the PreparedQueries that have been created for a given query text. A PreparedQuery does not hold any state that is
+ * specific to the component that evaluates it, so the same instance can be shared by all components that use the same property value,
+ * avoiding parsing and compiling it over and over again. The cache may be accessed concurrently without any locking. Values of sensitive
+ * properties must never be added to it, see {@link Query#prepareSensitive(String)}. The hit and miss counts are logged at debug level
+ * after every {@value #STATISTICS_LOG_INTERVAL} lookups.
+ */
+public class PreparedQueryCache {
+    private static final Logger logger = LoggerFactory.getLogger(PreparedQueryCache.class);
+    static final int STATISTICS_LOG_INTERVAL = 10_000;
+
+    private final int maxEntries;
+    private final int maxQueryLength;
+    private final Cache<Key, PreparedQuery> preparedQueries;
+    private final AtomicLong hitCount = new AtomicLong(0L);
+    private final AtomicLong missCount = new AtomicLong(0L);
+
+    PreparedQueryCache(final int maxEntries, final int maxQueryLength) {
+        this.maxEntries = maxEntries;
+        this.maxQueryLength = maxQueryLength;
+        this.preparedQueries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * @param query the text of the query
+     * @param parametersPreEvaluated whether or not the query was prepared with Parameter references already evaluated
+     * @return the cached PreparedQuery, or <code>null</code> if no PreparedQuery is cached for the given query
+     */
+    PreparedQuery get(final String query, final boolean parametersPreEvaluated) {
+        if (!isCacheable(query)) {
+            return null;
+        }
+
+        final PreparedQuery preparedQuery = preparedQueries.getIfPresent(new Key(query, parametersPreEvaluated));
+        final long lookups;
+        if (preparedQuery == null) {
+            lookups = missCount.incrementAndGet() + hitCount.get();
+        } else {
+            lookups = hitCount.incrementAndGet() + missCount.get();
+        }
+
+        if (lookups % STATISTICS_LOG_INTERVAL == 0 && logger.isDebugEnabled()) {
+            logger.debug("Prepared query cache statistics: {}", getStatistics());
+        }
+
+        return preparedQuery;
+    }
+
+    void put(final String query, final boolean parametersPreEvaluated, final PreparedQuery preparedQuery) {
+        if (!isCacheable(query)) {
+            return;
+        }
+
+        preparedQueries.put(new Key(query, parametersPreEvaluated), preparedQuery);
+    }
+
+    private boolean isCacheable(final String query) {
+        return query != null && query.length() <= maxQueryLength;
+    }
+
+    /**
+     * @return the number of times that a PreparedQuery was found in the cache
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of times that a cacheable query had to be prepared because it was not found in the cache
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of PreparedQueries that are currently cached
+     */
+    public long getSize() {
+        preparedQueries.cleanUp();
+        return preparedQueries.estimatedSize();
+    }
+
+    public int getMaxSize() {
+        return maxEntries;
+    }
+
+    /**
+     * @return a summary of the hit and miss counts and the size of the cache, suitable for logging or diagnostics
+     */
+    public String getStatistics() {
+        final long hits = getHitCount();
+        final long lookups = hits + getMissCount();
+        final long hitPercentage = lookups == 0 ? 0 : hits * 100 / lookups;
+        return String.format("%d hits, %d misses (%d%% hit rate), %d of %d entries", hits, lookups - hits, hitPercentage, getSize(), maxEntries);
+    }
+
+    void clear() {
+        preparedQueries.invalidateAll();
+    }
+
+    private static class Key {
+        private final String query;
+        private final boolean parametersPreEvaluated;
+
+        private Key(final String query, final boolean parametersPreEvaluated) {
+            this.query = query;
+            this.parametersPreEvaluated = parametersPreEvaluated;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+            return parametersPreEvaluated == other.parametersPreEvaluated && query.equals(other.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, parametersPreEvaluated);
+        }
+    }
+}
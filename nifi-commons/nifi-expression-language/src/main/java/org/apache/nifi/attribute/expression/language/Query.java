@@ -46,6 +46,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class Query {
 
+    // Property values are prepared each time a component is scheduled or validated, and EL functions such as evaluateELString prepare
+    // their input for each evaluation, so recently prepared queries are cached. Very long values are not cached, as they are unlikely
+    // to be prepared often and would hold on to a significant amount of memory.
+    private static final int MAX_CACHED_PREPARED_QUERIES = 10_000;
+    private static final int MAX_CACHED_QUERY_LENGTH = 8192;
+    private static final PreparedQueryCache PREPARED_QUERY_CACHE = new PreparedQueryCache(MAX_CACHED_PREPARED_QUERIES, MAX_CACHED_QUERY_LENGTH);
+
     private final String query;
     private final Tree tree;
     private final Evaluator<?> evaluator;
@@ -218,19 +225,6 @@ public class Query {
         return -1;
     }
 
-    static String evaluateExpression(final Tree tree, final Evaluator<?> rootEvaluator, final String queryText, final EvaluationContext evaluationContext, final AttributeValueDecorator decorator)
-                throws ProcessException {
-
-        Query query = new Query(queryText, tree, rootEvaluator);
-        final Object evaluated = query.evaluate(evaluationContext).getValue();
-        if (evaluated == null) {
-            return null;
-        }
-
-        final String value = evaluated.toString();
-        return decorator == null ? value : decorator.decorate(value);
-    }
-
     static String evaluateExpressions(final String rawValue, Map<String, String> expressionMap, final AttributeValueDecorator decorator, final Map<String, String> stateVariables,
                                       final ParameterLookup parameterLookup) throws ProcessException {
         return Query.prepare(rawValue).evaluateExpressions(new StandardEvaluationContext(expressionMap, stateVariables, parameterLookup), decorator);
@@ -306,11 +300,46 @@ public class Query {
         return prepare(query, false);
     }
 
+    /**
+     * Prepares the given query without consulting or populating the shared cache of PreparedQueries, so that the query text is not
+     * retained beyond the lifetime of the returned PreparedQuery. This should be used for the values of sensitive properties.
+     *
+     * @param query the query to prepare
+     * @return the PreparedQuery
+     * @throws AttributeExpressionLanguageParsingException if the query cannot be parsed
+     */
+    public static PreparedQuery prepareSensitive(final String query) throws AttributeExpressionLanguageParsingException {
+        if (query == null) {
+            return new EmptyPreparedQuery(null);
+        }
+
+        return createPreparedQuery(query, false);
+    }
+
+    /**
+     * @return the cache of PreparedQueries that is shared by all callers of {@link #prepare(String)} and {@link #prepareWithParametersPreEvaluated(String)}
+     */
+    public static PreparedQueryCache getPreparedQueryCache() {
+        return PREPARED_QUERY_CACHE;
+    }
+
     private static PreparedQuery prepare(final String rawQuery, final boolean escapeParameterReferences) throws AttributeExpressionLanguageParsingException {
         if (rawQuery == null) {
             return new EmptyPreparedQuery(null);
         }
 
+        final PreparedQuery cached = PREPARED_QUERY_CACHE.get(rawQuery, escapeParameterReferences);
+        if (cached != null) {
+            return cached;
+        }
+
+        final PreparedQuery preparedQuery = createPreparedQuery(rawQuery, escapeParameterReferences);
+        PREPARED_QUERY_CACHE.put(rawQuery, escapeParameterReferences, preparedQuery);
+        return preparedQuery;
+    }
+
+    private static PreparedQuery createPreparedQuery(final String rawQuery, final boolean escapeParameterReferences) throws AttributeExpressionLanguageParsingException {
+
         final ParameterParser parameterParser = new ExpressionLanguageAwareParameterParser();
 
         final String query;
@@ -72,6 +72,21 @@ public class StandardPreparedQuery implements PreparedQuery {
         return !expressions.isEmpty();
     }
 
+    @Override
+    public boolean isAttributeIndependent() {
+        for (final Expression expression : expressions) {
+            if (expression instanceof CompiledExpression) {
+                if (!((CompiledExpression) expression).isAttributeIndependent()) {
+                    return false;
+                }
+            } else if (!(expression instanceof StringLiteralExpression) && !(expression instanceof ParameterExpression)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public VariableImpact getVariableImpact() {
         final VariableImpact existing = this.variableImpact;
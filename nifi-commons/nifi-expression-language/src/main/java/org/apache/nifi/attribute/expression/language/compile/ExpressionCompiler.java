@@ -247,6 +247,13 @@ import static org.apache.nifi.attribute.expression.language.antlr.AttributeExpre
 public class ExpressionCompiler {
     private final Set<Evaluator<?>> evaluators = new HashSet<>();
 
+    // Number of Evaluators created so far whose value may differ between evaluations, because they depend on FlowFile attributes,
+    // variables or state, or because they return a new value each time they are evaluated (such as now() or random()).
+    private int variableEvaluatorCount = 0;
+    // Number of Evaluators created so far that reference a Parameter. Their value is the same for every FlowFile but depends on
+    // the component that evaluates the expression, so they prevent constant folding but not attribute independence.
+    private int parameterEvaluatorCount = 0;
+
     public CompiledExpression compile(final String expression) {
         try {
             final CharStream input = new ANTLRStringStream(expression);
@@ -257,13 +264,15 @@ public class ExpressionCompiler {
             final Tree ast = (Tree) parser.query().getTree();
             final Tree tree = ast.getChild(0);
 
+            final int variableEvaluatorsBefore = variableEvaluatorCount;
             final Evaluator<?> evaluator = buildEvaluator(tree);
             verifyMappingEvaluatorReduced(evaluator);
+            final boolean attributeIndependent = variableEvaluatorCount == variableEvaluatorsBefore;
 
             final Set<Evaluator<?>> allEvaluators = new HashSet<>(evaluators);
             this.evaluators.clear();
 
-            return new CompiledExpression(expression, evaluator, tree, allEvaluators);
+            return new CompiledExpression(expression, evaluator, tree, allEvaluators, attributeIndependent);
         } catch (final AttributeExpressionLanguageParsingException e) {
             throw e;
         } catch (final Exception e) {
@@ -397,7 +406,7 @@ public class ExpressionCompiler {
                     }
                 }
 
-                evaluators.add(chosenEvaluator);
+                register(chosenEvaluator);
                 switch (multiAttrEval.getEvaluationType()) {
                     case ANY_ATTRIBUTE:
                         chosenEvaluator.setToken("anyAttribute");
@@ -433,6 +442,9 @@ public class ExpressionCompiler {
             return buildEvaluator(tree.getChild(0));
         }
 
+        final int variableEvaluatorsBefore = variableEvaluatorCount;
+        final int parameterEvaluatorsBefore = parameterEvaluatorCount;
+
         final Tree functionTree = tree.getChild(firstChildIndex);
         final Evaluator<?> subjectEvaluator = buildFunctionExpressionEvaluator(tree, offset + 1);
 
@@ -441,7 +453,9 @@ public class ExpressionCompiler {
         for (int i = 1; i < functionTree.getChildCount(); i++) {
             argEvaluators.add(buildEvaluator(functionTree.getChild(i)));
         }
-        return buildFunctionEvaluator(functionNameTree, subjectEvaluator, argEvaluators);
+
+        final Evaluator<?> functionEvaluator = buildFunctionEvaluator(functionNameTree, subjectEvaluator, argEvaluators);
+        return foldIfConstant(functionEvaluator, variableEvaluatorsBefore, parameterEvaluatorsBefore);
     }
 
     private List<Evaluator<?>> verifyArgCount(final List<Evaluator<?>> args, final int count, final String functionName) {
@@ -1038,6 +1052,64 @@ public class ExpressionCompiler {
     }
 
     public Evaluator<?> buildEvaluator(final Tree tree) {
+        final int variableEvaluatorsBefore = variableEvaluatorCount;
+        final int parameterEvaluatorsBefore = parameterEvaluatorCount;
+
+        final Evaluator<?> evaluator = buildEvaluatorForTree(tree);
+        return foldIfConstant(evaluator, variableEvaluatorsBefore, parameterEvaluatorsBefore);
+    }
+
+    /**
+     * Replaces the given Evaluator with a literal if no Evaluator that may yield a different value on each evaluation, or that references a Parameter,
+     * was created while building it, as its value is then known at compile time. If the Evaluator cannot be evaluated without a FlowFile (for example,
+     * because it fails on its literal input), it is returned unchanged so that any failure still happens when the expression is evaluated.
+     */
+    private Evaluator<?> foldIfConstant(final Evaluator<?> evaluator, final int variableEvaluatorsBefore, final int parameterEvaluatorsBefore) {
+        if (variableEvaluatorCount != variableEvaluatorsBefore || parameterEvaluatorCount != parameterEvaluatorsBefore) {
+            return evaluator;
+        }
+
+        if (evaluator instanceof StringLiteralEvaluator || evaluator instanceof BooleanLiteralEvaluator
+            || evaluator instanceof WholeNumberLiteralEvaluator || evaluator instanceof DecimalLiteralEvaluator) {
+            return evaluator;
+        }
+
+        final ResultType resultType = evaluator.getResultType();
+        if (resultType != ResultType.STRING && resultType != ResultType.BOOLEAN && resultType != ResultType.WHOLE_NUMBER && resultType != ResultType.DECIMAL) {
+            return evaluator;
+        }
+
+        final Object value;
+        try {
+            value = evaluator.evaluateValue(new StandardEvaluationContext(Collections.emptyMap()));
+        } catch (final Exception e) {
+            return evaluator;
+        }
+
+        if (value == null) {
+            return evaluator;
+        }
+
+        final Evaluator<?> literalEvaluator;
+        switch (resultType) {
+            case STRING:
+                literalEvaluator = StringLiteralEvaluator.forValue((String) value);
+                break;
+            case BOOLEAN:
+                literalEvaluator = new BooleanLiteralEvaluator((Boolean) value);
+                break;
+            case WHOLE_NUMBER:
+                literalEvaluator = new WholeNumberLiteralEvaluator(String.valueOf(value));
+                break;
+            default:
+                literalEvaluator = new DecimalLiteralEvaluator(String.valueOf(value));
+                break;
+        }
+
+        return addToken(literalEvaluator, evaluator.getToken());
+    }
+
+    private Evaluator<?> buildEvaluatorForTree(final Tree tree) {
         switch (tree.getType()) {
             case EXPRESSION: {
                 return buildExpressionEvaluator(tree);
@@ -1045,7 +1117,7 @@ public class ExpressionCompiler {
             case PARAMETER_REFERENCE: {
                 final String parameterName = tree.getChild(0).getText();
                 final ParameterEvaluator parameterEvaluator = new ParameterEvaluator(parameterName);
-                evaluators.add(parameterEvaluator);
+                register(parameterEvaluator);
                 return parameterEvaluator;
             }
             case ATTRIBUTE_REFERENCE: {
@@ -1054,7 +1126,7 @@ public class ExpressionCompiler {
                     return childEvaluator;
                 }
                 final AttributeEvaluator eval = new AttributeEvaluator(toStringEvaluator(childEvaluator));
-                evaluators.add(eval);
+                register(eval);
                 return eval;
             }
             case MULTI_ATTRIBUTE_REFERENCE: {
@@ -1180,7 +1252,7 @@ public class ExpressionCompiler {
                 final Evaluator<?> argEvaluator = buildEvaluator(childTree);
                 final Evaluator<String> stringEvaluator = toStringEvaluator(argEvaluator);
                 final GetStateVariableEvaluator eval = new GetStateVariableEvaluator(stringEvaluator);
-                evaluators.add(eval);
+                register(eval);
                 return eval;
             }
             default:
@@ -1190,10 +1262,38 @@ public class ExpressionCompiler {
 
     private <T> Evaluator<T> addToken(final Evaluator<T> evaluator, final String token) {
         evaluator.setToken(token);
+        return register(evaluator);
+    }
+
+    private <T> Evaluator<T> register(final Evaluator<T> evaluator) {
         evaluators.add(evaluator);
+
+        if (evaluator instanceof ParameterEvaluator) {
+            parameterEvaluatorCount++;
+        } else if (isVariable(evaluator)) {
+            variableEvaluatorCount++;
+        }
+
         return evaluator;
     }
 
+    private static boolean isVariable(final Evaluator<?> evaluator) {
+        return evaluator instanceof AttributeEvaluator
+            || evaluator instanceof MultiAttributeEvaluator
+            || evaluator instanceof IteratingEvaluator
+            || evaluator instanceof MappingEvaluator
+            || evaluator instanceof GetStateVariableEvaluator
+            || evaluator instanceof EvaluateELStringEvaluator
+            || evaluator instanceof UuidEvaluator
+            || evaluator instanceof NowEvaluator
+            || evaluator instanceof RandomNumberGeneratorEvaluator
+            || evaluator instanceof OneUpSequenceEvaluator
+            || evaluator instanceof MathEvaluator
+            || evaluator instanceof ThreadEvaluator
+            || evaluator instanceof HostnameEvaluator
+            || evaluator instanceof IPEvaluator;
+    }
+
     private String unescapeTrailingDollarSigns(final String value) {
         if (!value.endsWith("$")) {
             return value;
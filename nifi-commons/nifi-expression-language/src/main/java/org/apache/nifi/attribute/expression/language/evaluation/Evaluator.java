@@ -23,6 +23,19 @@ public interface Evaluator<T> {
 
     QueryResult<T> evaluate(EvaluationContext evaluationContext);
 
+    /**
+     * Evaluates the expression and returns the resulting value without wrapping it in a {@link QueryResult}. Evaluators that are
+     * commonly chained together override this method and implement {@link #evaluate(EvaluationContext)} in terms of it, so that
+     * evaluating a chain of such Evaluators does not create an intermediate result object for every step of the chain.
+     *
+     * @param evaluationContext the context to evaluate against
+     * @return the value of the expression, or <code>null</code> if the expression evaluates to <code>null</code>
+     */
+    default T evaluateValue(EvaluationContext evaluationContext) {
+        final QueryResult<T> result = evaluate(evaluationContext);
+        return result == null ? null : result.getValue();
+    }
+
     ResultType getResultType();
 
     int getEvaluationsRemaining(EvaluationContext context);
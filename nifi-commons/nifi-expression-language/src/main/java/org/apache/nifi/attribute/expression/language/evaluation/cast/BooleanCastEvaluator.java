@@ -33,12 +33,17 @@ public class BooleanCastEvaluator extends BooleanEvaluator {
 
     @Override
     public QueryResult<Boolean> evaluate(final EvaluationContext evaluationContext) {
-        final QueryResult<String> result = subjectEvaluator.evaluate(evaluationContext);
-        if (result.getValue() == null) {
-            return new BooleanQueryResult(null);
+        return new BooleanQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public Boolean evaluateValue(final EvaluationContext evaluationContext) {
+        final String value = subjectEvaluator.evaluateValue(evaluationContext);
+        if (value == null) {
+            return null;
         }
 
-        return new BooleanQueryResult(Boolean.valueOf(result.getValue().trim()));
+        return Boolean.valueOf(value.trim());
     }
 
     @Override
@@ -32,12 +32,17 @@ public class StringCastEvaluator extends StringEvaluator {
 
     @Override
     public QueryResult<String> evaluate(final EvaluationContext evaluationContext) {
-        final QueryResult<?> result = subjectEvaluator.evaluate(evaluationContext);
-        if (result.getValue() == null) {
-            return new StringQueryResult(null);
+        return new StringQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public String evaluateValue(final EvaluationContext evaluationContext) {
+        final Object value = subjectEvaluator.evaluateValue(evaluationContext);
+        if (value == null) {
+            return null;
         }
 
-        return new StringQueryResult(String.valueOf(result.getValue()));
+        return String.valueOf(value);
     }
 
     @Override
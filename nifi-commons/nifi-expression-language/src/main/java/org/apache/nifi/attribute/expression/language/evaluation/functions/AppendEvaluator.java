@@ -34,12 +34,16 @@ public class AppendEvaluator extends StringEvaluator {
 
     @Override
     public QueryResult<String> evaluate(final EvaluationContext evaluationContext) {
-        final String subjectValue = subject.evaluate(evaluationContext).getValue();
-        final String appendValue = appendEvaluator.evaluate(evaluationContext).getValue();
+        return new StringQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public String evaluateValue(final EvaluationContext evaluationContext) {
+        final String subjectValue = subject.evaluateValue(evaluationContext);
+        final String appendValue = appendEvaluator.evaluateValue(evaluationContext);
 
-        final String result = (subjectValue == null ? "" : subjectValue)
+        return (subjectValue == null ? "" : subjectValue)
                 + (appendValue == null ? "" : appendValue);
-        return new StringQueryResult(result);
     }
 
     @Override
@@ -37,31 +37,36 @@ public class EqualsEvaluator extends BooleanEvaluator {
 
     @Override
     public QueryResult<Boolean> evaluate(final EvaluationContext evaluationContext) {
-        final Object a = subject.evaluate(evaluationContext).getValue();
+        return new BooleanQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public Boolean evaluateValue(final EvaluationContext evaluationContext) {
+        final Object a = subject.evaluateValue(evaluationContext);
         if (a == null) {
-            return new BooleanQueryResult(false);
+            return false;
         }
 
-        final Object b = compareTo.evaluate(evaluationContext).getValue();
+        final Object b = compareTo.evaluateValue(evaluationContext);
         if (b == null) {
-            return new BooleanQueryResult(false);
+            return false;
         }
 
         if (subject.getResultType() == compareTo.getResultType()) {
-            return new BooleanQueryResult(a.equals(b));
+            return a.equals(b);
         }
 
         final String normalizedSubjectValue = normalizeValue(subject.getResultType(), a);
         if (normalizedSubjectValue == null) {
-            return new BooleanQueryResult(false);
+            return false;
         }
 
         final String normalizedCompareToValue = normalizeValue(compareTo.getResultType(), b);
         if (normalizedCompareToValue == null) {
-            return new BooleanQueryResult(false);
+            return false;
         }
 
-        return new BooleanQueryResult(normalizedSubjectValue.equals(normalizedCompareToValue));
+        return normalizedSubjectValue.equals(normalizedCompareToValue);
     }
 
     private String normalizeValue(final ResultType type, final Object value) {
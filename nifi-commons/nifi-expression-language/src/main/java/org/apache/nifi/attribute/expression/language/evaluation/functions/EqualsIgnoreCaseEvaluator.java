@@ -34,21 +34,26 @@ public class EqualsIgnoreCaseEvaluator extends BooleanEvaluator {
 
     @Override
     public QueryResult<Boolean> evaluate(final EvaluationContext evaluationContext) {
-        final Object a = subject.evaluate(evaluationContext).getValue();
+        return new BooleanQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public Boolean evaluateValue(final EvaluationContext evaluationContext) {
+        final Object a = subject.evaluateValue(evaluationContext);
         if (a == null) {
-            return new BooleanQueryResult(false);
+            return false;
         }
 
-        final Object b = compareTo.evaluate(evaluationContext).getValue();
+        final Object b = compareTo.evaluateValue(evaluationContext);
         if (b == null) {
-            return new BooleanQueryResult(false);
+            return false;
         }
 
         if (a instanceof String && b instanceof String) {
-            return new BooleanQueryResult(((String) a).equalsIgnoreCase((String) b));
+            return ((String) a).equalsIgnoreCase((String) b);
         }
 
-        return new BooleanQueryResult(a.equals(b));
+        return a.equals(b);
     }
 
     @Override
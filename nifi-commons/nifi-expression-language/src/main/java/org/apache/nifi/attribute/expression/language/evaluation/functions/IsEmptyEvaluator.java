@@ -32,8 +32,13 @@ public class IsEmptyEvaluator extends BooleanEvaluator {
 
     @Override
     public QueryResult<Boolean> evaluate(final EvaluationContext evaluationContext) {
-        final Object subjectValue = subjectEvaluator.evaluate(evaluationContext).getValue();
-        return new BooleanQueryResult(subjectValue == null || subjectValue.toString().trim().isEmpty());
+        return new BooleanQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public Boolean evaluateValue(final EvaluationContext evaluationContext) {
+        final Object subjectValue = subjectEvaluator.evaluateValue(evaluationContext);
+        return subjectValue == null || subjectValue.toString().trim().isEmpty();
     }
 
     @Override
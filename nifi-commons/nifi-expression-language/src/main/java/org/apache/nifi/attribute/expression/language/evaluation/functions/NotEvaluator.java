@@ -32,12 +32,17 @@ public class NotEvaluator extends BooleanEvaluator {
 
     @Override
     public QueryResult<Boolean> evaluate(final EvaluationContext evaluationContext) {
-        final QueryResult<Boolean> subjectValue = subjectEvaluator.evaluate(evaluationContext);
+        return new BooleanQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public Boolean evaluateValue(final EvaluationContext evaluationContext) {
+        final Boolean subjectValue = subjectEvaluator.evaluateValue(evaluationContext);
         if (subjectValue == null) {
-            return new BooleanQueryResult(null);
+            return null;
         }
 
-        return new BooleanQueryResult(!subjectValue.getValue());
+        return !subjectValue;
     }
 
     @Override
@@ -32,8 +32,12 @@ public class NotNullEvaluator extends BooleanEvaluator {
 
     @Override
     public QueryResult<Boolean> evaluate(final EvaluationContext evaluationContext) {
-        final Object subjectValue = subject.evaluate(evaluationContext).getValue();
-        return new BooleanQueryResult(subjectValue != null);
+        return new BooleanQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public Boolean evaluateValue(final EvaluationContext evaluationContext) {
+        return subject.evaluateValue(evaluationContext) != null;
     }
 
     @Override
@@ -34,13 +34,14 @@ public class OrEvaluator extends BooleanEvaluator {
 
     @Override
     public QueryResult<Boolean> evaluate(final EvaluationContext evaluationContext) {
-        final QueryResult<Boolean> subjectValue = subjectEvaluator.evaluate(evaluationContext);
-        if (subjectValue == null) {
-            return new BooleanQueryResult(null);
-        }
+        return new BooleanQueryResult(evaluateValue(evaluationContext));
+    }
 
-        if (Boolean.TRUE.equals(subjectValue.getValue())) {
-            return new BooleanQueryResult(true);
+    @Override
+    public Boolean evaluateValue(final EvaluationContext evaluationContext) {
+        final Boolean subjectValue = subjectEvaluator.evaluateValue(evaluationContext);
+        if (Boolean.TRUE.equals(subjectValue)) {
+            return true;
         }
 
         // Returning previously evaluated result.
@@ -48,7 +49,7 @@ public class OrEvaluator extends BooleanEvaluator {
         // In that case, it's enough to evaluate the right hand side.
         final BooleanQueryResult rhsResult = evaluationContext.getEvaluatorState().getState(this, BooleanQueryResult.class);
         if (rhsResult != null) {
-            return rhsResult;
+            return rhsResult.getValue();
         }
 
         final QueryResult<Boolean> rhsValue = rhsEvaluator.evaluate(evaluationContext);
@@ -59,7 +60,7 @@ public class OrEvaluator extends BooleanEvaluator {
             result = new BooleanQueryResult(rhsValue.getValue());
         }
         evaluationContext.getEvaluatorState().putState(this, result);
-        return result;
+        return result.getValue();
     }
 
     @Override
@@ -34,11 +34,15 @@ public class PrependEvaluator extends StringEvaluator {
 
     @Override
     public QueryResult<String> evaluate(final EvaluationContext evaluationContext) {
-        final String subjectValue = subject.evaluate(evaluationContext).getValue();
-        final String prependValue = prependEvaluator.evaluate(evaluationContext).getValue();
+        return new StringQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public String evaluateValue(final EvaluationContext evaluationContext) {
+        final String subjectValue = subject.evaluateValue(evaluationContext);
+        final String prependValue = prependEvaluator.evaluateValue(evaluationContext);
 
-        final String result = (prependValue == null ? "" : prependValue) + (subjectValue == null ? "" : subjectValue);
-        return new StringQueryResult(result);
+        return (prependValue == null ? "" : prependValue) + (subjectValue == null ? "" : subjectValue);
     }
 
     @Override
@@ -34,8 +34,13 @@ public class ReplaceNullEvaluator extends StringEvaluator {
 
     @Override
     public QueryResult<String> evaluate(final EvaluationContext evaluationContext) {
-        final String subjectValue = subject.evaluate(evaluationContext).getValue();
-        return new StringQueryResult(subjectValue == null ? resultEvaluator.evaluate(evaluationContext).getValue() : subjectValue);
+        return new StringQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public String evaluateValue(final EvaluationContext evaluationContext) {
+        final String subjectValue = subject.evaluateValue(evaluationContext);
+        return subjectValue == null ? resultEvaluator.evaluateValue(evaluationContext) : subjectValue;
     }
 
     @Override
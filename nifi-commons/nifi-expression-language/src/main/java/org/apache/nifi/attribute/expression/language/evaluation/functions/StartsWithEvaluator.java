@@ -34,13 +34,18 @@ public class StartsWithEvaluator extends BooleanEvaluator {
 
     @Override
     public QueryResult<Boolean> evaluate(final EvaluationContext evaluationContext) {
-        final String subjectValue = subject.evaluate(evaluationContext).getValue();
+        return new BooleanQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public Boolean evaluateValue(final EvaluationContext evaluationContext) {
+        final String subjectValue = subject.evaluateValue(evaluationContext);
         if (subjectValue == null) {
-            return new BooleanQueryResult(false);
+            return false;
         }
 
-        final String searchString = search.evaluate(evaluationContext).getValue();
-        return new BooleanQueryResult(searchString == null ? false : subjectValue.startsWith(searchString));
+        final String searchString = search.evaluateValue(evaluationContext);
+        return searchString == null ? false : subjectValue.startsWith(searchString);
     }
 
     @Override
@@ -32,8 +32,13 @@ public class ToUpperEvaluator extends StringEvaluator {
 
     @Override
     public QueryResult<String> evaluate(final EvaluationContext evaluationContext) {
-        final String subjectValue = subject.evaluate(evaluationContext).getValue();
-        return new StringQueryResult(subjectValue == null ? null : subjectValue.toUpperCase());
+        return new StringQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public String evaluateValue(final EvaluationContext evaluationContext) {
+        final String subjectValue = subject.evaluateValue(evaluationContext);
+        return subjectValue == null ? null : subjectValue.toUpperCase();
     }
 
     @Override
@@ -35,6 +35,11 @@ public class BooleanLiteralEvaluator extends BooleanEvaluator {
         return new BooleanQueryResult(value);
     }
 
+    @Override
+    public Boolean evaluateValue(final EvaluationContext evaluationContext) {
+        return value;
+    }
+
     @Override
     public Evaluator<?> getSubjectEvaluator() {
         return null;
@@ -27,6 +27,15 @@ public class StringLiteralEvaluator extends StringEvaluator {
     private final String value;
 
     public StringLiteralEvaluator(final String value) {
+        this(value, true);
+    }
+
+    private StringLiteralEvaluator(final String value, final boolean unescape) {
+        if (!unescape) {
+            this.value = value;
+            return;
+        }
+
         // need to escape characters after backslashes
         final StringBuilder sb = new StringBuilder();
         boolean lastCharIsBackslash = false;
@@ -63,11 +72,27 @@ public class StringLiteralEvaluator extends StringEvaluator {
         this.value = sb.toString();
     }
 
+    /**
+     * Creates a StringLiteralEvaluator for a value that has already been computed, such as the result of folding a constant
+     * expression. Unlike the public constructor, the value is used as-is, without interpreting backslashes as escape characters.
+     *
+     * @param value the value of the literal
+     * @return a StringLiteralEvaluator that always evaluates to the given value
+     */
+    public static StringLiteralEvaluator forValue(final String value) {
+        return new StringLiteralEvaluator(value, false);
+    }
+
     @Override
     public QueryResult<String> evaluate(final EvaluationContext evaluationContext) {
         return new StringQueryResult(value);
     }
 
+    @Override
+    public String evaluateValue(final EvaluationContext evaluationContext) {
+        return value;
+    }
+
     @Override
     public Evaluator<?> getSubjectEvaluator() {
         return null;
@@ -32,9 +32,13 @@ public class AttributeEvaluator extends StringEvaluator {
 
     @Override
     public QueryResult<String> evaluate(final EvaluationContext evaluationContext) {
-        final String nameValue = nameEvaluator.evaluate(evaluationContext).getValue();
-        final String attributeValue = evaluationContext.getExpressionValue(nameValue);
-        return new StringQueryResult(attributeValue);
+        return new StringQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public String evaluateValue(final EvaluationContext evaluationContext) {
+        final String nameValue = nameEvaluator.evaluateValue(evaluationContext);
+        return evaluationContext.getExpressionValue(nameValue);
     }
 
     @Override
@@ -32,8 +32,13 @@ public class ParameterEvaluator extends StringEvaluator {
 
     @Override
     public QueryResult<String> evaluate(final EvaluationContext evaluationContext) {
+        return new StringQueryResult(evaluateValue(evaluationContext));
+    }
+
+    @Override
+    public String evaluateValue(final EvaluationContext evaluationContext) {
         final Parameter parameter = evaluationContext.getParameter(parameterName);
-        return new StringQueryResult( (parameter == null || parameter.getDescriptor().isSensitive()) ? null : parameter.getValue());
+        return (parameter == null || parameter.getDescriptor().isSensitive()) ? null : parameter.getValue();
     }
 
     @Override
@@ -19,6 +19,8 @@ package org.apache.nifi.attribute.expression.language;
 import org.antlr.runtime.tree.Tree;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.nifi.attribute.expression.language.Query.Range;
+import org.apache.nifi.attribute.expression.language.compile.ExpressionCompiler;
+import org.apache.nifi.attribute.expression.language.evaluation.Evaluator;
 import org.apache.nifi.attribute.expression.language.evaluation.NumberQueryResult;
 import org.apache.nifi.attribute.expression.language.evaluation.QueryResult;
 import org.apache.nifi.attribute.expression.language.exception.AttributeExpressionLanguageException;
@@ -57,6 +59,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -2137,6 +2140,129 @@ public class TestQuery {
         }
     }
 
+    @Test
+    public void testEvaluateValueStringResults() {
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("attr", "  Hello World  ");
+        attributes.put("empty", "");
+
+        verifyEvaluateValue("${attr:trim():toUpper():append('!'):prepend('>')}", attributes, ">HELLO WORLD!");
+        verifyEvaluateValue("${attr:trim():toLower()}", attributes, "hello world");
+        verifyEvaluateValue("${empty:replaceNull('default')}", attributes, "");
+        verifyEvaluateValue("${literal('abc'):append(${attr:trim()})}", attributes, "abcHello World");
+        verifyEvaluateValue("${#{param}:toUpper()}", attributes, Collections.singletonMap("param", "value"), "VALUE");
+    }
+
+    @Test
+    public void testEvaluateValueNumberResults() {
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("quantity", "5");
+        attributes.put("ratio", "2.5");
+
+        verifyEvaluateValue("${quantity:toNumber():plus(1)}", attributes, 6L);
+        verifyEvaluateValue("${ratio:toDecimal():multiply(2)}", attributes, 5.0D);
+        verifyEvaluateValue("${quantity:toNumber():plus(1):append('x')}", attributes, "6x");
+        verifyEvaluateValue("${quantity:toNumber():equals(5)}", attributes, true);
+        verifyEvaluateValue("${quantity:equals(${literal(5)})}", attributes, true);
+    }
+
+    @Test
+    public void testEvaluateValueBooleanResults() {
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("attr", "Hello");
+        attributes.put("flag", " true ");
+        attributes.put("blank", "   ");
+
+        verifyEvaluateValue("${attr:equals('Hello')}", attributes, true);
+        verifyEvaluateValue("${attr:equalsIgnoreCase('hello')}", attributes, true);
+        verifyEvaluateValue("${attr:startsWith('He'):and(${attr:endsWith('lo')})}", attributes, true);
+        verifyEvaluateValue("${attr:contains('x'):or(${attr:contains('ell')})}", attributes, true);
+        verifyEvaluateValue("${attr:contains('x'):not()}", attributes, true);
+        verifyEvaluateValue("${blank:isEmpty()}", attributes, true);
+        verifyEvaluateValue("${attr:isNull():or(${attr:notNull():not()})}", attributes, false);
+        verifyEvaluateValue("${flag:trim():toUpper():equals('TRUE'):and(${flag})}", attributes, true);
+        verifyEvaluateValue("${literal(true):and(${flag})}", attributes, true);
+    }
+
+    @Test
+    public void testEvaluateValueDateResults() throws Exception {
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("date", "2020-01-02 03:04:05");
+
+        final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.US);
+        final Date expected = format.parse("2020-01-02 03:04:05");
+
+        verifyEvaluateValue("${date:toDate('yyyy-MM-dd HH:mm:ss')}", attributes, expected);
+        verifyEvaluateValue("${date:toDate('yyyy-MM-dd HH:mm:ss'):toNumber()}", attributes, expected.getTime());
+        verifyEvaluateValue("${date:toDate('yyyy-MM-dd HH:mm:ss'):format('yyyy/MM/dd'):append('!')}", attributes, "2020/01/02!");
+    }
+
+    @Test
+    public void testEvaluateValueNullPropagation() {
+        final Map<String, String> attributes = Collections.emptyMap();
+
+        verifyEvaluateValue("${missing}", attributes, null);
+        verifyEvaluateValue("${missing:trim():toUpper():toLower()}", attributes, null);
+        verifyEvaluateValue("${missing:append('x')}", attributes, "x");
+        verifyEvaluateValue("${missing:prepend('x')}", attributes, "x");
+        verifyEvaluateValue("${missing:toUpper():replaceNull('default')}", attributes, "default");
+        verifyEvaluateValue("${missing:isNull()}", attributes, true);
+        verifyEvaluateValue("${missing:notNull()}", attributes, false);
+        verifyEvaluateValue("${missing:isEmpty()}", attributes, true);
+        verifyEvaluateValue("${missing:equals('x')}", attributes, false);
+        verifyEvaluateValue("${missing:equalsIgnoreCase('x')}", attributes, false);
+        verifyEvaluateValue("${missing:startsWith('x')}", attributes, false);
+        verifyEvaluateValue("${missing:endsWith('x')}", attributes, false);
+        verifyEvaluateValue("${missing:contains('x')}", attributes, false);
+        verifyEvaluateValue("${missing:toNumber():plus(1)}", attributes, null);
+        verifyEvaluateValue("${missing:toDate('yyyy'):toNumber()}", attributes, null);
+        verifyEvaluateValue("${#{missingParameter}:toUpper()}", attributes, Collections.emptyMap(), null);
+    }
+
+    @Test
+    public void testCompiledExpressionEvaluatesRootValue() {
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("attr", "hello");
+        attributes.put("quantity", "5");
+
+        final CompiledExpression string = new ExpressionCompiler().compile("${attr:toUpper()}");
+        assertEquals("HELLO", string.evaluate(new StandardEvaluationContext(attributes), null));
+        assertEquals("[HELLO]", string.evaluate(new StandardEvaluationContext(attributes), value -> "[" + value + "]"));
+
+        assertEquals("6", new ExpressionCompiler().compile("${quantity:toNumber():plus(1)}").evaluate(new StandardEvaluationContext(attributes), null));
+        assertEquals("true", new ExpressionCompiler().compile("${attr:equals('hello')}").evaluate(new StandardEvaluationContext(attributes), null));
+
+        // a null result is not decorated, so that it is distinguishable from an empty string
+        final CompiledExpression missing = new ExpressionCompiler().compile("${missing:toUpper()}");
+        assertNull(missing.evaluate(new StandardEvaluationContext(attributes), value -> "[" + value + "]"));
+        assertEquals("", Query.prepare("${missing:toUpper()}").evaluateExpressions(new StandardEvaluationContext(attributes), null));
+    }
+
+    /**
+     * Verifies that the value of the expression is the same whether it is evaluated through {@link Evaluator#evaluate} or through the
+     * {@link Evaluator#evaluateValue} specializations, for the expression as a whole as well as each of its subexpressions.
+     */
+    private void verifyEvaluateValue(final String expression, final Map<String, String> attributes, final Object expectedResult) {
+        verifyEvaluateValue(expression, attributes, Collections.emptyMap(), expectedResult);
+    }
+
+    private void verifyEvaluateValue(final String expression, final Map<String, String> attributes, final Map<String, String> parameters, final Object expectedResult) {
+        final ParameterLookup parameterLookup = new MapParameterLookup(parameters);
+        final CompiledExpression compiledExpression = new ExpressionCompiler().compile(expression);
+
+        for (final Evaluator<?> evaluator : compiledExpression.getAllEvaluators()) {
+            final QueryResult<?> result = evaluator.evaluate(new StandardEvaluationContext(attributes, null, parameterLookup));
+            final Object value = evaluator.evaluateValue(new StandardEvaluationContext(attributes, null, parameterLookup));
+            assertEquals("Evaluations of " + evaluator + " in " + expression + " differ", result == null ? null : result.getValue(), value);
+        }
+
+        final Evaluator<?> rootEvaluator = compiledExpression.getRootEvaluator();
+        assertEquals(expectedResult, rootEvaluator.evaluateValue(new StandardEvaluationContext(attributes, null, parameterLookup)));
+        assertEquals(expectedResult, rootEvaluator.evaluate(new StandardEvaluationContext(attributes, null, parameterLookup)).getValue());
+        assertEquals(expectedResult == null ? null : expectedResult.toString(),
+            compiledExpression.evaluate(new StandardEvaluationContext(attributes, null, parameterLookup), null));
+    }
+
     private void verifyEquals(final String expression, final Map<String, String> attributes, final Object expectedResult) {
         verifyEquals(expression,attributes, null, ParameterLookup.EMPTY, expectedResult);
     }
@@ -16,6 +16,8 @@
  */
 package org.apache.nifi.attribute.expression.language;
 
+import org.apache.nifi.attribute.expression.language.compile.ExpressionCompiler;
+import org.apache.nifi.attribute.expression.language.evaluation.literals.StringLiteralEvaluator;
 import org.apache.nifi.parameter.Parameter;
 import org.apache.nifi.parameter.ParameterDescriptor;
 import org.apache.nifi.parameter.ParameterLookup;
@@ -29,9 +31,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class TestStandardPreparedQuery {
@@ -304,6 +311,131 @@ public class TestStandardPreparedQuery {
         assertTrue(Query.prepare("${anyMatchingAttribute('a.*'):equals('hello')}").getVariableImpact().isImpacted("attr"));
     }
 
+    @Test
+    public void testPreparedQueriesAreCached() {
+        final String query = "${cachedQueryAttribute:toUpper()}";
+        final PreparedQuery preparedQuery = Query.prepare(query);
+
+        final long hitCount = Query.getPreparedQueryCache().getHitCount();
+        assertSame(preparedQuery, Query.prepare(query));
+        assertEquals(hitCount + 1, Query.getPreparedQueryCache().getHitCount());
+
+        assertNotSame(preparedQuery, Query.prepareWithParametersPreEvaluated(query));
+    }
+
+    @Test
+    public void testSensitiveQueriesNotCached() {
+        final String query = "${sensitiveQueryAttribute:toUpper()}";
+        assertNotSame(Query.prepareSensitive(query), Query.prepareSensitive(query));
+
+        final long missCount = Query.getPreparedQueryCache().getMissCount();
+        Query.prepare(query);
+        assertEquals(missCount + 1, Query.getPreparedQueryCache().getMissCount());
+    }
+
+    @Test
+    public void testPreparedQueryCacheBounded() {
+        final PreparedQueryCache cache = new PreparedQueryCache(10, 20);
+        for (int i = 0; i < 100; i++) {
+            final String query = "${attr" + i + "}";
+            cache.put(query, false, Query.prepareSensitive(query));
+        }
+        assertTrue(cache.getSize() <= 10);
+
+        final String longQuery = "${aVeryLongAttributeName}";
+        cache.put(longQuery, false, Query.prepareSensitive(longQuery));
+        assertNull(cache.get(longQuery, false));
+    }
+
+    @Test
+    public void testPreparedQueryCacheStatistics() {
+        final PreparedQueryCache cache = new PreparedQueryCache(10, 20);
+        assertEquals("0 hits, 0 misses (0% hit rate), 0 of 10 entries", cache.getStatistics());
+
+        final String query = "${attr}";
+        assertNull(cache.get(query, false));
+        cache.put(query, false, Query.prepareSensitive(query));
+        assertNotNull(cache.get(query, false));
+        assertNotNull(cache.get(query, false));
+        assertNull(cache.get(query, true));
+
+        // queries that are too long to be cached are not counted
+        assertNull(cache.get("${aVeryLongAttributeName}", false));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals("2 hits, 2 misses (50% hit rate), 1 of 10 entries", cache.getStatistics());
+    }
+
+    @Test
+    public void testConstantSubexpressionsFolded() {
+        final CompiledExpression constant = new ExpressionCompiler().compile("${literal('abc'):toUpper():append(${literal('d'):prepend('-')})}");
+        assertTrue(constant.getRootEvaluator() instanceof StringLiteralEvaluator);
+        assertEquals("ABC-d", constant.evaluate(new StandardEvaluationContext(Collections.emptyMap()), null));
+
+        final CompiledExpression attributeReference = new ExpressionCompiler().compile("${attr:append(${literal('d'):toUpper()})}");
+        assertFalse(attributeReference.getRootEvaluator() instanceof StringLiteralEvaluator);
+        assertEquals("xD", attributeReference.evaluate(new StandardEvaluationContext(Collections.singletonMap("attr", "x")), null));
+
+        final CompiledExpression parameterReference = new ExpressionCompiler().compile("${#{param}:toUpper()}");
+        assertFalse(parameterReference.getRootEvaluator() instanceof StringLiteralEvaluator);
+
+        final CompiledExpression embeddedReference = new ExpressionCompiler().compile("${literal('${attr}'):toUpper()}");
+        assertFalse(embeddedReference.getRootEvaluator() instanceof StringLiteralEvaluator);
+        assertEquals("X", embeddedReference.evaluate(new StandardEvaluationContext(Collections.singletonMap("attr", "x")), null));
+
+        // folding must not change the outcome of an expression that cannot be evaluated
+        final Map<String, String> attributes = Collections.emptyMap();
+        assertEquals("", evaluate("${literal('abc'):toNumber()}", attributes));
+    }
+
+    @Test
+    public void testAttributeIndependent() {
+        assertTrue(Query.prepare("abc").isAttributeIndependent());
+        assertTrue(Query.prepare("${literal('abc'):toUpper()}").isAttributeIndependent());
+        assertTrue(Query.prepare("#{param}-${#{param}:toUpper()}").isAttributeIndependent());
+
+        assertFalse(Query.prepare("${attr}").isAttributeIndependent());
+        assertFalse(Query.prepare("abc-${attr:toUpper()}").isAttributeIndependent());
+        assertFalse(Query.prepare("${literal('${attr}')}").isAttributeIndependent());
+        assertFalse(Query.prepare("${anyAttribute('a', 'b'):equals('x')}").isAttributeIndependent());
+        assertFalse(Query.prepare("${now()}").isAttributeIndependent());
+        assertFalse(Query.prepare("${random()}").isAttributeIndependent());
+        assertFalse(Query.prepare("${getStateValue('x')}").isAttributeIndependent());
+        assertFalse(Query.prepare("${literal('abc'):noSuchFunction()}").isAttributeIndependent());
+    }
+
+    @Test
+    public void testCachedResultPreparedQueryEvaluatesOnce() {
+        final AtomicInteger lookups = new AtomicInteger(0);
+        final ParameterLookup parameterLookup = new ParameterLookup() {
+            @Override
+            public Optional<Parameter> getParameter(final String parameterName) {
+                lookups.incrementAndGet();
+                return Optional.of(new Parameter(new ParameterDescriptor.Builder().name(parameterName).build(), "value"));
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return false;
+            }
+        };
+
+        final PreparedQuery preparedQuery = new CachedResultPreparedQuery(Query.prepare("${#{param}:toUpper()}"));
+        final EvaluationContext evaluationContext = new StandardEvaluationContext(Collections.emptyMap(), Collections.emptyMap(), parameterLookup);
+        assertEquals("VALUE", preparedQuery.evaluateExpressions(evaluationContext, null));
+        assertEquals("VALUE", preparedQuery.evaluateExpressions(evaluationContext, null));
+        assertEquals(1, lookups.get());
+
+        assertEquals("[VALUE]", preparedQuery.evaluateExpressions(evaluationContext, value -> "[" + value + "]"));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCachedResultPreparedQueryRequiresAttributeIndependence() {
+        new CachedResultPreparedQuery(Query.prepare("${attr}"));
+    }
+
     private String evaluate(final String query, final Map<String, String> attrs) {
         final String evaluated = ((StandardPreparedQuery) Query.prepare(query)).evaluateExpressions(new StandardEvaluationContext(attrs), null);
         return evaluated;
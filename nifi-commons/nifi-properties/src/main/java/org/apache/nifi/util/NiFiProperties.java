@@ -221,6 +221,7 @@ public abstract class NiFiProperties {
     public static final String LOAD_BALANCE_CONNECTIONS_PER_NODE = "nifi.cluster.load.balance.connections.per.node";
     public static final String LOAD_BALANCE_MAX_THREAD_COUNT = "nifi.cluster.load.balance.max.thread.count";
     public static final String LOAD_BALANCE_COMMS_TIMEOUT = "nifi.cluster.load.balance.comms.timeout";
+    public static final String LOAD_BALANCE_LOAD_AWARE = "nifi.cluster.load.balance.load.aware";
 
     // zookeeper properties
     public static final String ZOOKEEPER_CONNECT_STRING = "nifi.zookeeper.connect.string";
@@ -318,6 +319,7 @@ public abstract class NiFiProperties {
     public static final int DEFAULT_LOAD_BALANCE_CONNECTIONS_PER_NODE = 4;
     public static final int DEFAULT_LOAD_BALANCE_MAX_THREAD_COUNT = 8;
     public static final String DEFAULT_LOAD_BALANCE_COMMS_TIMEOUT = "30 sec";
+    public static final boolean DEFAULT_LOAD_BALANCE_LOAD_AWARE = false;
 
 
     // state management defaults
@@ -777,6 +779,11 @@ public abstract class NiFiProperties {
         }
     }
 
+    public boolean isClusterLoadBalanceLoadAware() {
+        final String loadAware = getProperty(LOAD_BALANCE_LOAD_AWARE);
+        return StringUtils.isBlank(loadAware) ? DEFAULT_LOAD_BALANCE_LOAD_AWARE : Boolean.parseBoolean(loadAware.trim());
+    }
+
     public Integer getClusterNodeProtocolPort() {
         try {
             return Integer.parseInt(getProperty(CLUSTER_NODE_PROTOCOL_PORT));
@@ -30,29 +30,55 @@ import org.apache.nifi.serialization.record.type.ArrayDataType;
 
 public class ArrayIndexPath extends RecordPathSegment {
     private final int index;
+    private final boolean singular;
 
     ArrayIndexPath(final int index, final RecordPathSegment parent, final boolean absolute) {
         super("[" + index + "]", parent, absolute);
         this.index = index;
+        this.singular = parent != null && parent.isSingular();
     }
 
     @Override
     public Stream<FieldValue> evaluate(final RecordPathEvaluationContext context) {
+        if (singular) {
+            return singleValue(evaluateSingle(context));
+        }
+
         final Stream<FieldValue> parentResult = getParentPath().evaluate(context);
 
         return parentResult
             .filter(Filters.fieldTypeFilter(RecordFieldType.ARRAY))
-            .filter(fieldValue -> fieldValue.getValue() != null && ((Object[]) fieldValue.getValue()).length > getArrayIndex(((Object[]) fieldValue.getValue()).length))
-            .map(fieldValue -> {
-                final ArrayDataType arrayDataType = (ArrayDataType) fieldValue.getField().getDataType();
-                final DataType elementDataType = arrayDataType.getElementType();
-                final RecordField arrayField = new RecordField(fieldValue.getField().getFieldName(), elementDataType);
-                final Object[] values = (Object[]) fieldValue.getValue();
-                final int arrayIndex = getArrayIndex(values.length);
-                final RecordField elementField = new RecordField(arrayField.getFieldName(), elementDataType);
-                final FieldValue result = new ArrayIndexFieldValue(values[arrayIndex], elementField, fieldValue, arrayIndex);
-                return result;
-            });
+            .filter(this::hasElement)
+            .map(this::getElement);
+    }
+
+    @Override
+    boolean isSingular() {
+        return singular;
+    }
+
+    @Override
+    FieldValue evaluateSingle(final RecordPathEvaluationContext context) {
+        final FieldValue parent = getParentPath().evaluateSingle(context);
+        if (parent == null || parent.getField().getDataType().getFieldType() != RecordFieldType.ARRAY || !hasElement(parent)) {
+            return null;
+        }
+
+        return getElement(parent);
+    }
+
+    private boolean hasElement(final FieldValue fieldValue) {
+        final Object[] values = (Object[]) fieldValue.getValue();
+        return values != null && values.length > getArrayIndex(values.length);
+    }
+
+    private FieldValue getElement(final FieldValue fieldValue) {
+        final ArrayDataType arrayDataType = (ArrayDataType) fieldValue.getField().getDataType();
+        final DataType elementDataType = arrayDataType.getElementType();
+        final Object[] values = (Object[]) fieldValue.getValue();
+        final int arrayIndex = getArrayIndex(values.length);
+        final RecordField elementField = new RecordField(fieldValue.getField().getFieldName(), elementDataType);
+        return new ArrayIndexFieldValue(values[arrayIndex], elementField, fieldValue, arrayIndex);
     }
 
     private int getArrayIndex(final int arrayLength) {
@@ -27,18 +27,25 @@ import org.apache.nifi.record.path.util.Filters;
 import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
 
 public class ChildFieldPath extends RecordPathSegment {
     private final String childName;
+    private final RecordField missingChildField;
+    private final boolean singular;
+
+    // The child field, bound to the most recently seen schema of the parent Record
+    private volatile BoundField boundField;
 
     ChildFieldPath(final String childName, final RecordPathSegment parent, final boolean absolute) {
         super("/" + childName, parent, absolute);
         this.childName = childName;
+        this.missingChildField = new RecordField(childName, RecordFieldType.CHOICE.getChoiceDataType(RecordFieldType.STRING.getDataType(), RecordFieldType.RECORD.getDataType()));
+        this.singular = parent != null && parent.isSingular();
     }
 
     private FieldValue missingChild(final FieldValue parent) {
-        final RecordField field = new RecordField(childName, RecordFieldType.CHOICE.getChoiceDataType(RecordFieldType.STRING.getDataType(), RecordFieldType.RECORD.getDataType()));
-        return new StandardFieldValue(null, field, parent);
+        return new StandardFieldValue(null, missingChildField, parent);
     }
 
     private FieldValue getChild(final FieldValue fieldValue) {
@@ -51,23 +58,63 @@ public class ChildFieldPath extends RecordPathSegment {
             return missingChild(fieldValue);
         }
 
-        final Object value = record.getValue(childName);
-        if (value == null) {
+        final BoundField bound = bind(record.getSchema());
+        if (bound.field == null) {
             return missingChild(fieldValue);
         }
 
-        final Optional<RecordField> field = record.getSchema().getField(childName);
-        if (!field.isPresent()) {
+        final Object value = record.getValue(bound.index);
+        if (value == null) {
             return missingChild(fieldValue);
         }
 
-        return new StandardFieldValue(value, field.get(), fieldValue);
+        return new StandardFieldValue(value, bound.field, fieldValue);
+    }
+
+    private BoundField bind(final RecordSchema schema) {
+        BoundField bound = boundField;
+        if (bound == null || bound.schema != schema) {
+            bound = new BoundField(schema, childName);
+            boundField = bound;
+        }
+
+        return bound;
     }
 
     @Override
     public Stream<FieldValue> evaluate(final RecordPathEvaluationContext context) {
+        if (singular) {
+            return singleValue(evaluateSingle(context));
+        }
+
         return getParentPath().evaluate(context)
             // map to Optional<FieldValue> containing child element
             .map(fieldVal -> getChild(fieldVal));
     }
+
+    @Override
+    boolean isSingular() {
+        return singular;
+    }
+
+    @Override
+    FieldValue evaluateSingle(final RecordPathEvaluationContext context) {
+        final FieldValue parent = getParentPath().evaluateSingle(context);
+        return parent == null ? null : getChild(parent);
+    }
+
+    private static class BoundField {
+        private final RecordSchema schema;
+        private final RecordField field;
+        private final int index;
+
+        private BoundField(final RecordSchema schema, final String fieldName) {
+            this.schema = schema;
+
+            // The field may be referenced by one of its aliases
+            final Optional<RecordField> fieldOption = schema.getField(fieldName);
+            this.field = fieldOption.orElse(null);
+            this.index = fieldOption.isPresent() ? schema.getFieldIndex(fieldOption.get().getFieldName()) : -1;
+        }
+    }
 }
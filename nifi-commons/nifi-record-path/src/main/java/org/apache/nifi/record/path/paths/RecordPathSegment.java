@@ -17,6 +17,7 @@
 
 package org.apache.nifi.record.path.paths;
 
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -25,6 +26,7 @@ import org.apache.nifi.record.path.RecordPath;
 import org.apache.nifi.record.path.RecordPathEvaluationContext;
 import org.apache.nifi.record.path.RecordPathResult;
 import org.apache.nifi.record.path.StandardRecordPathEvaluationContext;
+import org.apache.nifi.record.path.exception.RecordPathException;
 import org.apache.nifi.serialization.record.Record;
 
 public abstract class RecordPathSegment implements RecordPath {
@@ -116,4 +118,41 @@ public abstract class RecordPathSegment implements RecordPath {
     }
 
     public abstract Stream<FieldValue> evaluate(RecordPathEvaluationContext context);
+
+    /**
+     * Indicates whether this path selects at most one field for any Record, as is the case for a path that is made up only of
+     * child field references, array indices and single map keys. Such a path can be evaluated by
+     * {@link #evaluateSingle(RecordPathEvaluationContext)} without building a Stream for each of its segments.
+     *
+     * @return <code>true</code> if this path selects at most one field
+     */
+    boolean isSingular() {
+        return false;
+    }
+
+    /**
+     * Evaluates a path that is expected to select at most one field. Paths for which {@link #isSingular()} returns <code>true</code> override
+     * this method to select the field without building a Stream; by default, the path is evaluated via {@link #evaluate(RecordPathEvaluationContext)}.
+     *
+     * @param context the evaluation context
+     * @return the selected field, or <code>null</code> if no field is selected
+     * @throws RecordPathException if the path selects more than one field
+     */
+    FieldValue evaluateSingle(final RecordPathEvaluationContext context) {
+        final Iterator<FieldValue> selectedFields = evaluate(context).iterator();
+        if (!selectedFields.hasNext()) {
+            return null;
+        }
+
+        final FieldValue fieldValue = selectedFields.next();
+        if (selectedFields.hasNext()) {
+            throw new RecordPathException("RecordPath " + getPath() + " selected more than one field");
+        }
+
+        return fieldValue;
+    }
+
+    static Stream<FieldValue> singleValue(final FieldValue fieldValue) {
+        return fieldValue == null ? Stream.empty() : Stream.of(fieldValue);
+    }
 }
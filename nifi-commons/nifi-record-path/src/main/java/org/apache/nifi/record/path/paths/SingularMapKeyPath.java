@@ -31,23 +31,46 @@ import org.apache.nifi.serialization.record.type.MapDataType;
 
 public class SingularMapKeyPath extends RecordPathSegment {
     private final String mapKey;
+    private final boolean singular;
 
     SingularMapKeyPath(final String mapKey, final RecordPathSegment parent, final boolean absolute) {
         super("[" + mapKey + "]", parent, absolute);
         this.mapKey = mapKey;
+        this.singular = parent != null && parent.isSingular();
     }
 
     @Override
     public Stream<FieldValue> evaluate(final RecordPathEvaluationContext context) {
+        if (singular) {
+            return singleValue(evaluateSingle(context));
+        }
+
         final Stream<FieldValue> parentResult = getParentPath().evaluate(context);
 
         return parentResult
             .filter(Filters.fieldTypeFilter(RecordFieldType.MAP))
-            .map(fieldValue -> {
-                final DataType valueType = ((MapDataType) fieldValue.getField().getDataType()).getValueType();
-                final RecordField elementField = new RecordField(fieldValue.getField().getFieldName(), valueType);
-                return new MapEntryFieldValue(getMapValue(fieldValue), elementField, fieldValue, mapKey);
-            });
+            .map(this::getMapEntry);
+    }
+
+    @Override
+    boolean isSingular() {
+        return singular;
+    }
+
+    @Override
+    FieldValue evaluateSingle(final RecordPathEvaluationContext context) {
+        final FieldValue parent = getParentPath().evaluateSingle(context);
+        if (parent == null || parent.getField().getDataType().getFieldType() != RecordFieldType.MAP) {
+            return null;
+        }
+
+        return getMapEntry(parent);
+    }
+
+    private FieldValue getMapEntry(final FieldValue fieldValue) {
+        final DataType valueType = ((MapDataType) fieldValue.getField().getDataType()).getValueType();
+        final RecordField elementField = new RecordField(fieldValue.getField().getFieldName(), valueType);
+        return new MapEntryFieldValue(getMapValue(fieldValue), elementField, fieldValue, mapKey);
     }
 
     private Object getMapValue(final FieldValue fieldValue) {
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.record.path;
+
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.SchemaIndexedMap;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Evaluates the most common shapes of RecordPath many times over, in order to measure the cost of evaluating a RecordPath.
+ */
+public class ITRecordPath {
+    private static final int ITERATIONS = 5_000_000;
+
+    private RecordSchema getAddressSchema() {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("street", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("city", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("zip", RecordFieldType.STRING.getDataType()));
+        return new SimpleRecordSchema(fields);
+    }
+
+    private Record createRecord() {
+        final RecordSchema addressSchema = getAddressSchema();
+
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("address", RecordFieldType.RECORD.getRecordDataType(addressSchema)));
+        fields.add(new RecordField("numbers", RecordFieldType.ARRAY.getArrayDataType(RecordFieldType.INT.getDataType())));
+        fields.add(new RecordField("attributes", RecordFieldType.MAP.getMapDataType(RecordFieldType.STRING.getDataType())));
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+
+        final Map<String, Object> addressValues = new SchemaIndexedMap(addressSchema);
+        addressValues.put("street", "123 My Street");
+        addressValues.put("city", "My City");
+        addressValues.put("zip", "11111");
+
+        final Map<String, Object> values = new SchemaIndexedMap(schema);
+        values.put("id", 1);
+        values.put("name", "John Doe");
+        values.put("address", new MapRecord(addressSchema, addressValues));
+        values.put("numbers", new Object[] {1, 2, 3});
+        values.put("attributes", Collections.singletonMap("key", "value"));
+        return new MapRecord(schema, values);
+    }
+
+    private void evaluate(final String path, final Object expectedValue) {
+        final Record record = createRecord();
+        final RecordPath recordPath = RecordPath.compile(path);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            final Object value = recordPath.evaluate(record).getSelectedFields().findFirst().get().getValue();
+            assertEquals(expectedValue, value);
+        }
+    }
+
+    @Test
+    public void testChildFieldPerformance() {
+        evaluate("/name", "John Doe");
+    }
+
+    @Test
+    public void testNestedChildFieldPerformance() {
+        evaluate("/address/city", "My City");
+    }
+
+    @Test
+    public void testArrayIndexPerformance() {
+        evaluate("/numbers[1]", 2);
+    }
+
+    @Test
+    public void testMapKeyPerformance() {
+        evaluate("/attributes['key']", "value");
+    }
+
+    @Test
+    public void testPredicatePerformance() {
+        evaluate("/address[./zip = '11111']/street", "123 My Street");
+    }
+}
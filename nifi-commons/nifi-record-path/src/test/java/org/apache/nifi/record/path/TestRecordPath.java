@@ -25,6 +25,7 @@ import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.SchemaIndexedMap;
 import org.apache.nifi.serialization.record.type.ArrayDataType;
 import org.apache.nifi.serialization.record.util.DataTypeUtils;
 import org.junit.Test;
@@ -37,6 +38,7 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -1631,6 +1633,61 @@ public class TestRecordPath {
         assertEquals("MyStringfewfewfewfew", RecordPath.compile("padRight(/someString, 20, \"few\")").evaluate(record).getSelectedFields().findFirst().get().getValue());
     }
 
+    @Test
+    public void testChildFieldWithDifferentSchemas() {
+        final RecordPath recordPath = RecordPath.compile("/name");
+
+        final List<RecordField> reorderedFields = new ArrayList<>();
+        reorderedFields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        reorderedFields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        final RecordSchema reorderedSchema = new SimpleRecordSchema(reorderedFields);
+
+        final List<RecordField> aliasedFields = new ArrayList<>();
+        aliasedFields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        aliasedFields.add(new RecordField("fullName", RecordFieldType.STRING.getDataType(), Collections.singleton("name")));
+        final RecordSchema aliasedSchema = new SimpleRecordSchema(aliasedFields);
+
+        final SchemaIndexedMap indexedValues = new SchemaIndexedMap(reorderedSchema);
+        indexedValues.put("name", "Jane Doe");
+        indexedValues.put("id", 49);
+
+        final Map<String, Object> aliasedValues = new HashMap<>();
+        aliasedValues.put("fullName", "Jim Doe");
+
+        final Map<String, Object> unknownValues = new HashMap<>();
+        unknownValues.put("name", "Unknown");
+
+        // Evaluate the same RecordPath against Records of alternating schemas
+        for (int i = 0; i < 2; i++) {
+            assertEquals("John Doe", recordPath.evaluate(createSimpleRecord()).getSelectedFields().findFirst().get().getValue());
+            assertEquals("Jane Doe", recordPath.evaluate(new MapRecord(reorderedSchema, indexedValues)).getSelectedFields().findFirst().get().getValue());
+
+            final FieldValue aliasedValue = recordPath.evaluate(new MapRecord(aliasedSchema, aliasedValues)).getSelectedFields().findFirst().get();
+            assertEquals("Jim Doe", aliasedValue.getValue());
+            assertEquals("fullName", aliasedValue.getField().getFieldName());
+
+            final FieldValue missingValue = recordPath.evaluate(new MapRecord(getAccountSchema(), unknownValues)).getSelectedFields().findFirst().get();
+            assertNull(missingValue.getValue());
+            assertEquals("name", missingValue.getField().getFieldName());
+        }
+    }
+
+    @Test
+    public void testSingularPathOfWrongType() {
+        final Record record = new MapRecord(new SimpleRecordSchema(getDefaultFields()), new HashMap<>());
+        record.setValue("name", "John Doe");
+        record.setValue("numbers", new Object[] {1, 2});
+        record.setValue("attributes", Collections.singletonMap("city", "New York"));
+
+        assertEquals(0L, RecordPath.compile("/name[0]").evaluate(record).getSelectedFields().count());
+        assertEquals(0L, RecordPath.compile("/name['city']").evaluate(record).getSelectedFields().count());
+        assertEquals(0L, RecordPath.compile("/numbers[2]").evaluate(record).getSelectedFields().count());
+        assertEquals(2, RecordPath.compile("/numbers[-1]").evaluate(record).getSelectedFields().findFirst().get().getValue());
+        assertEquals("New York", RecordPath.compile("/attributes['city']").evaluate(record).getSelectedFields().findFirst().get().getValue());
+        assertNull(RecordPath.compile("/attributes['state']").evaluate(record).getSelectedFields().findFirst().get().getValue());
+        assertNull(RecordPath.compile("/mainAccount/balance").evaluate(record).getSelectedFields().findFirst().get().getValue());
+    }
+
     private List<RecordField> getDefaultFields() {
         final List<RecordField> fields = new ArrayList<>();
         fields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.record.path.paths;
+
+import org.apache.nifi.record.path.FieldValue;
+import org.apache.nifi.record.path.RecordPath;
+import org.apache.nifi.record.path.StandardRecordPathEvaluationContext;
+import org.apache.nifi.record.path.exception.RecordPathException;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class TestRecordPathSegment {
+
+    @Test
+    public void testEvaluateSingleOfNonSingularPath() {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("city", RecordFieldType.STRING.getDataType()));
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+
+        final Map<String, Object> values = new HashMap<>();
+        values.put("name", "John Doe");
+        values.put("city", "Springfield");
+        final Record record = new MapRecord(schema, values);
+
+        final RecordPathSegment filtered = compile("/name[. = 'John Doe']");
+        assertFalse(filtered.isSingular());
+        final FieldValue fieldValue = filtered.evaluateSingle(new StandardRecordPathEvaluationContext(record));
+        assertEquals("John Doe", fieldValue.getValue());
+
+        assertNull(compile("/name[. = 'Jane Doe']").evaluateSingle(new StandardRecordPathEvaluationContext(record)));
+
+        try {
+            compile("/*").evaluateSingle(new StandardRecordPathEvaluationContext(record));
+            fail("Expected evaluation to fail because more than one field was selected");
+        } catch (final RecordPathException expected) {
+        }
+    }
+
+    private static RecordPathSegment compile(final String path) {
+        return (RecordPathSegment) RecordPath.compile(path);
+    }
+}
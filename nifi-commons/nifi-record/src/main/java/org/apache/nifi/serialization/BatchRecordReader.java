@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.nifi.serialization;
+
+import org.apache.nifi.serialization.record.RecordBatch;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * A RecordReader that is also able to read records into a {@link RecordBatch}, without creating a Record object for each of them.
+ * Batches and individual records may be read from the same reader; both consume records from the same underlying data.
+ * </p>
+ *
+ * <p>
+ * PLEASE NOTE: This interface is still considered 'unstable' and may change in a non-backward-compatible
+ * manner between minor or incremental releases of NiFi.
+ * </p>
+ */
+public interface BatchRecordReader extends RecordReader {
+
+    /**
+     * Replaces the contents of the given batch with up to {@link RecordBatch#getCapacity()} records from the stream. The batch must have
+     * been created with the schema returned by {@link #getSchema()}. As with {@link #nextRecord()}, types are coerced and any unknown
+     * fields are dropped.
+     *
+     * @param batch the batch to read the records into
+     * @return the number of records that were read, which is also the batch's row count, or 0 if no more records are available
+     *
+     * @throws IOException if unable to read from the underlying data
+     * @throws MalformedRecordException if an unrecoverable failure occurs when trying to parse a record
+     */
+    int nextBatch(RecordBatch batch) throws IOException, MalformedRecordException;
+}
@@ -115,9 +115,14 @@ public class MapRecord implements Record {
     @Override
     public Object[] getValues() {
         final Object[] values = new Object[schema.getFieldCount()];
+        final SchemaIndexedMap indexedValues = getSchemaIndexedValues();
         int i = 0;
         for (final RecordField recordField : schema.getFields()) {
-            Object value = getExplicitValue(recordField);
+            // When the values are indexed by this record's schema, the value of the canonical field name is available by position.
+            Object value = indexedValues == null ? null : indexedValues.getFieldValue(i);
+            if (value == null) {
+                value = getExplicitValue(recordField);
+            }
             if (value == null) {
                 value = recordField.getDefaultValue();
             }
@@ -127,8 +132,25 @@ public class MapRecord implements Record {
         return values;
     }
 
+    private SchemaIndexedMap getSchemaIndexedValues() {
+        if (values instanceof SchemaIndexedMap) {
+            final SchemaIndexedMap indexedValues = (SchemaIndexedMap) values;
+            if (indexedValues.getSchema() == schema) {
+                return indexedValues;
+            }
+        }
+
+        return null;
+    }
+
     @Override
     public Object getValue(final String fieldName) {
+        final int fieldIndex = schema.getFieldIndex(fieldName);
+        if (fieldIndex >= 0) {
+            return getValue(fieldIndex);
+        }
+
+        // The name may be an alias of one of the fields
         final Optional<RecordField> fieldOption = schema.getField(fieldName);
         if (fieldOption.isPresent()) {
             return getValue(fieldOption.get());
@@ -169,6 +191,19 @@ public class MapRecord implements Record {
         return null;
     }
 
+    @Override
+    public Object getValue(final int fieldIndex) {
+        final SchemaIndexedMap indexedValues = getSchemaIndexedValues();
+        if (indexedValues != null) {
+            final Object value = indexedValues.getFieldValue(fieldIndex);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        return getValue(schema.getField(fieldIndex));
+    }
+
     private Optional<RecordField> resolveField(final RecordField field) {
         Optional<RecordField> resolved = schema.getField(field.getFieldName());
         if (resolved.isPresent()) {
@@ -271,7 +306,7 @@ public class MapRecord implements Record {
 
     @Override
     public Date getAsDate(final String fieldName, final String format) {
-        return DataTypeUtils.toDate(getValue(fieldName), () -> DataTypeUtils.getDateFormat(format), fieldName);
+        return DataTypeUtils.toDate(getValue(fieldName), DataTypeUtils.getDateFormatSupplier(format), fieldName);
     }
 
     @Override
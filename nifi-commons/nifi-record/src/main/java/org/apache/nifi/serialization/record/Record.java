@@ -17,6 +17,7 @@
 
 package org.apache.nifi.serialization.record;
 
+import org.apache.nifi.serialization.record.util.DataTypeUtils;
 import org.apache.nifi.serialization.record.util.IllegalTypeConversionException;
 
 import java.util.Date;
@@ -90,6 +91,18 @@ public interface Record {
 
     Object getValue(RecordField field);
 
+    /**
+     * Returns the value of the field at the given index of this Record's schema. This is equivalent to calling
+     * {@link #getValue(RecordField)} with that field but allows callers that have already resolved the index of
+     * a field to avoid looking the field up by name.
+     *
+     * @param fieldIndex the index of the field in this Record's schema
+     * @return the value of the field
+     */
+    default Object getValue(final int fieldIndex) {
+        return getValue(getSchema().getField(fieldIndex));
+    }
+
     String getAsString(String fieldName);
 
     String getAsString(String fieldName, String format);
@@ -104,10 +117,79 @@ public interface Record {
 
     Float getAsFloat(String fieldName);
 
+    /**
+     * Returns the value of the given field as a primitive <code>long</code>. Unlike {@link #getAsLong(String)}, a value that is already
+     * numeric is not boxed again in order to be returned.
+     *
+     * @param fieldName the name of the field
+     * @param valueIfNull the value to return if the field has no value
+     * @return the value of the field as a long, or <code>valueIfNull</code> if the field has no value
+     *
+     * @throws IllegalTypeConversionException if the value cannot be converted into a long
+     */
+    default long getAsLong(final String fieldName, final long valueIfNull) {
+        return DataTypeUtils.toLong(getValue(fieldName), valueIfNull, fieldName);
+    }
+
+    /**
+     * Returns the value of the given field as a primitive <code>int</code>. Unlike {@link #getAsInt(String)}, a value that is already
+     * numeric is not boxed again in order to be returned.
+     *
+     * @param fieldName the name of the field
+     * @param valueIfNull the value to return if the field has no value
+     * @return the value of the field as an int, or <code>valueIfNull</code> if the field has no value
+     *
+     * @throws IllegalTypeConversionException if the value cannot be converted into an int
+     */
+    default int getAsInt(final String fieldName, final int valueIfNull) {
+        return DataTypeUtils.toInteger(getValue(fieldName), valueIfNull, fieldName);
+    }
+
+    /**
+     * Returns the value of the given field as a primitive <code>double</code>. Unlike {@link #getAsDouble(String)}, a value that is already
+     * numeric is not boxed again in order to be returned.
+     *
+     * @param fieldName the name of the field
+     * @param valueIfNull the value to return if the field has no value
+     * @return the value of the field as a double, or <code>valueIfNull</code> if the field has no value
+     *
+     * @throws IllegalTypeConversionException if the value cannot be converted into a double
+     */
+    default double getAsDouble(final String fieldName, final double valueIfNull) {
+        return DataTypeUtils.toDouble(getValue(fieldName), valueIfNull, fieldName);
+    }
+
+    /**
+     * Returns the value of the given field as a primitive <code>float</code>. Unlike {@link #getAsFloat(String)}, a value that is already
+     * numeric is not boxed again in order to be returned.
+     *
+     * @param fieldName the name of the field
+     * @param valueIfNull the value to return if the field has no value
+     * @return the value of the field as a float, or <code>valueIfNull</code> if the field has no value
+     *
+     * @throws IllegalTypeConversionException if the value cannot be converted into a float
+     */
+    default float getAsFloat(final String fieldName, final float valueIfNull) {
+        return DataTypeUtils.toFloat(getValue(fieldName), valueIfNull, fieldName);
+    }
+
     Record getAsRecord(String fieldName, RecordSchema schema);
 
     Boolean getAsBoolean(String fieldName);
 
+    /**
+     * Returns the value of the given field as a primitive <code>boolean</code>
+     *
+     * @param fieldName the name of the field
+     * @param valueIfNull the value to return if the field has no value
+     * @return the value of the field as a boolean, or <code>valueIfNull</code> if the field has no value
+     *
+     * @throws IllegalTypeConversionException if the value cannot be converted into a boolean
+     */
+    default boolean getAsBoolean(final String fieldName, final boolean valueIfNull) {
+        return DataTypeUtils.toBoolean(getValue(fieldName), valueIfNull, fieldName);
+    }
+
     Date getAsDate(String fieldName, String format);
 
     Object[] getAsArray(String fieldName);
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.nifi.serialization.record;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * A batch of records that share a schema, held as one column of values per field of the schema rather than as one
+ * Record object per row. A RecordBatch is intended to be filled and drained repeatedly, so that records can be handed
+ * from a Record Reader to a Record Writer without creating a Record object for each of them.
+ * </p>
+ *
+ * <p>
+ * The values in column <code>i</code> are the values of the field at index <code>i</code> of the batch's schema,
+ * and they are of the types that a Record with that schema would hold.
+ * </p>
+ */
+public class RecordBatch {
+    private final RecordSchema schema;
+    private final Object[][] columns;
+    private final Object[] defaultValues;
+    private final int capacity;
+    private int rowCount = 0;
+
+    public RecordBatch(final RecordSchema schema, final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1 but was " + capacity);
+        }
+
+        this.schema = schema;
+        this.capacity = capacity;
+        this.columns = new Object[schema.getFieldCount()][capacity];
+
+        final List<RecordField> fields = schema.getFields();
+        this.defaultValues = new Object[fields.size()];
+        for (int i = 0; i < defaultValues.length; i++) {
+            defaultValues[i] = fields.get(i).getDefaultValue();
+        }
+    }
+
+    public RecordSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * @return the maximum number of rows that the batch can hold
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of rows currently in the batch
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Sets the number of rows in the batch. The values of rows at or beyond the given count are ignored.
+     *
+     * @param rowCount the number of rows in the batch
+     * @throws IllegalArgumentException if the row count is negative or greater than the batch's capacity
+     */
+    public void setRowCount(final int rowCount) {
+        if (rowCount < 0 || rowCount > capacity) {
+            throw new IllegalArgumentException("Row count must be between 0 and " + capacity + " but was " + rowCount);
+        }
+
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Returns the values of the field at the given index of the schema. The returned array is the batch's own storage, so
+     * changes to it change the batch. Its length is the batch's capacity, not its row count.
+     *
+     * @param fieldIndex the index of the field in the schema
+     * @return the values of the field
+     */
+    public Object[] getColumn(final int fieldIndex) {
+        return columns[fieldIndex];
+    }
+
+    /**
+     * Returns the value of the field at the given index of the schema for the given row. As with {@link Record#getValue(RecordField)},
+     * the default value of the field is returned if the row does not hold a value for it. Writers should obtain values through this
+     * method rather than from {@link #getColumn(int)} so that default values are honored.
+     *
+     * @param row the row
+     * @param fieldIndex the index of the field in the schema
+     * @return the value of the field, or its default value if the row does not hold a value for it
+     */
+    public Object getValue(final int row, final int fieldIndex) {
+        final Object value = columns[fieldIndex][row];
+        return value == null ? defaultValues[fieldIndex] : value;
+    }
+
+    public void setValue(final int row, final int fieldIndex, final Object value) {
+        columns[fieldIndex][row] = value;
+    }
+
+    /**
+     * Creates a Record that holds the values of the given row, for consumers that cannot make use of the columns directly.
+     *
+     * @param row the row
+     * @return a Record holding the values of the given row
+     */
+    public Record getRecord(final int row) {
+        final SchemaIndexedMap values = new SchemaIndexedMap(schema);
+        for (int i = 0; i < columns.length; i++) {
+            values.setFieldValue(i, columns[i][row]);
+        }
+
+        return new MapRecord(schema, values);
+    }
+
+    /**
+     * Removes all rows from the batch, releasing the references that it holds to their values.
+     */
+    public void clear() {
+        for (final Object[] column : columns) {
+            Arrays.fill(column, 0, rowCount, null);
+        }
+
+        rowCount = 0;
+    }
+}
@@ -56,6 +56,22 @@ public interface RecordSchema {
      */
     Optional<DataType> getDataType(String fieldName);
 
+    /**
+     * @param fieldName the name of the field whose position is desired. Aliases are not considered.
+     * @return the 0-based index of the field with the given name, or <code>-1</code> if the schema does
+     *         not contain a field with the given name
+     */
+    default int getFieldIndex(final String fieldName) {
+        final List<RecordField> fields = getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).getFieldName().equals(fieldName)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
     /**
      * @return the textual representation of the schema, if one is available
      */
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.serialization.record;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>
+ * A Map of field name to field value that is intended to back a {@link MapRecord} whose schema is known up front.
+ * Values for the fields of the schema are stored in an array that is indexed by the position of the field in the schema,
+ * so that populating a record does not require an entry object (and occasional rehashing) for every field. Values for names
+ * that are not fields of the schema (including aliases) are held in a separate Map that is created only when needed.
+ * </p>
+ *
+ * <p>
+ * Iteration returns the fields of the schema in schema order, followed by any additional names in the order that they were added.
+ * The equals and hashCode contract of {@link Map} is honored, so an instance is equal to a HashMap that holds the same entries.
+ * This class is not thread-safe.
+ * </p>
+ */
+public class SchemaIndexedMap extends AbstractMap<String, Object> {
+    private static final Object ABSENT = new Object();
+
+    private final RecordSchema schema;
+    private final Object[] fieldValues;
+    private Map<String, Object> additionalValues;
+    private int fieldValueCount = 0;
+    private EntrySet entrySet;
+
+    public SchemaIndexedMap(final RecordSchema schema) {
+        this.schema = schema;
+        this.fieldValues = new Object[schema.getFieldCount()];
+        for (int i = 0; i < fieldValues.length; i++) {
+            fieldValues[i] = ABSENT;
+        }
+    }
+
+    public RecordSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * @param index the index of the field in the schema
+     * @return the value of the field at the given index, or <code>null</code> if no value has been set for the field
+     */
+    public Object getFieldValue(final int index) {
+        final Object value = fieldValues[index];
+        return value == ABSENT ? null : value;
+    }
+
+    /**
+     * Sets the value of the field at the given index
+     *
+     * @param index the index of the field in the schema
+     * @param value the value to set
+     * @return the previous value of the field, or <code>null</code> if no value had been set for the field
+     */
+    public Object setFieldValue(final int index, final Object value) {
+        final Object previous = fieldValues[index];
+        fieldValues[index] = value;
+        if (previous == ABSENT) {
+            fieldValueCount++;
+            return null;
+        }
+
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return fieldValueCount + (additionalValues == null ? 0 : additionalValues.size());
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        if (!(key instanceof String)) {
+            return false;
+        }
+
+        final int index = schema.getFieldIndex((String) key);
+        if (index >= 0) {
+            return fieldValues[index] != ABSENT;
+        }
+
+        return additionalValues != null && additionalValues.containsKey(key);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+
+        final int index = schema.getFieldIndex((String) key);
+        if (index >= 0) {
+            return getFieldValue(index);
+        }
+
+        return additionalValues == null ? null : additionalValues.get(key);
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        final int index = schema.getFieldIndex(key);
+        if (index >= 0) {
+            return setFieldValue(index, value);
+        }
+
+        if (additionalValues == null) {
+            additionalValues = new LinkedHashMap<>();
+        }
+
+        return additionalValues.put(key, value);
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+
+        final int index = schema.getFieldIndex((String) key);
+        if (index >= 0) {
+            return removeFieldValue(index);
+        }
+
+        return additionalValues == null ? null : additionalValues.remove(key);
+    }
+
+    private Object removeFieldValue(final int index) {
+        final Object previous = fieldValues[index];
+        if (previous == ABSENT) {
+            return null;
+        }
+
+        fieldValues[index] = ABSENT;
+        fieldValueCount--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < fieldValues.length; i++) {
+            fieldValues[i] = ABSENT;
+        }
+
+        fieldValueCount = 0;
+        additionalValues = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+
+        return entrySet;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return SchemaIndexedMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            SchemaIndexedMap.this.clear();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int nextIndex = advance(0);
+        private int lastIndex = -1;
+        private Iterator<Entry<String, Object>> additionalIterator;
+
+        private int advance(final int from) {
+            int index = from;
+            while (index < fieldValues.length && fieldValues[index] == ABSENT) {
+                index++;
+            }
+
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextIndex < fieldValues.length) {
+                return true;
+            }
+
+            if (additionalIterator == null) {
+                if (additionalValues == null) {
+                    return false;
+                }
+
+                additionalIterator = additionalValues.entrySet().iterator();
+            }
+
+            return additionalIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (nextIndex < fieldValues.length) {
+                lastIndex = nextIndex;
+                nextIndex = advance(nextIndex + 1);
+                return new FieldEntry(lastIndex);
+            }
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastIndex = -1;
+            return additionalIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex >= 0) {
+                removeFieldValue(lastIndex);
+                lastIndex = -1;
+            } else if (additionalIterator != null) {
+                additionalIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    private class FieldEntry extends SimpleEntry<String, Object> {
+        private final int index;
+
+        FieldEntry(final int index) {
+            super(schema.getField(index).getFieldName(), fieldValues[index]);
+            this.index = index;
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            fieldValues[index] = value;
+            return super.setValue(value);
+        }
+    }
+}
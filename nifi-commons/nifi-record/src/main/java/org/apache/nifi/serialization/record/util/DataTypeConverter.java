@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.serialization.record.util;
+
+/**
+ * Converts values into one specific {@link org.apache.nifi.serialization.record.DataType}. A converter is obtained once for a target type
+ * and set of formats via {@link DataTypeUtils#getConverter(org.apache.nifi.serialization.record.DataType, String, String, String)} and then
+ * applied to each value, so that choosing the conversion and preparing any date formats is not repeated for every value.
+ * Implementations are thread-safe.
+ */
+@FunctionalInterface
+public interface DataTypeConverter {
+
+    /**
+     * @param value the value to convert
+     * @param fieldName the name of the field that the value belongs to, used for error reporting
+     * @return the converted value, or <code>null</code> if the given value is <code>null</code>
+     *
+     * @throws IllegalTypeConversionException if the value cannot be converted into the target type
+     */
+    Object convert(Object value, String fieldName);
+}
@@ -62,6 +62,8 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -96,9 +98,15 @@ public class DataTypeUtils {
 
     private static final TimeZone gmt = TimeZone.getTimeZone("gmt");
 
-    private static final Supplier<DateFormat> DEFAULT_DATE_FORMAT = () -> getDateFormat(RecordFieldType.DATE.getDefaultFormat());
-    private static final Supplier<DateFormat> DEFAULT_TIME_FORMAT = () -> getDateFormat(RecordFieldType.TIME.getDefaultFormat());
-    private static final Supplier<DateFormat> DEFAULT_TIMESTAMP_FORMAT = () -> getDateFormat(RecordFieldType.TIMESTAMP.getDefaultFormat());
+    private static final int MAX_CACHED_DATE_FORMATS = 1000;
+    private static final int MAX_CACHED_CONVERTERS = 1000;
+    private static final ConcurrentMap<String, Supplier<DateFormat>> DATE_FORMAT_SUPPLIERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<ConverterKey, DataTypeConverter> SIMPLE_TYPE_CONVERTERS = new ConcurrentHashMap<>();
+    private static final Supplier<DateFormat> NO_DATE_FORMAT = () -> null;
+
+    private static final Supplier<DateFormat> DEFAULT_DATE_FORMAT = getDateFormatSupplier(RecordFieldType.DATE.getDefaultFormat());
+    private static final Supplier<DateFormat> DEFAULT_TIME_FORMAT = getDateFormatSupplier(RecordFieldType.TIME.getDefaultFormat());
+    private static final Supplier<DateFormat> DEFAULT_TIMESTAMP_FORMAT = getDateFormatSupplier(RecordFieldType.TIMESTAMP.getDefaultFormat());
 
     public static Object convertType(final Object value, final DataType dataType, final String fieldName) {
         return convertType(value, dataType, fieldName, StandardCharsets.UTF_8);
@@ -108,6 +116,139 @@ public class DataTypeUtils {
         return convertType(value, dataType, DEFAULT_DATE_FORMAT, DEFAULT_TIME_FORMAT, DEFAULT_TIMESTAMP_FORMAT, fieldName, charset);
     }
 
+    /**
+     * Returns a converter into the given DataType, using the default date, time and timestamp formats of {@link RecordFieldType}.
+     *
+     * @param dataType the type to convert values into
+     * @return a converter into the given type
+     */
+    public static DataTypeConverter getConverter(final DataType dataType) {
+        return getConverter(dataType, RecordFieldType.DATE.getDefaultFormat(), RecordFieldType.TIME.getDefaultFormat(), RecordFieldType.TIMESTAMP.getDefaultFormat());
+    }
+
+    /**
+     * Returns a converter into the given DataType that behaves as {@link #convertType(Object, DataType, Supplier, Supplier, Supplier, String)}
+     * does with formats for the given patterns. Converters into simple types are cached and shared, and the date formats that they use are
+     * created once per thread rather than once per value.
+     *
+     * @param dataType the type to convert values into
+     * @param dateFormat the format to use for parsing Date values, or <code>null</code> to interpret them as milliseconds since epoch
+     * @param timeFormat the format to use for parsing Time values, or <code>null</code> to interpret them as milliseconds since epoch
+     * @param timestampFormat the format to use for parsing Timestamp values, or <code>null</code> to interpret them as milliseconds since epoch
+     * @return a converter into the given type
+     */
+    public static DataTypeConverter getConverter(final DataType dataType, final String dateFormat, final String timeFormat, final String timestampFormat) {
+        final RecordFieldType fieldType = dataType.getFieldType();
+        switch (fieldType) {
+            case ARRAY:
+            case MAP:
+            case RECORD:
+            case CHOICE: {
+                final Supplier<DateFormat> dateFormatSupplier = getDateFormatSupplier(dateFormat);
+                final Supplier<DateFormat> timeFormatSupplier = getDateFormatSupplier(timeFormat);
+                final Supplier<DateFormat> timestampFormatSupplier = getDateFormatSupplier(timestampFormat);
+                return (value, fieldName) -> convertType(value, dataType, dateFormatSupplier, timeFormatSupplier, timestampFormatSupplier, fieldName);
+            }
+        }
+
+        final String format;
+        switch (fieldType) {
+            case DATE:
+                format = dateFormat;
+                break;
+            case TIME:
+                format = timeFormat;
+                break;
+            case TIMESTAMP:
+                format = timestampFormat;
+                break;
+            default:
+                format = null;
+                break;
+        }
+
+        final ConverterKey key = new ConverterKey(fieldType, format);
+        final DataTypeConverter cached = SIMPLE_TYPE_CONVERTERS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final DataTypeConverter converter = createSimpleTypeConverter(fieldType, format);
+        if (SIMPLE_TYPE_CONVERTERS.size() >= MAX_CACHED_CONVERTERS) {
+            return converter;
+        }
+
+        final DataTypeConverter existing = SIMPLE_TYPE_CONVERTERS.putIfAbsent(key, converter);
+        return existing == null ? converter : existing;
+    }
+
+    private static DataTypeConverter createSimpleTypeConverter(final RecordFieldType fieldType, final String format) {
+        switch (fieldType) {
+            case BIGINT:
+                return DataTypeUtils::toBigInt;
+            case BOOLEAN:
+                return DataTypeUtils::toBoolean;
+            case BYTE:
+                return DataTypeUtils::toByte;
+            case CHAR:
+                return DataTypeUtils::toCharacter;
+            case DOUBLE:
+                return DataTypeUtils::toDouble;
+            case FLOAT:
+                return DataTypeUtils::toFloat;
+            case INT:
+                return DataTypeUtils::toInteger;
+            case LONG:
+                return DataTypeUtils::toLong;
+            case SHORT:
+                return DataTypeUtils::toShort;
+            case STRING:
+                return (value, fieldName) -> toString(value, NO_DATE_FORMAT, StandardCharsets.UTF_8);
+            case DATE: {
+                final Supplier<DateFormat> dateFormat = getDateFormatSupplier(format);
+                return (value, fieldName) -> toDate(value, dateFormat, fieldName);
+            }
+            case TIME: {
+                final Supplier<DateFormat> timeFormat = getDateFormatSupplier(format);
+                return (value, fieldName) -> toTime(value, timeFormat, fieldName);
+            }
+            case TIMESTAMP: {
+                final Supplier<DateFormat> timestampFormat = getDateFormatSupplier(format);
+                return (value, fieldName) -> toTimestamp(value, timestampFormat, fieldName);
+            }
+        }
+
+        return (value, fieldName) -> null;
+    }
+
+    /**
+     * Returns a Supplier of a DateFormat for the given pattern, as created by {@link #getDateFormat(String)}. Each thread that calls the Supplier
+     * is given its own DateFormat, which is created on first use and then reused. As a result, the DateFormat that is returned must not be
+     * modified or shared with other threads.
+     *
+     * @param format the date format pattern
+     * @return a Supplier of a DateFormat for the given pattern. If the pattern is <code>null</code>, the Supplier returns <code>null</code>.
+     */
+    public static Supplier<DateFormat> getDateFormatSupplier(final String format) {
+        if (format == null) {
+            return NO_DATE_FORMAT;
+        }
+
+        final Supplier<DateFormat> cached = DATE_FORMAT_SUPPLIERS.get(format);
+        if (cached != null) {
+            return cached;
+        }
+
+        final ThreadLocal<DateFormat> threadLocalFormat = ThreadLocal.withInitial(() -> getDateFormat(format));
+        final Supplier<DateFormat> supplier = threadLocalFormat::get;
+        if (DATE_FORMAT_SUPPLIERS.size() >= MAX_CACHED_DATE_FORMATS) {
+            return supplier;
+        }
+
+        final Supplier<DateFormat> existing = DATE_FORMAT_SUPPLIERS.putIfAbsent(format, supplier);
+        return existing == null ? supplier : existing;
+    }
+
     public static DateFormat getDateFormat(final RecordFieldType fieldType, final Supplier<DateFormat> dateFormat,
         final Supplier<DateFormat> timeFormat, final Supplier<DateFormat> timestampFormat) {
         switch (fieldType) {
@@ -895,17 +1036,8 @@ public class DataTypeUtils {
             return String.valueOf(((java.util.Date) value).getTime());
         }
 
-        if (value instanceof java.sql.Date) {
-            return getDateFormat(format).format((java.util.Date) value);
-        }
-        if (value instanceof java.sql.Time) {
-            return getDateFormat(format).format((java.util.Date) value);
-        }
-        if (value instanceof java.sql.Timestamp) {
-            return getDateFormat(format).format((java.util.Date) value);
-        }
         if (value instanceof java.util.Date) {
-            return getDateFormat(format).format((java.util.Date) value);
+            return getDateFormatSupplier(format).get().format((java.util.Date) value);
         }
         if (value instanceof Blob) {
             Blob blob = (Blob) value;
@@ -1011,7 +1143,7 @@ public class DataTypeUtils {
             }
 
             try {
-                getDateFormat(format).parse((String) value);
+                getDateFormatSupplier(format).get().parse((String) value);
                 return true;
             } catch (final ParseException e) {
                 return false;
@@ -1207,6 +1339,14 @@ public class DataTypeUtils {
         throw new IllegalTypeConversionException("Cannot convert value [" + value + "] of type " + value.getClass() + " to Boolean for field " + fieldName);
     }
 
+    public static boolean toBoolean(final Object value, final boolean valueIfNull, final String fieldName) {
+        if (value == null) {
+            return valueIfNull;
+        }
+
+        return toBoolean(value, fieldName);
+    }
+
     public static boolean isBooleanTypeCompatible(final Object value) {
         if (value == null) {
             return false;
@@ -1226,6 +1366,18 @@ public class DataTypeUtils {
             return null;
         }
 
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+
+        return toDouble(value, 0D, fieldName);
+    }
+
+    public static double toDouble(final Object value, final double valueIfNull, final String fieldName) {
+        if (value == null) {
+            return valueIfNull;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).doubleValue();
         }
@@ -1262,6 +1414,18 @@ public class DataTypeUtils {
             return null;
         }
 
+        if (value instanceof Float) {
+            return (Float) value;
+        }
+
+        return toFloat(value, 0F, fieldName);
+    }
+
+    public static float toFloat(final Object value, final float valueIfNull, final String fieldName) {
+        if (value == null) {
+            return valueIfNull;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).floatValue();
         }
@@ -1320,6 +1484,18 @@ public class DataTypeUtils {
             return null;
         }
 
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+
+        return toLong(value, 0L, fieldName);
+    }
+
+    public static long toLong(final Object value, final long valueIfNull, final String fieldName) {
+        if (value == null) {
+            return valueIfNull;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).longValue();
         }
@@ -1405,6 +1581,18 @@ public class DataTypeUtils {
             return null;
         }
 
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+
+        return toInteger(value, 0, fieldName);
+    }
+
+    public static int toInteger(final Object value, final int valueIfNull, final String fieldName) {
+        if (value == null) {
+            return valueIfNull;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).intValue();
         }
@@ -1426,6 +1614,10 @@ public class DataTypeUtils {
             return null;
         }
 
+        if (value instanceof Short) {
+            return (Short) value;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).shortValue();
         }
@@ -1446,6 +1638,10 @@ public class DataTypeUtils {
             return null;
         }
 
+        if (value instanceof Byte) {
+            return (Byte) value;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).byteValue();
         }
@@ -1769,4 +1965,32 @@ public class DataTypeUtils {
             return Charset.forName(charsetName);
         }
     }
+
+    private static class ConverterKey {
+        private final RecordFieldType fieldType;
+        private final String format;
+
+        ConverterKey(final RecordFieldType fieldType, final String format) {
+            this.fieldType = fieldType;
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ConverterKey)) {
+                return false;
+            }
+
+            final ConverterKey other = (ConverterKey) obj;
+            return fieldType == other.fieldType && Objects.equals(format, other.format);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * fieldType.hashCode() + Objects.hashCode(format);
+        }
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.nifi.serialization.record;
 
 import org.apache.nifi.serialization.SimpleRecordSchema;
 import org.apache.nifi.serialization.record.type.ChoiceDataType;
+import org.apache.nifi.serialization.record.util.DataTypeConverter;
 import org.apache.nifi.serialization.record.util.DataTypeUtils;
 import org.apache.nifi.serialization.record.util.IllegalTypeConversionException;
 import org.junit.Test;
@@ -26,6 +27,7 @@ import org.junit.Test;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.text.DateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -36,15 +38,19 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class TestDataTypeUtils {
     /**
@@ -313,6 +319,96 @@ public class TestDataTypeUtils {
         assertFalse(DataTypeUtils.isCompatibleDataType(new Long[]{1L, 2L}, dataType));
     }
 
+    @Test
+    public void testConvertNumberOfSameTypeReturnsSameInstance() {
+        final Long longValue = 1234567890123L;
+        final Integer intValue = 123456;
+        final Double doubleValue = 1234.5678;
+        final Float floatValue = 12.5f;
+
+        assertSame(longValue, DataTypeUtils.toLong(longValue, "field"));
+        assertSame(intValue, DataTypeUtils.toInteger(intValue, "field"));
+        assertSame(doubleValue, DataTypeUtils.toDouble(doubleValue, "field"));
+        assertSame(floatValue, DataTypeUtils.toFloat(floatValue, "field"));
+        assertSame(longValue, DataTypeUtils.convertType(longValue, RecordFieldType.LONG.getDataType(), "field"));
+        assertSame(doubleValue, DataTypeUtils.convertType(doubleValue, RecordFieldType.DOUBLE.getDataType(), "field"));
+    }
+
+    @Test
+    public void testPrimitiveConversions() {
+        assertEquals(-1L, DataTypeUtils.toLong(null, -1L, "field"));
+        assertEquals(42L, DataTypeUtils.toLong(42, -1L, "field"));
+        assertEquals(42L, DataTypeUtils.toLong("42", -1L, "field"));
+        assertEquals(42, DataTypeUtils.toInteger(42L, -1, "field"));
+        assertEquals(2.5, DataTypeUtils.toDouble("2.5", 0.0, "field"), 0.0);
+        assertEquals(2.5f, DataTypeUtils.toFloat(2.5, 0f, "field"), 0.0f);
+        assertTrue(DataTypeUtils.toBoolean("true", false, "field"));
+        assertTrue(DataTypeUtils.toBoolean(null, true, "field"));
+
+        try {
+            DataTypeUtils.toLong(new Object(), -1L, "field");
+            fail("Was able to convert an Object to a long");
+        } catch (final IllegalTypeConversionException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConverterMatchesConvertType() {
+        final List<DataType> dataTypes = Arrays.asList(RecordFieldType.INT.getDataType(), RecordFieldType.LONG.getDataType(), RecordFieldType.DOUBLE.getDataType(),
+            RecordFieldType.BOOLEAN.getDataType(), RecordFieldType.STRING.getDataType(), RecordFieldType.DATE.getDataType(), RecordFieldType.TIMESTAMP.getDataType(),
+            RecordFieldType.ARRAY.getArrayDataType(RecordFieldType.INT.getDataType()),
+            RecordFieldType.CHOICE.getChoiceDataType(RecordFieldType.INT.getDataType(), RecordFieldType.STRING.getDataType()));
+        final List<Object> values = Arrays.asList("12", 12L, "true", 1.5, "2020-01-02", "2020-01-02 03:04:05", new Object[] {"1", 2L});
+
+        for (final DataType dataType : dataTypes) {
+            final DataTypeConverter converter = DataTypeUtils.getConverter(dataType);
+            assertNull(converter.convert(null, "field"));
+
+            for (final Object value : values) {
+                Object expected;
+                try {
+                    expected = DataTypeUtils.convertType(value, dataType, "field");
+                } catch (final RuntimeException e) {
+                    expected = e.getClass();
+                }
+
+                Object actual;
+                try {
+                    actual = converter.convert(value, "field");
+                } catch (final RuntimeException e) {
+                    actual = e.getClass();
+                }
+
+                if (expected instanceof Object[]) {
+                    assertArrayEquals((Object[]) expected, (Object[]) actual);
+                } else {
+                    assertEquals("Converting " + value + " to " + dataType, expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConverterUsesGivenFormats() {
+        final DataTypeConverter converter = DataTypeUtils.getConverter(RecordFieldType.DATE.getDataType(), "MM/dd/yyyy", null, null);
+        assertSame(converter, DataTypeUtils.getConverter(RecordFieldType.DATE.getDataType(), "MM/dd/yyyy", "HH", "HH"));
+
+        final java.sql.Date date = (java.sql.Date) converter.convert("01/02/2020", "field");
+        assertEquals(java.sql.Date.valueOf("2020-01-02").toLocalDate(), date.toLocalDate());
+
+        final DataTypeConverter epochConverter = DataTypeUtils.getConverter(RecordFieldType.TIMESTAMP.getDataType(), null, null, null);
+        assertEquals(new Timestamp(1000L), epochConverter.convert("1000", "field"));
+    }
+
+    @Test
+    public void testDateFormatSupplierIsReused() {
+        final Supplier<DateFormat> supplier = DataTypeUtils.getDateFormatSupplier("yyyy-MM-dd");
+        assertSame(supplier, DataTypeUtils.getDateFormatSupplier("yyyy-MM-dd"));
+        assertSame(supplier.get(), supplier.get());
+        assertNull(DataTypeUtils.getDateFormatSupplier(null).get());
+    }
+
     @Test
     public void testConvertDataTypeBigint() {
         final Function<Object, BigInteger> toBigInteger = v -> (BigInteger) DataTypeUtils.convertType(v, RecordFieldType.BIGINT.getDataType(), "field");
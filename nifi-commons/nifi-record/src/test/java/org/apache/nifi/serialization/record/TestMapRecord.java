@@ -185,4 +185,28 @@ public class TestMapRecord {
         assertEquals("hello", record.getValue("bar"));
         assertEquals("hello", record.getValue("baz"));
     }
+
+    @Test
+    public void testPrimitiveAccessors() {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("count", RecordFieldType.LONG.getDataType()));
+        fields.add(new RecordField("ratio", RecordFieldType.DOUBLE.getDataType()));
+        fields.add(new RecordField("flag", RecordFieldType.BOOLEAN.getDataType()));
+        fields.add(new RecordField("missing", RecordFieldType.INT.getDataType()));
+
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+        final Map<String, Object> values = new HashMap<>();
+        values.put("count", 12L);
+        values.put("ratio", "0.75");
+        values.put("flag", Boolean.TRUE);
+        final Record record = new MapRecord(schema, values);
+
+        assertEquals(12L, record.getAsLong("count", -1L));
+        assertEquals(12, record.getAsInt("count", -1));
+        assertEquals(0.75, record.getAsDouble("ratio", 0.0), 0.0);
+        assertEquals(0.75f, record.getAsFloat("ratio", 0f), 0.0f);
+        assertEquals(true, record.getAsBoolean("flag", false));
+        assertEquals(-1, record.getAsInt("missing", -1));
+        assertEquals(7L, record.getAsLong("unknown", 7L));
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.serialization.record;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.junit.Test;
+
+public class TestSchemaIndexedMap {
+
+    private RecordSchema createSchema() {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType(), null, Collections.singleton("fullName")));
+        fields.add(new RecordField("city", RecordFieldType.STRING.getDataType(), "Boston"));
+        return new SimpleRecordSchema(fields);
+    }
+
+    @Test
+    public void testFieldIndex() {
+        final RecordSchema schema = createSchema();
+        assertEquals(0, schema.getFieldIndex("id"));
+        assertEquals(2, schema.getFieldIndex("city"));
+        assertEquals(-1, schema.getFieldIndex("fullName"));
+        assertEquals(-1, schema.getFieldIndex("other"));
+    }
+
+    @Test
+    public void testBehavesLikeMap() {
+        final SchemaIndexedMap indexed = new SchemaIndexedMap(createSchema());
+        final Map<String, Object> expected = new HashMap<>();
+
+        assertTrue(indexed.isEmpty());
+        assertFalse(indexed.containsKey("id"));
+
+        for (final Map<String, Object> map : Arrays.asList(indexed, expected)) {
+            map.put("name", "John");
+            map.put("id", 48);
+            map.put("city", null);
+            map.put("other", "value");
+            map.put("fullName", "John Doe");
+        }
+
+        assertEquals(expected, indexed);
+        assertEquals(indexed, expected);
+        assertEquals(expected.hashCode(), indexed.hashCode());
+        assertEquals(5, indexed.size());
+        assertTrue(indexed.containsKey("city"));
+        assertNull(indexed.get("city"));
+
+        assertEquals("John", indexed.put("name", "Jane"));
+        assertEquals("Jane", indexed.get("name"));
+        assertEquals(48, indexed.remove("id"));
+        assertNull(indexed.remove("id"));
+        assertEquals("value", indexed.remove("other"));
+        assertEquals(3, indexed.size());
+
+        assertEquals(Arrays.asList("name", "city", "fullName"), new ArrayList<>(indexed.keySet()));
+
+        final Iterator<Map.Entry<String, Object>> itr = indexed.entrySet().iterator();
+        itr.next().setValue("Jim");
+        itr.next();
+        itr.remove();
+        assertEquals("Jim", indexed.get("name"));
+        assertFalse(indexed.containsKey("city"));
+        assertEquals(2, indexed.size());
+
+        indexed.clear();
+        assertTrue(indexed.isEmpty());
+        assertNull(indexed.get("fullName"));
+    }
+
+    @Test
+    public void testMapRecordWithIndexedValues() {
+        final RecordSchema schema = createSchema();
+        final Map<String, Object> indexed = new SchemaIndexedMap(schema);
+        indexed.put("id", 1);
+        indexed.put("fullName", "John Doe");
+
+        final Map<String, Object> hashed = new HashMap<>(indexed);
+
+        final Record indexedRecord = new MapRecord(schema, indexed);
+        final Record hashedRecord = new MapRecord(schema, hashed);
+
+        assertEquals(hashedRecord, indexedRecord);
+        assertEquals(hashedRecord.hashCode(), indexedRecord.hashCode());
+        assertArrayEquals(new Object[] {1, "John Doe", "Boston"}, indexedRecord.getValues());
+        assertArrayEquals(hashedRecord.getValues(), indexedRecord.getValues());
+        assertEquals("John Doe", indexedRecord.getValue("name"));
+
+        indexedRecord.setValue("city", "Cambridge");
+        indexedRecord.setValue("unknown", "abc");
+        assertArrayEquals(new Object[] {1, "John Doe", "Cambridge"}, indexedRecord.getValues());
+        assertEquals("abc", indexedRecord.getValue("unknown"));
+        assertTrue(indexedRecord.getRawFieldNames().contains("unknown"));
+    }
+}
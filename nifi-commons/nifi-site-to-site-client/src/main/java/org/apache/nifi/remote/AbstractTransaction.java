@@ -57,6 +57,7 @@ public abstract class AbstractTransaction implements Transaction {
     private final long creationNanoTime = System.nanoTime();
     private int transfers = 0;
     private long contentBytes = 0;
+    private String peerChecksum = null;
 
     public AbstractTransaction(final Peer peer, final TransferDirection direction, final boolean useCompression,
                                final FlowFileCodec codec, final EventReporter eventReporter, final int protocolVersion,
@@ -70,11 +71,22 @@ public abstract class AbstractTransaction implements Transaction {
         this.protocolVersion = protocolVersion;
         this.penaltyMillis = penaltyMillis;
         this.destinationId = destinationId;
+
+        codec.startTransaction();
     }
 
     protected void close() throws IOException {
     }
 
+    /**
+     * @return <code>true</code> if the sending side of the transaction includes its checksum along with the indicator that it has finished
+     * sending data, so that the receiving side is able to verify the checksum without an additional round trip. This is supported by
+     * version 7 of the Socket protocol.
+     */
+    protected boolean isChecksumSentWithFinish() {
+        return false;
+    }
+
     @Override
     public void send(final byte[] content, final Map<String, String> attributes) throws IOException {
         send(new StandardDataPacket(attributes, new ByteArrayInputStream(content), content.length));
@@ -133,6 +145,11 @@ public abstract class AbstractTransaction implements Transaction {
                             logger.debug("{} {} Indicates Transaction should finish", this, peer);
                             this.dataAvailable = false;
                             break;
+                        case FINISH_TRANSACTION_WITH_CHECKSUM:
+                            logger.debug("{} {} Indicates Transaction should finish with checksum {}", this, peer, dataAvailableCode.getMessage());
+                            this.dataAvailable = false;
+                            this.peerChecksum = dataAvailableCode.getMessage();
+                            break;
                         default:
                             throw new ProtocolException("Got unexpected response from " + peer + " when asking for data: " + dataAvailableCode);
                     }
@@ -194,6 +211,20 @@ public abstract class AbstractTransaction implements Transaction {
                         throw new IllegalStateException("Cannot complete transaction because the sender has already sent more data than client has consumed.");
                     }
 
+                    if (peerChecksum != null) {
+                        // The peer sent its checksum along with the FINISH_TRANSACTION indicator, so we can verify it without another round trip.
+                        // The peer will not discard the data until it receives our TRANSACTION_FINISHED indicator, which is only sent after we commit.
+                        final String calculatedCRC = String.valueOf(crc.getValue());
+                        if (!peerChecksum.equals(calculatedCRC)) {
+                            writeTransactionResponse(ResponseCode.BAD_CHECKSUM);
+                            throw new IOException(this + " Received data from peer " + peer + " and calculated CRC32 Checksum as "
+                                    + calculatedCRC + " while peer calculated CRC32 Checksum as " + peerChecksum + "; canceling transaction");
+                        }
+
+                        state = TransactionState.TRANSACTION_CONFIRMED;
+                        return;
+                    }
+
                     // we received a FINISH_TRANSACTION indicator. Send back a CONFIRM_TRANSACTION message
                     // to peer so that we can verify that the connection is still open. This is a two-phase commit,
                     // which helps to prevent the chances of data duplication. Without doing this, we may commit the
@@ -228,6 +259,14 @@ public abstract class AbstractTransaction implements Transaction {
                                     + confirmTransactionResponse + "; expected 'Confirm Transaction' Response Code");
                     }
 
+                    state = TransactionState.TRANSACTION_CONFIRMED;
+                } else if (isChecksumSentWithFinish()) {
+                    // Send our checksum along with the FINISH_TRANSACTION indicator. The peer verifies it before committing its session and
+                    // then responds with TRANSACTION_FINISHED (or BAD_CHECKSUM), which is read in complete(), saving a round trip.
+                    final String calculatedCRC = String.valueOf(crc.getValue());
+                    logger.debug("{} Sending FINISH_TRANSACTION_WITH_CHECKSUM indicator to {}", this, peer);
+                    writeTransactionResponse(ResponseCode.FINISH_TRANSACTION_WITH_CHECKSUM, calculatedCRC);
+
                     state = TransactionState.TRANSACTION_CONFIRMED;
                 } else {
                     logger.debug("{} Sent FINISH_TRANSACTION indicator to {}", this, peer);
@@ -303,6 +342,8 @@ public abstract class AbstractTransaction implements Transaction {
                     if (transactionResponse.getCode() == ResponseCode.TRANSACTION_FINISHED_BUT_DESTINATION_FULL) {
                         peer.penalize(destinationId, penaltyMillis);
                         backoff = true;
+                    } else if (transactionResponse.getCode() == ResponseCode.BAD_CHECKSUM) {
+                        throw new IOException(this + " Received a BadChecksum response from peer " + peer);
                     } else if (transactionResponse.getCode() != ResponseCode.TRANSACTION_FINISHED) {
                         throw new ProtocolException("After sending data to " + peer + ", expected TRANSACTION_FINISHED response but got " + transactionResponse);
                     }
@@ -17,6 +17,10 @@
 package org.apache.nifi.remote.client.http;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
 import org.apache.nifi.remote.Peer;
 import org.apache.nifi.remote.PeerDescription;
 import org.apache.nifi.remote.PeerStatus;
@@ -60,6 +64,9 @@ public class HttpClient extends AbstractSiteToSiteClient implements PeerStatusPr
 
     private final ScheduledExecutorService taskExecutor;
     private final PeerSelector peerSelector;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final PoolingNHttpClientConnectionManager asyncConnectionManager;
+    private final CloseableHttpAsyncClient asyncConnectionManagerReactor;
     private final Set<HttpClientTransaction> activeTransactions = Collections.synchronizedSet(new HashSet<>());
 
     public HttpClient(final SiteToSiteClientConfig config) {
@@ -68,6 +75,16 @@ public class HttpClient extends AbstractSiteToSiteClient implements PeerStatusPr
         peerSelector = new PeerSelector(this, config.getPeerPersistence());
         peerSelector.setEventReporter(config.getEventReporter());
 
+        // Shared by every transaction created by this client, so that connections to a peer are reused
+        // rather than paying a TCP (and TLS) handshake for each transaction.
+        connectionManager = SiteToSiteRestApiClient.createConnectionManager(config.getSslContext());
+
+        // Transactions initiate and send data with asynchronous requests, whose connections are pooled in the same way. The I/O reactor
+        // of the pool is run by a client that is never used for requests, and closing that client shuts the pool down.
+        asyncConnectionManager = SiteToSiteRestApiClient.createAsyncConnectionManager(config.getSslContext());
+        asyncConnectionManagerReactor = HttpAsyncClients.createMinimal(asyncConnectionManager);
+        asyncConnectionManagerReactor.start();
+
         taskExecutor = Executors.newScheduledThreadPool(1, new ThreadFactory() {
             private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
 
@@ -87,6 +104,13 @@ public class HttpClient extends AbstractSiteToSiteClient implements PeerStatusPr
             }
         }, 0, 5, TimeUnit.SECONDS);
 
+        final long idleExpirationMillis = config.getIdleConnectionExpiration(TimeUnit.MILLISECONDS);
+        taskExecutor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleExpirationMillis, TimeUnit.MILLISECONDS);
+            asyncConnectionManager.closeExpiredConnections();
+            asyncConnectionManager.closeIdleConnections(idleExpirationMillis, TimeUnit.MILLISECONDS);
+        }, 5, 5, TimeUnit.SECONDS);
     }
 
     @Override
@@ -106,6 +130,8 @@ public class HttpClient extends AbstractSiteToSiteClient implements PeerStatusPr
         try (final SiteToSiteRestApiClient apiClient = new SiteToSiteRestApiClient(config.getSslContext(), config.getHttpProxy(), config.getEventReporter())) {
             final String scheme = peerDescription.isSecure() ? "https" : "http";
             apiClient.setBaseUrl(scheme, peerDescription.getHostname(), peerDescription.getPort());
+            apiClient.setConnectionManager(connectionManager);
+            apiClient.setAsyncConnectionManager(asyncConnectionManager);
 
             final int timeoutMillis = (int) config.getTimeout(TimeUnit.MILLISECONDS);
             apiClient.setConnectTimeoutMillis(timeoutMillis);
@@ -159,6 +185,8 @@ public class HttpClient extends AbstractSiteToSiteClient implements PeerStatusPr
             final SiteToSiteRestApiClient apiClient = new SiteToSiteRestApiClient(config.getSslContext(), config.getHttpProxy(), config.getEventReporter());
 
             apiClient.setBaseUrl(peer.getUrl());
+            apiClient.setConnectionManager(connectionManager);
+            apiClient.setAsyncConnectionManager(asyncConnectionManager);
             apiClient.setConnectTimeoutMillis(timeoutMillis);
             apiClient.setReadTimeoutMillis(timeoutMillis);
             apiClient.setCacheExpirationMillis(config.getCacheExpiration(TimeUnit.MILLISECONDS));
@@ -246,6 +274,9 @@ public class HttpClient extends AbstractSiteToSiteClient implements PeerStatusPr
         for (final HttpClientTransaction transaction : activeTransactions) {
             transaction.getCommunicant().getCommunicationsSession().interrupt();
         }
+
+        connectionManager.shutdown();
+        asyncConnectionManagerReactor.close();
     }
 
     @Override
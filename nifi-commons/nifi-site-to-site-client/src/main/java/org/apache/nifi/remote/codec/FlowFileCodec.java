@@ -69,4 +69,13 @@ public interface FlowFileCodec extends VersionedRemoteResource {
      * @throws TransmissionDisabledException if a user terminates the connection
      */
     DataPacket decode(InputStream stream) throws IOException, ProtocolException, TransmissionDisabledException;
+
+    /**
+     * Notifies the codec that a new transaction is beginning, so that any state that the codec keeps for the
+     * duration of a transaction, such as a dictionary of attribute names and values that have already been
+     * transferred, is discarded. Both the sending and the receiving side must call this method before the first
+     * DataPacket of each transaction is encoded or decoded.
+     */
+    default void startTransaction() {
+    }
 }
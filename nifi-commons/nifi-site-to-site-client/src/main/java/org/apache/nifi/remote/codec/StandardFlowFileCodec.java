@@ -22,6 +22,8 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,27 +35,75 @@ import org.apache.nifi.remote.protocol.DataPacket;
 import org.apache.nifi.remote.util.StandardDataPacket;
 import org.apache.nifi.stream.io.StreamUtils;
 
+/**
+ * <p>
+ * Version 1 of the codec writes the name and value of every attribute in full for every DataPacket.
+ * </p>
+ *
+ * <p>
+ * Version 2 keeps a dictionary of the attribute names and values that have been transferred during the current
+ * transaction. Each name or value that has already been transferred is written as a reference into the dictionary
+ * (a negative length) rather than in full, which significantly reduces the number of bytes sent when transferring many
+ * small FlowFiles that share attributes. Lengths and references are written as variable-length integers, so that
+ * most of them require a single byte. Both sides build the dictionary identically as DataPackets are encoded and decoded,
+ * and discard it when {@link #startTransaction()} is called.
+ * </p>
+ */
 public class StandardFlowFileCodec implements FlowFileCodec {
 
     public static final int MAX_NUM_ATTRIBUTES = 25000;
 
     public static final String DEFAULT_FLOWFILE_PATH = "./";
 
+    public static final int ATTRIBUTE_DICTIONARY_VERSION = 2;
+
+    // Bound the dictionary so that a transaction with many unique attribute values (such as UUIDs) cannot consume excessive heap.
+    static final int MAX_DICTIONARY_SIZE = 10000;
+    static final int MAX_DICTIONARY_ENTRY_BYTES = 1024;
+
     private final VersionNegotiator versionNegotiator;
 
+    private final Map<String, Integer> encodeDictionary = new HashMap<>();
+    private final List<String> decodeDictionary = new ArrayList<>();
+
+    /**
+     * Creates a codec that uses version 1 unless a different version is negotiated with the remote peer.
+     */
     public StandardFlowFileCodec() {
-        versionNegotiator = new StandardVersionNegotiator(1);
+        this(1);
+    }
+
+    /**
+     * Creates a codec that uses the given version, such as when proposing a version to the remote peer.
+     *
+     * @param version the version of the codec to use
+     */
+    public StandardFlowFileCodec(final int version) {
+        versionNegotiator = new StandardVersionNegotiator(ATTRIBUTE_DICTIONARY_VERSION, 1);
+        versionNegotiator.setVersion(version);
+    }
+
+    @Override
+    public void startTransaction() {
+        encodeDictionary.clear();
+        decodeDictionary.clear();
     }
 
     @Override
     public void encode(final DataPacket dataPacket, final OutputStream encodedOut) throws IOException {
         final DataOutputStream out = new DataOutputStream(encodedOut);
+        final boolean useDictionary = isUseDictionary();
 
         final Map<String, String> attributes = dataPacket.getAttributes();
         out.writeInt(attributes.size());
         for (final Map.Entry<String, String> entry : attributes.entrySet()) {
-            writeString(entry.getKey(), out);
-            writeString(entry.getValue(), out);
+            if (useDictionary) {
+                writeDictionaryString(entry.getKey(), out);
+                writeDictionaryString(entry.getValue(), out);
+            } else {
+                writeString(entry.getKey(), out);
+                writeString(entry.getValue(), out);
+            }
         }
 
         out.writeLong(dataPacket.getSize());
@@ -81,10 +131,11 @@ public class StandardFlowFileCodec implements FlowFileCodec {
             throw new ProtocolException("FlowFile exceeds maximum number of attributes with a total of " + numAttributes);
         }
 
+        final boolean useDictionary = isUseDictionary();
         final Map<String, String> attributes = new HashMap<>(numAttributes);
         for (int i = 0; i < numAttributes; i++) {
-            final String attrName = readString(in);
-            final String attrValue = readString(in);
+            final String attrName = useDictionary ? readDictionaryString(in) : readString(in);
+            final String attrValue = useDictionary ? readDictionaryString(in) : readString(in);
             attributes.put(attrName, attrValue);
         }
 
@@ -93,17 +144,90 @@ public class StandardFlowFileCodec implements FlowFileCodec {
         return new StandardDataPacket(attributes, stream, numBytes);
     }
 
+    private boolean isUseDictionary() {
+        return versionNegotiator.getVersion() >= ATTRIBUTE_DICTIONARY_VERSION;
+    }
+
     private void writeString(final String val, final DataOutputStream out) throws IOException {
-        final byte[] bytes = val.getBytes("UTF-8");
+        final byte[] bytes = val.getBytes(StandardCharsets.UTF_8);
         out.writeInt(bytes.length);
         out.write(bytes);
     }
 
     private String readString(final DataInputStream in) throws IOException {
         final int numBytes = in.readInt();
+        return readString(in, numBytes);
+    }
+
+    private String readString(final DataInputStream in, final int numBytes) throws IOException {
         final byte[] bytes = new byte[numBytes];
         StreamUtils.fillBuffer(in, bytes, true);
-        return new String(bytes, "UTF-8");
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeDictionaryString(final String val, final DataOutputStream out) throws IOException {
+        final Integer index = encodeDictionary.get(val);
+        if (index != null) {
+            writeVarInt(-(index + 1), out);
+            return;
+        }
+
+        final byte[] bytes = val.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length, out);
+        out.write(bytes);
+
+        if (isAddToDictionary(encodeDictionary.size(), bytes.length)) {
+            encodeDictionary.put(val, encodeDictionary.size());
+        }
+    }
+
+    private String readDictionaryString(final DataInputStream in) throws IOException {
+        final int lengthOrReference = readVarInt(in);
+        if (lengthOrReference < 0) {
+            final int index = -lengthOrReference - 1;
+            if (index >= decodeDictionary.size()) {
+                throw new ProtocolException("Received reference to attribute dictionary entry " + index + " but dictionary contains only "
+                    + decodeDictionary.size() + " entries");
+            }
+
+            return decodeDictionary.get(index);
+        }
+
+        final String value = readString(in, lengthOrReference);
+        if (isAddToDictionary(decodeDictionary.size(), lengthOrReference)) {
+            decodeDictionary.add(value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Writes the given value using ZigZag encoding followed by 7 bits per byte, with the high bit of each byte indicating that more bytes follow
+     */
+    private void writeVarInt(final int value, final DataOutputStream out) throws IOException {
+        int zigZag = (value << 1) ^ (value >> 31);
+        while ((zigZag & ~0x7F) != 0) {
+            out.write((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        out.write(zigZag);
+    }
+
+    private int readVarInt(final DataInputStream in) throws IOException {
+        int zigZag = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int b = in.readUnsignedByte();
+            zigZag |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+
+        throw new ProtocolException("Encountered malformed variable-length integer while decoding attributes");
+    }
+
+    private static boolean isAddToDictionary(final int dictionarySize, final int numBytes) {
+        return dictionarySize < MAX_DICTIONARY_SIZE && numBytes <= MAX_DICTIONARY_ENTRY_BYTES;
     }
 
     @Override
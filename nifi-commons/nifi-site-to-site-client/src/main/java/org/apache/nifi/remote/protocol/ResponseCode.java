@@ -40,6 +40,7 @@ public enum ResponseCode {
     TRANSACTION_FINISHED(13, "Transaction Finished", false),
     TRANSACTION_FINISHED_BUT_DESTINATION_FULL(14, "Transaction Finished But Destination is Full", false),
     CANCEL_TRANSACTION(15, "Cancel Transaction", true),
+    FINISH_TRANSACTION_WITH_CHECKSUM(16, "Finish Transaction With Checksum", true), // "Explanation" of this code is the checksum
     BAD_CHECKSUM(19, "Bad Checksum", false),
     // data availability indicators
     MORE_DATA(20, "More Data Exists", false),
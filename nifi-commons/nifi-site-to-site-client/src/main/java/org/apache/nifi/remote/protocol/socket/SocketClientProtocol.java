@@ -52,7 +52,8 @@ import java.util.concurrent.TimeUnit;
 public class SocketClientProtocol implements ClientProtocol {
 
     // Version 6 added to support Zero-Master Clustering, which was introduced in NiFi 1.0.0
-    private final VersionNegotiator versionNegotiator = new StandardVersionNegotiator(6, 5, 4, 3, 2, 1);
+    // Version 7 added to allow the sender to include its checksum with the FINISH_TRANSACTION indicator, which removes a round trip per transaction
+    private final VersionNegotiator versionNegotiator = new StandardVersionNegotiator(7, 6, 5, 4, 3, 2, 1);
 
     private RemoteDestination destination;
     private boolean useCompression = false;
@@ -249,7 +250,7 @@ public class SocketClientProtocol implements ClientProtocol {
 
         RequestType.NEGOTIATE_FLOWFILE_CODEC.writeRequestType(dos);
 
-        FlowFileCodec codec = new StandardFlowFileCodec();
+        FlowFileCodec codec = new StandardFlowFileCodec(StandardFlowFileCodec.ATTRIBUTE_DICTIONARY_VERSION);
         try {
             codec = (FlowFileCodec) RemoteResourceInitiator.initiateResourceNegotiation(codec, dis, dos);
         } catch (HandshakeException e) {
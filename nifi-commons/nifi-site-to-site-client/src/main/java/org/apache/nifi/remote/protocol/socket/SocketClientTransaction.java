@@ -81,6 +81,11 @@ public class SocketClientTransaction extends AbstractTransaction {
         }
     }
 
+    @Override
+    protected boolean isChecksumSentWithFinish() {
+        return protocolVersion >= 7;
+    }
+
     @Override
     protected Response readTransactionResponse() throws IOException {
         return Response.read(dis);
@@ -42,20 +42,34 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.utils.URIUtils;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.entity.BasicHttpEntity;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.apache.http.nio.ContentEncoder;
 import org.apache.http.nio.IOControl;
 import org.apache.http.nio.conn.ManagedNHttpClientConnection;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.nio.protocol.BasicAsyncResponseConsumer;
 import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.protocol.HttpCoreContext;
 import org.apache.http.util.EntityUtils;
@@ -165,6 +179,8 @@ public class SiteToSiteRestApiClient implements Closeable {
     private CredentialsProvider credentialsProvider;
     private CloseableHttpClient httpClient;
     private CloseableHttpAsyncClient httpAsyncClient;
+    private HttpClientConnectionManager connectionManager;
+    private NHttpClientConnectionManager asyncConnectionManager;
 
     private boolean compress = false;
     private InetAddress localAddress = null;
@@ -276,8 +292,17 @@ public class SiteToSiteRestApiClient implements Closeable {
     private void setupClient() {
         final HttpClientBuilder clientBuilder = HttpClients.custom();
 
-        if (sslContext != null) {
+        if (connectionManager != null) {
+            // The connection manager is owned by the caller and outlives this client. Every client sharing it uses the same
+            // SSLContext, so connections authenticated with a client certificate can be leased regardless of connection state.
+            clientBuilder.setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true)
+                .disableConnectionState();
+        } else if (sslContext != null) {
             clientBuilder.setSSLContext(sslContext);
+        }
+
+        if (sslContext != null) {
             clientBuilder.addInterceptorFirst(new HttpsResponseInterceptor());
         }
 
@@ -288,8 +313,16 @@ public class SiteToSiteRestApiClient implements Closeable {
     private void setupAsyncClient() {
         final HttpAsyncClientBuilder clientBuilder = HttpAsyncClients.custom();
 
-        if (sslContext != null) {
+        if (asyncConnectionManager != null) {
+            // As with the synchronous client, the connection manager and its I/O reactor are owned by the caller.
+            clientBuilder.setConnectionManager(asyncConnectionManager)
+                .setConnectionManagerShared(true)
+                .disableConnectionState();
+        } else if (sslContext != null) {
             clientBuilder.setSSLContext(sslContext);
+        }
+
+        if (sslContext != null) {
             clientBuilder.addInterceptorFirst(new HttpsResponseInterceptor());
         }
 
@@ -986,6 +1019,8 @@ public class SiteToSiteRestApiClient implements Closeable {
         extendingApiClient.connectTimeoutMillis = this.connectTimeoutMillis;
         extendingApiClient.readTimeoutMillis = this.readTimeoutMillis;
         extendingApiClient.localAddress = this.localAddress;
+        extendingApiClient.connectionManager = this.connectionManager;
+        extendingApiClient.asyncConnectionManager = this.asyncConnectionManager;
 
         final int extendFrequency = serverTransactionTtl / 2;
 
@@ -1412,6 +1447,85 @@ public class SiteToSiteRestApiClient implements Closeable {
         this.compress = compress;
     }
 
+    /**
+     * Sets a connection manager to be used for synchronous requests instead of one owned by this client.
+     * Sharing a single pooling connection manager among the clients created for each transaction allows
+     * TCP connections and TLS sessions to be reused across transactions. The connection manager is not
+     * shut down when this client is closed.
+     *
+     * @param connectionManager a connection manager created by {@link #createConnectionManager(SSLContext)}
+     */
+    public void setConnectionManager(final HttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * Creates a pooling connection manager that can be shared among instances of this class using the same SSLContext.
+     * The number of connections is not capped, matching the behavior of clients that create their own connection manager,
+     * so the caller is responsible for evicting idle connections and shutting down the connection manager.
+     *
+     * @param sslContext the SSLContext to use for https connections, or null if only http is used
+     * @return a pooling connection manager
+     */
+    public static PoolingHttpClientConnectionManager createConnectionManager(final SSLContext sslContext) {
+        final RegistryBuilder<ConnectionSocketFactory> registryBuilder = RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory());
+
+        if (sslContext == null) {
+            registryBuilder.register("https", SSLConnectionSocketFactory.getSocketFactory());
+        } else {
+            registryBuilder.register("https", new SSLConnectionSocketFactory(sslContext));
+        }
+
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registryBuilder.build());
+        connectionManager.setMaxTotal(Integer.MAX_VALUE);
+        connectionManager.setDefaultMaxPerRoute(Integer.MAX_VALUE);
+        connectionManager.setValidateAfterInactivity(2000);
+        return connectionManager;
+    }
+
+    /**
+     * Sets a connection manager to be used for asynchronous requests, which initiate transactions and send data,
+     * instead of one owned by this client. The I/O reactor of the connection manager must be run by the caller,
+     * and the connection manager is not shut down when this client is closed.
+     *
+     * @param asyncConnectionManager a connection manager created by {@link #createAsyncConnectionManager(SSLContext)}
+     */
+    public void setAsyncConnectionManager(final NHttpClientConnectionManager asyncConnectionManager) {
+        this.asyncConnectionManager = asyncConnectionManager;
+    }
+
+    /**
+     * Creates a pooling connection manager for asynchronous requests that can be shared among instances of this class
+     * using the same SSLContext. The connection manager does not run its I/O reactor, so the caller is responsible for
+     * running it, for example by starting a client created with {@link HttpAsyncClients#createMinimal(NHttpClientConnectionManager)},
+     * as well as for evicting idle connections and shutting down the connection manager.
+     *
+     * @param sslContext the SSLContext to use for https connections, or null if only http is used
+     * @return a pooling connection manager for asynchronous requests
+     */
+    public static PoolingNHttpClientConnectionManager createAsyncConnectionManager(final SSLContext sslContext) {
+        final RegistryBuilder<SchemeIOSessionStrategy> registryBuilder = RegistryBuilder.<SchemeIOSessionStrategy>create()
+            .register("http", NoopIOSessionStrategy.INSTANCE);
+
+        if (sslContext == null) {
+            registryBuilder.register("https", SSLIOSessionStrategy.getDefaultStrategy());
+        } else {
+            registryBuilder.register("https", new SSLIOSessionStrategy(sslContext));
+        }
+
+        final PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            connectionManager = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT), registryBuilder.build());
+        } catch (final IOReactorException e) {
+            throw new IllegalStateException("Failed to create I/O reactor for site-to-site connections", e);
+        }
+
+        connectionManager.setMaxTotal(Integer.MAX_VALUE);
+        connectionManager.setDefaultMaxPerRoute(Integer.MAX_VALUE);
+        return connectionManager;
+    }
+
     public void setLocalAddress(final InetAddress localAddress) {
         this.localAddress = localAddress;
     }
@@ -22,6 +22,7 @@ import static org.apache.nifi.remote.protocol.http.HttpHeaders.LOCATION_URI_INTE
 import static org.apache.nifi.remote.protocol.http.HttpHeaders.LOCATION_URI_INTENT_VALUE;
 import static org.apache.nifi.remote.protocol.http.HttpHeaders.PROTOCOL_VERSION;
 import static org.apache.nifi.remote.protocol.http.HttpHeaders.SERVER_SIDE_TRANSACTION_TTL;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -73,6 +74,7 @@ import org.apache.nifi.web.api.dto.remote.PeerDTO;
 import org.apache.nifi.web.api.entity.ControllerEntity;
 import org.apache.nifi.web.api.entity.PeersEntity;
 import org.apache.nifi.web.api.entity.TransactionResultEntity;
+import org.eclipse.jetty.io.ConnectionStatistics;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConfiguration;
@@ -104,6 +106,7 @@ public class TestHttpClient {
 
     private static Server server;
     private static ServerConnector httpConnector;
+    private static ConnectionStatistics httpConnectionStatistics;
     private static ServerConnector sslConnector;
     private static CountDownLatch testCaseFinished;
 
@@ -474,6 +477,8 @@ public class TestHttpClient {
         sslContextFactory.setKeyStoreType("JKS");
 
         httpConnector = new ServerConnector(server);
+        httpConnectionStatistics = new ConnectionStatistics();
+        httpConnector.addBean(httpConnectionStatistics);
 
         final HttpConfiguration https = new HttpConfiguration();
         https.addCustomizer(new SecureRequestCustomizer());
@@ -839,6 +844,25 @@ public class TestHttpClient {
 
     }
 
+    @Test
+    public void testSendReusesConnections() throws Exception {
+
+        try (
+                final SiteToSiteClient client = getDefaultBuilder()
+                    .portName("input-running")
+                    .build()
+        ) {
+            testSend(client);
+
+            // Subsequent transactions should lease pooled connections, for sending data as well, instead of opening new ones.
+            final long connectionsTotal = httpConnectionStatistics.getConnectionsTotal();
+            testSend(client);
+            testSend(client);
+            assertEquals(connectionsTotal, httpConnectionStatistics.getConnectionsTotal());
+        }
+
+    }
+
     @Test
     public void testSendSuccessMultipleUrls() throws Exception {
 
@@ -1296,6 +1320,24 @@ public class TestHttpClient {
         }
     }
 
+    @Test
+    public void testReceiveReusesConnections() throws Exception {
+
+        try (
+            SiteToSiteClient client = getDefaultBuilder()
+                .portName("output-running")
+                .build()
+        ) {
+            testReceive(client);
+
+            // Subsequent transactions should lease pooled connections instead of opening new ones.
+            final long connectionsTotal = httpConnectionStatistics.getConnectionsTotal();
+            testReceive(client);
+            testReceive(client);
+            assertEquals(connectionsTotal, httpConnectionStatistics.getConnectionsTotal());
+        }
+    }
+
     @Test
     public void testReceiveSuccessWithProxy() throws Exception {
 
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.remote.codec;
+
+import org.apache.nifi.remote.exception.ProtocolException;
+import org.apache.nifi.remote.protocol.DataPacket;
+import org.apache.nifi.remote.util.StandardDataPacket;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestStandardFlowFileCodec {
+
+    @Test
+    public void testRoundTripVersion1() throws IOException {
+        testRoundTrip(1);
+    }
+
+    @Test
+    public void testRoundTripAttributeDictionary() throws IOException {
+        testRoundTrip(StandardFlowFileCodec.ATTRIBUTE_DICTIONARY_VERSION);
+    }
+
+    private void testRoundTrip(final int version) throws IOException {
+        final FlowFileCodec encoder = new StandardFlowFileCodec(version);
+        final FlowFileCodec decoder = new StandardFlowFileCodec(version);
+        encoder.startTransaction();
+        decoder.startTransaction();
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        for (int i = 0; i < 10; i++) {
+            encoder.encode(createDataPacket(i), baos);
+        }
+
+        final InputStream in = new ByteArrayInputStream(baos.toByteArray());
+        for (int i = 0; i < 10; i++) {
+            final DataPacket decoded = decoder.decode(in);
+            assertEquals(createAttributes(i), decoded.getAttributes());
+            assertEquals("content " + i, readContents(decoded));
+        }
+
+        assertNull(decoder.decode(in));
+    }
+
+    @Test
+    public void testAttributeDictionaryReducesEncodedSize() throws IOException {
+        final ByteArrayOutputStream version1Out = new ByteArrayOutputStream();
+        final ByteArrayOutputStream version2Out = new ByteArrayOutputStream();
+
+        final FlowFileCodec version1 = new StandardFlowFileCodec(1);
+        final FlowFileCodec version2 = new StandardFlowFileCodec(StandardFlowFileCodec.ATTRIBUTE_DICTIONARY_VERSION);
+        version2.startTransaction();
+        for (int i = 0; i < 1000; i++) {
+            version1.encode(createDataPacket(i), version1Out);
+            version2.encode(createDataPacket(i), version2Out);
+        }
+
+        assertTrue("Expected dictionary encoding of " + version2Out.size() + " bytes to be less than half of " + version1Out.size() + " bytes",
+            version2Out.size() * 2 < version1Out.size());
+    }
+
+    @Test
+    public void testDictionaryIsScopedToTransaction() throws IOException {
+        final FlowFileCodec encoder = new StandardFlowFileCodec(StandardFlowFileCodec.ATTRIBUTE_DICTIONARY_VERSION);
+        final FlowFileCodec decoder = new StandardFlowFileCodec(StandardFlowFileCodec.ATTRIBUTE_DICTIONARY_VERSION);
+
+        for (int transaction = 0; transaction < 3; transaction++) {
+            encoder.startTransaction();
+            decoder.startTransaction();
+
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            encoder.encode(createDataPacket(transaction), baos);
+            encoder.encode(createDataPacket(transaction + 1), baos);
+
+            final InputStream in = new ByteArrayInputStream(baos.toByteArray());
+            final DataPacket first = decoder.decode(in);
+            assertEquals(createAttributes(transaction), first.getAttributes());
+            readContents(first);
+            final DataPacket second = decoder.decode(in);
+            assertEquals(createAttributes(transaction + 1), second.getAttributes());
+            readContents(second);
+        }
+    }
+
+    @Test(expected = ProtocolException.class)
+    public void testUnknownDictionaryReference() throws IOException {
+        final FlowFileCodec encoder = new StandardFlowFileCodec(StandardFlowFileCodec.ATTRIBUTE_DICTIONARY_VERSION);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        encoder.encode(createDataPacket(0), baos);
+        encoder.encode(createDataPacket(1), baos);
+
+        // The decoder never saw the first DataPacket, so the references in the second one cannot be resolved
+        final byte[] encoded = baos.toByteArray();
+        final ByteArrayOutputStream firstOnly = new ByteArrayOutputStream();
+        new StandardFlowFileCodec(StandardFlowFileCodec.ATTRIBUTE_DICTIONARY_VERSION).encode(createDataPacket(0), firstOnly);
+
+        final InputStream in = new ByteArrayInputStream(encoded, firstOnly.size(), encoded.length - firstOnly.size());
+        new StandardFlowFileCodec(StandardFlowFileCodec.ATTRIBUTE_DICTIONARY_VERSION).decode(in);
+    }
+
+    private Map<String, String> createAttributes(final int index) {
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("uuid", UUID.nameUUIDFromBytes(String.valueOf(index).getBytes(StandardCharsets.UTF_8)).toString());
+        attributes.put("filename", "file-" + index);
+        attributes.put("path", "./");
+        attributes.put("mime.type", "application/json");
+        attributes.put("kafka.topic", "sensor-readings");
+        attributes.put("kafka.partition", String.valueOf(index % 4));
+        attributes.put("source.system", "data-center-east");
+        return attributes;
+    }
+
+    private DataPacket createDataPacket(final int index) {
+        final byte[] content = ("content " + index).getBytes(StandardCharsets.UTF_8);
+        return new StandardDataPacket(createAttributes(index), new ByteArrayInputStream(content), content.length);
+    }
+
+    private String readContents(final DataPacket packet) throws IOException {
+        final byte[] buffer = new byte[(int) packet.getSize()];
+        int offset = 0;
+        while (offset < buffer.length) {
+            final int read = packet.getData().read(buffer, offset, buffer.length - offset);
+            if (read < 0) {
+                break;
+            }
+            offset += read;
+        }
+        return new String(buffer, StandardCharsets.UTF_8);
+    }
+}
@@ -52,6 +52,9 @@ import static org.apache.nifi.remote.protocol.SiteToSiteTestUtils.execSendWithIn
 import static org.apache.nifi.remote.protocol.SiteToSiteTestUtils.execSendZeroFlowFile;
 import static org.apache.nifi.remote.protocol.SiteToSiteTestUtils.readContents;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -62,6 +65,11 @@ public class TestSocketClientTransaction {
     private FlowFileCodec codec = new StandardFlowFileCodec();
 
     private SocketClientTransaction getClientTransaction(ByteArrayInputStream bis, ByteArrayOutputStream bos, TransferDirection direction) throws IOException {
+        return getClientTransaction(bis, bos, direction, 5);
+    }
+
+    private SocketClientTransaction getClientTransaction(ByteArrayInputStream bis, ByteArrayOutputStream bos, TransferDirection direction,
+                                                         int protocolVersion) throws IOException {
         PeerDescription description = null;
         String peerUrl = "";
         SocketCommunicationsSession commsSession = mock(SocketCommunicationsSession.class);
@@ -78,7 +86,6 @@ public class TestSocketClientTransaction {
         boolean useCompression = false;
         int penaltyMillis = 1000;
         EventReporter eventReporter = null;
-        int protocolVersion = 5;
         String destinationId = "destinationId";
         return new SocketClientTransaction(protocolVersion, destinationId, peer, codec, direction, useCompression, penaltyMillis, eventReporter);
     }
@@ -330,4 +337,115 @@ public class TestSocketClientTransaction {
         assertEquals(-1, sentByClient.read());
     }
 
+
+    @Test
+    public void testReceiveTwoFlowFilesWithChecksumSentWithFinish() throws IOException {
+
+        ByteArrayOutputStream serverResponseBos = new ByteArrayOutputStream();
+        DataOutputStream serverResponse = new DataOutputStream(serverResponseBos);
+        ResponseCode.MORE_DATA.writeResponse(serverResponse);
+        codec.encode(createDataPacket("contents on server 1"), serverResponse);
+        ResponseCode.CONTINUE_TRANSACTION.writeResponse(serverResponse);
+        codec.encode(createDataPacket("contents on server 2"), serverResponse);
+        ResponseCode.FINISH_TRANSACTION_WITH_CHECKSUM.writeResponse(serverResponse, "2969091230");
+
+        ByteArrayInputStream bis = new ByteArrayInputStream(serverResponseBos.toByteArray());
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        SocketClientTransaction transaction = getClientTransaction(bis, bos, TransferDirection.RECEIVE, 7);
+
+        execReceiveTwoFlowFiles(transaction);
+
+        // Verify what client has sent. The checksum was verified locally, so no CONFIRM_TRANSACTION round trip is necessary.
+        DataInputStream sentByClient = new DataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        assertEquals(RequestType.RECEIVE_FLOWFILES, RequestType.readRequestType(sentByClient));
+        Response completeResponse = Response.read(sentByClient);
+        assertEquals(ResponseCode.TRANSACTION_FINISHED, completeResponse.getCode());
+        assertEquals(-1, sentByClient.read());
+    }
+
+    @Test
+    public void testReceiveWithInvalidChecksumSentWithFinish() throws IOException {
+
+        ByteArrayOutputStream serverResponseBos = new ByteArrayOutputStream();
+        DataOutputStream serverResponse = new DataOutputStream(serverResponseBos);
+        ResponseCode.MORE_DATA.writeResponse(serverResponse);
+        codec.encode(createDataPacket("contents on server 1"), serverResponse);
+        ResponseCode.FINISH_TRANSACTION_WITH_CHECKSUM.writeResponse(serverResponse, "Different checksum");
+
+        ByteArrayInputStream bis = new ByteArrayInputStream(serverResponseBos.toByteArray());
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        SocketClientTransaction transaction = getClientTransaction(bis, bos, TransferDirection.RECEIVE, 7);
+
+        DataPacket packet = transaction.receive();
+        assertNotNull(packet);
+        assertEquals("contents on server 1", readContents(packet));
+        assertNull(transaction.receive());
+        try {
+            transaction.confirm();
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("peer calculated CRC32 Checksum as Different checksum"));
+            assertEquals(Transaction.TransactionState.ERROR, transaction.getState());
+        }
+
+        // Verify what client has sent.
+        DataInputStream sentByClient = new DataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        assertEquals(RequestType.RECEIVE_FLOWFILES, RequestType.readRequestType(sentByClient));
+        assertEquals(ResponseCode.BAD_CHECKSUM, Response.read(sentByClient).getCode());
+        assertEquals(-1, sentByClient.read());
+    }
+
+    @Test
+    public void testSendTwoFlowFilesWithChecksumSentWithFinish() throws IOException {
+
+        ByteArrayOutputStream serverResponseBos = new ByteArrayOutputStream();
+        DataOutputStream serverResponse = new DataOutputStream(serverResponseBos);
+        ResponseCode.TRANSACTION_FINISHED.writeResponse(serverResponse);
+
+        ByteArrayInputStream bis = new ByteArrayInputStream(serverResponseBos.toByteArray());
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        SocketClientTransaction transaction = getClientTransaction(bis, bos, TransferDirection.SEND, 7);
+
+        execSendTwoFlowFiles(transaction);
+
+        // Verify what client has sent.
+        DataInputStream sentByClient = new DataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        assertEquals(RequestType.SEND_FLOWFILES, RequestType.readRequestType(sentByClient));
+        DataPacket packetByClient = codec.decode(sentByClient);
+        assertEquals("contents on client 1", readContents(packetByClient));
+        Response continueDataResponse = Response.read(sentByClient);
+        assertEquals(ResponseCode.CONTINUE_TRANSACTION, continueDataResponse.getCode());
+        packetByClient = codec.decode(sentByClient);
+        assertEquals("contents on client 2", readContents(packetByClient));
+        Response endOfDataResponse = Response.read(sentByClient);
+        assertEquals(ResponseCode.FINISH_TRANSACTION_WITH_CHECKSUM, endOfDataResponse.getCode());
+        assertEquals("3359812065", endOfDataResponse.getMessage());
+        assertEquals(-1, sentByClient.read());
+    }
+
+    @Test
+    public void testSendWithInvalidChecksumSentWithFinish() throws IOException {
+
+        ByteArrayOutputStream serverResponseBos = new ByteArrayOutputStream();
+        DataOutputStream serverResponse = new DataOutputStream(serverResponseBos);
+        ResponseCode.BAD_CHECKSUM.writeResponse(serverResponse);
+
+        ByteArrayInputStream bis = new ByteArrayInputStream(serverResponseBos.toByteArray());
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+
+        SocketClientTransaction transaction = getClientTransaction(bis, bos, TransferDirection.SEND, 7);
+
+        transaction.send(createDataPacket("contents on client 1"));
+        transaction.confirm();
+        try {
+            transaction.complete();
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("BadChecksum"));
+            assertEquals(Transaction.TransactionState.ERROR, transaction.getState());
+        }
+    }
 }
@@ -37,10 +37,12 @@ import org.apache.nifi.serialization.SimpleRecordSchema;
 import org.apache.nifi.serialization.record.DataType;
 import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.nifi.serialization.record.SchemaIdentifier;
+import org.apache.nifi.serialization.record.SchemaIndexedMap;
 import org.apache.nifi.serialization.record.StandardSchemaIdentifier;
 import org.apache.nifi.serialization.record.type.ArrayDataType;
 import org.apache.nifi.serialization.record.type.ChoiceDataType;
@@ -571,18 +573,47 @@ public class AvroTypeUtil {
 
         for (final RecordField recordField : recordSchema.getFields()) {
             final Object rawValue = record.getValue(recordField);
+            putAvroValue(rec, avroSchema, recordField, rawValue, charset);
+        }
 
-            Pair<String, Field> fieldPair = lookupField(avroSchema, recordField);
-            final String fieldName = fieldPair.getLeft();
-            final Field field = fieldPair.getRight();
-            if (field == null) {
-                continue;
-            }
+        populateDefaultValues(rec, avroSchema, recordSchema);
+        return rec;
+    }
 
-            final Object converted = convertToAvroObject(rawValue, field.schema(), fieldName, charset);
-            rec.put(field.name(), converted);
+    /**
+     * Populates the given Avro record with the values of a row of the given batch. The Avro record may be reused for each row of the same batch,
+     * because every field that is in the batch's schema is overwritten, and every other field keeps its default value.
+     *
+     * @param batch the batch
+     * @param row the row of the batch whose values are to be populated
+     * @param avroRecord the Avro record to populate
+     * @param charset the character set to use when converting values
+     */
+    public static void populateAvroRecord(final RecordBatch batch, final int row, final GenericRecord avroRecord, final Charset charset) {
+        final Schema avroSchema = avroRecord.getSchema();
+        final RecordSchema recordSchema = batch.getSchema();
+
+        final List<RecordField> recordFields = recordSchema.getFields();
+        for (int i = 0; i < recordFields.size(); i++) {
+            putAvroValue(avroRecord, avroSchema, recordFields.get(i), batch.getValue(row, i), charset);
         }
 
+        populateDefaultValues(avroRecord, avroSchema, recordSchema);
+    }
+
+    private static void putAvroValue(final GenericRecord rec, final Schema avroSchema, final RecordField recordField, final Object rawValue, final Charset charset) {
+        final Pair<String, Field> fieldPair = lookupField(avroSchema, recordField);
+        final String fieldName = fieldPair.getLeft();
+        final Field field = fieldPair.getRight();
+        if (field == null) {
+            return;
+        }
+
+        final Object converted = convertToAvroObject(rawValue, field.schema(), fieldName, charset);
+        rec.put(field.name(), converted);
+    }
+
+    private static void populateDefaultValues(final GenericRecord rec, final Schema avroSchema, final RecordSchema recordSchema) {
         // see if the Avro schema has any fields that aren't in the RecordSchema, and if those fields have a default
         // value then we want to populate it in the GenericRecord being produced
         for (final Field field : avroSchema.getFields()) {
@@ -591,8 +622,6 @@ public class AvroTypeUtil {
                 rec.put(field.name(), field.defaultVal());
             }
         }
-
-        return rec;
     }
 
     /**
@@ -635,7 +664,7 @@ public class AvroTypeUtil {
 
     private static Long getLongFromTimestamp(final Object rawValue, final Schema fieldSchema, final String fieldName) {
         final String format = AvroTypeUtil.determineDataType(fieldSchema).getFormat();
-        Timestamp t = DataTypeUtils.toTimestamp(rawValue, () -> DataTypeUtils.getDateFormat(format), fieldName);
+        Timestamp t = DataTypeUtils.toTimestamp(rawValue, DataTypeUtils.getDateFormatSupplier(format), fieldName);
         return t.getTime();
     }
 
@@ -654,12 +683,12 @@ public class AvroTypeUtil {
 
                 if (LOGICAL_TYPE_DATE.equals(logicalType.getName())) {
                     final String format = AvroTypeUtil.determineDataType(fieldSchema).getFormat();
-                    final java.sql.Date date = DataTypeUtils.toDate(rawValue, () -> DataTypeUtils.getDateFormat(format), fieldName);
+                    final java.sql.Date date = DataTypeUtils.toDate(rawValue, DataTypeUtils.getDateFormatSupplier(format), fieldName);
                     final long days = ChronoUnit.DAYS.between(LocalDate.ofEpochDay(0), date.toLocalDate());
                     return (int) days;
                 } else if (LOGICAL_TYPE_TIME_MILLIS.equals(logicalType.getName())) {
                     final String format = AvroTypeUtil.determineDataType(fieldSchema).getFormat();
-                    final Time time = DataTypeUtils.toTime(rawValue, () -> DataTypeUtils.getDateFormat(format), fieldName);
+                    final Time time = DataTypeUtils.toTime(rawValue, DataTypeUtils.getDateFormatSupplier(format), fieldName);
                     final Date date = new Date(time.getTime());
                     final Duration duration = Duration.between(date.toInstant().truncatedTo(ChronoUnit.DAYS), date.toInstant());
                     final long millisSinceMidnight = duration.toMillis();
@@ -831,42 +860,72 @@ public class AvroTypeUtil {
     }
 
     public static Map<String, Object> convertAvroRecordToMap(final GenericRecord avroRecord, final RecordSchema recordSchema, final Charset charset) {
-        final Map<String, Object> values = new HashMap<>(recordSchema.getFieldCount());
+        final Map<String, Object> values = new SchemaIndexedMap(recordSchema);
 
         for (final RecordField recordField : recordSchema.getFields()) {
+            values.put(recordField.getFieldName(), getRecordValue(avroRecord, recordField, charset));
+        }
 
-            Object value = avroRecord.get(recordField.getFieldName());
-            if (value == null) {
-                for (final String alias : recordField.getAliases()) {
-                    value = avroRecord.get(alias);
-                    if (value != null) {
-                        break;
-                    }
+        return values;
+    }
+
+    /**
+     * Converts the given Avro record into the given row of the batch, in the same way as {@link #convertAvroRecordToMap(GenericRecord, RecordSchema, Charset)}
+     * would convert it for the batch's schema.
+     *
+     * @param avroRecord the Avro record to convert
+     * @param batch the batch
+     * @param row the row of the batch to populate
+     * @param charset the character set to use when converting values
+     */
+    public static void convertAvroRecordToBatch(final GenericRecord avroRecord, final RecordBatch batch, final int row, final Charset charset) {
+        final List<RecordField> recordFields = batch.getSchema().getFields();
+        for (int i = 0; i < recordFields.size(); i++) {
+            batch.setValue(row, i, getRecordValue(avroRecord, recordFields.get(i), charset));
+        }
+    }
+
+    private static Object getRecordValue(final GenericRecord avroRecord, final RecordField recordField, final Charset charset) {
+        Object value = avroRecord.get(recordField.getFieldName());
+        if (value == null) {
+            for (final String alias : recordField.getAliases()) {
+                value = avroRecord.get(alias);
+                if (value != null) {
+                    break;
                 }
             }
+        }
 
-            final String fieldName = recordField.getFieldName();
-            try {
+        final String fieldName = recordField.getFieldName();
+        try {
             final Field avroField = avroRecord.getSchema().getField(fieldName);
             if (avroField == null) {
-                values.put(fieldName, null);
-                continue;
+                return null;
             }
 
-            final Schema fieldSchema = avroField.schema();
-            final Object rawValue = normalizeValue(value, fieldSchema, fieldName);
-
-            final DataType desiredType = recordField.getDataType();
-            final Object coercedValue = DataTypeUtils.convertType(rawValue, desiredType, fieldName, charset);
-
-            values.put(fieldName, coercedValue);
-            } catch (Exception ex) {
-                logger.debug("fail to convert field " + fieldName, ex );
-                throw ex;
-            }
+            return convertAvroValue(value, avroField.schema(), recordField, charset);
+        } catch (Exception ex) {
+            logger.debug("fail to convert field " + fieldName, ex );
+            throw ex;
         }
+    }
 
-        return values;
+    /**
+     * Converts a value that was read from an Avro field into the type of the given Record field, in the same way as
+     * {@link #convertAvroRecordToMap(GenericRecord, RecordSchema, Charset)} converts the values of an Avro record.
+     *
+     * @param avroValue the value, as read from the Avro data
+     * @param avroSchema the schema of the Avro field that the value was read from
+     * @param recordField the Record field to convert the value for
+     * @param charset the character set to use when converting values
+     * @return the converted value
+     */
+    public static Object convertAvroValue(final Object avroValue, final Schema avroSchema, final RecordField recordField, final Charset charset) {
+        final String fieldName = recordField.getFieldName();
+        final Object rawValue = normalizeValue(avroValue, avroSchema, fieldName);
+
+        final DataType desiredType = recordField.getDataType();
+        return DataTypeUtils.convertType(rawValue, desiredType, fieldName, charset);
     }
 
     /**
@@ -1006,13 +1065,13 @@ public class AvroTypeUtil {
                 final GenericData.Record record = (GenericData.Record) value;
                 final Schema recordSchema = record.getSchema();
                 final List<Field> recordFields = recordSchema.getFields();
-                final Map<String, Object> values = new HashMap<>(recordFields.size());
+                final RecordSchema childSchema = AvroTypeUtil.createSchema(recordSchema, false);
+                final Map<String, Object> values = new SchemaIndexedMap(childSchema);
                 for (final Field field : recordFields) {
                     final Object avroFieldValue = record.get(field.name());
                     final Object fieldValue = normalizeValue(avroFieldValue, field.schema(), fieldName + "/" + field.name());
                     values.put(field.name(), fieldValue);
                 }
-                final RecordSchema childSchema = AvroTypeUtil.createSchema(recordSchema, false);
                 return new MapRecord(childSchema, values);
             case BYTES:
                 final ByteBuffer bb = (ByteBuffer) value;
@@ -56,4 +56,14 @@ public interface NodeHeartbeat {
      * @return the time that the node reports having started NiFi
      */
     long getSystemStartTime();
+
+    /**
+     * @return the size, in bytes, of the heartbeat payload as it was received from the node
+     */
+    int getPayloadSize();
+
+    /**
+     * @return the number of nanoseconds that the Cluster Coordinator spent decoding and reconciling the heartbeat when it was received
+     */
+    long getProcessingNanos();
 }
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.cluster.protocol;
+
+import org.apache.nifi.cluster.coordination.node.DisconnectionCode;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
+import org.apache.nifi.cluster.coordination.node.OffloadCode;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact binary encoding of a {@link HeartbeatPayload}. The encoding starts with a magic header that cannot be
+ * the start of an XML document, so that the receiving side is able to accept both encodings.
+ */
+final class BinaryHeartbeatPayloadCodec {
+
+    private static final byte[] MAGIC_HEADER = {'N', 'H', 'B'};
+
+    private BinaryHeartbeatPayloadCodec() {
+    }
+
+    static int getHeaderLength() {
+        return MAGIC_HEADER.length + 1;
+    }
+
+    /**
+     * @param header the first {@link #getHeaderLength()} bytes of an encoded payload
+     * @return <code>true</code> if the header is that of a binary encoded payload
+     */
+    static boolean isBinaryHeader(final byte[] header) {
+        if (header.length < getHeaderLength()) {
+            return false;
+        }
+
+        for (int i = 0; i < MAGIC_HEADER.length; i++) {
+            if (header[i] != MAGIC_HEADER[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static void encode(final HeartbeatPayload payload, final DataOutputStream out) throws IOException {
+        out.write(MAGIC_HEADER);
+        out.writeByte(HeartbeatPayload.BINARY_ENCODING_VERSION);
+
+        out.writeInt(payload.getActiveThreadCount());
+        out.writeLong(payload.getTotalFlowFileCount());
+        out.writeLong(payload.getTotalFlowFileBytes());
+        out.writeLong(payload.getSystemStartTime());
+        out.writeLong(payload.getSequenceNumber());
+
+        final Long baseSequenceNumber = payload.getBaseSequenceNumber();
+        out.writeBoolean(baseSequenceNumber != null);
+        if (baseSequenceNumber != null) {
+            out.writeLong(baseSequenceNumber);
+        }
+
+        final List<NodeConnectionStatus> clusterStatus = payload.getClusterStatus();
+        if (clusterStatus == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(clusterStatus.size());
+            for (final NodeConnectionStatus status : clusterStatus) {
+                writeConnectionStatus(status, out);
+            }
+        }
+
+        if (baseSequenceNumber != null) {
+            final List<String> removedNodeIds = payload.getRemovedNodeIds();
+            out.writeInt(removedNodeIds.size());
+            for (final String nodeId : removedNodeIds) {
+                writeString(nodeId, out);
+            }
+        }
+    }
+
+    static HeartbeatPayload decode(final DataInputStream in) throws IOException {
+        final byte[] header = new byte[getHeaderLength()];
+        in.readFully(header);
+        if (!isBinaryHeader(header)) {
+            throw new ProtocolException("Heartbeat payload is not binary encoded");
+        }
+
+        final int version = header[MAGIC_HEADER.length];
+        if (version < 1 || version > HeartbeatPayload.BINARY_ENCODING_VERSION) {
+            throw new ProtocolException("Heartbeat payload was encoded using unsupported version " + version);
+        }
+
+        final HeartbeatPayload payload = new HeartbeatPayload();
+        payload.setActiveThreadCount(in.readInt());
+        payload.setTotalFlowFileCount(in.readLong());
+        payload.setTotalFlowFileBytes(in.readLong());
+        payload.setSystemStartTime(in.readLong());
+        payload.setSequenceNumber(in.readLong());
+
+        final boolean delta = in.readBoolean();
+        if (delta) {
+            payload.setBaseSequenceNumber(in.readLong());
+        }
+
+        final int statusCount = in.readInt();
+        if (statusCount >= 0) {
+            final List<NodeConnectionStatus> clusterStatus = new ArrayList<>(statusCount);
+            for (int i = 0; i < statusCount; i++) {
+                clusterStatus.add(readConnectionStatus(in));
+            }
+            payload.setClusterStatus(clusterStatus);
+        }
+
+        if (delta) {
+            final int removedCount = in.readInt();
+            final List<String> removedNodeIds = new ArrayList<>(removedCount);
+            for (int i = 0; i < removedCount; i++) {
+                removedNodeIds.add(readString(in));
+            }
+            payload.setRemovedNodeIds(removedNodeIds);
+        }
+
+        return payload;
+    }
+
+    private static void writeConnectionStatus(final NodeConnectionStatus status, final DataOutputStream out) throws IOException {
+        out.writeLong(status.getUpdateIdentifier());
+        writeNodeIdentifier(status.getNodeIdentifier(), out);
+        writeString(status.getState() == null ? null : status.getState().name(), out);
+        writeString(status.getOffloadCode() == null ? null : status.getOffloadCode().name(), out);
+        writeString(status.getDisconnectCode() == null ? null : status.getDisconnectCode().name(), out);
+        writeString(status.getReason(), out);
+        writeNullableLong(status.getConnectionRequestTime(), out);
+    }
+
+    private static NodeConnectionStatus readConnectionStatus(final DataInputStream in) throws IOException {
+        final long updateId = in.readLong();
+        final NodeIdentifier nodeId = readNodeIdentifier(in);
+        final String state = readString(in);
+        final String offloadCode = readString(in);
+        final String disconnectCode = readString(in);
+        final String reason = readString(in);
+        final Long connectionRequestTime = readNullableLong(in);
+
+        return new NodeConnectionStatus(updateId, nodeId,
+            state == null ? null : NodeConnectionState.valueOf(state),
+            offloadCode == null ? null : OffloadCode.valueOf(offloadCode),
+            disconnectCode == null ? null : DisconnectionCode.valueOf(disconnectCode),
+            reason, connectionRequestTime);
+    }
+
+    private static void writeNodeIdentifier(final NodeIdentifier nodeId, final DataOutputStream out) throws IOException {
+        writeString(nodeId.getId(), out);
+        writeString(nodeId.getApiAddress(), out);
+        out.writeInt(nodeId.getApiPort());
+        writeString(nodeId.getSocketAddress(), out);
+        out.writeInt(nodeId.getSocketPort());
+        writeString(nodeId.getLoadBalanceAddress(), out);
+        out.writeInt(nodeId.getLoadBalancePort());
+        writeString(nodeId.getSiteToSiteAddress(), out);
+        writeNullableInt(nodeId.getSiteToSitePort(), out);
+        writeNullableInt(nodeId.getSiteToSiteHttpApiPort(), out);
+        out.writeBoolean(nodeId.isSiteToSiteSecure());
+
+        final Set<String> nodeIdentities = nodeId.getNodeIdentities();
+        out.writeInt(nodeIdentities.size());
+        for (final String identity : nodeIdentities) {
+            writeString(identity, out);
+        }
+    }
+
+    private static NodeIdentifier readNodeIdentifier(final DataInputStream in) throws IOException {
+        final String id = readString(in);
+        final String apiAddress = readString(in);
+        final int apiPort = in.readInt();
+        final String socketAddress = readString(in);
+        final int socketPort = in.readInt();
+        final String loadBalanceAddress = readString(in);
+        final int loadBalancePort = in.readInt();
+        final String siteToSiteAddress = readString(in);
+        final Integer siteToSitePort = readNullableInt(in);
+        final Integer siteToSiteHttpApiPort = readNullableInt(in);
+        final boolean siteToSiteSecure = in.readBoolean();
+
+        final int identityCount = in.readInt();
+        final Set<String> nodeIdentities = new HashSet<>(identityCount);
+        for (int i = 0; i < identityCount; i++) {
+            nodeIdentities.add(readString(in));
+        }
+
+        return new NodeIdentifier(id, apiAddress, apiPort, socketAddress, socketPort, loadBalanceAddress, loadBalancePort,
+            siteToSiteAddress, siteToSitePort, siteToSiteHttpApiPort, siteToSiteSecure, nodeIdentities);
+    }
+
+    private static void writeString(final String value, final DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableInt(final Integer value, final DataOutputStream out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readNullableInt(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeNullableLong(final Long value, final DataOutputStream out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+}
@@ -16,16 +16,26 @@
  */
 package org.apache.nifi.cluster.protocol;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
@@ -34,10 +44,18 @@ import org.apache.nifi.security.xml.XmlUtils;
 /**
  * The payload of the heartbeat. The payload contains status to inform the cluster manager the current workload of this node.
  *
+ * The payload may be marshalled either as XML or, once the Cluster Coordinator has indicated that it supports it, using a
+ * compact binary encoding. A binary encoded payload may carry only the changes to the cluster status since a previous
+ * payload that the Cluster Coordinator acknowledged, identified by its sequence number.
  */
 @XmlRootElement
 public class HeartbeatPayload {
 
+    /**
+     * The version of the binary encoding that this class writes and the highest version that it is able to read
+     */
+    public static final int BINARY_ENCODING_VERSION = 1;
+
     private static final JAXBContext JAXB_CONTEXT;
 
     static {
@@ -53,6 +71,9 @@ public class HeartbeatPayload {
     private long totalFlowFileBytes;
     private long systemStartTime;
     private List<NodeConnectionStatus> clusterStatus;
+    private long sequenceNumber;
+    private Long baseSequenceNumber;
+    private List<String> removedNodeIds = Collections.emptyList();
 
     public int getActiveThreadCount() {
         return activeThreadCount;
@@ -94,6 +115,143 @@ public class HeartbeatPayload {
         this.clusterStatus = clusterStatus;
     }
 
+    /**
+     * @return a number that identifies this payload among those sent by the same node, used as the base of later deltas
+     */
+    @XmlTransient
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(final long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    /**
+     * @return the sequence number of the payload that this payload's cluster status is relative to, or <code>null</code>
+     *         if this payload carries the full cluster status
+     */
+    @XmlTransient
+    public Long getBaseSequenceNumber() {
+        return baseSequenceNumber;
+    }
+
+    public void setBaseSequenceNumber(final Long baseSequenceNumber) {
+        this.baseSequenceNumber = baseSequenceNumber;
+    }
+
+    /**
+     * @return the identifiers of the nodes that have been removed from the cluster status since the base payload
+     */
+    @XmlTransient
+    public List<String> getRemovedNodeIds() {
+        return removedNodeIds;
+    }
+
+    public void setRemovedNodeIds(final List<String> removedNodeIds) {
+        this.removedNodeIds = removedNodeIds == null ? Collections.emptyList() : removedNodeIds;
+    }
+
+    /**
+     * @return <code>true</code> if the cluster status of this payload is a delta against the payload with sequence number
+     *         {@link #getBaseSequenceNumber()}
+     */
+    public boolean isDelta() {
+        return baseSequenceNumber != null;
+    }
+
+    /**
+     * Creates a payload with the same workload information as this one, but whose cluster status contains only the statuses
+     * that differ from those in the given base payload.
+     *
+     * @param base a payload holding the full cluster status that was acknowledged by the Cluster Coordinator
+     * @return a delta payload relative to the given base
+     */
+    public HeartbeatPayload createDelta(final HeartbeatPayload base) {
+        final Map<String, NodeConnectionStatus> baseStatuses = mapByNodeId(base.getClusterStatus());
+
+        final List<NodeConnectionStatus> changedStatuses = new ArrayList<>();
+        final List<NodeConnectionStatus> currentStatuses = clusterStatus == null ? Collections.emptyList() : clusterStatus;
+        for (final NodeConnectionStatus status : currentStatuses) {
+            final NodeConnectionStatus baseStatus = baseStatuses.remove(status.getNodeIdentifier().getId());
+            if (!isSameStatus(status, baseStatus)) {
+                changedStatuses.add(status);
+            }
+        }
+
+        final HeartbeatPayload delta = copyWorkload();
+        delta.setBaseSequenceNumber(base.getSequenceNumber());
+        delta.setClusterStatus(changedStatuses);
+        delta.setRemovedNodeIds(new ArrayList<>(baseStatuses.keySet()));
+        return delta;
+    }
+
+    /**
+     * Applies the given delta payload to the cluster status of this payload.
+     *
+     * @param delta a payload created by {@link #createDelta(HeartbeatPayload)} relative to this payload
+     * @return a payload with the workload information of the delta and the full cluster status
+     * @throws IllegalArgumentException if the delta is not relative to this payload
+     */
+    public HeartbeatPayload applyDelta(final HeartbeatPayload delta) {
+        if (!delta.isDelta() || delta.getBaseSequenceNumber() != sequenceNumber) {
+            throw new IllegalArgumentException("Heartbeat payload with base sequence number " + delta.getBaseSequenceNumber()
+                + " cannot be applied to payload with sequence number " + sequenceNumber);
+        }
+
+        final Map<String, NodeConnectionStatus> statuses = mapByNodeId(clusterStatus);
+        for (final String removedNodeId : delta.getRemovedNodeIds()) {
+            statuses.remove(removedNodeId);
+        }
+        if (delta.getClusterStatus() != null) {
+            for (final NodeConnectionStatus status : delta.getClusterStatus()) {
+                statuses.put(status.getNodeIdentifier().getId(), status);
+            }
+        }
+
+        final HeartbeatPayload full = delta.copyWorkload();
+        full.setClusterStatus(new ArrayList<>(statuses.values()));
+        return full;
+    }
+
+    private HeartbeatPayload copyWorkload() {
+        final HeartbeatPayload copy = new HeartbeatPayload();
+        copy.setActiveThreadCount(activeThreadCount);
+        copy.setTotalFlowFileCount(totalFlowFileCount);
+        copy.setTotalFlowFileBytes(totalFlowFileBytes);
+        copy.setSystemStartTime(systemStartTime);
+        copy.setSequenceNumber(sequenceNumber);
+        return copy;
+    }
+
+    private static Map<String, NodeConnectionStatus> mapByNodeId(final List<NodeConnectionStatus> statuses) {
+        final Map<String, NodeConnectionStatus> map = new LinkedHashMap<>();
+        if (statuses == null) {
+            return map;
+        }
+
+        for (final NodeConnectionStatus status : statuses) {
+            map.put(status.getNodeIdentifier().getId(), status);
+        }
+        return map;
+    }
+
+    private static boolean isSameStatus(final NodeConnectionStatus status, final NodeConnectionStatus other) {
+        if (other == null) {
+            return false;
+        }
+
+        // NodeConnectionStatus.equals considers only the node and state, but the Update Identifier and the details of the
+        // state must be carried over as well
+        return status.equals(other)
+            && status.getUpdateIdentifier() == other.getUpdateIdentifier()
+            && status.getNodeIdentifier().logicallyEquals(other.getNodeIdentifier())
+            && status.getOffloadCode() == other.getOffloadCode()
+            && status.getDisconnectCode() == other.getDisconnectCode()
+            && Objects.equals(status.getReason(), other.getReason())
+            && Objects.equals(status.getConnectionRequestTime(), other.getConnectionRequestTime());
+    }
+
     public byte[] marshal() throws ProtocolException {
         final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
         marshal(this, payloadBytes);
@@ -109,10 +267,64 @@ public class HeartbeatPayload {
         }
     }
 
+    /**
+     * @return this payload, marshalled using the binary encoding
+     * @throws ProtocolException if unable to marshal the payload
+     */
+    public byte[] marshalBinary() throws ProtocolException {
+        final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        marshalBinary(this, payloadBytes);
+        return payloadBytes.toByteArray();
+    }
+
+    public static void marshalBinary(final HeartbeatPayload payload, final OutputStream os) throws ProtocolException {
+        try {
+            final DataOutputStream dos = new DataOutputStream(os);
+            BinaryHeartbeatPayloadCodec.encode(payload, dos);
+            dos.flush();
+        } catch (final IOException ioe) {
+            throw new ProtocolException(ioe);
+        }
+    }
+
+    /**
+     * @param bytes a marshalled payload
+     * @return <code>true</code> if the payload was marshalled using the binary encoding rather than as XML
+     */
+    public static boolean isBinary(final byte[] bytes) {
+        return BinaryHeartbeatPayloadCodec.isBinaryHeader(bytes);
+    }
+
+    /**
+     * Unmarshals a payload that was marshalled either as XML or using the binary encoding
+     *
+     * @param is the stream to read the payload from
+     * @return the unmarshalled payload
+     * @throws ProtocolException if unable to unmarshal the payload
+     */
     public static HeartbeatPayload unmarshal(final InputStream is) throws ProtocolException {
+        final BufferedInputStream bis = new BufferedInputStream(is);
+        final byte[] header = new byte[BinaryHeartbeatPayloadCodec.getHeaderLength()];
+
+        try {
+            bis.mark(header.length);
+            int headerLength = 0;
+            int len;
+            while (headerLength < header.length && (len = bis.read(header, headerLength, header.length - headerLength)) > 0) {
+                headerLength += len;
+            }
+            bis.reset();
+
+            if (headerLength == header.length && BinaryHeartbeatPayloadCodec.isBinaryHeader(header)) {
+                return BinaryHeartbeatPayloadCodec.decode(new DataInputStream(bis));
+            }
+        } catch (final IOException ioe) {
+            throw new ProtocolException(ioe);
+        }
+
         try {
             final Unmarshaller unmarshaller = JAXB_CONTEXT.createUnmarshaller();
-            final XMLStreamReader xsr = XmlUtils.createSafeReader(is);
+            final XMLStreamReader xsr = XmlUtils.createSafeReader(bis);
             return (HeartbeatPayload) unmarshaller.unmarshal(xsr);
         } catch (final JAXBException | XMLStreamException e) {
             throw new ProtocolException(e);
@@ -29,6 +29,8 @@ public class HeartbeatResponseMessage extends ProtocolMessage {
 
     private List<NodeConnectionStatus> updatedNodeStatuses = new ArrayList<>();
     private String flowElectionMessage = null;
+    private Integer heartbeatEncodingVersion = null;
+    private boolean fullHeartbeatRequired = false;
 
     @Override
     public MessageType getType() {
@@ -50,4 +52,28 @@ public class HeartbeatResponseMessage extends ProtocolMessage {
     public void setFlowElectionMessage(String flowElectionMessage) {
         this.flowElectionMessage = flowElectionMessage;
     }
+
+    /**
+     * @return the highest version of the binary heartbeat payload encoding that the Cluster Coordinator is able to read,
+     *         or <code>null</code> if the Cluster Coordinator only accepts XML payloads
+     */
+    public Integer getHeartbeatEncodingVersion() {
+        return heartbeatEncodingVersion;
+    }
+
+    public void setHeartbeatEncodingVersion(final Integer heartbeatEncodingVersion) {
+        this.heartbeatEncodingVersion = heartbeatEncodingVersion;
+    }
+
+    /**
+     * @return <code>true</code> if the Cluster Coordinator was unable to apply the delta payload that it received, in which
+     *         case the next heartbeat must carry the full cluster status
+     */
+    public boolean isFullHeartbeatRequired() {
+        return fullHeartbeatRequired;
+    }
+
+    public void setFullHeartbeatRequired(final boolean fullHeartbeatRequired) {
+        this.fullHeartbeatRequired = fullHeartbeatRequired;
+    }
 }
@@ -144,7 +144,14 @@ public abstract class AbstractHeartbeatMonitor implements HeartbeatMonitor {
         }
 
         final StopWatch procStopWatch = new StopWatch(true);
+        long payloadBytes = 0L;
+        long receiveProcessingNanos = 0L;
         for (final NodeHeartbeat heartbeat : latestHeartbeats.values()) {
+            payloadBytes += heartbeat.getPayloadSize();
+            receiveProcessingNanos += heartbeat.getProcessingNanos();
+            logger.debug("Latest heartbeat from {} had a payload of {} bytes and took {} nanos to process when received",
+                    heartbeat.getNodeIdentifier(), heartbeat.getPayloadSize(), heartbeat.getProcessingNanos());
+
             try {
                 processHeartbeat(heartbeat);
             } catch (final Exception e) {
@@ -156,7 +163,8 @@ public abstract class AbstractHeartbeatMonitor implements HeartbeatMonitor {
         }
 
         procStopWatch.stop();
-        logger.info("Finished processing {} heartbeats in {}", latestHeartbeats.size(), procStopWatch.getDuration());
+        logger.info("Finished processing {} heartbeats in {}; latest heartbeats totaled {} bytes and took {} millis to process when received",
+                latestHeartbeats.size(), procStopWatch.getDuration(), payloadBytes, TimeUnit.NANOSECONDS.toMillis(receiveProcessingNanos));
 
         // Disconnect any node that hasn't sent a heartbeat in a long time (8 times the heartbeat interval)
         final long maxMillis = heartbeatIntervalMillis * 8;
@@ -58,6 +58,8 @@ public class ClusterProtocolHeartbeatMonitor extends AbstractHeartbeatMonitor im
 
     private final String heartbeatAddress;
     private final ConcurrentMap<NodeIdentifier, NodeHeartbeat> heartbeatMessages = new ConcurrentHashMap<>();
+    // The last full payload received from each node that sends binary heartbeats, against which that node's delta payloads are applied
+    private final ConcurrentMap<NodeIdentifier, HeartbeatPayload> reportedPayloads = new ConcurrentHashMap<>();
 
     private volatile long purgeTimestamp = System.currentTimeMillis();
 
@@ -100,6 +102,7 @@ public class ClusterProtocolHeartbeatMonitor extends AbstractHeartbeatMonitor im
         // that if we go the required amount of time without receiving a heartbeat, we do know to mark the node
         // as disconnected.
         heartbeatMessages.clear();
+        reportedPayloads.clear();
         for (final NodeIdentifier nodeId : clusterCoordinator.getNodeIdentifiers()) {
             final NodeHeartbeat heartbeat = new StandardNodeHeartbeat(nodeId, System.currentTimeMillis(),
                     clusterCoordinator.getConnectionStatus(nodeId), 0, 0L, 0, System.currentTimeMillis());
@@ -120,12 +123,14 @@ public class ClusterProtocolHeartbeatMonitor extends AbstractHeartbeatMonitor im
     public synchronized void removeHeartbeat(final NodeIdentifier nodeId) {
         logger.debug("Deleting heartbeat for node {}", nodeId);
         heartbeatMessages.remove(nodeId);
+        reportedPayloads.remove(nodeId);
     }
 
     @Override
     public synchronized void purgeHeartbeats() {
         logger.debug("Purging old heartbeats");
         heartbeatMessages.clear();
+        reportedPayloads.clear();
         purgeTimestamp = System.currentTimeMillis();
     }
 
@@ -147,33 +152,61 @@ public class ClusterProtocolHeartbeatMonitor extends AbstractHeartbeatMonitor im
     }
 
     private ProtocolMessage handleHeartbeat(final HeartbeatMessage msg) {
+        final long processingStart = System.nanoTime();
         final HeartbeatMessage heartbeatMsg = msg;
         final Heartbeat heartbeat = heartbeatMsg.getHeartbeat();
 
         final NodeIdentifier nodeId = heartbeat.getNodeIdentifier();
         final NodeConnectionStatus connectionStatus = heartbeat.getConnectionStatus();
         final byte[] payloadBytes = heartbeat.getPayload();
-        final HeartbeatPayload payload = HeartbeatPayload.unmarshal(payloadBytes);
+        HeartbeatPayload payload = HeartbeatPayload.unmarshal(payloadBytes);
+
+        boolean fullHeartbeatRequired = false;
+        if (payload.isDelta()) {
+            final HeartbeatPayload basePayload = reportedPayloads.get(nodeId);
+            if (basePayload == null || basePayload.getSequenceNumber() != payload.getBaseSequenceNumber()) {
+                // We no longer have the payload that the delta is based on, most likely because this node was only recently
+                // elected Cluster Coordinator. The workload is still valid, but the node's view of the cluster is unknown.
+                logger.debug("Received heartbeat from {} relative to payload {}, which is not known; requesting full heartbeat", nodeId, payload.getBaseSequenceNumber());
+                fullHeartbeatRequired = true;
+                reportedPayloads.remove(nodeId);
+            } else {
+                payload = basePayload.applyDelta(payload);
+                reportedPayloads.put(nodeId, payload);
+            }
+        } else if (HeartbeatPayload.isBinary(payloadBytes)) {
+            reportedPayloads.put(nodeId, payload);
+        }
+
         final int activeThreadCount = payload.getActiveThreadCount();
         final int flowFileCount = (int) payload.getTotalFlowFileCount();
         final long flowFileBytes = payload.getTotalFlowFileBytes();
         final long systemStartTime = payload.getSystemStartTime();
 
-        final NodeHeartbeat nodeHeartbeat = new StandardNodeHeartbeat(nodeId, System.currentTimeMillis(),
-                connectionStatus, flowFileCount, flowFileBytes, activeThreadCount, systemStartTime);
-        heartbeatMessages.put(heartbeat.getNodeIdentifier(), nodeHeartbeat);
-        logger.debug("Received new heartbeat from {}", nodeId);
-
         // Formulate a List of differences between our view of the cluster topology and the node's view
-        // and send that back to the node so that it is in-sync with us
-        List<NodeConnectionStatus> nodeStatusList = payload.getClusterStatus();
-        if (nodeStatusList == null) {
-            nodeStatusList = Collections.emptyList();
+        // and send that back to the node so that it is in-sync with us. If the node's view is not known,
+        // it will be reconciled once the node sends its full heartbeat.
+        final List<NodeConnectionStatus> updatedStatuses;
+        if (fullHeartbeatRequired) {
+            updatedStatuses = Collections.emptyList();
+        } else {
+            List<NodeConnectionStatus> nodeStatusList = payload.getClusterStatus();
+            if (nodeStatusList == null) {
+                nodeStatusList = Collections.emptyList();
+            }
+            updatedStatuses = getUpdatedStatuses(nodeStatusList);
         }
-        final List<NodeConnectionStatus> updatedStatuses = getUpdatedStatuses(nodeStatusList);
+
+        final long processingNanos = System.nanoTime() - processingStart;
+        final NodeHeartbeat nodeHeartbeat = new StandardNodeHeartbeat(nodeId, System.currentTimeMillis(),
+                connectionStatus, flowFileCount, flowFileBytes, activeThreadCount, systemStartTime, payloadBytes.length, processingNanos);
+        heartbeatMessages.put(heartbeat.getNodeIdentifier(), nodeHeartbeat);
+        logger.debug("Received new heartbeat from {} with a payload of {} bytes, processed in {} nanos", nodeId, payloadBytes.length, processingNanos);
 
         final HeartbeatResponseMessage responseMessage = new HeartbeatResponseMessage();
         responseMessage.setUpdatedNodeStatuses(updatedStatuses);
+        responseMessage.setHeartbeatEncodingVersion(HeartbeatPayload.BINARY_ENCODING_VERSION);
+        responseMessage.setFullHeartbeatRequired(fullHeartbeatRequired);
 
         if (!getClusterCoordinator().isFlowElectionComplete()) {
             responseMessage.setFlowElectionMessage(getClusterCoordinator().getFlowElectionStatus());
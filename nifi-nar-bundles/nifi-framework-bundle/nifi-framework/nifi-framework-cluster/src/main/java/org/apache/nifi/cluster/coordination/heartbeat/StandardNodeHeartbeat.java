@@ -32,9 +32,17 @@ public class StandardNodeHeartbeat implements NodeHeartbeat {
     private final long flowFileBytes;
     private final int activeThreadCount;
     private final long systemStartTime;
+    private final int payloadSize;
+    private final long processingNanos;
 
     public StandardNodeHeartbeat(final NodeIdentifier nodeId, final long timestamp, final NodeConnectionStatus connectionStatus,
         final int flowFileCount, final long flowFileBytes, final int activeThreadCount, final long systemStartTime) {
+        this(nodeId, timestamp, connectionStatus, flowFileCount, flowFileBytes, activeThreadCount, systemStartTime, 0, 0L);
+    }
+
+    public StandardNodeHeartbeat(final NodeIdentifier nodeId, final long timestamp, final NodeConnectionStatus connectionStatus,
+        final int flowFileCount, final long flowFileBytes, final int activeThreadCount, final long systemStartTime,
+        final int payloadSize, final long processingNanos) {
         this.timestamp = timestamp;
         this.nodeId = nodeId;
         this.connectionStatus = connectionStatus;
@@ -42,6 +50,8 @@ public class StandardNodeHeartbeat implements NodeHeartbeat {
         this.flowFileBytes = flowFileBytes;
         this.activeThreadCount = activeThreadCount;
         this.systemStartTime = systemStartTime;
+        this.payloadSize = payloadSize;
+        this.processingNanos = processingNanos;
     }
 
     @Override
@@ -79,12 +89,23 @@ public class StandardNodeHeartbeat implements NodeHeartbeat {
         return systemStartTime;
     }
 
+    @Override
+    public int getPayloadSize() {
+        return payloadSize;
+    }
+
+    @Override
+    public long getProcessingNanos() {
+        return processingNanos;
+    }
+
     public static StandardNodeHeartbeat fromHeartbeatMessage(final HeartbeatMessage message, final long timestamp) {
         final Heartbeat heartbeat = message.getHeartbeat();
-        final HeartbeatPayload payload = HeartbeatPayload.unmarshal(heartbeat.getPayload());
+        final byte[] payloadBytes = heartbeat.getPayload();
+        final HeartbeatPayload payload = HeartbeatPayload.unmarshal(payloadBytes);
 
         return new StandardNodeHeartbeat(heartbeat.getNodeIdentifier(), timestamp, heartbeat.getConnectionStatus(),
             (int) payload.getTotalFlowFileCount(), payload.getTotalFlowFileBytes(),
-            payload.getActiveThreadCount(), payload.getSystemStartTime());
+            payload.getActiveThreadCount(), payload.getSystemStartTime(), payloadBytes.length, 0L);
     }
 }
\ No newline at end of file
@@ -59,4 +59,14 @@ public interface EndpointResponseMerger {
      */
     NodeResponse merge(URI uri, String method, Set<NodeResponse> successfulResponses, Set<NodeResponse> problematicResponses, NodeResponse clientResponse);
 
+    /**
+     * Returns the type of entity that the merger will read from each of the successful Node Responses, if known. This allows
+     * each response to be parsed as soon as it is received from the node, rather than all at once when the responses are merged.
+     *
+     * @return the type of entity read from each Node Response, or <code>null</code> if not known
+     */
+    default Class<?> getResponseEntityClass() {
+        return null;
+    }
+
 }
@@ -62,4 +62,13 @@ public interface HttpResponseMapper {
      * @return <code>true</code> if the response must be interpreted, <code>false</code> otherwise
      */
     boolean isResponseInterpreted(URI uri, String httpMethod);
+
+    /**
+     * Returns the type of entity that will be read from each successful node response when merging the responses for the given URI & HTTP method
+     *
+     * @param uri the URI of the request
+     * @param httpMethod the HTTP Method of the request
+     * @return the type of entity that will be read from each node response, or <code>null</code> if not known
+     */
+    Class<?> getResponseEntityClass(URI uri, String httpMethod);
 }
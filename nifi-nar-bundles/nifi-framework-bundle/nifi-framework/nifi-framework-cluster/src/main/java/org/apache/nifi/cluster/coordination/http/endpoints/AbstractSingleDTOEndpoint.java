@@ -54,6 +54,11 @@ public abstract class AbstractSingleDTOEndpoint<EntityType extends Entity, DtoTy
      */
     protected abstract Class<EntityType> getEntityClass();
 
+    @Override
+    public Class<?> getResponseEntityClass() {
+        return getEntityClass();
+    }
+
     /**
      * Extracts the DTO from the given entity
      *
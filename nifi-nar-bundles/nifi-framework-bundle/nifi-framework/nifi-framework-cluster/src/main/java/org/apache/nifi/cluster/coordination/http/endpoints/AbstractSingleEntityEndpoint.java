@@ -51,6 +51,11 @@ public abstract class AbstractSingleEntityEndpoint<EntityType extends Entity> im
      */
     protected abstract Class<EntityType> getEntityClass();
 
+    @Override
+    public Class<?> getResponseEntityClass() {
+        return getEntityClass();
+    }
+
     /**
      * Merges the responses from all nodes in the given map into the single given entity
      *
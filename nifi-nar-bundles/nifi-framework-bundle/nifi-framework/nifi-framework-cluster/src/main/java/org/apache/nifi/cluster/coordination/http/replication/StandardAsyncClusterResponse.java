@@ -108,6 +108,10 @@ public class StandardAsyncClusterResponse implements AsyncClusterResponse {
         return true;
     }
 
+    public boolean isMerge() {
+        return merge;
+    }
+
     public void setPhase(final String phase) {
         this.phase = phase;
         phaseStartTime = System.nanoTime();
@@ -24,6 +24,7 @@ import org.apache.nifi.authorization.user.NiFiUserUtils;
 import org.apache.nifi.cluster.coordination.ClusterCoordinator;
 import org.apache.nifi.cluster.coordination.http.HttpResponseMapper;
 import org.apache.nifi.cluster.coordination.http.StandardHttpResponseMapper;
+import org.apache.nifi.cluster.coordination.http.replication.okhttp.JacksonResponse;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
 import org.apache.nifi.cluster.manager.NodeResponse;
@@ -657,11 +658,41 @@ public class ThreadPoolRequestReplicator implements RequestReplicator {
                     nodeResponse.bufferResponse();
                 }
             }
+
+            if (clusterResponse.isMerge()) {
+                preparseResponse(nodeResponse, clusterResponse);
+            }
         }
 
         return nodeResponse;
     }
 
+    /**
+     * Parses the entity of the given response while still on the thread that replicated the request, so that responses are parsed in parallel
+     * as they arrive, instead of one after another once all nodes have responded and the responses are merged.
+     */
+    private void preparseResponse(final NodeResponse nodeResponse, final StandardAsyncClusterResponse clusterResponse) {
+        final Response response = nodeResponse.getClientResponse();
+        if (!(response instanceof JacksonResponse)) {
+            return;
+        }
+
+        final Class<?> entityClass = responseMapper.getResponseEntityClass(nodeResponse.getRequestUri(), nodeResponse.getHttpMethod());
+        if (entityClass == null) {
+            return;
+        }
+
+        final long startNanos = System.nanoTime();
+        try {
+            ((JacksonResponse) response).preparseEntity(entityClass);
+        } catch (final RuntimeException e) {
+            // Leave the response to be parsed when the responses are merged so that the failure is reported there
+            logger.debug("Failed to parse response from {} as {}", nodeResponse.getNodeId(), entityClass.getSimpleName(), e);
+        }
+
+        clusterResponse.addTiming("Parse Response", nodeResponse.getNodeId().toString(), System.nanoTime() - startNanos);
+    }
+
     private boolean isMutableRequest(final String method, final String uriPath) {
         switch (method.toUpperCase()) {
             case HttpMethod.GET:
@@ -28,6 +28,8 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.GenericType;
@@ -52,6 +54,7 @@ public class JacksonResponse extends Response {
     private final Runnable closeCallback;
 
     private final JsonFactory jsonFactory = new JsonFactory();
+    private final ConcurrentMap<Class<?>, Object> preparsedEntities = new ConcurrentHashMap<>();
 
     public JacksonResponse(final ObjectMapper codec, final byte[] responseBody, final MultivaluedMap<String, String> responseHeaders, final URI location, final int statusCode,
             final Runnable closeCallback) {
@@ -84,6 +87,21 @@ public class JacksonResponse extends Response {
         }
     }
 
+    /**
+     * Parses the response body as an entity of the given type so that the next call to {@link #readEntity(Class)} for that
+     * type does not need to parse it. This allows the body to be parsed on the thread that received the response, rather than
+     * on the thread that later merges the responses from all nodes.
+     *
+     * @param entityType the type of entity to parse the response body as
+     */
+    public void preparseEntity(final Class<?> entityType) {
+        if (!hasEntity() || InputStream.class.equals(entityType) || String.class.equals(entityType)) {
+            return;
+        }
+
+        preparsedEntities.put(entityType, parseEntity(entityType));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T readEntity(Class<T> entityType) {
@@ -95,6 +113,16 @@ public class JacksonResponse extends Response {
             return (T) new String(responseBody, StandardCharsets.UTF_8);
         }
 
+        // The pre-parsed entity is handed out only once because callers are free to modify the entity that they are given.
+        final Object preparsed = preparsedEntities.remove(entityType);
+        if (preparsed != null) {
+            return (T) preparsed;
+        }
+
+        return parseEntity(entityType);
+    }
+
+    private <T> T parseEntity(final Class<T> entityType) {
         try {
             final JsonParser parser = jsonFactory.createParser(responseBody);
             parser.setCodec(codec);
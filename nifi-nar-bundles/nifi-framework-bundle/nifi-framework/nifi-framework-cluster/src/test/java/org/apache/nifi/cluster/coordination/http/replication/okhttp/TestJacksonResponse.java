@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.cluster.coordination.http.replication.okhttp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+
+import org.apache.nifi.web.api.entity.ProcessorEntity;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.jaxb.JaxbAnnotationModule;
+
+public class TestJacksonResponse {
+
+    @Test
+    public void testPreparsedEntityReturnedOnce() {
+        final ObjectMapper jsonCodec = new ObjectMapper();
+        jsonCodec.registerModule(new JaxbAnnotationModule());
+
+        final byte[] body = "{\"id\":\"123\",\"component\":{\"name\":\"proc\"}}".getBytes(StandardCharsets.UTF_8);
+        final JacksonResponse response = new JacksonResponse(jsonCodec, body, new MultivaluedHashMap<>(), URI.create("http://localhost/nifi-api"), 200, null);
+
+        response.preparseEntity(ProcessorEntity.class);
+
+        final ProcessorEntity first = response.readEntity(ProcessorEntity.class);
+        assertEquals("123", first.getId());
+        assertEquals("proc", first.getComponent().getName());
+
+        // Once the pre-parsed entity has been handed out, further reads must not share it
+        final ProcessorEntity second = response.readEntity(ProcessorEntity.class);
+        assertNotSame(first, second);
+        assertEquals("123", second.getId());
+    }
+}
@@ -71,6 +71,9 @@ import java.util.stream.Collectors;
 public abstract class AbstractComponentNode implements ComponentNode {
     private static final Logger logger = LoggerFactory.getLogger(AbstractComponentNode.class);
 
+    // Validation may depend on more than the component's configuration (the existence of files, for instance), so cached results are reused only for a limited time
+    private static final long MAX_CACHED_VALIDATION_AGE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
     private final String id;
     private final ValidationContextFactory validationContextFactory;
     private final ControllerServiceProvider serviceProvider;
@@ -95,6 +98,8 @@ public abstract class AbstractComponentNode implements ComponentNode {
     // guaraded by lock
     private ValidationContext validationContext = null;
 
+    private volatile CachedValidation cachedValidation = null;
+
     public AbstractComponentNode(final String id,
                                  final ValidationContextFactory validationContextFactory, final ControllerServiceProvider serviceProvider,
                                  final String componentType, final String componentCanonicalClass, final ComponentVariableRegistry variableRegistry,
@@ -578,16 +583,80 @@ public abstract class AbstractComponentNode implements ComponentNode {
     public final ValidationStatus performValidation() {
         while (true) {
             final ValidationState validationState = getValidationState();
+            final CachedValidation cached = this.cachedValidation;
 
             final ValidationContext validationContext = getValidationContext();
-            final ValidationState updatedState = performValidation(validationContext);
-            final boolean replaced = replaceValidationState(validationState, updatedState);
+            final List<Object> validationInputs = getValidationInputs(validationContext);
+
+            final boolean reuseCachedValidation = cached != null && cached.isReusable(validationInputs);
+            final ValidationState updatedState;
+            if (reuseCachedValidation) {
+                logger.debug("Validation inputs of {} are unchanged since it was last validated; reusing previous validation results", this);
+                updatedState = cached.getValidationState();
+            } else {
+                updatedState = performValidation(validationContext);
+            }
+
+            final CachedValidation updatedCache = (validationInputs == null || reuseCachedValidation) ? cached : new CachedValidation(validationInputs, updatedState);
+            final boolean replaced = replaceValidationState(validationState, updatedState, updatedCache);
             if (replaced) {
                 return updatedState.getStatus();
             }
         }
     }
 
+    /**
+     * Returns all of the inputs that determine the outcome of validating the component with the given Validation Context, such that if the inputs
+     * are equal to those of a previous validation, the results of that validation may be reused. Any change to the component's configuration that is not
+     * captured here must result in {@link #resetValidationState()} being called.
+     *
+     * @param validationContext the validation context
+     * @return the validation inputs, or <code>null</code> if the inputs cannot be determined and the component must therefore always be validated
+     */
+    private List<Object> getValidationInputs(final ValidationContext validationContext) {
+        try {
+            final List<Object> inputs = new ArrayList<>();
+            inputs.add(getComponent());
+            inputs.add(isExtensionMissing());
+            inputs.add(validationContext.getAnnotationData());
+
+            final ParameterContext parameterContext = getParameterContext();
+            inputs.add(parameterContext == null ? null : parameterContext.getIdentifier());
+
+            // The property values already have any parameters substituted. Variables referenced by Expression Language are accounted for by
+            // the version of the variable registry, rather than by evaluating each property that uses Expression Language.
+            inputs.add(getVariableRegistry().getVersion());
+
+            for (final Map.Entry<PropertyDescriptor, String> entry : validationContext.getProperties().entrySet()) {
+                final PropertyDescriptor descriptor = entry.getKey();
+                final String value = entry.getValue();
+                inputs.add(descriptor.getName());
+                inputs.add(value);
+
+                for (final String parameterName : validationContext.getReferencedParameters(descriptor.getName())) {
+                    inputs.add(validationContext.isParameterDefined(parameterName));
+                    inputs.add(validationContext.isParameterSet(parameterName));
+                }
+
+                if (value != null && descriptor.getControllerServiceDefinition() != null) {
+                    final ControllerServiceNode serviceNode = getControllerServiceProvider().getControllerServiceNode(value);
+                    if (serviceNode == null) {
+                        inputs.add(null);
+                    } else {
+                        inputs.add(serviceNode.getState());
+                        inputs.add(serviceNode.isActive());
+                        inputs.add(serviceNode.getValidationStatus());
+                    }
+                }
+            }
+
+            return inputs;
+        } catch (final Exception e) {
+            logger.debug("Unable to determine validation inputs for {}; validation results will not be reused", this, e);
+            return null;
+        }
+    }
+
     protected Collection<ValidationResult> computeValidationErrors(final ValidationContext validationContext) {
         Throwable failureCause = null;
         try {
@@ -855,9 +924,10 @@ public abstract class AbstractComponentNode implements ComponentNode {
         return validationState.get();
     }
 
-    private boolean replaceValidationState(final ValidationState expectedState, final ValidationState newState) {
+    private boolean replaceValidationState(final ValidationState expectedState, final ValidationState newState, final CachedValidation newCachedValidation) {
         synchronized (validationState) {
             if (validationState.compareAndSet(expectedState, newState)) {
+                cachedValidation = newCachedValidation;
                 validationState.notifyAll();
                 return true;
             }
@@ -868,10 +938,27 @@ public abstract class AbstractComponentNode implements ComponentNode {
 
     @Override
     public void resetValidationState() {
+        resetValidationState(false);
+    }
+
+    @Override
+    public void onParameterContextUpdated() {
+        resetValidationState(true);
+    }
+
+    private void resetValidationState(final boolean retainCachedValidation) {
         lock.lock();
         try {
             validationContext = null;
-            validationState.set(new ValidationState(ValidationStatus.VALIDATING, Collections.emptyList()));
+
+            // the cached validation is updated along with the validation state so that results computed before the reset are never cached afterward
+            synchronized (validationState) {
+                if (!retainCachedValidation) {
+                    cachedValidation = null;
+                }
+
+                validationState.set(new ValidationState(ValidationStatus.VALIDATING, Collections.emptyList()));
+            }
 
             if (isTriggerValidation()) {
                 validationTrigger.triggerAsync(this);
@@ -1012,4 +1099,23 @@ public abstract class AbstractComponentNode implements ComponentNode {
 
     protected abstract ParameterContext getParameterContext();
 
+
+    private static class CachedValidation {
+        private final List<Object> validationInputs;
+        private final ValidationState validationState;
+        private final long creationNanos = System.nanoTime();
+
+        CachedValidation(final List<Object> validationInputs, final ValidationState validationState) {
+            this.validationInputs = validationInputs;
+            this.validationState = validationState;
+        }
+
+        boolean isReusable(final List<Object> inputs) {
+            return inputs != null && System.nanoTime() - creationNanos < MAX_CACHED_VALIDATION_AGE_NANOS && validationInputs.equals(inputs);
+        }
+
+        ValidationState getValidationState() {
+            return validationState;
+        }
+    }
 }
@@ -138,6 +138,13 @@ public interface ComponentNode extends ComponentAuthorizable {
 
     void resetValidationState();
 
+    /**
+     * Notifies the component that the Parameter Context that it is bound to has been updated. The component is validated again, but the results of
+     * its most recent validation are reused if the effective values of the component's properties, the Parameters that it references, and the
+     * state of the Controller Services that it references are all unchanged.
+     */
+    void onParameterContextUpdated();
+
     /**
      * @return the any validation errors for this connectable
      */
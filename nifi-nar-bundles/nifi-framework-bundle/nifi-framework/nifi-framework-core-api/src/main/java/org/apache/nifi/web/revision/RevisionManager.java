@@ -110,4 +110,12 @@ public interface RevisionManager {
      * @return a List of all Revisions managed by this Revision Manager
      */
     List<Revision> getAllRevisions();
+
+    /**
+     * Returns a number that is incremented whenever a Revision is updated or deleted, or the Revision Manager is reset.
+     * This allows callers to cheaply determine whether or not any component may have been modified since they last checked.
+     *
+     * @return the number of modifications made through this Revision Manager
+     */
+    long getModificationCount();
 }
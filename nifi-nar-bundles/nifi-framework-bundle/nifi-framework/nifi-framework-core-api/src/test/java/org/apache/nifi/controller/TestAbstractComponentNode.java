@@ -23,11 +23,13 @@ import org.apache.nifi.authorization.Resource;
 import org.apache.nifi.authorization.resource.Authorizable;
 import org.apache.nifi.bundle.BundleCoordinate;
 import org.apache.nifi.components.ConfigurableComponent;
+import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.components.ValidationContext;
 import org.apache.nifi.components.ValidationResult;
 import org.apache.nifi.components.validation.ValidationStatus;
 import org.apache.nifi.components.validation.ValidationTrigger;
 import org.apache.nifi.controller.service.ControllerServiceProvider;
+import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.parameter.ParameterContext;
 import org.apache.nifi.registry.ComponentVariableRegistry;
 import org.junit.Test;
@@ -36,11 +38,16 @@ import org.mockito.Mockito;
 import java.net.URL;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.nullable;
 
 public class TestAbstractComponentNode {
 
@@ -82,11 +89,74 @@ public class TestAbstractComponentNode {
         assertEquals(1L, validationCount.get());
     }
 
+    @Test
+    public void testValidationResultsReusedWhenInputsUnchanged() {
+        final PropertyDescriptor descriptor = new PropertyDescriptor.Builder().name("Property").build();
+        final Map<PropertyDescriptor, String> properties = new HashMap<>();
+        properties.put(descriptor, "value");
+
+        final ValidationContext validationContext = Mockito.mock(ValidationContext.class);
+        Mockito.when(validationContext.getProperties()).thenAnswer(invocation -> new HashMap<>(properties));
+        final ValidationContextFactory validationContextFactory = Mockito.mock(ValidationContextFactory.class);
+        Mockito.when(validationContextFactory.newValidationContext(any(), nullable(String.class), anyString(), anyString(), nullable(ParameterContext.class))).thenReturn(validationContext);
+
+        final ValidationControlledAbstractComponentNode node = new ValidationControlledAbstractComponentNode(0, Mockito.mock(ValidationTrigger.class), validationContextFactory);
+        assertEquals(ValidationStatus.VALID, node.performValidation());
+        assertEquals(1, node.getValidationCount());
+
+        node.onParameterContextUpdated();
+        assertEquals(ValidationStatus.VALID, node.performValidation());
+        assertEquals(1, node.getValidationCount());
+
+        properties.put(descriptor, "other value");
+        node.onParameterContextUpdated();
+        assertEquals(ValidationStatus.VALID, node.performValidation());
+        assertEquals(2, node.getValidationCount());
+
+        node.resetValidationState();
+        assertEquals(ValidationStatus.VALID, node.performValidation());
+        assertEquals(3, node.getValidationCount());
+    }
+
+    @Test
+    public void testValidationRepeatedWhenVariablesChange() {
+        final PropertyDescriptor descriptor = new PropertyDescriptor.Builder().name("Property").expressionLanguageSupported(ExpressionLanguageScope.VARIABLE_REGISTRY).build();
+        final Map<PropertyDescriptor, String> properties = new HashMap<>();
+        properties.put(descriptor, "${variable}");
+
+        final ValidationContext validationContext = Mockito.mock(ValidationContext.class);
+        Mockito.when(validationContext.getProperties()).thenAnswer(invocation -> new HashMap<>(properties));
+        Mockito.when(validationContext.isExpressionLanguagePresent(anyString())).thenReturn(true);
+        final ValidationContextFactory validationContextFactory = Mockito.mock(ValidationContextFactory.class);
+        Mockito.when(validationContextFactory.newValidationContext(any(), nullable(String.class), anyString(), anyString(), nullable(ParameterContext.class))).thenReturn(validationContext);
+
+        final ValidationControlledAbstractComponentNode node = new ValidationControlledAbstractComponentNode(0, Mockito.mock(ValidationTrigger.class), validationContextFactory);
+        Mockito.when(node.getVariableRegistry().getVersion()).thenReturn(1L);
+        assertEquals(ValidationStatus.VALID, node.performValidation());
+        assertEquals(1, node.getValidationCount());
+
+        assertEquals(ValidationStatus.VALID, node.performValidation());
+        assertEquals(1, node.getValidationCount());
+
+        Mockito.when(node.getVariableRegistry().getVersion()).thenReturn(2L);
+        assertEquals(ValidationStatus.VALID, node.performValidation());
+        assertEquals(2, node.getValidationCount());
+
+        // the inputs are determined without evaluating Expression Language
+        Mockito.verify(validationContext, Mockito.never()).getProperty(any(PropertyDescriptor.class));
+    }
+
     private static class ValidationControlledAbstractComponentNode extends AbstractComponentNode {
         private final long pauseMillis;
+        private final ConfigurableComponent component = Mockito.mock(ConfigurableComponent.class);
+        private final AtomicLong validationCount = new AtomicLong(0L);
 
         public ValidationControlledAbstractComponentNode(final long pauseMillis, final ValidationTrigger validationTrigger) {
-            super("id", Mockito.mock(ValidationContextFactory.class), Mockito.mock(ControllerServiceProvider.class), "unit test component",
+            this(pauseMillis, validationTrigger, Mockito.mock(ValidationContextFactory.class));
+        }
+
+        public ValidationControlledAbstractComponentNode(final long pauseMillis, final ValidationTrigger validationTrigger, final ValidationContextFactory validationContextFactory) {
+            super("id", validationContextFactory, Mockito.mock(ControllerServiceProvider.class), "unit test component",
                 ValidationControlledAbstractComponentNode.class.getCanonicalName(), Mockito.mock(ComponentVariableRegistry.class), Mockito.mock(ReloadComponent.class),
                 Mockito.mock(ExtensionManager.class), validationTrigger, false);
 
@@ -95,12 +165,18 @@ public class TestAbstractComponentNode {
 
         @Override
         protected Collection<ValidationResult> computeValidationErrors(ValidationContext context) {
+            validationCount.incrementAndGet();
+
             try {
                 Thread.sleep(pauseMillis);
             } catch (final InterruptedException ie) {
             }
 
-            return null;
+            return Collections.emptyList();
+        }
+
+        long getValidationCount() {
+            return validationCount.get();
         }
 
         @Override
@@ -114,7 +190,7 @@ public class TestAbstractComponentNode {
 
         @Override
         public ConfigurableComponent getComponent() {
-            return Mockito.mock(ConfigurableComponent.class);
+            return component;
         }
 
         @Override
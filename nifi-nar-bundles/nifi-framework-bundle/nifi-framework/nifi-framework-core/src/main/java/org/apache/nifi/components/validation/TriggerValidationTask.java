@@ -19,22 +19,55 @@ package org.apache.nifi.components.validation;
 
 import org.apache.nifi.controller.ComponentNode;
 import org.apache.nifi.controller.flow.FlowManager;
+import org.apache.nifi.controller.service.ControllerServiceNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 public class TriggerValidationTask implements Runnable {
     private static final Logger logger = LoggerFactory.getLogger(TriggerValidationTask.class);
 
     private final FlowManager flowManager;
     private final ValidationTrigger validationTrigger;
+    private final ExecutorService executor;
 
     public TriggerValidationTask(final FlowManager flowManager, final ValidationTrigger validationTrigger) {
+        this(flowManager, validationTrigger, null);
+    }
+
+    /**
+     * Creates a task that validates components using the given executor. All Controller Services are validated first, such
+     * that no Controller Service is validated before the Controller Services that it requires. Reporting Tasks and Processors are
+     * then validated together. The task does not complete until all components have been validated.
+     *
+     * @param flowManager the flow manager
+     * @param validationTrigger the trigger to use for validating each component
+     * @param executor the executor to validate components with, or <code>null</code> to validate components on the calling thread. Because the
+     *            task waits for the components to be validated, it must not itself be run by this executor
+     */
+    public TriggerValidationTask(final FlowManager flowManager, final ValidationTrigger validationTrigger, final ExecutorService executor) {
         this.flowManager = flowManager;
         this.validationTrigger = validationTrigger;
+        this.executor = executor;
     }
 
     @Override
     public void run() {
+        if (executor != null) {
+            runParallel();
+            return;
+        }
+
         try {
             logger.debug("Triggering validation of all components");
 
@@ -53,4 +86,86 @@ public class TriggerValidationTask implements Runnable {
             logger.error("Encountered unexpected error when attempting to validate components", t);
         }
     }
+
+    private void runParallel() {
+        try {
+            logger.debug("Triggering parallel validation of all components");
+
+            final List<List<ControllerServiceNode>> serviceLevels = orderByDependencies(flowManager.getAllControllerServices());
+            for (final List<ControllerServiceNode> serviceLevel : serviceLevels) {
+                triggerAll(serviceLevel);
+            }
+
+            final List<ComponentNode> components = new ArrayList<>(flowManager.getAllReportingTasks());
+            components.addAll(flowManager.getRootGroup().findAllProcessors());
+            triggerAll(components);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for components to be validated");
+        } catch (final Throwable t) {
+            logger.error("Encountered unexpected error when attempting to validate components", t);
+        }
+    }
+
+    private void triggerAll(final Collection<? extends ComponentNode> components) throws InterruptedException, ExecutionException {
+        final List<Future<?>> futures = new ArrayList<>(components.size());
+        for (final ComponentNode component : components) {
+            futures.add(executor.submit(() -> validationTrigger.trigger(component)));
+        }
+
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    /**
+     * Groups the given Controller Services into levels such that each service appears in a later level than all of the
+     * services that it requires. Services within a single level do not depend on one another and so may be validated concurrently.
+     *
+     * @param services the services to order
+     * @return the services, grouped into levels
+     */
+    static List<List<ControllerServiceNode>> orderByDependencies(final Collection<ControllerServiceNode> services) {
+        final Map<ControllerServiceNode, Integer> depths = new HashMap<>();
+        for (final ControllerServiceNode service : services) {
+            getDependencyDepth(service, depths, new HashSet<>());
+        }
+
+        final List<List<ControllerServiceNode>> levels = new ArrayList<>();
+        for (final ControllerServiceNode service : services) {
+            final int depth = depths.get(service);
+            while (levels.size() <= depth) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(depth).add(service);
+        }
+
+        return levels;
+    }
+
+    private static int getDependencyDepth(final ControllerServiceNode service, final Map<ControllerServiceNode, Integer> depths, final Set<ControllerServiceNode> visiting) {
+        final Integer knownDepth = depths.get(service);
+        if (knownDepth != null) {
+            return knownDepth;
+        }
+
+        // A reference cycle cannot be ordered, so treat the service at which the cycle is detected as having no further requirements
+        if (!visiting.add(service)) {
+            return 0;
+        }
+
+        int depth = 0;
+        for (final ControllerServiceNode required : service.getRequiredControllerServices()) {
+            // a reference to a service that does not exist is reported by validation rather than ordered
+            if (required == null) {
+                continue;
+            }
+
+            depth = Math.max(depth, getDependencyDepth(required, depths, visiting) + 1);
+        }
+
+        visiting.remove(service);
+        depths.put(service, depth);
+        return depth;
+    }
 }
@@ -67,12 +67,10 @@ import org.apache.nifi.cluster.coordination.node.DisconnectionCode;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
 import org.apache.nifi.cluster.protocol.DataFlow;
-import org.apache.nifi.cluster.protocol.Heartbeat;
 import org.apache.nifi.cluster.protocol.HeartbeatPayload;
 import org.apache.nifi.cluster.protocol.NodeIdentifier;
 import org.apache.nifi.cluster.protocol.NodeProtocolSender;
 import org.apache.nifi.cluster.protocol.UnknownServiceAddressException;
-import org.apache.nifi.cluster.protocol.message.HeartbeatMessage;
 import org.apache.nifi.components.state.StateManagerProvider;
 import org.apache.nifi.components.validation.StandardValidationTrigger;
 import org.apache.nifi.components.validation.TriggerValidationTask;
@@ -299,6 +297,7 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
     private final ClusterCoordinator clusterCoordinator;
     private final FlowRegistryClient flowRegistryClient;
     private final FlowEngine validationThreadPool;
+    private final FlowEngine validationTriggerThreadPool;
     private final ValidationTrigger validationTrigger;
     private final ReloadComponent reloadComponent;
     private final ProvenanceAuthorizableFactory provenanceAuthorizableFactory;
@@ -559,6 +558,7 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
         instanceId = ComponentIdGenerator.generateId().toString();
 
         this.validationThreadPool = new FlowEngine(5, "Validate Components", true);
+        this.validationTriggerThreadPool = new FlowEngine(1, "Trigger Component Validation", true);
         this.validationTrigger = new StandardValidationTrigger(validationThreadPool, this::isInitialized);
 
         if (remoteInputSocketPort == null) {
@@ -948,47 +948,18 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
      * @param startDelayedComponents true if start
      */
     public void onFlowInitialized(final boolean startDelayedComponents) {
+        // Perform validation of all components before attempting to start them. This is done before obtaining the write lock
+        // because the components are validated by a pool of threads, and validating a component may require the read lock.
+        performInitialValidation();
+
         writeLock.lock();
         try {
-            // Perform validation of all components before attempting to start them.
-            LOG.debug("Triggering initial validation of all components");
-            final long start = System.nanoTime();
-
-            final ValidationTrigger triggerIfValidating = new ValidationTrigger() {
-                @Override
-                public void triggerAsync(final ComponentNode component) {
-                    final ValidationStatus status = component.getValidationStatus();
-
-                    if (component.getValidationStatus() == ValidationStatus.VALIDATING) {
-                        LOG.debug("Will trigger async validation for {} because its status is VALIDATING", component);
-                        validationTrigger.triggerAsync(component);
-                    } else {
-                        LOG.debug("Will not trigger async validation for {} because its status is {}", component, status);
-                    }
-                }
-
-                @Override
-                public void trigger(final ComponentNode component) {
-                    final ValidationStatus status = component.getValidationStatus();
-
-                    if (component.getValidationStatus() == ValidationStatus.VALIDATING) {
-                        LOG.debug("Will trigger immediate validation for {} because its status is VALIDATING", component);
-                        validationTrigger.trigger(component);
-                    } else {
-                        LOG.debug("Will not trigger immediate validation for {} because its status is {}", component, status);
-                    }
-                }
-            };
-
-            new TriggerValidationTask(flowManager, triggerIfValidating).run();
-
-            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
-            LOG.info("Performed initial validation of all components in {} milliseconds", millis);
-
-            // Trigger component validation to occur every 5 seconds.
-            validationThreadPool.scheduleWithFixedDelay(new TriggerValidationTask(flowManager, validationTrigger), 5, 5, TimeUnit.SECONDS);
+            // Trigger component validation to occur every 5 seconds. The task runs on its own thread and waits there for the validation
+            // pool to validate the components in parallel, so it never occupies a thread of the pool that it waits on.
+            validationTriggerThreadPool.scheduleWithFixedDelay(new TriggerValidationTask(flowManager, validationTrigger, validationThreadPool), 5, 5, TimeUnit.SECONDS);
 
             if (startDelayedComponents) {
+                final long startComponentsNanos = System.nanoTime();
                 LOG.info("Starting {} processors/ports/funnels", startConnectablesAfterInitialization.size() + startRemoteGroupPortsAfterInitialization.size());
                 for (final Connectable connectable : startConnectablesAfterInitialization) {
                     if (connectable.getScheduledState() == ScheduledState.DISABLED) {
@@ -1023,6 +994,9 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
 
                 LOG.info("Started {} Remote Group Ports transmitting", startedTransmitting);
                 startRemoteGroupPortsAfterInitialization.clear();
+
+                final long startComponentsMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startComponentsNanos);
+                LOG.info("Started components in {} milliseconds", startComponentsMillis);
             } else {
                 // We don't want to start all of the delayed components. However, funnels need to be started anyway
                 // because we don't provide users the ability to start or stop them - they are just notional.
@@ -1048,6 +1022,48 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
         }
     }
 
+    private void performInitialValidation() {
+        LOG.debug("Triggering initial validation of all components");
+        final long start = System.nanoTime();
+
+        final ValidationTrigger triggerIfValidating = new ValidationTrigger() {
+            @Override
+            public void triggerAsync(final ComponentNode component) {
+                final ValidationStatus status = component.getValidationStatus();
+
+                if (component.getValidationStatus() == ValidationStatus.VALIDATING) {
+                    LOG.debug("Will trigger async validation for {} because its status is VALIDATING", component);
+                    validationTrigger.triggerAsync(component);
+                } else {
+                    LOG.debug("Will not trigger async validation for {} because its status is {}", component, status);
+                }
+            }
+
+            @Override
+            public void trigger(final ComponentNode component) {
+                final ValidationStatus status = component.getValidationStatus();
+
+                if (component.getValidationStatus() == ValidationStatus.VALIDATING) {
+                    LOG.debug("Will trigger immediate validation for {} because its status is VALIDATING", component);
+                    validationTrigger.trigger(component);
+                } else {
+                    LOG.debug("Will not trigger immediate validation for {} because its status is {}", component, status);
+                }
+            }
+        };
+
+        final int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors());
+        final FlowEngine initialValidationThreadPool = new FlowEngine(threadCount, "Initial Component Validation", true);
+        try {
+            new TriggerValidationTask(flowManager, triggerIfValidating, initialValidationThreadPool).run();
+        } finally {
+            initialValidationThreadPool.shutdown();
+        }
+
+        final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOG.info("Performed initial validation of all components in {} milliseconds using {} threads", millis, threadCount);
+    }
+
     public boolean isStartAfterInitialization(final Connectable component) {
         return startConnectablesAfterInitialization.contains(component) || startRemoteGroupPortsAfterInitialization.contains(component);
     }
@@ -1214,6 +1230,7 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
                 LOG.info("Initiated graceful shutdown of flow controller...waiting up to " + gracefulShutdownSeconds + " seconds");
             }
 
+            validationTriggerThreadPool.shutdown();
             validationThreadPool.shutdown();
             clusterTaskExecutor.shutdownNow();
 
@@ -1868,7 +1885,8 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
                             eventReporter, nifiProperties.getQueueSwapThreshold(), nifiProperties.getDefaultBackPressureObjectThreshold(), nifiProperties.getDefaultBackPressureDataSizeThreshold());
                 } else {
                     flowFileQueue = new SocketLoadBalancedFlowFileQueue(id, eventListener, processScheduler, flowFileRepository, provenanceRepository, contentRepository, resourceClaimManager,
-                            clusterCoordinator, loadBalanceClientRegistry, swapManager, nifiProperties.getQueueSwapThreshold(), eventReporter);
+                            clusterCoordinator, loadBalanceClientRegistry, swapManager, nifiProperties.getQueueSwapThreshold(), eventReporter,
+                            nifiProperties.isClusterLoadBalanceLoadAware());
 
                     flowFileQueue.setBackPressureObjectThreshold(nifiProperties.getDefaultBackPressureObjectThreshold());
                     flowFileQueue.setBackPressureDataSizeThreshold(nifiProperties.getDefaultBackPressureDataSizeThreshold());
@@ -2778,13 +2796,19 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
                     return;
                 }
 
-                final HeartbeatMessage message = createHeartbeatMessage();
-                if (message == null) {
+                final NodeIdentifier nodeId = getNodeId();
+                if (nodeId == null) {
+                    LOG.warn("Cannot create Heartbeat Message because node's identifier is not known at this time");
+                    return;
+                }
+
+                final HeartbeatPayload payload = createHeartbeatPayload();
+                if (payload == null) {
                     LOG.debug("No heartbeat to send");
                     return;
                 }
 
-                heartbeater.send(message);
+                heartbeater.send(nodeId, connectionStatus, payload);
             } catch (final UnknownServiceAddressException usae) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug(usae.getMessage());
@@ -2798,7 +2822,7 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
         }
     }
 
-    HeartbeatMessage createHeartbeatMessage() {
+    HeartbeatPayload createHeartbeatPayload() {
         try {
             HeartbeatBean bean = heartbeatBeanRef.get();
             if (bean == null) {
@@ -2806,7 +2830,7 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
                 try {
                     bean = new HeartbeatBean(flowManager.getRootGroup(), isPrimary());
                 } finally {
-                    readLock.unlock("createHeartbeatMessage");
+                    readLock.unlock("createHeartbeatPayload");
                 }
             }
 
@@ -2820,20 +2844,9 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
             hbPayload.setTotalFlowFileBytes(queueSize.getByteCount());
             hbPayload.setClusterStatus(clusterCoordinator.getConnectionStatuses());
 
-            // create heartbeat message
-            final NodeIdentifier nodeId = getNodeId();
-            if (nodeId == null) {
-                LOG.warn("Cannot create Heartbeat Message because node's identifier is not known at this time");
-                return null;
-            }
-
-            final Heartbeat heartbeat = new Heartbeat(nodeId, connectionStatus, hbPayload.marshal());
-            final HeartbeatMessage message = new HeartbeatMessage();
-            message.setHeartbeat(heartbeat);
-
             LOG.debug("Generated heartbeat");
 
-            return message;
+            return hbPayload;
         } catch (final Throwable ex) {
             LOG.warn("Failed to create heartbeat due to: " + ex, ex);
             return null;
@@ -2879,6 +2892,13 @@ public class FlowController implements ReportingTaskProvider, Authorizable, Node
         return provenanceRepository;
     }
 
+    /**
+     * @return the Date at which the status of the components in the flow was last captured for status history
+     */
+    public Date getLastStatusCaptureDate() {
+        return componentStatusRepository.getLastCaptureDate();
+    }
+
     public StatusHistoryDTO getConnectionStatusHistory(final String connectionId) {
         return getConnectionStatusHistory(connectionId, null, null, Integer.MAX_VALUE);
     }
@@ -388,6 +388,7 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
 
                     // if this controller isn't initialized or its empty, add the root group, otherwise update
                     final ProcessGroup rootGroup;
+                    final long rootGroupStart = System.nanoTime();
                     if (!flowAlreadySynchronized || existingFlowEmpty) {
                         logger.trace("Adding root process group");
                         rootGroup = addProcessGroup(controller, /* parent group */ null, rootGroupElement, encryptor, encodingVersion);
@@ -395,6 +396,7 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
                         logger.trace("Updating root process group");
                         rootGroup = updateProcessGroup(controller, /* parent group */ null, rootGroupElement, encryptor, encodingVersion);
                     }
+                    logger.info("Synchronized root Process Group in {} milliseconds", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - rootGroupStart));
 
                     rootGroup.findAllRemoteProcessGroups().forEach(RemoteProcessGroup::initialize);
 
@@ -471,7 +473,9 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
                             }
 
                             // enable all the original controller services
+                            final long enableServicesStart = System.nanoTime();
                             ControllerServiceLoader.enableControllerServices(controllerServices, controller, encryptor, autoResumeState, encodingVersion);
+                            logger.info("Enabled Controller-level Controller Services in {} milliseconds", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enableServicesStart));
                         }
                     }
 
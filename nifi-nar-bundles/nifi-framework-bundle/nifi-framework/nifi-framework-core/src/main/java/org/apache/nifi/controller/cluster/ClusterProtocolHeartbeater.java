@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import org.apache.nifi.cluster.coordination.ClusterCoordinator;
 import org.apache.nifi.cluster.coordination.node.ClusterRoles;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
+import org.apache.nifi.cluster.protocol.Heartbeat;
 import org.apache.nifi.cluster.protocol.HeartbeatPayload;
 import org.apache.nifi.cluster.protocol.NodeIdentifier;
 import org.apache.nifi.cluster.protocol.NodeProtocolSender;
@@ -43,6 +44,10 @@ import org.slf4j.LoggerFactory;
  * Cluster Coordinator and to indicate that this node is part of the cluster.
  * Once the Cluster Coordinator is known, heartbeats are sent directly to the
  * Cluster Coordinator.
+ *
+ * Heartbeat payloads are sent as XML until the Cluster Coordinator indicates that it
+ * accepts binary payloads. From then on, each payload carries only the changes in
+ * cluster status since the last heartbeat that the Cluster Coordinator acknowledged.
  */
 public class ClusterProtocolHeartbeater implements Heartbeater {
 
@@ -52,6 +57,11 @@ public class ClusterProtocolHeartbeater implements Heartbeater {
     private final LeaderElectionManager electionManager;
     private final ClusterCoordinator clusterCoordinator;
 
+    private String negotiatedAddress;
+    private boolean binaryEncoding = false;
+    private long sequenceNumber = 0L;
+    private HeartbeatPayload acknowledgedPayload;
+
     public ClusterProtocolHeartbeater(final NodeProtocolSender protocolSender, final ClusterCoordinator clusterCoordinator, final LeaderElectionManager electionManager) {
         this.protocolSender = protocolSender;
         this.clusterCoordinator = clusterCoordinator;
@@ -69,14 +79,50 @@ public class ClusterProtocolHeartbeater implements Heartbeater {
     }
 
     @Override
-    public synchronized void send(final HeartbeatMessage heartbeatMessage) throws IOException {
+    public synchronized void send(final NodeIdentifier nodeId, final NodeConnectionStatus connectionStatus, final HeartbeatPayload payload) throws IOException {
         final long sendStart = System.nanoTime();
 
         final String heartbeatAddress = getHeartbeatAddress();
-        final HeartbeatResponseMessage responseMessage = protocolSender.heartbeat(heartbeatMessage, heartbeatAddress);
+        if (!heartbeatAddress.equals(negotiatedAddress)) {
+            // The encoding and the acknowledged payload are specific to the Cluster Coordinator that we negotiated them with
+            resetEncoding();
+            negotiatedAddress = heartbeatAddress;
+        }
+
+        payload.setSequenceNumber(++sequenceNumber);
+
+        final byte[] encodedPayload;
+        if (!binaryEncoding) {
+            encodedPayload = payload.marshal();
+        } else if (acknowledgedPayload == null) {
+            encodedPayload = payload.marshalBinary();
+        } else {
+            encodedPayload = payload.createDelta(acknowledgedPayload).marshalBinary();
+        }
+
+        final Heartbeat heartbeat = new Heartbeat(nodeId, connectionStatus, encodedPayload);
+        final HeartbeatMessage heartbeatMessage = new HeartbeatMessage();
+        heartbeatMessage.setHeartbeat(heartbeat);
+
+        final HeartbeatResponseMessage responseMessage;
+        try {
+            responseMessage = protocolSender.heartbeat(heartbeatMessage, heartbeatAddress);
+        } catch (final RuntimeException e) {
+            // We cannot tell whether the Cluster Coordinator received the heartbeat, or whether it still accepts binary payloads
+            resetEncoding();
+            throw e;
+        }
+
+        final Integer encodingVersion = responseMessage.getHeartbeatEncodingVersion();
+        if (encodingVersion == null || encodingVersion < HeartbeatPayload.BINARY_ENCODING_VERSION) {
+            resetEncoding();
+        } else if (binaryEncoding && !responseMessage.isFullHeartbeatRequired()) {
+            acknowledgedPayload = payload;
+        } else {
+            binaryEncoding = true;
+            acknowledgedPayload = null;
+        }
 
-        final byte[] payloadBytes = heartbeatMessage.getHeartbeat().getPayload();
-        final HeartbeatPayload payload = HeartbeatPayload.unmarshal(payloadBytes);
         final List<NodeConnectionStatus> nodeStatusList = payload.getClusterStatus();
         final Map<NodeIdentifier, Long> updateIdMap = nodeStatusList.stream().collect(
                 Collectors.toMap(status -> status.getNodeIdentifier(), status -> status.getUpdateIdentifier()));
@@ -84,8 +130,8 @@ public class ClusterProtocolHeartbeater implements Heartbeater {
         final List<NodeConnectionStatus> updatedStatuses = responseMessage.getUpdatedNodeStatuses();
         if (updatedStatuses != null) {
             for (final NodeConnectionStatus updatedStatus : updatedStatuses) {
-                final NodeIdentifier nodeId = updatedStatus.getNodeIdentifier();
-                final Long updateId = updateIdMap.get(nodeId);
+                final NodeIdentifier updatedNodeId = updatedStatus.getNodeIdentifier();
+                final Long updateId = updateIdMap.get(updatedNodeId);
 
                 final boolean updated = clusterCoordinator.resetNodeStatus(updatedStatus, updateId == null ? -1L : updateId);
                 if (updated) {
@@ -104,14 +150,20 @@ public class ClusterProtocolHeartbeater implements Heartbeater {
         final String flowElectionMessage = responseMessage.getFlowElectionMessage();
         final String formattedElectionMessage = flowElectionMessage == null ? "" : "; " + flowElectionMessage;
 
-        logger.info("Heartbeat created at {} and sent to {} at {}; send took {} millis{}",
-            dateFormatter.format(new Date(heartbeatMessage.getHeartbeat().getCreatedTimestamp())),
+        logger.info("Heartbeat created at {} and sent to {} at {}; send took {} millis and payload was {} bytes{}",
+            dateFormatter.format(new Date(heartbeat.getCreatedTimestamp())),
             heartbeatAddress,
             dateFormatter.format(new Date()),
             sendMillis,
+            encodedPayload.length,
             formattedElectionMessage);
     }
 
+    private void resetEncoding() {
+        binaryEncoding = false;
+        acknowledgedPayload = null;
+    }
+
     @Override
     public void close() throws IOException {
     }
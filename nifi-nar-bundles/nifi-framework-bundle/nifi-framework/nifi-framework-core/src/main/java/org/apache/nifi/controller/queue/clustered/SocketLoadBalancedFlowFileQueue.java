@@ -40,6 +40,7 @@ import org.apache.nifi.controller.queue.clustered.client.async.AsyncLoadBalanceC
 import org.apache.nifi.controller.queue.clustered.partition.CorrelationAttributePartitioner;
 import org.apache.nifi.controller.queue.clustered.partition.FirstNodePartitioner;
 import org.apache.nifi.controller.queue.clustered.partition.FlowFilePartitioner;
+import org.apache.nifi.controller.queue.clustered.partition.LoadAwarePartitioner;
 import org.apache.nifi.controller.queue.clustered.partition.LocalPartitionPartitioner;
 import org.apache.nifi.controller.queue.clustered.partition.LocalQueuePartition;
 import org.apache.nifi.controller.queue.clustered.partition.NonLocalPartitionPartitioner;
@@ -117,12 +118,20 @@ public class SocketLoadBalancedFlowFileQueue extends AbstractFlowFileQueue imple
     private volatile FlowFilePartitioner partitioner;
     private boolean stopped = true;
     private volatile boolean offloaded = false;
+    private final boolean loadAware;
 
 
     public SocketLoadBalancedFlowFileQueue(final String identifier, final ConnectionEventListener eventListener, final ProcessScheduler scheduler, final FlowFileRepository flowFileRepo,
                                            final ProvenanceEventRepository provRepo, final ContentRepository contentRepo, final ResourceClaimManager resourceClaimManager,
                                            final ClusterCoordinator clusterCoordinator, final AsyncLoadBalanceClientRegistry clientRegistry, final FlowFileSwapManager swapManager,
                                            final int swapThreshold, final EventReporter eventReporter) {
+        this(identifier, eventListener, scheduler, flowFileRepo, provRepo, contentRepo, resourceClaimManager, clusterCoordinator, clientRegistry, swapManager, swapThreshold, eventReporter, false);
+    }
+
+    public SocketLoadBalancedFlowFileQueue(final String identifier, final ConnectionEventListener eventListener, final ProcessScheduler scheduler, final FlowFileRepository flowFileRepo,
+                                           final ProvenanceEventRepository provRepo, final ContentRepository contentRepo, final ResourceClaimManager resourceClaimManager,
+                                           final ClusterCoordinator clusterCoordinator, final AsyncLoadBalanceClientRegistry clientRegistry, final FlowFileSwapManager swapManager,
+                                           final int swapThreshold, final EventReporter eventReporter, final boolean loadAware) {
 
         super(identifier, scheduler, flowFileRepo, provRepo, resourceClaimManager);
         this.eventListener = eventListener;
@@ -133,6 +142,7 @@ public class SocketLoadBalancedFlowFileQueue extends AbstractFlowFileQueue imple
         this.contentRepo = contentRepo;
         this.clusterCoordinator = clusterCoordinator;
         this.clientRegistry = clientRegistry;
+        this.loadAware = loadAware;
 
         localPartition = new SwappablePriorityQueueLocalPartition(swapManager, swapThreshold, eventReporter, this, this::drop);
         rebalancingPartition = new StandardRebalancingPartition(swapManager, swapThreshold, eventReporter, this, this::drop);
@@ -212,10 +222,10 @@ public class SocketLoadBalancedFlowFileQueue extends AbstractFlowFileQueue imple
                 partitioner = new LocalPartitionPartitioner();
                 break;
             case PARTITION_BY_ATTRIBUTE:
-                partitioner = new CorrelationAttributePartitioner(partitioningAttribute);
+                partitioner = loadAware ? new LoadAwarePartitioner(partitioningAttribute) : new CorrelationAttributePartitioner(partitioningAttribute);
                 break;
             case ROUND_ROBIN:
-                partitioner = new RoundRobinPartitioner();
+                partitioner = loadAware ? new LoadAwarePartitioner(null) : new RoundRobinPartitioner();
                 break;
             case SINGLE_NODE:
                 partitioner = new FirstNodePartitioner();
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.controller.queue.clustered.partition;
+
+import com.google.common.hash.Hashing;
+import org.apache.nifi.controller.repository.FlowFileRecord;
+import org.apache.nifi.flowfile.attributes.CoreAttributes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A FlowFilePartitioner that takes into account how much data is already queued up for each partition. A node that is slow to receive
+ * or process data (for instance, because of slow disks) will accumulate a larger backlog in its partition than its peers, so it is given
+ * a proportionally smaller share of new FlowFiles.
+ * </p>
+ *
+ * <p>
+ * If no partitioning attribute is given, FlowFiles are distributed using a smooth weighted round robin, where the weight of each partition
+ * is inversely related to its backlog. If a partitioning attribute is given, FlowFiles are assigned using consistent hashing with bounded loads:
+ * each value of the attribute maps to the same partition as it would with the {@link CorrelationAttributePartitioner}, unless that partition's
+ * backlog exceeds the configured load factor times the average backlog, in which case the FlowFile overflows to the next partition that is not
+ * overloaded. As a result, FlowFiles with the same attribute value stay together as long as the cluster is reasonably balanced.
+ * </p>
+ */
+public class LoadAwarePartitioner implements FlowFilePartitioner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadAwarePartitioner.class);
+
+    public static final double DEFAULT_LOAD_FACTOR = 1.25D;
+    private static final long DEFAULT_REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(250L);
+
+    // Partitions holding fewer FlowFiles than this are never considered overloaded. This avoids splitting up
+    // correlated FlowFiles and shifting weights around when there is very little data queued.
+    private static final long MINIMUM_OVERLOAD_COUNT = 1_000L;
+    private static final int MAX_WEIGHT = 1_000;
+
+    private final String partitioningAttribute;
+    private final double loadFactor;
+    private final long refreshNanos;
+
+    // All of the following are guarded by synchronizing on 'this'
+    private QueuePartition[] lastPartitions;
+    private long[] observedCounts;
+    private long[] assignedCounts;
+    private int[] weights;
+    private int[] currentWeights;
+    private int totalWeight;
+    private long lastRefresh;
+
+    public LoadAwarePartitioner(final String partitioningAttribute) {
+        this(partitioningAttribute, DEFAULT_LOAD_FACTOR, DEFAULT_REFRESH_NANOS);
+    }
+
+    LoadAwarePartitioner(final String partitioningAttribute, final double loadFactor, final long refreshNanos) {
+        if (loadFactor < 1D) {
+            throw new IllegalArgumentException("Load Factor must be at least 1.0 but was " + loadFactor);
+        }
+
+        this.partitioningAttribute = partitioningAttribute;
+        this.loadFactor = loadFactor;
+        this.refreshNanos = refreshNanos;
+    }
+
+    @Override
+    public synchronized QueuePartition getPartition(final FlowFileRecord flowFile, final QueuePartition[] partitions, final QueuePartition localPartition) {
+        if (partitions.length == 1) {
+            return partitions[0];
+        }
+
+        refreshLoad(partitions);
+
+        final int index = partitioningAttribute == null ? nextWeightedIndex() : boundedHashIndex(flowFile);
+        assignedCounts[index]++;
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Assigning Partition {} to {}; current load is {} with {} assigned since last refresh", partitions[index].getSwapPartitionName(),
+                flowFile.getAttribute(CoreAttributes.UUID.key()), observedCounts[index], assignedCounts[index]);
+        }
+
+        return partitions[index];
+    }
+
+    private void refreshLoad(final QueuePartition[] partitions) {
+        final long now = System.nanoTime();
+        final boolean partitionsChanged = partitions != lastPartitions;
+        if (!partitionsChanged && now - lastRefresh < refreshNanos) {
+            return;
+        }
+
+        final int numPartitions = partitions.length;
+        if (partitionsChanged) {
+            lastPartitions = partitions;
+            observedCounts = new long[numPartitions];
+            assignedCounts = new long[numPartitions];
+            weights = new int[numPartitions];
+            currentWeights = new int[numPartitions];
+        }
+
+        long totalCount = 0L;
+        for (int i = 0; i < numPartitions; i++) {
+            final long count = partitions[i].size().getObjectCount();
+            observedCounts[i] = count;
+            assignedCounts[i] = 0L;
+            totalCount += count;
+        }
+
+        // Each partition is weighted by smoothing / (backlog + smoothing) so that idle partitions receive the maximum weight and
+        // a partition whose backlog is, for example, 9 times the average receives roughly a tenth of the share of an idle one.
+        final double smoothing = Math.max(MINIMUM_OVERLOAD_COUNT, (double) totalCount / numPartitions);
+        totalWeight = 0;
+        for (int i = 0; i < numPartitions; i++) {
+            final int weight = (int) Math.max(1L, Math.round(MAX_WEIGHT * smoothing / (observedCounts[i] + smoothing)));
+            weights[i] = weight;
+            totalWeight += weight;
+        }
+
+        lastRefresh = now;
+    }
+
+    /**
+     * Smooth Weighted Round Robin: interleaves partitions according to their weights rather than sending bursts to the heaviest partition.
+     */
+    private int nextWeightedIndex() {
+        int selected = 0;
+        for (int i = 0; i < weights.length; i++) {
+            currentWeights[i] += weights[i];
+            if (currentWeights[i] > currentWeights[selected]) {
+                selected = i;
+            }
+        }
+
+        currentWeights[selected] -= totalWeight;
+        return selected;
+    }
+
+    private int boundedHashIndex(final FlowFileRecord flowFile) {
+        final int numPartitions = observedCounts.length;
+        final String partitionAttributeValue = flowFile.getAttribute(partitioningAttribute);
+        final int hash = (partitionAttributeValue == null) ? 0 : partitionAttributeValue.hashCode();
+
+        // See CorrelationAttributePartitioner for why consistentHash is avoided with fewer than 3 partitions
+        final int preferredIndex = numPartitions < 3 ? Math.floorMod(hash, numPartitions) : Hashing.consistentHash(hash, numPartitions);
+
+        long totalLoad = 0L;
+        for (int i = 0; i < numPartitions; i++) {
+            totalLoad += observedCounts[i] + assignedCounts[i];
+        }
+
+        final double bound = Math.max(MINIMUM_OVERLOAD_COUNT, Math.ceil(loadFactor * (totalLoad + 1) / numPartitions));
+        for (int i = 0; i < numPartitions; i++) {
+            final int index = (preferredIndex + i) % numPartitions;
+            if (observedCounts[index] + assignedCounts[index] < bound) {
+                return index;
+            }
+        }
+
+        return preferredIndex;
+    }
+
+    @Override
+    public boolean isRebalanceOnClusterResize() {
+        return partitioningAttribute != null;
+    }
+
+    @Override
+    public boolean isRebalanceOnFailure() {
+        return partitioningAttribute == null;
+    }
+}
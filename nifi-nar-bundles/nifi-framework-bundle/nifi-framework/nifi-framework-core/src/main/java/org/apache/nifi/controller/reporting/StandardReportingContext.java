@@ -78,7 +78,7 @@ public class StandardReportingContext implements ReportingContext, ControllerSer
                 value = desc.getDefaultValue();
             }
 
-            final PreparedQuery pq = Query.prepare(value);
+            final PreparedQuery pq = desc.isSensitive() ? Query.prepareSensitive(value) : Query.prepare(value);
             preparedQueries.put(desc, pq);
         }
     }
@@ -19,6 +19,8 @@ package org.apache.nifi.controller.state.manager;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.nifi.parameter.ParameterLookup;
+import org.apache.nifi.attribute.expression.language.PreparedQuery;
+import org.apache.nifi.attribute.expression.language.Query;
 import org.apache.nifi.attribute.expression.language.StandardPropertyValue;
 import org.apache.nifi.bundle.Bundle;
 import org.apache.nifi.components.PropertyDescriptor;
@@ -212,7 +214,8 @@ public class StandardStateManagerProvider implements StateManagerProvider{
             final PropertyConfiguration configuration = new PropertyConfiguration(descriptor.getDefaultValue(), references, references.toReferenceList());
 
             propertyStringMap.put(descriptor, configuration);
-            propertyMap.put(descriptor, new StandardPropertyValue(entry.getValue(),null, parameterLookup, variableRegistry));
+            final PreparedQuery preparedQuery = descriptor.isSensitive() ? Query.prepareSensitive(entry.getValue()) : Query.prepare(entry.getValue());
+            propertyMap.put(descriptor, new StandardPropertyValue(entry.getValue(), null, parameterLookup, preparedQuery, variableRegistry));
         }
 
         final SSLContext sslContext = SslContextFactory.createSslContext(properties);
@@ -2923,13 +2923,13 @@ public final class StandardProcessGroup implements ProcessGroup {
         try {
             for (final ProcessorNode processorNode : getProcessors()) {
                 if (processorNode.isReferencingParameter() && processorNode.getScheduledState() != ScheduledState.RUNNING) {
-                    processorNode.resetValidationState();
+                    processorNode.onParameterContextUpdated();
                 }
             }
 
             for (final ControllerServiceNode serviceNode : getControllerServices(false)) {
-                if (serviceNode.isReferencingParameter() && serviceNode.getState() == ControllerServiceState.DISABLING || serviceNode.getState() == ControllerServiceState.DISABLED) {
-                    serviceNode.resetValidationState();
+                if (serviceNode.isReferencingParameter() && (serviceNode.getState() == ControllerServiceState.DISABLING || serviceNode.getState() == ControllerServiceState.DISABLED)) {
+                    serviceNode.onParameterContextUpdated();
                 }
             }
         } finally {
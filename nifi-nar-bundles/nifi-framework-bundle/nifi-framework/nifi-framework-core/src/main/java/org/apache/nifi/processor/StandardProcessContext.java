@@ -16,6 +16,7 @@
  */
 package org.apache.nifi.processor;
 
+import org.apache.nifi.attribute.expression.language.CachedResultPreparedQuery;
 import org.apache.nifi.attribute.expression.language.PreparedQuery;
 import org.apache.nifi.attribute.expression.language.Query;
 import org.apache.nifi.attribute.expression.language.Query.Range;
@@ -72,8 +73,15 @@ public class StandardProcessContext implements ProcessContext, ControllerService
             }
 
             if (value != null) {
-                final PreparedQuery pq = Query.prepare(value);
-                preparedQueries.put(desc, pq);
+                final PreparedQuery pq = desc.isSensitive() ? Query.prepareSensitive(value) : Query.prepare(value);
+
+                // A query that does not depend on FlowFile attributes evaluates to the same value for as long as this context is in use,
+                // since the Parameters that it references cannot change while the Processor is running, so evaluate it only once.
+                if (pq.isExpressionLanguagePresent() && pq.isAttributeIndependent()) {
+                    preparedQueries.put(desc, new CachedResultPreparedQuery(pq));
+                } else {
+                    preparedQueries.put(desc, pq);
+                }
             }
         }
     }
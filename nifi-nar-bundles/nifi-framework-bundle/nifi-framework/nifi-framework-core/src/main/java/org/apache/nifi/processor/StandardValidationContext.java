@@ -88,7 +88,7 @@ public class StandardValidationContext implements ValidationContext {
                 value = desc.getDefaultValue();
             }
 
-            final PreparedQuery pq = Query.prepare(value);
+            final PreparedQuery pq = desc.isSensitive() ? Query.prepareSensitive(value) : Query.prepare(value);
             preparedQueries.put(desc, pq);
         }
 
@@ -48,5 +48,6 @@ public class MutableVariableRegistry extends StandardComponentVariableRegistry i
         }
 
         this.variableMap = Collections.unmodifiableMap(updatedVariableMap);
+        incrementVersion();
     }
 }
@@ -20,13 +20,18 @@ package org.apache.nifi.registry.variable;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.nifi.registry.ComponentVariableRegistry;
 import org.apache.nifi.registry.VariableDescriptor;
 import org.apache.nifi.registry.VariableRegistry;
 
 public class StandardComponentVariableRegistry implements ComponentVariableRegistry {
+    // Versions are issued from a single sequence so that a change to any registry yields a version greater than that of every other registry
+    private static final AtomicLong versionSequence = new AtomicLong(0L);
+
     private volatile VariableRegistry parent;
+    private volatile long version = 0L;
 
     public StandardComponentVariableRegistry(final VariableRegistry parent) {
         this.parent = Objects.requireNonNull(parent);
@@ -45,6 +50,18 @@ public class StandardComponentVariableRegistry implements ComponentVariableRegis
     @Override
     public void setParent(final VariableRegistry parentRegistry) {
         this.parent = parentRegistry;
+        incrementVersion();
+    }
+
+    @Override
+    public long getVersion() {
+        final VariableRegistry curParent = parent;
+        final long parentVersion = curParent instanceof ComponentVariableRegistry ? ((ComponentVariableRegistry) curParent).getVersion() : 0L;
+        return Math.max(version, parentVersion);
+    }
+
+    protected void incrementVersion() {
+        version = versionSequence.incrementAndGet();
     }
 
     @Override
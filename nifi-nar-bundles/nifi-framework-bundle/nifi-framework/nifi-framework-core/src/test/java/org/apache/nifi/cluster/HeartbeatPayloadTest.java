@@ -17,11 +17,22 @@
 package org.apache.nifi.cluster;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+import org.apache.nifi.cluster.coordination.node.DisconnectionCode;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
 import org.apache.nifi.cluster.protocol.HeartbeatPayload;
+import org.apache.nifi.cluster.protocol.NodeIdentifier;
 import org.apache.nifi.util.NiFiProperties;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -68,4 +79,124 @@ public class HeartbeatPayloadTest {
         assertEquals(activeThreadCount, newPayload.getActiveThreadCount());
         assertEquals(totalFlowFileCount, newPayload.getTotalFlowFileCount());
     }
+
+    @Test
+    public void testBinaryMarshalling() {
+        payload.setActiveThreadCount(activeThreadCount);
+        payload.setTotalFlowFileCount(totalFlowFileCount);
+        payload.setTotalFlowFileBytes(1024L);
+        payload.setSystemStartTime(12345L);
+        payload.setSequenceNumber(7L);
+        payload.setClusterStatus(createClusterStatus(3));
+
+        final byte[] binary = payload.marshalBinary();
+        assertTrue(HeartbeatPayload.isBinary(binary));
+        assertFalse(HeartbeatPayload.isBinary(payload.marshal()));
+        assertTrue(binary.length < payload.marshal().length);
+
+        final HeartbeatPayload newPayload = HeartbeatPayload.unmarshal(binary);
+        assertEquals(activeThreadCount, newPayload.getActiveThreadCount());
+        assertEquals(totalFlowFileCount, newPayload.getTotalFlowFileCount());
+        assertEquals(1024L, newPayload.getTotalFlowFileBytes());
+        assertEquals(12345L, newPayload.getSystemStartTime());
+        assertEquals(7L, newPayload.getSequenceNumber());
+        assertFalse(newPayload.isDelta());
+        assertStatusesEqual(payload.getClusterStatus(), newPayload.getClusterStatus());
+    }
+
+    @Test
+    public void testBinaryMarshallingWithNoInfo() {
+        final HeartbeatPayload newPayload = HeartbeatPayload.unmarshal(payload.marshalBinary());
+        assertEquals(0, newPayload.getActiveThreadCount());
+        assertEquals(0, newPayload.getTotalFlowFileCount());
+        assertNull(newPayload.getClusterStatus());
+    }
+
+    @Test
+    public void testDeltaContainsOnlyChangedStatuses() {
+        final List<NodeConnectionStatus> baseStatuses = createClusterStatus(4);
+        final HeartbeatPayload base = new HeartbeatPayload();
+        base.setSequenceNumber(1L);
+        base.setClusterStatus(baseStatuses);
+
+        // node 1 is disconnected, node 3 is removed and node 4 is added
+        final List<NodeConnectionStatus> currentStatuses = new ArrayList<>(baseStatuses);
+        currentStatuses.set(1, new NodeConnectionStatus(baseStatuses.get(1).getNodeIdentifier(), DisconnectionCode.LACK_OF_HEARTBEAT));
+        currentStatuses.remove(3);
+        currentStatuses.add(new NodeConnectionStatus(createNodeId(4), NodeConnectionState.CONNECTING));
+
+        payload.setActiveThreadCount(activeThreadCount);
+        payload.setSequenceNumber(2L);
+        payload.setClusterStatus(currentStatuses);
+
+        final HeartbeatPayload delta = HeartbeatPayload.unmarshal(payload.createDelta(base).marshalBinary());
+        assertTrue(delta.isDelta());
+        assertEquals(Long.valueOf(1L), delta.getBaseSequenceNumber());
+        assertEquals(2L, delta.getSequenceNumber());
+        assertEquals(activeThreadCount, delta.getActiveThreadCount());
+        assertStatusesEqual(Arrays.asList(currentStatuses.get(1), currentStatuses.get(3)), delta.getClusterStatus());
+        assertEquals(Collections.singletonList("node-3"), delta.getRemovedNodeIds());
+
+        final HeartbeatPayload applied = base.applyDelta(delta);
+        assertFalse(applied.isDelta());
+        assertEquals(2L, applied.getSequenceNumber());
+        assertEquals(activeThreadCount, applied.getActiveThreadCount());
+        assertStatusesEqual(currentStatuses, applied.getClusterStatus());
+    }
+
+    @Test
+    public void testUnchangedDeltaIsSmall() {
+        final HeartbeatPayload base = new HeartbeatPayload();
+        base.setSequenceNumber(1L);
+        base.setClusterStatus(createClusterStatus(10));
+
+        payload.setSequenceNumber(2L);
+        payload.setClusterStatus(base.getClusterStatus());
+
+        final HeartbeatPayload delta = payload.createDelta(base);
+        assertTrue(delta.getClusterStatus().isEmpty());
+        assertTrue(delta.getRemovedNodeIds().isEmpty());
+        assertTrue(delta.marshalBinary().length < payload.marshalBinary().length / 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testApplyDeltaToWrongBase() {
+        final HeartbeatPayload base = new HeartbeatPayload();
+        base.setSequenceNumber(1L);
+        base.setClusterStatus(createClusterStatus(2));
+
+        payload.setSequenceNumber(3L);
+        payload.setClusterStatus(base.getClusterStatus());
+        final HeartbeatPayload delta = payload.createDelta(base);
+
+        final HeartbeatPayload otherBase = new HeartbeatPayload();
+        otherBase.setSequenceNumber(2L);
+        otherBase.applyDelta(delta);
+    }
+
+    private static NodeIdentifier createNodeId(final int index) {
+        return new NodeIdentifier("node-" + index, "localhost", 8000 + index, "localhost", 9000 + index, "localhost", 10000 + index,
+            "localhost", 11000 + index, null, false, Collections.singleton("CN=node-" + index));
+    }
+
+    private static List<NodeConnectionStatus> createClusterStatus(final int nodeCount) {
+        final List<NodeConnectionStatus> statuses = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            statuses.add(new NodeConnectionStatus(createNodeId(i), NodeConnectionState.CONNECTED));
+        }
+        return statuses;
+    }
+
+    private static void assertStatusesEqual(final List<NodeConnectionStatus> expected, final List<NodeConnectionStatus> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final NodeConnectionStatus expectedStatus = expected.get(i);
+            final NodeConnectionStatus actualStatus = actual.get(i);
+            assertEquals(expectedStatus, actualStatus);
+            assertEquals(expectedStatus.getUpdateIdentifier(), actualStatus.getUpdateIdentifier());
+            assertEquals(expectedStatus.getDisconnectCode(), actualStatus.getDisconnectCode());
+            assertEquals(expectedStatus.getReason(), actualStatus.getReason());
+            assertEquals(expectedStatus.getNodeIdentifier().getFullDescription(), actualStatus.getNodeIdentifier().getFullDescription());
+        }
+    }
 }
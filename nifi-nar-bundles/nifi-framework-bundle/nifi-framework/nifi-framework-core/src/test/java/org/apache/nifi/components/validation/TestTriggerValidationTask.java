@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.components.validation;
+
+import org.apache.nifi.controller.ComponentNode;
+import org.apache.nifi.controller.ProcessorNode;
+import org.apache.nifi.controller.flow.FlowManager;
+import org.apache.nifi.controller.service.ControllerServiceNode;
+import org.apache.nifi.groups.ProcessGroup;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestTriggerValidationTask {
+
+    @Test
+    public void testServicesOrderedByDependencies() {
+        final ControllerServiceNode standalone = createService("standalone");
+        final ControllerServiceNode base = createService("base");
+        final ControllerServiceNode middle = createService("middle", base);
+        final ControllerServiceNode top = createService("top", middle, base);
+
+        final List<List<ControllerServiceNode>> levels = TriggerValidationTask.orderByDependencies(Arrays.asList(top, middle, standalone, base));
+
+        assertEquals(3, levels.size());
+        assertEquals(new HashSet<>(Arrays.asList(standalone, base)), new HashSet<>(levels.get(0)));
+        assertEquals(Collections.singletonList(middle), levels.get(1));
+        assertEquals(Collections.singletonList(top), levels.get(2));
+    }
+
+    @Test
+    public void testServicesInCycleAreOrdered() {
+        final ControllerServiceNode first = createService("first");
+        final ControllerServiceNode second = createService("second", first);
+        when(first.getRequiredControllerServices()).thenReturn(Collections.singletonList(second));
+
+        final List<List<ControllerServiceNode>> levels = TriggerValidationTask.orderByDependencies(Arrays.asList(first, second));
+
+        int orderedCount = 0;
+        for (final List<ControllerServiceNode> level : levels) {
+            orderedCount += level.size();
+        }
+        assertEquals(2, orderedCount);
+    }
+
+    @Test
+    public void testParallelValidationValidatesServicesFirst() {
+        final ControllerServiceNode base = createService("base");
+        final ControllerServiceNode dependent = createService("dependent", base);
+        final ProcessorNode processor = mock(ProcessorNode.class);
+
+        final ProcessGroup rootGroup = mock(ProcessGroup.class);
+        when(rootGroup.findAllProcessors()).thenReturn(Collections.singletonList(processor));
+
+        final FlowManager flowManager = mock(FlowManager.class);
+        when(flowManager.getAllControllerServices()).thenReturn(new HashSet<>(Arrays.asList(dependent, base)));
+        when(flowManager.getAllReportingTasks()).thenReturn(Collections.emptySet());
+        when(flowManager.getRootGroup()).thenReturn(rootGroup);
+
+        final List<ComponentNode> validated = Collections.synchronizedList(new ArrayList<>());
+        final ValidationTrigger trigger = new ValidationTrigger() {
+            @Override
+            public void triggerAsync(final ComponentNode component) {
+                validated.add(component);
+            }
+
+            @Override
+            public void trigger(final ComponentNode component) {
+                validated.add(component);
+            }
+        };
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new TriggerValidationTask(flowManager, trigger, executor).run();
+        } finally {
+            executor.shutdown();
+        }
+
+        // the task must not complete until all components have been validated
+        assertEquals(Arrays.asList(base, dependent, processor), validated);
+    }
+
+    private ControllerServiceNode createService(final String id, final ControllerServiceNode... requiredServices) {
+        final ControllerServiceNode service = mock(ControllerServiceNode.class);
+        when(service.getIdentifier()).thenReturn(id);
+        when(service.getRequiredControllerServices()).thenReturn(Arrays.asList(requiredServices));
+        return service;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.controller.queue.clustered.partition;
+
+import org.apache.nifi.controller.MockFlowFileRecord;
+import org.apache.nifi.controller.queue.QueueSize;
+import org.apache.nifi.controller.repository.FlowFileRecord;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestLoadAwarePartitioner {
+
+    @Test
+    public void testEvenDistributionWhenQueuesEmpty() {
+        final long[] backlog = new long[4];
+        final QueuePartition[] partitions = createPartitions(backlog);
+        final FlowFilePartitioner partitioner = new LoadAwarePartitioner(null, LoadAwarePartitioner.DEFAULT_LOAD_FACTOR, 0L);
+
+        final Map<QueuePartition, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 400; i++) {
+            counts.merge(partitioner.getPartition(new MockFlowFileRecord(), partitions, partitions[0]), 1, Integer::sum);
+        }
+
+        for (final QueuePartition partition : partitions) {
+            assertEquals(100, counts.get(partition).intValue());
+        }
+    }
+
+    @Test
+    public void testBackloggedPartitionReceivesSmallerShare() {
+        final long[] backlog = new long[] {0L, 0L, 0L, 20_000L};
+        final QueuePartition[] partitions = createPartitions(backlog);
+        final FlowFilePartitioner partitioner = new LoadAwarePartitioner(null, LoadAwarePartitioner.DEFAULT_LOAD_FACTOR, 0L);
+
+        int backloggedCount = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (partitioner.getPartition(new MockFlowFileRecord(), partitions, partitions[0]) == partitions[3]) {
+                backloggedCount++;
+            }
+        }
+
+        assertTrue("Backlogged partition received " + backloggedCount + " FlowFiles", backloggedCount < 100);
+    }
+
+    @Test
+    public void testSameAttributeValueSentToSamePartitionWhenBalanced() {
+        final long[] backlog = new long[] {10L, 20L, 30L, 40L};
+        final QueuePartition[] partitions = createPartitions(backlog);
+        final FlowFilePartitioner partitioner = new LoadAwarePartitioner("group");
+
+        final QueuePartition first = partitioner.getPartition(createFlowFile("abc"), partitions, partitions[0]);
+        for (int i = 0; i < 100; i++) {
+            assertSame(first, partitioner.getPartition(createFlowFile("abc"), partitions, partitions[0]));
+        }
+    }
+
+    @Test
+    public void testAttributeValueOverflowsWhenPartitionOverloaded() {
+        final long[] backlog = new long[4];
+        final QueuePartition[] partitions = createPartitions(backlog);
+        final FlowFilePartitioner partitioner = new LoadAwarePartitioner("group", LoadAwarePartitioner.DEFAULT_LOAD_FACTOR, 0L);
+
+        final QueuePartition preferred = partitioner.getPartition(createFlowFile("abc"), partitions, partitions[0]);
+        for (int i = 0; i < partitions.length; i++) {
+            if (partitions[i] == preferred) {
+                backlog[i] = 50_000L;
+            }
+        }
+
+        assertNotSame(preferred, partitioner.getPartition(createFlowFile("abc"), partitions, partitions[0]));
+    }
+
+    /**
+     * Simulates a cluster in which one node drains its queue at a fraction of the rate of its peers and compares the worst-case
+     * time that a FlowFile would wait in queue when distributed round robin vs. when distributed by the LoadAwarePartitioner.
+     */
+    @Test
+    public void testSimulatedHeterogeneousClusterHasLowerTailLatency() {
+        final long[] drainRates = new long[] {100L, 100L, 100L, 20L};
+        final int arrivalsPerTick = 300;
+        final int ticks = 300;
+
+        final double roundRobinWait = simulate(new RoundRobinPartitioner(), drainRates, arrivalsPerTick, ticks);
+        final double loadAwareWait = simulate(new LoadAwarePartitioner(null, LoadAwarePartitioner.DEFAULT_LOAD_FACTOR, 0L), drainRates, arrivalsPerTick, ticks);
+
+        assertTrue("Expected Load-Aware max wait of " + loadAwareWait + " ticks to be less than half of Round Robin max wait of " + roundRobinWait + " ticks",
+            loadAwareWait < roundRobinWait / 2);
+    }
+
+    private double simulate(final FlowFilePartitioner partitioner, final long[] drainRates, final int arrivalsPerTick, final int ticks) {
+        final long[] backlog = new long[drainRates.length];
+        final QueuePartition[] partitions = createPartitions(backlog);
+
+        double maxWait = 0D;
+        for (int tick = 0; tick < ticks; tick++) {
+            for (int i = 0; i < arrivalsPerTick; i++) {
+                final QueuePartition partition = partitioner.getPartition(new MockFlowFileRecord(), partitions, partitions[0]);
+                for (int p = 0; p < partitions.length; p++) {
+                    if (partitions[p] == partition) {
+                        backlog[p]++;
+                    }
+                }
+            }
+
+            for (int p = 0; p < partitions.length; p++) {
+                backlog[p] = Math.max(0L, backlog[p] - drainRates[p]);
+                maxWait = Math.max(maxWait, (double) backlog[p] / drainRates[p]);
+            }
+        }
+
+        return maxWait;
+    }
+
+    private FlowFileRecord createFlowFile(final String group) {
+        return new MockFlowFileRecord(new HashMap<>(Collections.singletonMap("group", group)), 0L);
+    }
+
+    private QueuePartition[] createPartitions(final long[] backlog) {
+        final QueuePartition[] partitions = new QueuePartition[backlog.length];
+        for (int i = 0; i < backlog.length; i++) {
+            final int index = i;
+            final QueuePartition partition = mock(QueuePartition.class);
+            when(partition.size()).thenAnswer(invocation -> new QueueSize((int) backlog[index], backlog[index]));
+            when(partition.getSwapPartitionName()).thenReturn("partition-" + i);
+            partitions[i] = partition;
+        }
+
+        return partitions;
+    }
+}
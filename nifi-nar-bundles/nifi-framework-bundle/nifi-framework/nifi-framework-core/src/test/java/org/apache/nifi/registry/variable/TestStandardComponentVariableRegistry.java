@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.registry.variable;
+
+import org.apache.nifi.registry.VariableDescriptor;
+import org.apache.nifi.registry.VariableRegistry;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class TestStandardComponentVariableRegistry {
+
+    @Test
+    public void testVersionChangesWithAncestorVariables() {
+        final MutableVariableRegistry rootRegistry = new MutableVariableRegistry(VariableRegistry.EMPTY_REGISTRY);
+        final MutableVariableRegistry childRegistry = new MutableVariableRegistry(rootRegistry);
+        final StandardComponentVariableRegistry componentRegistry = new StandardComponentVariableRegistry(childRegistry);
+
+        final long initialVersion = componentRegistry.getVersion();
+        assertEquals(initialVersion, componentRegistry.getVersion());
+
+        rootRegistry.setVariables(Collections.singletonMap(new VariableDescriptor("a"), "1"));
+        final long rootUpdatedVersion = componentRegistry.getVersion();
+        assertNotEquals(initialVersion, rootUpdatedVersion);
+
+        childRegistry.setVariables(Collections.singletonMap(new VariableDescriptor("b"), "2"));
+        final long childUpdatedVersion = componentRegistry.getVersion();
+        assertNotEquals(rootUpdatedVersion, childUpdatedVersion);
+
+        // updating the root again must change the version even though the child was updated more recently
+        rootRegistry.setVariables(Collections.singletonMap(new VariableDescriptor("a"), "3"));
+        assertNotEquals(childUpdatedVersion, componentRegistry.getVersion());
+    }
+
+    @Test
+    public void testVersionChangesWithParent() {
+        final MutableVariableRegistry firstGroupRegistry = new MutableVariableRegistry(VariableRegistry.EMPTY_REGISTRY);
+        final MutableVariableRegistry secondGroupRegistry = new MutableVariableRegistry(VariableRegistry.EMPTY_REGISTRY);
+        final StandardComponentVariableRegistry componentRegistry = new StandardComponentVariableRegistry(firstGroupRegistry);
+
+        final long version = componentRegistry.getVersion();
+        componentRegistry.setParent(secondGroupRegistry);
+        assertNotEquals(version, componentRegistry.getVersion());
+    }
+}
@@ -37,6 +37,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -211,27 +213,27 @@ public final class NarClassLoaders {
                 throw new IllegalStateException("Unable to locate Jetty bundle.");
             }
 
+            final long classLoaderStartTime = System.nanoTime();
             int narCount;
             do {
                 // record the number of nars to be loaded
                 narCount = narDetails.size();
 
-                // attempt to create each nar class loader
-                for (final Iterator<BundleDetails> narDetailsIter = narDetails.iterator(); narDetailsIter.hasNext();) {
-                    final BundleDetails narDetail = narDetailsIter.next();
+                // determine the nars whose dependencies have already been loaded, along with the class loader of that dependency
+                final Map<BundleDetails, ClassLoader> eligibleNarParentClassLoaders = new LinkedHashMap<>();
+                for (final BundleDetails narDetail : narDetails) {
                     final BundleCoordinate narDependencyCoordinate = narDetail.getDependencyCoordinate();
 
                     // see if this class loader is eligible for loading
-                    ClassLoader narClassLoader = null;
+                    ClassLoader parentClassLoader = null;
                     if (narDependencyCoordinate == null) {
-                        narClassLoader = createNarClassLoader(narDetail.getWorkingDirectory(), jettyClassLoader);
+                        parentClassLoader = jettyClassLoader;
                     } else {
                         final String dependencyCoordinateStr = narDependencyCoordinate.getCoordinate();
 
                         // if the declared dependency has already been loaded
                         if (narCoordinateClassLoaderLookup.containsKey(dependencyCoordinateStr)) {
-                            final ClassLoader narDependencyClassLoader = narCoordinateClassLoaderLookup.get(dependencyCoordinateStr);
-                            narClassLoader = createNarClassLoader(narDetail.getWorkingDirectory(), narDependencyClassLoader);
+                            parentClassLoader = narCoordinateClassLoaderLookup.get(dependencyCoordinateStr);
                         } else {
                             // get all bundles that match the declared dependency id
                             final Set<BundleCoordinate> coordinates = narIdBundleLookup.get(narDependencyCoordinate.getId());
@@ -248,26 +250,40 @@ public final class NarClassLoaders {
                                         logger.warn(String.format("While loading '%s' unable to locate exact NAR dependency '%s'. Only found one possible match '%s'. Continuing...",
                                                 narDetail.getCoordinate().getCoordinate(), dependencyCoordinateStr, coordinate.getCoordinate()));
 
-                                        final ClassLoader narDependencyClassLoader = narCoordinateClassLoaderLookup.get(coordinate.getCoordinate());
-                                        narClassLoader = createNarClassLoader(narDetail.getWorkingDirectory(), narDependencyClassLoader);
+                                        parentClassLoader = narCoordinateClassLoaderLookup.get(coordinate.getCoordinate());
                                     }
                                 }
                             }
                         }
                     }
 
-                    // if we were able to create the nar class loader, store it and remove the details
-                    final ClassLoader bundleClassLoader = narClassLoader;
-                    if (bundleClassLoader != null) {
-                        narDirectoryBundleLookup.put(narDetail.getWorkingDirectory().getCanonicalPath(), new Bundle(narDetail, bundleClassLoader));
-                        narCoordinateClassLoaderLookup.put(narDetail.getCoordinate().getCoordinate(), narClassLoader);
-                        narDetailsIter.remove();
+                    if (parentClassLoader != null) {
+                        eligibleNarParentClassLoaders.put(narDetail, parentClassLoader);
                     }
                 }
 
+                // the eligible nars do not depend on one another, so their class loaders are created concurrently
+                final Map<BundleDetails, Callable<ClassLoader>> classLoaderTasks = new LinkedHashMap<>();
+                for (final Map.Entry<BundleDetails, ClassLoader> entry : eligibleNarParentClassLoaders.entrySet()) {
+                    final File narWorkingDirectory = entry.getKey().getWorkingDirectory();
+                    final ClassLoader parentClassLoader = entry.getValue();
+                    classLoaderTasks.put(entry.getKey(), () -> createNarClassLoader(narWorkingDirectory, parentClassLoader));
+                }
+
+                // store each nar class loader that was created and remove the details
+                for (final Map.Entry<BundleDetails, ClassLoader> entry : ParallelNarTasks.invokeAll("Create NAR ClassLoader", classLoaderTasks).entrySet()) {
+                    final BundleDetails narDetail = entry.getKey();
+                    final ClassLoader narClassLoader = entry.getValue();
+                    narDirectoryBundleLookup.put(narDetail.getWorkingDirectory().getCanonicalPath(), new Bundle(narDetail, narClassLoader));
+                    narCoordinateClassLoaderLookup.put(narDetail.getCoordinate().getCoordinate(), narClassLoader);
+                    narDetails.remove(narDetail);
+                }
+
                 // attempt to load more if some were successfully loaded this iteration
             } while (narCount != narDetails.size());
 
+            logger.info("Creating class loaders for {} NAR files took {} millis", narDirectoryBundleLookup.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - classLoaderStartTime));
+
             // see if any nars couldn't be loaded
             for (final BundleDetails narDetail : narDetails) {
                 logger.warn(String.format("Unable to resolve required dependency '%s'. Skipping NAR '%s'",
@@ -44,9 +44,11 @@ import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
@@ -103,36 +105,51 @@ public final class NarUnpacker {
             if (!narFiles.isEmpty()) {
                 final long startTime = System.nanoTime();
                 logger.info("Expanding " + narFiles.size() + " NAR files with all processors...");
-                for (File narFile : narFiles) {
-                    logger.debug("Expanding NAR file: " + narFile.getAbsolutePath());
 
+                // determine the directory that each nar is to be unpacked into
+                File frameworkNar = null;
+                File jettyNar = null;
+                final Map<File, Callable<File>> unpackTasks = new LinkedHashMap<>();
+                for (File narFile : narFiles) {
                     // get the manifest for this nar
                     try (final JarFile nar = new JarFile(narFile)) {
                         BundleCoordinate bundleCoordinate = createBundleCoordinate(nar.getManifest());
                         // determine if this is the framework
                         if (NarClassLoaders.FRAMEWORK_NAR_ID.equals(bundleCoordinate.getId())) {
-                            if (unpackedFramework != null) {
+                            if (frameworkNar != null) {
                                 throw new IllegalStateException("Multiple framework NARs discovered. Only one framework is permitted.");
                             }
 
-                            // unpack the framework nar
-                            unpackedFramework = unpackNar(narFile, frameworkWorkingDir);
+                            frameworkNar = narFile;
+                            unpackTasks.put(narFile, createUnpackTask(narFile, frameworkWorkingDir));
                         } else if (NarClassLoaders.JETTY_NAR_ID.equals(bundleCoordinate.getId())) {
-                            if (unpackedJetty != null) {
+                            if (jettyNar != null) {
                                 throw new IllegalStateException("Multiple Jetty NARs discovered. Only one Jetty NAR is permitted.");
                             }
 
-                            // unpack and record the Jetty nar
-                            unpackedJetty = unpackNar(narFile, extensionsWorkingDir);
-                            unpackedExtensions.add(unpackedJetty);
+                            jettyNar = narFile;
+                            unpackTasks.put(narFile, createUnpackTask(narFile, extensionsWorkingDir));
                         } else {
-                            // unpack and record the extension nar
-                            final File unpackedExtension = unpackNar(narFile, extensionsWorkingDir);
-                            unpackedExtensions.add(unpackedExtension);
+                            unpackTasks.put(narFile, createUnpackTask(narFile, extensionsWorkingDir));
                         }
                     }
                 }
 
+                // unpack the nars concurrently, as each is unpacked into its own directory
+                final Map<File, File> unpackedNarDirectories = ParallelNarTasks.invokeAll("Expand NAR", unpackTasks);
+                for (final Map.Entry<File, File> entry : unpackedNarDirectories.entrySet()) {
+                    if (entry.getKey().equals(frameworkNar)) {
+                        unpackedFramework = entry.getValue();
+                    } else {
+                        // record the extension nar, including the Jetty nar
+                        unpackedExtensions.add(entry.getValue());
+                    }
+                }
+
+                if (jettyNar != null) {
+                    unpackedJetty = unpackedNarDirectories.get(jettyNar);
+                }
+
                 // ensure we've found the framework nar
                 if (unpackedFramework == null) {
                     throw new IllegalStateException("No framework NAR found.");
@@ -173,6 +190,8 @@ public final class NarUnpacker {
                         + "(" + (int) TimeUnit.SECONDS.convert(duration, TimeUnit.NANOSECONDS) + " seconds).");
             }
 
+            final long docsStartTime = System.nanoTime();
+
             // attempt to delete any docs files that exist so that any components that have been removed
             // will no longer have entries in the docs folder
             final File[] docsFiles = docsWorkingDir.listFiles();
@@ -189,6 +208,7 @@ public final class NarUnpacker {
             // unpack docs for the system bundle which will catch any JARs directly in the lib directory that might have docs
             unpackBundleDocs(docsWorkingDir, extensionMapping, systemBundle.getBundleDetails().getCoordinate(), systemBundle.getBundleDetails().getWorkingDirectory());
 
+            logger.info("Expanding component documentation for {} NAR files took {} millis", unpackedNars.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - docsStartTime));
             return extensionMapping;
         } catch (IOException e) {
             logger.warn("Unable to load NAR library bundles due to " + e + " Will proceed without loading any further Nar bundles");
@@ -231,16 +251,32 @@ public final class NarUnpacker {
     }
 
     private static void mapExtensions(final Map<File, BundleCoordinate> unpackedNars, final File docsDirectory, final ExtensionMapping mapping) throws IOException {
+        // the docs of each bundle are written to a directory specific to its coordinate, so the bundles are mapped concurrently
+        final Map<File, Callable<ExtensionMapping>> mappingTasks = new LinkedHashMap<>();
         for (final Map.Entry<File, BundleCoordinate> entry : unpackedNars.entrySet()) {
             final File unpackedNar = entry.getKey();
             final BundleCoordinate bundleCoordinate = entry.getValue();
 
-            final File bundledDependencies = new File(unpackedNar, BUNDLED_DEPENDENCIES_DIRECTORY);
+            mappingTasks.put(unpackedNar, () -> {
+                final ExtensionMapping bundleMapping = new ExtensionMapping();
+                final File bundledDependencies = new File(unpackedNar, BUNDLED_DEPENDENCIES_DIRECTORY);
+                unpackBundleDocs(docsDirectory, bundleMapping, bundleCoordinate, bundledDependencies);
+                return bundleMapping;
+            });
+        }
 
-            unpackBundleDocs(docsDirectory, mapping, bundleCoordinate, bundledDependencies);
+        for (final ExtensionMapping bundleMapping : ParallelNarTasks.invokeAll("Expand NAR Documentation", mappingTasks).values()) {
+            mapping.merge(bundleMapping);
         }
     }
 
+    private static Callable<File> createUnpackTask(final File nar, final File baseWorkingDirectory) {
+        return () -> {
+            logger.debug("Expanding NAR file: " + nar.getAbsolutePath());
+            return unpackNar(nar, baseWorkingDirectory);
+        };
+    }
+
     public static void mapExtension(final File unpackedNar, final BundleCoordinate bundleCoordinate, final File docsDirectory, final ExtensionMapping mapping) throws IOException {
         final File bundledDependencies = new File(unpackedNar, BUNDLED_DEPENDENCIES_DIRECTORY);
         unpackBundleDocs(docsDirectory, mapping, bundleCoordinate, bundledDependencies);
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.nar;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs independent tasks that are performed when loading NARs, such as unpacking a NAR or creating its class loader, using
+ * a thread per available processor.
+ */
+final class ParallelNarTasks {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelNarTasks.class);
+    private static final long TERMINATION_TIMEOUT_SECONDS = 60L;
+
+    private ParallelNarTasks() {
+    }
+
+    /**
+     * Runs all of the given tasks concurrently and waits for them to complete. If any task fails, the remaining tasks are
+     * interrupted, and this method waits for them to stop before throwing, so that no task is still operating on the NARs
+     * when the caller handles the failure.
+     *
+     * @param threadName the name to give the threads that run the tasks
+     * @param tasks the tasks to run, keyed by what they operate on
+     * @param <K> the type of key
+     * @param <V> the type of the result of each task
+     * @return the result of each task, keyed and ordered as the given tasks
+     * @throws IOException if any task fails with an IOException or a checked exception other than an IOException
+     */
+    static <K, V> Map<K, V> invokeAll(final String threadName, final Map<K, Callable<V>> tasks) throws IOException {
+        final Map<K, V> results = new LinkedHashMap<>();
+        if (tasks.isEmpty()) {
+            return results;
+        }
+
+        final int threadCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), tasks.size()));
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+            private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+            private final AtomicInteger threadCounter = new AtomicInteger(0);
+
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = defaultFactory.newThread(r);
+                t.setDaemon(true);
+                t.setName(threadName + " " + threadCounter.incrementAndGet());
+                return t;
+            }
+        });
+
+        try {
+            final Map<K, Future<V>> futures = new LinkedHashMap<>();
+            for (final Map.Entry<K, Callable<V>> entry : tasks.entrySet()) {
+                futures.put(entry.getKey(), executor.submit(entry.getValue()));
+            }
+
+            for (final Map.Entry<K, Future<V>> entry : futures.entrySet()) {
+                results.put(entry.getKey(), getResult(entry.getValue()));
+            }
+
+            return results;
+        } finally {
+            executor.shutdownNow();
+            awaitTermination(threadName, executor);
+        }
+    }
+
+    private static void awaitTermination(final String threadName, final ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("{} tasks did not stop within {} seconds of being interrupted", threadName, TERMINATION_TIMEOUT_SECONDS);
+            }
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <V> V getResult(final Future<V> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for task to complete", ie);
+        } catch (final ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.nar;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ParallelNarTasksTest {
+
+    @Test
+    public void testResultsOrderedAsTasks() throws IOException {
+        final Map<String, Callable<Integer>> tasks = new LinkedHashMap<>();
+        for (int i = 0; i < 8; i++) {
+            final int value = i;
+            // Later tasks complete first
+            tasks.put("task-" + i, () -> {
+                Thread.sleep((8 - value) * 10L);
+                return value;
+            });
+        }
+
+        final Map<String, Integer> results = ParallelNarTasks.invokeAll("Test Task", tasks);
+        assertEquals(new ArrayList<>(tasks.keySet()), new ArrayList<>(results.keySet()));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7), new ArrayList<>(results.values()));
+    }
+
+    @Test
+    public void testRemainingTasksStoppedOnFailure() throws InterruptedException {
+        final IOException failure = new IOException("Intentional failure");
+        final CountDownLatch neverReleased = new CountDownLatch(1);
+        final AtomicInteger runningTasks = new AtomicInteger(0);
+
+        final Map<String, Callable<String>> tasks = new LinkedHashMap<>();
+        tasks.put("failing", () -> {
+            throw failure;
+        });
+        for (int i = 0; i < 4; i++) {
+            tasks.put("blocking-" + i, () -> {
+                runningTasks.incrementAndGet();
+                try {
+                    neverReleased.await();
+                    return "released";
+                } catch (final InterruptedException ie) {
+                    // Take a while to clean up after being interrupted, as a task that is writing files would
+                    Thread.sleep(200L);
+                    throw ie;
+                } finally {
+                    runningTasks.decrementAndGet();
+                }
+            });
+        }
+
+        try {
+            ParallelNarTasks.invokeAll("Test Task", tasks);
+            fail("Expected the failure of a task to be rethrown");
+        } catch (final IOException e) {
+            assertSame(failure, e);
+        }
+
+        assertEquals(0, runningTasks.get());
+    }
+
+    @Test
+    public void testCheckedExceptionWrapped() {
+        final Exception failure = new Exception("Intentional failure");
+        final Map<String, Callable<String>> tasks = new LinkedHashMap<>();
+        tasks.put("failing", () -> {
+            throw failure;
+        });
+
+        try {
+            ParallelNarTasks.invokeAll("Test Task", tasks);
+            fail("Expected the failure of a task to be rethrown");
+        } catch (final IOException e) {
+            assertSame(failure, e.getCause());
+        }
+    }
+}
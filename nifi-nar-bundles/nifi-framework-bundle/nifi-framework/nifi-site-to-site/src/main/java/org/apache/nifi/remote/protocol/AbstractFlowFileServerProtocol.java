@@ -206,6 +206,14 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
 
     abstract protected HandshakeProperties doHandshake(final Peer peer) throws IOException, HandshakeException;
 
+    /**
+     * @return <code>true</code> if the sending side of a transaction includes its checksum along with the indicator that it has finished
+     * sending data, so that the receiving side is able to verify the checksum without an additional round trip
+     */
+    protected boolean isChecksumSentWithFinish() {
+        return false;
+    }
+
     @Override
     public int transferFlowFiles(final Peer peer, final ProcessContext context, final ProcessSession session, final FlowFileCodec codec) throws IOException, ProtocolException {
         if (!handshakeCompleted) {
@@ -216,6 +224,7 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
         }
 
         logger.debug("{} Sending FlowFiles to {}", this, peer);
+        codec.startTransaction();
         final CommunicationsSession commsSession = peer.getCommunicationsSession();
         String remoteDn = commsSession.getUserDn();
         if (remoteDn == null) {
@@ -310,9 +319,14 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
                 logger.debug("{} Sending ContinueTransaction indicator to {}", this, peer);
                 writeTransactionResponse(true, ResponseCode.CONTINUE_TRANSACTION, commsSession);
             } else {
-                logger.debug("{} Sending FinishTransaction indicator to {}", this, peer);
-                writeTransactionResponse(true, ResponseCode.FINISH_TRANSACTION, commsSession);
                 calculatedCRC = String.valueOf(checkedOutputStream.getChecksum().getValue());
+                if (isChecksumSentWithFinish()) {
+                    logger.debug("{} Sending FinishTransactionWithChecksum indicator to {}", this, peer);
+                    writeTransactionResponse(true, ResponseCode.FINISH_TRANSACTION_WITH_CHECKSUM, commsSession, calculatedCRC);
+                } else {
+                    logger.debug("{} Sending FinishTransaction indicator to {}", this, peer);
+                    writeTransactionResponse(true, ResponseCode.FINISH_TRANSACTION, commsSession);
+                }
             }
         }
 
@@ -329,29 +343,13 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
         ProcessSession session = transaction.getSession();
         Set<FlowFile> flowFilesSent = transaction.getFlowFilesSent();
 
-        // we've sent a FINISH_TRANSACTION. Now we'll wait for the peer to send a 'Confirm Transaction' response
+        // we've sent a FINISH_TRANSACTION. Now we'll wait for the peer to send a 'Confirm Transaction' response,
+        // unless the checksum was sent along with it, in which case the peer verifies it and goes straight to 'Transaction Finished'
         CommunicationsSession commsSession = peer.getCommunicationsSession();
-        final Response transactionConfirmationResponse = readTransactionResponse(true, commsSession);
-        if (transactionConfirmationResponse.getCode() == ResponseCode.CONFIRM_TRANSACTION) {
-            // Confirm Checksum and echo back the confirmation.
-            logger.debug("{} Received {}  from {}", this, transactionConfirmationResponse, peer);
-            final String receivedCRC = transactionConfirmationResponse.getMessage();
-
-            if (getVersionNegotiator().getVersion() > 3) {
-                String calculatedCRC = transaction.getCalculatedCRC();
-                if (!receivedCRC.equals(calculatedCRC)) {
-                    writeTransactionResponse(true, ResponseCode.BAD_CHECKSUM, commsSession);
-                    session.rollback();
-                    throw new IOException(this + " Sent data to peer " + peer + " but calculated CRC32 Checksum as "
-                            + calculatedCRC + " while peer calculated CRC32 Checksum as " + receivedCRC
-                            + "; canceling transaction and rolling back session");
-                }
-            }
-
-            writeTransactionResponse(true, ResponseCode.CONFIRM_TRANSACTION, commsSession, "");
-
+        if (isChecksumSentWithFinish()) {
+            logger.debug("{} Sent checksum with FinishTransaction indicator to {}; not waiting for confirmation", this, peer);
         } else {
-            throw new ProtocolException("Expected to receive 'Confirm Transaction' response from peer " + peer + " but received " + transactionConfirmationResponse);
+            confirmTransferTransaction(peer, transaction);
         }
 
         final String flowFileDescription = flowFilesSent.size() < 20 ? flowFilesSent.toString() : flowFilesSent.size() + " FlowFiles";
@@ -371,6 +369,9 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
         logger.debug("{} received {} from {}", new Object[]{this, transactionResponse, peer});
         if (transactionResponse.getCode() == ResponseCode.TRANSACTION_FINISHED_BUT_DESTINATION_FULL) {
             peer.penalize(port.getIdentifier(), port.getYieldPeriod(TimeUnit.MILLISECONDS));
+        } else if (transactionResponse.getCode() == ResponseCode.BAD_CHECKSUM) {
+            session.rollback();
+            throw new IOException(this + " Received a BadChecksum response from peer " + peer);
         } else if (transactionResponse.getCode() != ResponseCode.TRANSACTION_FINISHED) {
             throw new ProtocolException("After sending data, expected TRANSACTION_FINISHED response but got " + transactionResponse);
         }
@@ -389,6 +390,33 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
         return flowFilesSent.size();
     }
 
+    private void confirmTransferTransaction(final Peer peer, final FlowFileTransaction transaction) throws IOException {
+        final ProcessSession session = transaction.getSession();
+        final CommunicationsSession commsSession = peer.getCommunicationsSession();
+        final Response transactionConfirmationResponse = readTransactionResponse(true, commsSession);
+        if (transactionConfirmationResponse.getCode() == ResponseCode.CONFIRM_TRANSACTION) {
+            // Confirm Checksum and echo back the confirmation.
+            logger.debug("{} Received {}  from {}", this, transactionConfirmationResponse, peer);
+            final String receivedCRC = transactionConfirmationResponse.getMessage();
+
+            if (getVersionNegotiator().getVersion() > 3) {
+                String calculatedCRC = transaction.getCalculatedCRC();
+                if (!receivedCRC.equals(calculatedCRC)) {
+                    writeTransactionResponse(true, ResponseCode.BAD_CHECKSUM, commsSession);
+                    session.rollback();
+                    throw new IOException(this + " Sent data to peer " + peer + " but calculated CRC32 Checksum as "
+                            + calculatedCRC + " while peer calculated CRC32 Checksum as " + receivedCRC
+                            + "; canceling transaction and rolling back session");
+                }
+            }
+
+            writeTransactionResponse(true, ResponseCode.CONFIRM_TRANSACTION, commsSession, "");
+
+        } else {
+            throw new ProtocolException("Expected to receive 'Confirm Transaction' response from peer " + peer + " but received " + transactionConfirmationResponse);
+        }
+    }
+
     protected Response readTransactionResponse(boolean isTransfer, CommunicationsSession commsSession) throws IOException {
         final DataInputStream dis = new DataInputStream(commsSession.getInput().getInputStream());
         return Response.read(dis);
@@ -417,6 +445,7 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
         }
 
         logger.debug("{} receiving FlowFiles from {}", this, peer);
+        codec.startTransaction();
 
         final CommunicationsSession commsSession = peer.getCommunicationsSession();
         final DataInputStream dis = new DataInputStream(commsSession.getInput().getInputStream());
@@ -433,6 +462,7 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
         // finished sending data.
         final Set<FlowFile> flowFilesReceived = new HashSet<>();
         long bytesReceived = 0L;
+        String senderCRC = null;
         boolean continueTransaction = true;
         while (continueTransaction) {
             final long startNanos = System.nanoTime();
@@ -488,6 +518,11 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
                     logger.debug("{} Received FinishTransaction indicator from {}", this, peer);
                     continueTransaction = false;
                     break;
+                case FINISH_TRANSACTION_WITH_CHECKSUM:
+                    logger.debug("{} Received FinishTransactionWithChecksum indicator from {}", this, peer);
+                    senderCRC = transactionResponse.getMessage();
+                    continueTransaction = false;
+                    break;
                 case CANCEL_TRANSACTION:
                     logger.info("{} Received CancelTransaction indicator from {} with explanation {}", this, peer, transactionResponse.getMessage());
                     session.rollback();
@@ -497,6 +532,21 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
             }
         }
 
+        final String calculatedCRC = String.valueOf(crc.getValue());
+        if (senderCRC != null) {
+            // The peer sent its checksum along with the FINISH_TRANSACTION indicator, so we can verify it ourselves and commit without
+            // an additional round trip. The peer does not consider the transaction complete until it receives TRANSACTION_FINISHED.
+            if (!senderCRC.equals(calculatedCRC)) {
+                writeTransactionResponse(false, ResponseCode.BAD_CHECKSUM, commsSession);
+                session.rollback();
+                throw new IOException(this + " Received data from peer " + peer + " and calculated CRC32 Checksum as "
+                        + calculatedCRC + " while peer calculated CRC32 Checksum as " + senderCRC + "; canceling transaction and rolling back session");
+            }
+
+            final FlowFileTransaction transaction = new FlowFileTransaction(session, context, stopWatch, bytesReceived, flowFilesReceived, calculatedCRC);
+            return completeReceiveTransaction(peer, transaction);
+        }
+
         // we received a FINISH_TRANSACTION indicator. Send back a CONFIRM_TRANSACTION message
         // to peer so that we can verify that the connection is still open. This is a two-phase commit,
         // which helps to prevent the chances of data duplication. Without doing this, we may commit the
@@ -505,7 +555,6 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
         // Critical Section involved in this transaction so that rather than the Critical Section being the
         // time window involved in the entire transaction, it is reduced to a simple round-trip conversation.
         logger.debug("{} Sending CONFIRM_TRANSACTION Response Code to {}", this, peer);
-        String calculatedCRC = String.valueOf(crc.getValue());
         writeTransactionResponse(false, ResponseCode.CONFIRM_TRANSACTION, commsSession, calculatedCRC);
 
         FlowFileTransaction transaction = new FlowFileTransaction(session, context, stopWatch, bytesReceived, flowFilesReceived, calculatedCRC);
@@ -528,6 +577,13 @@ public abstract class AbstractFlowFileServerProtocol implements ServerProtocol {
                 throw new ProtocolException(this + " Received unexpected Response Code from peer " + peer + " : " + confirmTransactionResponse + "; expected 'Confirm Transaction' Response Code");
         }
 
+        return completeReceiveTransaction(peer, transaction);
+    }
+
+    private int completeReceiveTransaction(final Peer peer, final FlowFileTransaction transaction) throws IOException {
+        final CommunicationsSession commsSession = peer.getCommunicationsSession();
+        final ProcessSession session = transaction.getSession();
+
         // Commit the session so that we have persisted the data
         session.commit();
 
@@ -49,7 +49,8 @@ public class SocketFlowFileServerProtocol extends AbstractFlowFileServerProtocol
     public static final String RESOURCE_NAME = "SocketFlowFileProtocol";
 
     // Version 6 added to support Zero-Master Clustering, which was introduced in NiFi 1.0.0
-    private final VersionNegotiator versionNegotiator = new StandardVersionNegotiator(6, 5, 4, 3, 2, 1);
+    // Version 7 added to allow the sender to include its checksum with the FINISH_TRANSACTION indicator, which removes a round trip per transaction
+    private final VersionNegotiator versionNegotiator = new StandardVersionNegotiator(7, 6, 5, 4, 3, 2, 1);
 
     private PeerDescriptionModifier peerDescriptionModifier;
 
@@ -233,6 +234,11 @@ public class SocketFlowFileServerProtocol extends AbstractFlowFileServerProtocol
         return versionNegotiator;
     }
 
+    @Override
+    protected boolean isChecksumSentWithFinish() {
+        return versionNegotiator.getVersion() >= 7;
+    }
+
     @Override
     protected String createTransitUri(Peer peer, String sourceFlowFileIdentifier) {
         String transitUriPrefix = handshakeProperties.getTransitUriPrefix();
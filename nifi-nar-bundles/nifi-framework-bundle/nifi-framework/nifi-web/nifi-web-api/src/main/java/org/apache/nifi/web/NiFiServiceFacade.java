@@ -970,6 +970,19 @@ public interface NiFiServiceFacade {
      */
     ProcessGroupFlowEntity getProcessGroupFlow(String groupId);
 
+    /**
+     * Returns a tag that identifies the current state of the flow of the specified group as seen by the current user. The tag
+     * changes whenever any component is modified, the status of the components is captured, the permissions of the current user
+     * for the group change, or the validation status or run state of the components in the group change. The tag is cheap to
+     * compute, so queued flowfiles, bulletins and the permissions of the child components are only reflected once the next status
+     * snapshot is captured. The result of {@link #getProcessGroupFlow(String)} may be reused for the current user for as long as
+     * the tag does not change.
+     *
+     * @param groupId group
+     * @return the flow state tag
+     */
+    String getFlowStateTag(String groupId);
+
     // ----------------------------------------
     // ProcessGroup methods
     // ----------------------------------------
@@ -17,6 +17,7 @@
 package org.apache.nifi.web;
 
 import com.google.common.collect.Sets;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.nifi.action.Action;
 import org.apache.nifi.action.Component;
@@ -4141,6 +4142,38 @@ public class StandardNiFiServiceFacade implements NiFiServiceFacade {
         return entityFactory.createProcessGroupFlowEntity(dtoFactory.createProcessGroupFlowDto(processGroup, groupStatus, revisionManager, this::getProcessGroupBulletins), permissions);
     }
 
+    @Override
+    public String getFlowStateTag(final String groupId) {
+        final NiFiUser user = NiFiUserUtils.getNiFiUser();
+        final ProcessGroup processGroup = processGroupDAO.getProcessGroup(groupId);
+
+        final Date lastStatusCaptureDate = controllerFacade.getLastStatusCaptureDate();
+        final long lastStatusCaptureTime = lastStatusCaptureDate == null ? 0L : lastStatusCaptureDate.getTime();
+
+        // The tag is computed for every request, including those answered with 'Not Modified', so it only considers what is cheap to
+        // obtain. Queued flowfiles, bulletins and the permissions of the child components are refreshed once the next status snapshot
+        // is captured. Validation and run state of the immediate children change without a revision update, so they are included.
+        final StringBuilder fingerprint = new StringBuilder(user == null ? "" : user.getIdentity())
+            .append(':').append(processGroup.isAuthorized(authorizer, RequestAction.READ, user))
+            .append(':').append(processGroup.isAuthorized(authorizer, RequestAction.WRITE, user));
+        for (final ProcessorNode processor : processGroup.getProcessors()) {
+            fingerprint.append('\n').append(processor.getIdentifier())
+                .append(':').append(processor.getValidationStatus())
+                .append(':').append(processor.getPhysicalScheduledState());
+        }
+        for (final Port port : processGroup.getInputPorts()) {
+            fingerprint.append('\n').append(port.getIdentifier()).append(':').append(port.isValid()).append(':').append(port.getScheduledState());
+        }
+        for (final Port port : processGroup.getOutputPorts()) {
+            fingerprint.append('\n').append(port.getIdentifier()).append(':').append(port.isValid()).append(':').append(port.getScheduledState());
+        }
+        for (final RemoteProcessGroup remoteProcessGroup : processGroup.getRemoteProcessGroups()) {
+            fingerprint.append('\n').append(remoteProcessGroup.getIdentifier()).append(':').append(remoteProcessGroup.isTransmitting());
+        }
+
+        return revisionManager.getModificationCount() + "-" + lastStatusCaptureTime + "-" + DigestUtils.sha256Hex(fingerprint.toString());
+    }
+
     @Override
     public ProcessGroupEntity getProcessGroup(final String groupId) {
         final ProcessGroup processGroup = processGroupDAO.getProcessGroup(groupId);
@@ -32,6 +32,7 @@ import org.apache.nifi.authorization.user.NiFiUserUtils;
 import org.apache.nifi.bundle.Bundle;
 import org.apache.nifi.bundle.BundleDetails;
 import org.apache.nifi.cluster.coordination.ClusterCoordinator;
+import org.apache.nifi.cluster.coordination.http.replication.RequestReplicator;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
 import org.apache.nifi.cluster.manager.NodeResponse;
 import org.apache.nifi.cluster.protocol.NodeIdentifier;
@@ -127,6 +128,8 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.text.Collator;
@@ -160,6 +163,7 @@ import static org.apache.nifi.web.api.entity.ScheduleComponentsEntity.STATE_ENAB
 public class FlowResource extends ApplicationResource {
 
     private static final String RECURSIVE = "false";
+    private static final int MAX_CACHED_PROCESS_GROUP_FLOWS = 32;
 
     private NiFiServiceFacade serviceFacade;
     private Authorizer authorizer;
@@ -176,6 +180,8 @@ public class FlowResource extends ApplicationResource {
     private ControllerServiceResource controllerServiceResource;
     private ReportingTaskResource reportingTaskResource;
 
+    private final ProcessGroupFlowCache processGroupFlowCache = new ProcessGroupFlowCache(MAX_CACHED_PROCESS_GROUP_FLOWS);
+
     public FlowResource() {
         super();
     }
@@ -375,10 +381,55 @@ public class FlowResource extends ApplicationResource {
             return replicate(HttpMethod.GET);
         }
 
+        // obtain the flow state before building the flow so that a flow built while the flow is being modified is never cached as current
+        final String flowStateTag = serviceFacade.getFlowStateTag(groupId);
+        final String cacheKey = ProcessGroupFlowCache.createKey(generateResourceUri("flow", "process-groups", groupId), NiFiUserUtils.getNiFiUser());
+        final EntityTag entityTag = new EntityTag(ProcessGroupFlowCache.createEntityTag(cacheKey, flowStateTag));
+
+        // only honor conditional requests when responding directly to the client, as the responses of all nodes must be merged otherwise
+        final boolean respondingToClient = httpServletRequest.getHeader(RequestReplicator.REPLICATION_INDICATOR_HEADER) == null;
+        if (respondingToClient && isEntityTagMatched(entityTag)) {
+            return noCache(Response.notModified(entityTag)).build();
+        }
+
         // get this process group flow
-        final ProcessGroupFlowEntity entity = serviceFacade.getProcessGroupFlow(groupId);
-        populateRemainingFlowContent(entity.getProcessGroupFlow());
-        return generateOkResponse(entity).build();
+        ProcessGroupFlowEntity entity = processGroupFlowCache.get(cacheKey, flowStateTag);
+        if (entity == null) {
+            entity = serviceFacade.getProcessGroupFlow(groupId);
+            populateRemainingFlowContent(entity.getProcessGroupFlow());
+            processGroupFlowCache.put(cacheKey, flowStateTag, entity);
+        }
+
+        final Response.ResponseBuilder response = generateOkResponse(entity);
+        if (respondingToClient) {
+            response.tag(entityTag);
+        }
+        return response.build();
+    }
+
+    /**
+     * Determines whether the If-None-Match header of the current request matches the given entity tag.
+     *
+     * @param entityTag the current entity tag
+     * @return <code>true</code> if the client already has the current representation
+     */
+    private boolean isEntityTagMatched(final EntityTag entityTag) {
+        final String ifNoneMatch = httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (final String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("\"" + entityTag.getValue() + "\"")) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     // -------------------
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.web.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.nifi.authorization.user.NiFiUser;
+import org.apache.nifi.web.api.entity.ProcessGroupFlowEntity;
+import org.apache.nifi.web.util.ObjectMapperResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Caches the flow of recently requested Process Groups so that clients that repeatedly poll a Process Group
+ * do not cause the flow to be rebuilt while it remains unchanged. Because the content of the flow depends on the
+ * permissions of the user and on the URI that the client used, entries are kept separately for each of these. Each
+ * entry is only valid for as long as the flow state tag that it was created with is current. Flows are held in their
+ * serialized form so that every request is given its own copy of the entity.
+ */
+class ProcessGroupFlowCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessGroupFlowCache.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, CachedFlow> cachedFlows;
+
+    ProcessGroupFlowCache(final int maxEntries) {
+        try {
+            this.objectMapper = new ObjectMapperResolver().getContext(ProcessGroupFlowEntity.class);
+        } catch (final Exception e) {
+            throw new IllegalStateException("Unable to create the object mapper for cached flows", e);
+        }
+
+        this.cachedFlows = new LinkedHashMap<String, CachedFlow>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedFlow> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Creates the key that identifies the flow of the given group as it is seen by the given user
+     *
+     * @param groupUri the URI of the Process Group flow that was requested
+     * @param user the user that requested the flow
+     * @return the key for the flow
+     */
+    static String createKey(final String groupUri, final NiFiUser user) {
+        final StringBuilder sb = new StringBuilder(groupUri);
+        for (NiFiUser chainedUser = user; chainedUser != null; chainedUser = chainedUser.getChain()) {
+            sb.append('\n').append(chainedUser.getIdentity())
+                .append('\n').append(chainedUser.isAnonymous())
+                .append('\n').append(chainedUser.getClientAddress())
+                .append('\n').append(chainedUser.getGroups() == null ? "" : new TreeSet<>(chainedUser.getGroups()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Creates the value of the entity tag for the flow with the given key in the given flow state
+     *
+     * @param key the key of the flow
+     * @param flowStateTag the current flow state tag
+     * @return the entity tag value
+     */
+    static String createEntityTag(final String key, final String flowStateTag) {
+        return flowStateTag + "-" + Integer.toHexString(key.hashCode());
+    }
+
+    /**
+     * @param key the key of the flow
+     * @param flowStateTag the current flow state tag
+     * @return a copy of the cached flow, or <code>null</code> if the flow is not cached or was cached for a different flow state
+     */
+    ProcessGroupFlowEntity get(final String key, final String flowStateTag) {
+        final CachedFlow cachedFlow;
+        synchronized (this) {
+            cachedFlow = cachedFlows.get(key);
+            if (cachedFlow == null) {
+                return null;
+            }
+
+            if (!cachedFlow.flowStateTag.equals(flowStateTag)) {
+                cachedFlows.remove(key);
+                return null;
+            }
+        }
+
+        try {
+            return objectMapper.readValue(cachedFlow.serializedEntity, ProcessGroupFlowEntity.class);
+        } catch (final IOException e) {
+            logger.warn("Unable to read the cached flow, so it will be rebuilt", e);
+            return null;
+        }
+    }
+
+    /**
+     * Caches a copy of the given flow, so the entity may still be modified once it has been cached.
+     *
+     * @param key the key of the flow
+     * @param flowStateTag the flow state tag that was current before the flow was created
+     * @param entity the flow
+     */
+    void put(final String key, final String flowStateTag, final ProcessGroupFlowEntity entity) {
+        final byte[] serializedEntity;
+        try {
+            serializedEntity = objectMapper.writeValueAsBytes(entity);
+        } catch (final IOException e) {
+            logger.warn("Unable to cache the flow, so it will be rebuilt for the next request", e);
+            return;
+        }
+
+        synchronized (this) {
+            cachedFlows.put(key, new CachedFlow(flowStateTag, serializedEntity));
+        }
+    }
+
+    private static class CachedFlow {
+        private final String flowStateTag;
+        private final byte[] serializedEntity;
+
+        private CachedFlow(final String flowStateTag, final byte[] serializedEntity) {
+            this.flowStateTag = flowStateTag;
+            this.serializedEntity = serializedEntity;
+        }
+    }
+}
@@ -277,6 +277,15 @@ public class ControllerFacade implements Authorizable {
         return flowController.getFlowManager().getPublicOutputPorts();
     }
 
+    /**
+     * Returns the Date at which the status of the components in the flow was last captured.
+     *
+     * @return the last status capture date
+     */
+    public Date getLastStatusCaptureDate() {
+        return flowController.getLastStatusCaptureDate();
+    }
+
     /**
      * Returns the status history for the specified processor.
      *
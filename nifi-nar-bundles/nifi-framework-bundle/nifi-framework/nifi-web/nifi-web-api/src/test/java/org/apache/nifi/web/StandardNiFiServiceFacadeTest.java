@@ -28,13 +28,18 @@ import org.apache.nifi.authorization.AuthorizationRequest;
 import org.apache.nifi.authorization.AuthorizationResult;
 import org.apache.nifi.authorization.Authorizer;
 import org.apache.nifi.authorization.ComponentAuthorizable;
+import org.apache.nifi.authorization.RequestAction;
 import org.apache.nifi.authorization.Resource;
 import org.apache.nifi.authorization.resource.Authorizable;
 import org.apache.nifi.authorization.resource.ResourceFactory;
 import org.apache.nifi.authorization.resource.ResourceType;
+import org.apache.nifi.authorization.user.NiFiUser;
 import org.apache.nifi.authorization.user.NiFiUserDetails;
 import org.apache.nifi.authorization.user.StandardNiFiUser.Builder;
+import org.apache.nifi.components.validation.ValidationStatus;
 import org.apache.nifi.controller.FlowController;
+import org.apache.nifi.controller.ProcessorNode;
+import org.apache.nifi.controller.ScheduledState;
 import org.apache.nifi.controller.flow.FlowManager;
 import org.apache.nifi.controller.service.ControllerServiceProvider;
 import org.apache.nifi.groups.ProcessGroup;
@@ -55,6 +60,7 @@ import org.apache.nifi.web.api.dto.action.HistoryQueryDTO;
 import org.apache.nifi.web.api.entity.ActionEntity;
 import org.apache.nifi.web.controller.ControllerFacade;
 import org.apache.nifi.web.dao.ProcessGroupDAO;
+import org.apache.nifi.web.revision.RevisionManager;
 import org.apache.nifi.web.security.token.NiFiAuthenticationToken;
 import org.junit.Before;
 import org.junit.Test;
@@ -68,13 +74,16 @@ import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -395,4 +404,57 @@ public class StandardNiFiServiceFacadeTest {
         assertTrue(serviceFacade.isAnyProcessGroupUnderVersionControl(groupId));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testFlowStateTagChangesWithValidationStatus() {
+        final Authentication authentication = new NiFiAuthenticationToken(new NiFiUserDetails(new Builder().identity(USER_1).build()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        final String groupId = UUID.randomUUID().toString();
+        final ProcessorNode processor = mockFlowStateTagProcessor(groupId);
+
+        when(processor.getValidationStatus()).thenReturn(ValidationStatus.VALID);
+        final String validTag = serviceFacade.getFlowStateTag(groupId);
+        assertEquals(validTag, serviceFacade.getFlowStateTag(groupId));
+
+        when(processor.getValidationStatus()).thenReturn(ValidationStatus.INVALID);
+        assertNotEquals(validTag, serviceFacade.getFlowStateTag(groupId));
+    }
+
+    @Test
+    public void testFlowStateTagChangesWithPermissions() {
+        final Authentication authentication = new NiFiAuthenticationToken(new NiFiUserDetails(new Builder().identity(USER_1).build()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        final String groupId = UUID.randomUUID().toString();
+        final ProcessorNode processor = mockFlowStateTagProcessor(groupId);
+        when(processor.getValidationStatus()).thenReturn(ValidationStatus.VALID);
+        final ProcessGroup processGroup = processGroupDAO.getProcessGroup(groupId);
+
+        when(processGroup.isAuthorized(any(Authorizer.class), any(RequestAction.class), any(NiFiUser.class))).thenReturn(true);
+        final String authorizedTag = serviceFacade.getFlowStateTag(groupId);
+
+        when(processGroup.isAuthorized(any(Authorizer.class), eq(RequestAction.WRITE), any(NiFiUser.class))).thenReturn(false);
+        assertNotEquals(authorizedTag, serviceFacade.getFlowStateTag(groupId));
+
+        // only the group itself is authorized, neither its children nor its descendants
+        verify(processor, never()).isAuthorized(any(Authorizer.class), any(RequestAction.class), any(NiFiUser.class));
+        verify(processGroup, never()).findAllProcessGroups();
+    }
+
+    private ProcessorNode mockFlowStateTagProcessor(final String groupId) {
+        final RevisionManager revisionManager = mock(RevisionManager.class);
+        when(revisionManager.getModificationCount()).thenReturn(1L);
+        serviceFacade.setRevisionManager(revisionManager);
+
+        final ProcessorNode processor = mock(ProcessorNode.class);
+        when(processor.getIdentifier()).thenReturn(PROCESSOR_ID_1);
+        when(processor.getPhysicalScheduledState()).thenReturn(ScheduledState.STOPPED);
+
+        final ProcessGroup processGroup = mock(ProcessGroup.class);
+        when(processGroup.getIdentifier()).thenReturn(groupId);
+        when(processGroup.getProcessors()).thenReturn(Sets.newHashSet(processor));
+        when(processGroupDAO.getProcessGroup(groupId)).thenReturn(processGroup);
+
+        return processor;
+    }
+}
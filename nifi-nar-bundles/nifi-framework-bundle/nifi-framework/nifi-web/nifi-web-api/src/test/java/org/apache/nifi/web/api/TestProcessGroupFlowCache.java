@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.web.api;
+
+import org.apache.nifi.authorization.user.NiFiUser;
+import org.apache.nifi.authorization.user.StandardNiFiUser.Builder;
+import org.apache.nifi.web.api.dto.flow.ProcessGroupFlowDTO;
+import org.apache.nifi.web.api.entity.ProcessGroupFlowEntity;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+public class TestProcessGroupFlowCache {
+
+    private static final String GROUP_URI = "https://localhost:8443/nifi-api/flow/process-groups/root";
+
+    @Test
+    public void testFlowReturnedForCurrentStateOnly() {
+        final ProcessGroupFlowCache cache = new ProcessGroupFlowCache(10);
+        final String key = ProcessGroupFlowCache.createKey(GROUP_URI, new Builder().identity("user-1").build());
+        final ProcessGroupFlowEntity entity = createEntity("group-1");
+
+        assertNull(cache.get(key, "1-1000"));
+        cache.put(key, "1-1000", entity);
+        assertEquals("group-1", cache.get(key, "1-1000").getProcessGroupFlow().getId());
+
+        // once the flow state has changed, the cached flow must no longer be used
+        assertNull(cache.get(key, "2-1000"));
+        assertNull(cache.get(key, "1-1000"));
+    }
+
+    @Test
+    public void testCopyOfFlowReturned() {
+        final ProcessGroupFlowCache cache = new ProcessGroupFlowCache(10);
+        final ProcessGroupFlowEntity entity = createEntity("group-1");
+        cache.put("a", "1-1000", entity);
+
+        // neither the cached entity nor the entities returned to other requests may be affected by changes to a returned entity
+        entity.getProcessGroupFlow().setId("group-2");
+        final ProcessGroupFlowEntity cachedEntity = cache.get("a", "1-1000");
+        assertNotSame(entity, cachedEntity);
+        assertEquals("group-1", cachedEntity.getProcessGroupFlow().getId());
+
+        cachedEntity.getProcessGroupFlow().setId("group-3");
+        final ProcessGroupFlowEntity otherCachedEntity = cache.get("a", "1-1000");
+        assertNotSame(cachedEntity, otherCachedEntity);
+        assertEquals("group-1", otherCachedEntity.getProcessGroupFlow().getId());
+    }
+
+    @Test
+    public void testKeyIncludesUserAndGroups() {
+        final NiFiUser user = new Builder().identity("user-1").build();
+        final NiFiUser userInGroup = new Builder().identity("user-1").groups(Collections.singleton("group-1")).build();
+        final NiFiUser proxiedUser = new Builder().identity("user-1").chain(new Builder().identity("proxy").build()).build();
+        final NiFiUser otherUser = new Builder().identity("user-2").build();
+
+        final String key = ProcessGroupFlowCache.createKey(GROUP_URI, user);
+        assertNotEquals(key, ProcessGroupFlowCache.createKey(GROUP_URI, userInGroup));
+        assertNotEquals(key, ProcessGroupFlowCache.createKey(GROUP_URI, proxiedUser));
+        assertNotEquals(key, ProcessGroupFlowCache.createKey(GROUP_URI, otherUser));
+        assertNotEquals(key, ProcessGroupFlowCache.createKey("https://proxy/nifi-api/flow/process-groups/root", user));
+        assertNotEquals(ProcessGroupFlowCache.createEntityTag(key, "1-1000"), ProcessGroupFlowCache.createEntityTag(key, "2-1000"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFlowEvicted() {
+        final ProcessGroupFlowCache cache = new ProcessGroupFlowCache(2);
+        final ProcessGroupFlowEntity entity = createEntity("group-1");
+
+        cache.put("a", "1-1000", entity);
+        cache.put("b", "1-1000", entity);
+        cache.get("a", "1-1000");
+        cache.put("c", "1-1000", entity);
+
+        assertNotNull(cache.get("a", "1-1000"));
+        assertNull(cache.get("b", "1-1000"));
+        assertNotNull(cache.get("c", "1-1000"));
+    }
+
+    private ProcessGroupFlowEntity createEntity(final String groupId) {
+        final ProcessGroupFlowDTO flow = new ProcessGroupFlowDTO();
+        flow.setId(groupId);
+
+        final ProcessGroupFlowEntity entity = new ProcessGroupFlowEntity();
+        entity.setProcessGroupFlow(flow);
+        return entity;
+    }
+}
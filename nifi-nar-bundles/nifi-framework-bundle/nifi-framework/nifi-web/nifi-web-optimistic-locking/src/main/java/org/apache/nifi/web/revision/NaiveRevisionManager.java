@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.nifi.authorization.user.NiFiUser;
 import org.apache.nifi.web.InvalidRevisionException;
@@ -43,6 +44,7 @@ public class NaiveRevisionManager implements RevisionManager {
     private static final Logger logger = LoggerFactory.getLogger(NaiveRevisionManager.class);
 
     private final ConcurrentMap<String, Revision> revisionMap = new ConcurrentHashMap<>();
+    private final AtomicLong modificationCount = new AtomicLong(0L);
 
 
     @Override
@@ -53,6 +55,8 @@ public class NaiveRevisionManager implements RevisionManager {
             for (final Revision revision : revisions) {
                 revisionMap.put(revision.getComponentId(), revision);
             }
+
+            modificationCount.incrementAndGet();
         }
     }
 
@@ -89,6 +93,7 @@ public class NaiveRevisionManager implements RevisionManager {
             revisionMap.remove(revision.getComponentId());
         }
 
+        modificationCount.incrementAndGet();
         return taskResult;
     }
 
@@ -122,9 +127,16 @@ public class NaiveRevisionManager implements RevisionManager {
             for (final Revision updatedRevision : updatedComponent.getUpdatedRevisions()) {
                 revisionMap.put(updatedRevision.getComponentId(), updatedRevision);
             }
+
+            modificationCount.incrementAndGet();
         }
 
         return updatedComponent;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
 }
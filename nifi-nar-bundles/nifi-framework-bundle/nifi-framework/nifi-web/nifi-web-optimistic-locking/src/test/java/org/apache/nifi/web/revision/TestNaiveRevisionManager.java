@@ -22,10 +22,14 @@ import org.apache.nifi.authorization.user.NiFiUser;
 import org.apache.nifi.authorization.user.StandardNiFiUser.Builder;
 import org.apache.nifi.web.FlowModification;
 import org.apache.nifi.web.Revision;
+import org.junit.Test;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
+
 
 public class TestNaiveRevisionManager {
     private static final String CLIENT_1 = "client-1";
@@ -52,4 +56,23 @@ public class TestNaiveRevisionManager {
         return new StandardRevisionUpdate<Object>(null, new FlowModification(revision, null), additionalRevisions);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testModificationCount() {
+        final RevisionManager revisionManager = new NaiveRevisionManager();
+        assertEquals(0L, revisionManager.getModificationCount());
+
+        // obtaining a revision does not modify anything
+        final Revision firstRevision = revisionManager.getRevision(COMPONENT_1);
+        assertEquals(0L, revisionManager.getModificationCount());
+
+        final Revision secondRevision = new Revision(1L, CLIENT_1, COMPONENT_1);
+        revisionManager.updateRevision(new StandardRevisionClaim(firstRevision), USER_1, () -> components(secondRevision));
+        assertEquals(1L, revisionManager.getModificationCount());
+
+        revisionManager.deleteRevision(new StandardRevisionClaim(secondRevision), USER_1, () -> null);
+        assertEquals(2L, revisionManager.getModificationCount());
+
+        revisionManager.reset(Collections.emptySet());
+        assertEquals(3L, revisionManager.getModificationCount());
+    }
+}
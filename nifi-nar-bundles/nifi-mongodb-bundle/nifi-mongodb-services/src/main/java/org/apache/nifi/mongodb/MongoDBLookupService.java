@@ -67,6 +67,10 @@ import static org.apache.nifi.schema.access.SchemaAccessUtils.SCHEMA_VERSION;
     "then the entire MongoDB result document minus the _id field will be returned as a record."
 )
 public class MongoDBLookupService extends JsonInferenceSchemaRegistryService implements LookupService<Object> {
+    // Bound the work done by a single query when looking up many sets of coordinates at once, as the lookup keys need not be unique
+    private static final int MAX_CLAUSES_PER_QUERY = 100;
+    private static final int MAX_DOCUMENTS_PER_CLAUSE = 10;
+
     private volatile String databaseName;
     private volatile String collection;
 
@@ -122,13 +126,7 @@ public class MongoDBLookupService extends JsonInferenceSchemaRegistryService imp
 
     @Override
     public Optional<Object> lookup(Map<String, Object> coordinates, Map<String, String> context) throws LookupFailureException {
-        Map<String, Object> clean = coordinates.entrySet().stream()
-            .filter(e -> !schemaNameProperty.equals(String.format("${%s}", e.getKey())))
-            .collect(Collectors.toMap(
-                e -> e.getKey(),
-                e -> e.getValue()
-            ));
-        Document query = new Document(clean);
+        Document query = new Document(cleanCoordinates(coordinates));
 
         if (coordinates.size() == 0) {
             throw new LookupFailureException("No keys were configured. Mongo query would return random documents.");
@@ -136,15 +134,82 @@ public class MongoDBLookupService extends JsonInferenceSchemaRegistryService imp
 
         try {
             Document result = findOne(query, projection);
+            return toLookupValue(result, context);
+        } catch (Exception ex) {
+            getLogger().error("Error during lookup {}", new Object[]{ query.toJson() }, ex);
+            throw new LookupFailureException(ex);
+        }
+    }
+
+    /**
+     * Resolves the coordinates with <code>$or</code> queries of at most {@link #MAX_CLAUSES_PER_QUERY} clauses each, and then pairs each
+     * returned document with every set of coordinates that it satisfies. Pairing requires the lookup keys to be present in the returned
+     * documents, so if a projection is configured, or any of the coordinates is itself a query expression, each set of coordinates is looked
+     * up on its own. Because lookup keys need not be unique, each query reads at most {@link #MAX_DOCUMENTS_PER_CLAUSE} documents per clause;
+     * coordinates that are still unresolved when that limit is reached are looked up on their own.
+     */
+    @Override
+    public List<Optional<Object>> lookupAll(List<Map<String, Object>> coordinates, Map<String, String> context) throws LookupFailureException {
+        final List<Map<String, Object>> cleaned = new ArrayList<>(coordinates.size());
+        for (final Map<String, Object> coordinate : coordinates) {
+            if (coordinate.size() == 0) {
+                throw new LookupFailureException("No keys were configured. Mongo query would return random documents.");
+            }
+            cleaned.add(cleanCoordinates(coordinate));
+        }
+
+        if (projection != null || cleaned.stream().anyMatch(coordinate -> !isSimpleEquality(coordinate))) {
+            final List<Optional<Object>> results = new ArrayList<>(coordinates.size());
+            for (final Map<String, Object> coordinate : coordinates) {
+                results.add(lookup(coordinate, context));
+            }
+            return results;
+        }
+
+        final Document[] found = new Document[cleaned.size()];
+        for (int start = 0; start < cleaned.size(); start += MAX_CLAUSES_PER_QUERY) {
+            final int end = Math.min(start + MAX_CLAUSES_PER_QUERY, cleaned.size());
+            findAll(cleaned, start, end, found);
+        }
+
+        final List<Optional<Object>> results = new ArrayList<>(found.length);
+        for (final Document document : found) {
+            results.add(toLookupValue(document, context));
+        }
+        return results;
+    }
+
+    private void findAll(final List<Map<String, Object>> coordinates, final int start, final int end, final Document[] found) throws LookupFailureException {
+        final List<Document> clauses = coordinates.subList(start, end).stream().map(Document::new).collect(Collectors.toList());
+        final Document query = new Document("$or", clauses);
+        final int limit = clauses.size() * MAX_DOCUMENTS_PER_CLAUSE;
 
-            if(result == null) {
-                return Optional.empty();
-            } else if (!StringUtils.isEmpty(lookupValueField)) {
-                return Optional.ofNullable(result.get(lookupValueField));
-            } else {
-                RecordSchema schema = loadSchema(context, result);
+        try {
+            int remaining = clauses.size();
+            int documentsRead = 0;
+
+            final MongoCollection<Document> col = controllerService.getDatabase(databaseName).getCollection(collection);
+            try (final MongoCursor<Document> it = col.find(query).limit(limit).iterator()) {
+                while (remaining > 0 && it.hasNext()) {
+                    final Document document = it.next();
+                    documentsRead++;
+
+                    for (int i = start; i < end; i++) {
+                        if (found[i] == null && matches(document, coordinates.get(i))) {
+                            found[i] = document;
+                            remaining--;
+                        }
+                    }
+                }
+            }
 
-                return Optional.ofNullable(new MapRecord(schema, result));
+            // If the limit was reached, the documents that match the unresolved coordinates may not have been read yet
+            if (remaining > 0 && documentsRead == limit) {
+                for (int i = start; i < end; i++) {
+                    if (found[i] == null) {
+                        found[i] = findOne(new Document(coordinates.get(i)), null);
+                    }
+                }
             }
         } catch (Exception ex) {
             getLogger().error("Error during lookup {}", new Object[]{ query.toJson() }, ex);
@@ -152,6 +217,86 @@ public class MongoDBLookupService extends JsonInferenceSchemaRegistryService imp
         }
     }
 
+    private Map<String, Object> cleanCoordinates(Map<String, Object> coordinates) {
+        return coordinates.entrySet().stream()
+            .filter(e -> !schemaNameProperty.equals(String.format("${%s}", e.getKey())))
+            .collect(Collectors.toMap(
+                e -> e.getKey(),
+                e -> e.getValue()
+            ));
+    }
+
+    private Optional<Object> toLookupValue(Document result, Map<String, String> context) {
+        if(result == null) {
+            return Optional.empty();
+        } else if (!StringUtils.isEmpty(lookupValueField)) {
+            return Optional.ofNullable(result.get(lookupValueField));
+        } else {
+            RecordSchema schema = loadSchema(context, result);
+
+            return Optional.ofNullable(new MapRecord(schema, result));
+        }
+    }
+
+    private static boolean isSimpleEquality(Map<String, Object> coordinates) {
+        for (final Map.Entry<String, Object> entry : coordinates.entrySet()) {
+            final Object value = entry.getValue();
+            if (entry.getKey().startsWith("$") || value == null || value instanceof Map || value instanceof Iterable || value.getClass().isArray()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(Document document, Map<String, Object> coordinates) {
+        for (final Map.Entry<String, Object> entry : coordinates.entrySet()) {
+            if (!matches(getPath(document, entry.getKey()), entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(Object actual, Object expected) {
+        if (actual instanceof Iterable) {
+            // Mongo matches an array field when any of its elements equals the value
+            for (final Object element : (Iterable<?>) actual) {
+                if (matches(element, expected)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        if (actual instanceof Number && expected instanceof Number) {
+            if (isIntegral(actual) && isIntegral(expected)) {
+                return ((Number) actual).longValue() == ((Number) expected).longValue();
+            }
+            return ((Number) actual).doubleValue() == ((Number) expected).doubleValue();
+        }
+
+        return expected.equals(actual);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static Object getPath(Document document, String key) {
+        if (document.containsKey(key)) {
+            return document.get(key);
+        }
+
+        Object current = document;
+        for (final String part : key.split("\\.")) {
+            if (!(current instanceof Map)) {
+                return null;
+            }
+            current = ((Map<?, ?>) current).get(part);
+        }
+        return current;
+    }
+
     private RecordSchema loadSchema(Map<String, String> context, Document doc) {
         try {
             return getSchema(context, doc, null);
@@ -36,6 +36,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
@@ -119,6 +120,61 @@ public class MongoDBLookupServiceIT {
         Assert.assertTrue(!result.isPresent());
     }
 
+    @Test
+    public void testLookupAll() throws Exception {
+        runner.disableControllerService(service);
+        runner.setProperty(service, MongoDBLookupService.LOOKUP_VALUE_FIELD, "message");
+        runner.enableControllerService(service);
+        col.insertOne(controllerService.convertJson("{ \"uuid\": \"x-y-z\", \"seq\": 1, \"message\": \"Hello, world\" }"));
+        col.insertOne(controllerService.convertJson("{ \"uuid\": \"a-b-c\", \"seq\": 2, \"message\": \"Goodbye, world\" }"));
+
+        final List<Map<String, Object>> coordinates = new ArrayList<>();
+        for (final String uuid : Arrays.asList("a-b-c", "missing", "x-y-z", "a-b-c")) {
+            final Map<String, Object> criteria = new HashMap<>();
+            criteria.put("uuid", uuid);
+            coordinates.add(criteria);
+        }
+        final Map<String, Object> numericCriteria = new HashMap<>();
+        numericCriteria.put("seq", 1L);
+        coordinates.add(numericCriteria);
+
+        final List<Optional<Object>> results = service.lookupAll(coordinates, new HashMap<>());
+        Assert.assertEquals(5, results.size());
+        Assert.assertEquals("Goodbye, world", results.get(0).get());
+        Assert.assertFalse(results.get(1).isPresent());
+        Assert.assertEquals("Hello, world", results.get(2).get());
+        Assert.assertEquals("Goodbye, world", results.get(3).get());
+        Assert.assertEquals("Hello, world", results.get(4).get());
+
+        for (int i = 0; i < coordinates.size(); i++) {
+            Assert.assertEquals(service.lookup(coordinates.get(i)), results.get(i));
+        }
+    }
+
+    @Test
+    public void testLookupAllWithNonUniqueKeys() throws Exception {
+        runner.disableControllerService(service);
+        runner.setProperty(service, MongoDBLookupService.LOOKUP_VALUE_FIELD, "message");
+        runner.enableControllerService(service);
+        for (int i = 0; i < 50; i++) {
+            col.insertOne(controllerService.convertJson("{ \"group\": \"shared\", \"message\": \"Shared " + i + "\" }"));
+        }
+        col.insertOne(controllerService.convertJson("{ \"group\": \"unique\", \"message\": \"Unique\" }"));
+
+        final List<Map<String, Object>> coordinates = new ArrayList<>();
+        for (final String group : Arrays.asList("shared", "unique", "missing")) {
+            final Map<String, Object> criteria = new HashMap<>();
+            criteria.put("group", group);
+            coordinates.add(criteria);
+        }
+
+        final List<Optional<Object>> results = service.lookupAll(coordinates, new HashMap<>());
+        Assert.assertEquals(3, results.size());
+        Assert.assertTrue(results.get(0).isPresent());
+        Assert.assertEquals("Unique", results.get(1).get());
+        Assert.assertFalse(results.get(2).isPresent());
+    }
+
     @Test
     public void testWithSchemaRegistry() throws Exception {
         runner.assertValid();
@@ -20,9 +20,10 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.nifi.avro.AvroTypeUtil;
 import org.apache.nifi.parquet.stream.NifiParquetInputFile;
-import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.BatchRecordReader;
 import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.hadoop.ParquetReader;
@@ -31,9 +32,10 @@ import org.apache.parquet.io.InputFile;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
-public class ParquetRecordReader implements RecordReader {
+public class ParquetRecordReader implements BatchRecordReader {
 
     private GenericRecord lastParquetRecord;
     private RecordSchema recordSchema;
@@ -81,6 +83,18 @@ public class ParquetRecordReader implements RecordReader {
         return record;
     }
 
+    @Override
+    public int nextBatch(final RecordBatch batch) throws IOException {
+        int rowCount = 0;
+        while (lastParquetRecord != null && rowCount < batch.getCapacity()) {
+            AvroTypeUtil.convertAvroRecordToBatch(lastParquetRecord, batch, rowCount++, StandardCharsets.UTF_8);
+            lastParquetRecord = parquetReader.read();
+        }
+
+        batch.setRowCount(rowCount);
+        return rowCount;
+    }
+
     @Override
     public RecordSchema getSchema() {
         return recordSchema;
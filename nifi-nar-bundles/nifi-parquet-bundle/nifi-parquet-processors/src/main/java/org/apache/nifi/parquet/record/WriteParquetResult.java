@@ -17,6 +17,7 @@
 package org.apache.nifi.parquet.record;
 
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.nifi.avro.AvroTypeUtil;
@@ -24,19 +25,23 @@ import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.parquet.stream.NifiParquetOutputFile;
 import org.apache.nifi.parquet.utils.ParquetConfig;
 import org.apache.nifi.serialization.AbstractRecordSetWriter;
+import org.apache.nifi.serialization.BatchRecordWriter;
+import org.apache.nifi.serialization.WriteResult;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.io.OutputFile;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 
 import static org.apache.nifi.parquet.utils.ParquetUtils.applyCommonConfig;
 
-public class WriteParquetResult extends AbstractRecordSetWriter {
+public class WriteParquetResult extends AbstractRecordSetWriter implements BatchRecordWriter {
 
     private final Schema schema;
     private final ParquetWriter<GenericRecord> parquetWriter;
@@ -63,6 +68,19 @@ public class WriteParquetResult extends AbstractRecordSetWriter {
         return Collections.emptyMap();
     }
 
+    @Override
+    public WriteResult write(final RecordBatch batch) throws IOException {
+        // The values of each record are copied into the column writers as the record is written, so a single GenericRecord can be reused for every row
+        final GenericRecord genericRecord = new GenericData.Record(schema);
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            AvroTypeUtil.populateAvroRecord(batch, row, genericRecord, StandardCharsets.UTF_8);
+            parquetWriter.write(genericRecord);
+            incrementRecordCount();
+        }
+
+        return WriteResult.of(getRecordCount(), Collections.emptyMap());
+    }
+
     @Override
     public void close() throws IOException {
         try {
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.parquet;
+
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.io.IOUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.nifi.avro.AvroTypeUtil;
+import org.apache.nifi.parquet.record.ParquetRecordReader;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
+import org.apache.nifi.stream.io.NullOutputStream;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Converts a large Parquet file to Avro both one Record at a time and one RecordBatch at a time, in order to compare the cost of the two.
+ */
+public class ITParquetToAvroConversion {
+    private static final int RECORD_COUNT = 2_000_000;
+    private static final int BATCH_SIZE = 1024;
+
+    private static Schema schema;
+    private static byte[] parquetBytes;
+
+    @BeforeClass
+    public static void createParquetFile() throws IOException {
+        schema = new Schema.Parser().parse(new File("src/test/resources/avro/user.avsc"));
+        final File parquetFile = new File("target/ITParquetToAvroConversion-" + System.currentTimeMillis());
+
+        try (final ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(new Path(parquetFile.getPath()))
+                .withSchema(schema)
+                .withConf(new Configuration())
+                .build()) {
+
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                final GenericRecord user = new GenericData.Record(schema);
+                user.put("name", "Bob" + i);
+                user.put("favorite_number", i);
+                user.put("favorite_color", "blue" + i);
+                writer.write(user);
+            }
+        }
+
+        // read the parquet file into bytes since we can't use a FileInputStream since it doesn't support mark/reset
+        parquetBytes = IOUtils.toByteArray(parquetFile.toURI());
+    }
+
+    @Test
+    public void testRecordAtATimePerformance() throws IOException, MalformedRecordException {
+        int recordCount = 0;
+        try (final InputStream in = new ByteArrayInputStream(parquetBytes);
+             final ParquetRecordReader reader = new ParquetRecordReader(in, parquetBytes.length, new Configuration());
+             final DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(schema))) {
+
+            writer.create(schema, new NullOutputStream());
+
+            Record record;
+            while ((record = reader.nextRecord()) != null) {
+                writer.append(AvroTypeUtil.createAvroRecord(record, schema, StandardCharsets.UTF_8));
+                recordCount++;
+            }
+        }
+
+        assertEquals(RECORD_COUNT, recordCount);
+    }
+
+    @Test
+    public void testBatchPerformance() throws IOException, MalformedRecordException {
+        int recordCount = 0;
+        try (final InputStream in = new ByteArrayInputStream(parquetBytes);
+             final ParquetRecordReader reader = new ParquetRecordReader(in, parquetBytes.length, new Configuration());
+             final DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(schema))) {
+
+            writer.create(schema, new NullOutputStream());
+
+            final RecordBatch batch = new RecordBatch(reader.getSchema(), BATCH_SIZE);
+            final GenericRecord avroRecord = new GenericData.Record(schema);
+
+            int rowCount;
+            while ((rowCount = reader.nextBatch(batch)) > 0) {
+                for (int row = 0; row < rowCount; row++) {
+                    AvroTypeUtil.populateAvroRecord(batch, row, avroRecord, StandardCharsets.UTF_8);
+                    writer.append(avroRecord);
+                }
+
+                recordCount += rowCount;
+                batch.clear();
+            }
+        }
+
+        assertEquals(RECORD_COUNT, recordCount);
+    }
+}
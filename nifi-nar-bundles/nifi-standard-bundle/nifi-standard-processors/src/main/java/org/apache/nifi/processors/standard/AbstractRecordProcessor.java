@@ -17,24 +17,33 @@
 
 package org.apache.nifi.processors.standard;
 
+import org.apache.nifi.annotation.lifecycle.OnScheduled;
+import org.apache.nifi.annotation.lifecycle.OnStopped;
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.processor.AbstractProcessor;
+import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.processor.io.StreamCallback;
+import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.schema.access.SchemaNotFoundException;
+import org.apache.nifi.serialization.BatchRecordReader;
+import org.apache.nifi.serialization.BatchRecordWriter;
 import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.RecordContentSplitter;
 import org.apache.nifi.serialization.RecordReader;
 import org.apache.nifi.serialization.RecordReaderFactory;
 import org.apache.nifi.serialization.RecordSetWriter;
 import org.apache.nifi.serialization.RecordSetWriterFactory;
+import org.apache.nifi.serialization.SplittableRecordReaderFactory;
 import org.apache.nifi.serialization.WriteResult;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 import org.apache.nifi.serialization.record.RecordSchema;
 
 import java.io.IOException;
@@ -46,6 +55,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class AbstractRecordProcessor extends AbstractProcessor {
@@ -76,6 +88,30 @@ public abstract class AbstractRecordProcessor extends AbstractProcessor {
             .required(true)
             .build();
 
+    static final PropertyDescriptor SPLIT_CONCURRENCY = new PropertyDescriptor.Builder()
+        .name("split-concurrency")
+        .displayName("Split Concurrency")
+        .description("The number of threads to use for parsing a single FlowFile. If greater than 1 and the Record Reader is able to divide the content "
+            + "into splits of whole records, such as CSV, JSON objects or arrays of objects, or Avro data files, then the content of a FlowFile that is larger than the Split Size "
+            + "is divided into splits that are parsed in parallel. The Records are still processed and written in the order in which they appear in the content. "
+            + "Up to this many splits of the content are held in memory at any one time for each FlowFile. If the Record Reader is not able to divide the content, "
+            + "such as when the schema is to be inferred from the data, the content is parsed by a single thread.")
+        .expressionLanguageSupported(ExpressionLanguageScope.NONE)
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("1")
+        .required(true)
+        .build();
+    static final PropertyDescriptor SPLIT_SIZE = new PropertyDescriptor.Builder()
+        .name("split-size")
+        .displayName("Split Size")
+        .description("The minimum size of each split of the content that is parsed in parallel when Split Concurrency is greater than 1. A split always ends at the end "
+            + "of a record, so a split may be larger than this.")
+        .expressionLanguageSupported(ExpressionLanguageScope.NONE)
+        .addValidator(StandardValidators.createDataSizeBoundsValidator(1, Integer.MAX_VALUE / 2))
+        .defaultValue("16 MB")
+        .required(true)
+        .build();
+
     static final Relationship REL_SUCCESS = new Relationship.Builder()
         .name("success")
         .description("FlowFiles that are successfully transformed will be routed to this relationship")
@@ -86,14 +122,50 @@ public abstract class AbstractRecordProcessor extends AbstractProcessor {
             + "the unchanged FlowFile will be routed to this relationship")
         .build();
 
+    private static final int RECORD_BATCH_SIZE = 1024;
+
     @Override
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
         final List<PropertyDescriptor> properties = new ArrayList<>();
         properties.add(RECORD_READER);
         properties.add(RECORD_WRITER);
+        properties.add(SPLIT_CONCURRENCY);
+        properties.add(SPLIT_SIZE);
         return properties;
     }
 
+    private volatile ExecutorService splitExecutor;
+
+    @OnScheduled
+    public void createSplitExecutor(final ProcessContext context) {
+        final int splitConcurrency = context.getProperty(SPLIT_CONCURRENCY).asInteger();
+        if (splitConcurrency < 2) {
+            splitExecutor = null;
+            return;
+        }
+
+        splitExecutor = Executors.newFixedThreadPool(splitConcurrency, new ThreadFactory() {
+            private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+            private final AtomicInteger threadCount = new AtomicInteger(0);
+
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = defaultFactory.newThread(r);
+                t.setName(AbstractRecordProcessor.this.getClass().getSimpleName() + " " + getIdentifier() + " Split Reader-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    @OnStopped
+    public void shutdownSplitExecutor() {
+        if (splitExecutor != null) {
+            splitExecutor.shutdownNow();
+            splitExecutor = null;
+        }
+    }
+
     @Override
     public Set<Relationship> getRelationships() {
         final Set<Relationship> relationships = new HashSet<>();
@@ -123,7 +195,33 @@ public abstract class AbstractRecordProcessor extends AbstractProcessor {
                 @Override
                 public void process(final InputStream in, final OutputStream out) throws IOException {
 
-                    try (final RecordReader reader = readerFactory.createRecordReader(originalAttributes, in, original.getSize(), getLogger())) {
+                    try (final RecordReader reader = createRecordReader(readerFactory, originalAttributes, in, original.getSize(), context)) {
+
+                        // If every Record is passed through unchanged and the Reader can read batches of Records, copy the Records to the Writer in batches
+                        // when the Writer supports it. Records from such a Reader always have the Reader's schema, so the Writer can be created up front.
+                        if (isPassThrough() && reader instanceof BatchRecordReader) {
+                            final RecordSchema writeSchema = writerFactory.getSchema(originalAttributes, reader.getSchema());
+                            try (final RecordSetWriter writer = writerFactory.createWriter(getLogger(), writeSchema, out, originalAttributes)) {
+                                writer.beginRecordSet();
+
+                                if (writer instanceof BatchRecordWriter) {
+                                    copyBatches((BatchRecordReader) reader, (BatchRecordWriter) writer);
+                                } else {
+                                    Record record;
+                                    while ((record = reader.nextRecord()) != null) {
+                                        writer.write(record);
+                                    }
+                                }
+
+                                final WriteResult writeResult = writer.finishRecordSet();
+                                attributes.put("record.count", String.valueOf(writeResult.getRecordCount()));
+                                attributes.put(CoreAttributes.MIME_TYPE.key(), writer.getMimeType());
+                                attributes.putAll(writeResult.getAttributes());
+                                recordCount.set(writeResult.getRecordCount());
+                            }
+
+                            return;
+                        }
 
                         // Get the first record and process it before we create the Record Writer. We do this so that if the Processor
                         // updates the Record's schema, we can provide an updated schema to the Record Writer. If there are no records,
@@ -190,5 +288,40 @@ public abstract class AbstractRecordProcessor extends AbstractProcessor {
         getLogger().info("Successfully converted {} records for {}", new Object[] {count, flowFile});
     }
 
+    private void copyBatches(final BatchRecordReader reader, final BatchRecordWriter writer) throws IOException, MalformedRecordException {
+        final RecordBatch batch = new RecordBatch(reader.getSchema(), RECORD_BATCH_SIZE);
+        while (reader.nextBatch(batch) > 0) {
+            writer.write(batch);
+        }
+    }
+
+    private RecordReader createRecordReader(final RecordReaderFactory readerFactory, final Map<String, String> attributes, final InputStream in, final long inputLength,
+                                            final ProcessContext context) throws IOException, MalformedRecordException, SchemaNotFoundException {
+        final ExecutorService executor = splitExecutor;
+        final int splitSize = context.getProperty(SPLIT_SIZE).asDataSize(DataUnit.B).intValue();
+
+        if (executor != null && inputLength > splitSize && readerFactory instanceof SplittableRecordReaderFactory) {
+            final SplittableRecordReaderFactory splittableFactory = (SplittableRecordReaderFactory) readerFactory;
+            final RecordContentSplitter splitter = splittableFactory.createContentSplitter(attributes, getLogger());
+            if (splitter != null) {
+                final int splitConcurrency = context.getProperty(SPLIT_CONCURRENCY).asInteger();
+                return new ParallelSplitRecordReader(splittableFactory, splitter, attributes, in, splitSize, executor, splitConcurrency, getLogger());
+            }
+        }
+
+        return readerFactory.createRecordReader(attributes, in, inputLength, getLogger());
+    }
+
+    /**
+     * Indicates whether {@link #process(Record, FlowFile, ProcessContext, long)} always returns the given Record unchanged. If so, then when both the
+     * Record Reader and the Record Writer support batches of Records, the Records are copied from the Reader to the Writer in batches, without
+     * creating a Record object for each of them and without calling process().
+     *
+     * @return <code>true</code> if process() always returns the given Record unchanged, <code>false</code> otherwise
+     */
+    protected boolean isPassThrough() {
+        return false;
+    }
+
     protected abstract Record process(Record record, FlowFile flowFile, ProcessContext context, long count);
 }
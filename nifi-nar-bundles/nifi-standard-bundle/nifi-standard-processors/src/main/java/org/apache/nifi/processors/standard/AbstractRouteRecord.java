@@ -131,19 +131,38 @@ public abstract class AbstractRouteRecord<T> extends AbstractProcessor {
 
                         final RecordSchema writeSchema = writerFactory.getSchema(originalAttributes, firstRecord.getSchema());
 
-                        final Set<Relationship> firstRecordRelationships = route(firstRecord, writeSchema, original, context, flowFileContext);
-                        for (final Relationship relationship : firstRecordRelationships) {
-                            writeRecord(firstRecord, relationship, writers, session, original, originalAttributes, writerFactory);
-                        }
+                        final int batchSize = Math.max(1, getRouteBatchSize(context));
+                        final List<Record> batch = new ArrayList<>(batchSize);
+                        batch.add(firstRecord);
+
+                        boolean firstBatch = true;
+                        boolean exhausted = false;
+                        while (true) {
+                            Record record;
+                            while (!exhausted && batch.size() < batchSize) {
+                                record = reader.nextRecord();
+                                if (record == null) {
+                                    exhausted = true;
+                                } else {
+                                    batch.add(record);
+                                }
+                            }
 
-                        Record record;
-                        while ((record = reader.nextRecord()) != null) {
-                            final Set<Relationship> relationships = route(record, writeSchema, original, context, flowFileContext);
-                            numRecords.incrementAndGet();
+                            if (batch.isEmpty()) {
+                                break;
+                            }
 
-                            for (final Relationship relationship : relationships) {
-                                writeRecord(record, relationship, writers, session, original, originalAttributes, writerFactory);
+                            final List<Set<Relationship>> batchRelationships = route(batch, writeSchema, original, context, flowFileContext);
+                            for (int i = 0; i < batch.size(); i++) {
+                                for (final Relationship relationship : batchRelationships.get(i)) {
+                                    writeRecord(batch.get(i), relationship, writers, session, original, originalAttributes, writerFactory);
+                                }
                             }
+
+                            // the first record of the FlowFile has never been included in the count
+                            numRecords.addAndGet(firstBatch ? batch.size() - 1 : batch.size());
+                            firstBatch = false;
+                            batch.clear();
                         }
                     } catch (final SchemaNotFoundException | MalformedRecordException e) {
                         throw new ProcessException("Could not parse incoming data", e);
@@ -237,6 +256,27 @@ public abstract class AbstractRouteRecord<T> extends AbstractProcessor {
 
     protected abstract Set<Relationship> route(Record record, RecordSchema writeSchema, FlowFile flowFile, ProcessContext context, T flowFileContext);
 
+    /**
+     * Routes a batch of consecutive Records from the same FlowFile. The default implementation calls
+     * {@link #route(Record, RecordSchema, FlowFile, ProcessContext, Object)} for each Record; subclasses that can amortize work
+     * across Records may override it. The returned List must contain one Set of Relationships per Record, in the same order.
+     */
+    protected List<Set<Relationship>> route(final List<Record> records, final RecordSchema writeSchema, final FlowFile flowFile, final ProcessContext context,
+                                            final T flowFileContext) {
+        final List<Set<Relationship>> relationships = new ArrayList<>(records.size());
+        for (final Record record : records) {
+            relationships.add(route(record, writeSchema, flowFile, context, flowFileContext));
+        }
+        return relationships;
+    }
+
+    /**
+     * @return the maximum number of Records to pass to {@link #route(List, RecordSchema, FlowFile, ProcessContext, Object)} at once
+     */
+    protected int getRouteBatchSize(final ProcessContext context) {
+        return 1;
+    }
+
     protected abstract boolean isRouteOriginal();
 
     protected abstract T getFlowFileContext(FlowFile flowFile, ProcessContext context);
@@ -58,6 +58,11 @@ public class ConvertRecord extends AbstractRecordProcessor {
         return properties;
     }
 
+    @Override
+    protected boolean isPassThrough() {
+        return true;
+    }
+
     @Override
     protected Record process(final Record record, final FlowFile flowFile, final ProcessContext context, final long count) {
         return record;
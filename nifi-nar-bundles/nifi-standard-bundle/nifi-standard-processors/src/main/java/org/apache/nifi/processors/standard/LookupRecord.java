@@ -39,6 +39,7 @@ import org.apache.nifi.lookup.LookupService;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.exception.ProcessException;
+import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.record.path.FieldValue;
 import org.apache.nifi.record.path.RecordPath;
 import org.apache.nifi.record.path.RecordPathResult;
@@ -58,6 +59,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -144,6 +146,18 @@ public class LookupRecord extends AbstractRouteRecord<Tuple<Map<String, RecordPa
         .required(true)
         .build();
 
+    static final PropertyDescriptor LOOKUP_BATCH_SIZE = new PropertyDescriptor.Builder()
+        .name("lookup-batch-size")
+        .displayName("Lookup Batch Size")
+        .description("The maximum number of Records whose lookup coordinates are handed to the Lookup Service in a single call. Lookup Services that "
+            + "are able to resolve many coordinates at once (for example, with a single database query) can use this to avoid a round trip per Record. "
+            + "Records that share the same coordinates within a batch are looked up only once. A value of 1 looks up each Record individually.")
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .expressionLanguageSupported(ExpressionLanguageScope.NONE)
+        .defaultValue("100")
+        .required(true)
+        .build();
+
     static final Relationship REL_MATCHED = new Relationship.Builder()
         .name("matched")
         .description("All records for which the lookup returns a value will be routed to this relationship")
@@ -182,6 +196,7 @@ public class LookupRecord extends AbstractRouteRecord<Tuple<Map<String, RecordPa
         properties.add(RESULT_RECORD_PATH);
         properties.add(ROUTING_STRATEGY);
         properties.add(RESULT_CONTENTS);
+        properties.add(LOOKUP_BATCH_SIZE);
         return properties;
     }
 
@@ -263,7 +278,71 @@ public class LookupRecord extends AbstractRouteRecord<Tuple<Map<String, RecordPa
     protected Set<Relationship> route(final Record record, final RecordSchema writeSchema, final FlowFile flowFile, final ProcessContext context,
         final Tuple<Map<String, RecordPath>, RecordPath> flowFileContext) {
 
-        final Map<String, RecordPath> recordPaths = flowFileContext.getKey();
+        final Map<String, Object> lookupCoordinates = getLookupCoordinates(record, flowFile, flowFileContext.getKey());
+        if (lookupCoordinates == null) {
+            return routeToMatchedUnmatched ? UNMATCHED_COLLECTION : SUCCESS_COLLECTION;
+        }
+
+        final Optional<?> lookupValueOption;
+        try {
+            lookupValueOption = lookupService.lookup(lookupCoordinates, flowFile.getAttributes());
+        } catch (final Exception e) {
+            throw new ProcessException("Failed to lookup coordinates " + lookupCoordinates + " in Lookup Service", e);
+        }
+
+        return applyLookupResult(record, lookupValueOption, context, flowFileContext);
+    }
+
+    @Override
+    protected List<Set<Relationship>> route(final List<Record> records, final RecordSchema writeSchema, final FlowFile flowFile, final ProcessContext context,
+        final Tuple<Map<String, RecordPath>, RecordPath> flowFileContext) {
+
+        // Gather the coordinates of every Record first, so that the Lookup Service is called once for the whole batch
+        // and Records that share coordinates are only looked up a single time.
+        final Map<Map<String, Object>, Integer> uniqueCoordinates = new LinkedHashMap<>();
+        final int[] coordinateIndexes = new int[records.size()];
+        for (int i = 0; i < records.size(); i++) {
+            final Map<String, Object> lookupCoordinates = getLookupCoordinates(records.get(i), flowFile, flowFileContext.getKey());
+            if (lookupCoordinates == null) {
+                coordinateIndexes[i] = -1;
+            } else {
+                coordinateIndexes[i] = uniqueCoordinates.computeIfAbsent(lookupCoordinates, key -> uniqueCoordinates.size());
+            }
+        }
+
+        final List<? extends Optional<?>> lookupValueOptions;
+        if (uniqueCoordinates.isEmpty()) {
+            lookupValueOptions = Collections.emptyList();
+        } else {
+            try {
+                lookupValueOptions = lookupService.lookupAll(new ArrayList<>(uniqueCoordinates.keySet()), flowFile.getAttributes());
+            } catch (final Exception e) {
+                throw new ProcessException("Failed to lookup coordinates " + uniqueCoordinates.keySet() + " in Lookup Service", e);
+            }
+        }
+
+        final List<Set<Relationship>> relationships = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            if (coordinateIndexes[i] < 0) {
+                relationships.add(routeToMatchedUnmatched ? UNMATCHED_COLLECTION : SUCCESS_COLLECTION);
+            } else {
+                relationships.add(applyLookupResult(records.get(i), lookupValueOptions.get(coordinateIndexes[i]), context, flowFileContext));
+            }
+        }
+
+        return relationships;
+    }
+
+    @Override
+    protected int getRouteBatchSize(final ProcessContext context) {
+        return context.getProperty(LOOKUP_BATCH_SIZE).asInteger();
+    }
+
+    /**
+     * Evaluates the user-defined RecordPaths against the given Record, returning <code>null</code> if any of them
+     * does not select exactly one non-null value, in which case the Record cannot be looked up.
+     */
+    private Map<String, Object> getLookupCoordinates(final Record record, final FlowFile flowFile, final Map<String, RecordPath> recordPaths) {
         final Map<String, Object> lookupCoordinates = new HashMap<>(recordPaths.size());
 
         for (final Map.Entry<String, RecordPath> entry : recordPaths.entrySet()) {
@@ -278,14 +357,14 @@ public class LookupRecord extends AbstractRouteRecord<Tuple<Map<String, RecordPa
             if (lookupFieldValues.isEmpty()) {
                 final Set<Relationship> rels = routeToMatchedUnmatched ? UNMATCHED_COLLECTION : SUCCESS_COLLECTION;
                 getLogger().debug("RecordPath for property '{}' did not match any fields in a record for {}; routing record to {}", new Object[] {coordinateKey, flowFile, rels});
-                return rels;
+                return null;
             }
 
             if (lookupFieldValues.size() > 1) {
                 final Set<Relationship> rels = routeToMatchedUnmatched ? UNMATCHED_COLLECTION : SUCCESS_COLLECTION;
                 getLogger().debug("RecordPath for property '{}' matched {} fields in a record for {}; routing record to {}",
                     new Object[] {coordinateKey, lookupFieldValues.size(), flowFile, rels});
-                return rels;
+                return null;
             }
 
             final FieldValue fieldValue = lookupFieldValues.get(0);
@@ -294,12 +373,11 @@ public class LookupRecord extends AbstractRouteRecord<Tuple<Map<String, RecordPa
             lookupCoordinates.put(coordinateKey, coordinateValue);
         }
 
-        final Optional<?> lookupValueOption;
-        try {
-            lookupValueOption = lookupService.lookup(lookupCoordinates, flowFile.getAttributes());
-        } catch (final Exception e) {
-            throw new ProcessException("Failed to lookup coordinates " + lookupCoordinates + " in Lookup Service", e);
-        }
+        return lookupCoordinates;
+    }
+
+    private Set<Relationship> applyLookupResult(final Record record, final Optional<?> lookupValueOption, final ProcessContext context,
+        final Tuple<Map<String, RecordPath>, RecordPath> flowFileContext) {
 
         if (!lookupValueOption.isPresent()) {
             final Set<Relationship> rels = routeToMatchedUnmatched ? UNMATCHED_COLLECTION : SUCCESS_COLLECTION;
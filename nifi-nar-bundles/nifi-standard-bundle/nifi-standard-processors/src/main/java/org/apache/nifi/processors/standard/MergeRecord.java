@@ -76,7 +76,11 @@ import java.util.stream.Collectors;
     + "This Processor works by creating 'bins' and then adding FlowFiles to these bins until they are full. Once a bin is full, all of the FlowFiles will be combined into "
     + "a single output FlowFile, and that FlowFile will be routed to the 'merged' Relationship. A bin will consist of potentially many 'like FlowFiles'. In order for two "
     + "FlowFiles to be considered 'like FlowFiles', they must have the same Schema (as identified by the Record Reader) and, if the <Correlation Attribute Name> property "
-    + "is set, the same value for the specified attribute. See Processor Usage and Additional Details for more information.")
+    + "is set, the same value for the specified attribute. See Processor Usage and Additional Details for more information. "
+    + "By default, the input FlowFiles are held until their bin is merged, so that they can be routed to 'failure' if the bin cannot be merged. If "
+    + "<Release Originals Early> is true, each input FlowFile is instead routed to 'original' as soon as its records are written to a bin. Delivery of "
+    + "those records is then at-most-once: if the bin cannot be merged, for example because the Record Writer fails or NiFi is restarted while the bin "
+    + "is open, the records are lost, because the FlowFiles that held them have already been released.")
 @ReadsAttributes({
     @ReadsAttribute(attribute = "fragment.identifier", description = "Applicable only if the <Merge Strategy> property is set to Defragment. "
         + "All FlowFiles with the same value for this attribute will be bundled together."),
@@ -211,6 +215,18 @@ public class MergeRecord extends AbstractSessionFactoryProcessor {
         .addValidator(StandardValidators.TIME_PERIOD_VALIDATOR)
         .build();
 
+    public static final PropertyDescriptor RELEASE_ORIGINALS = new PropertyDescriptor.Builder()
+        .name("release-originals-early")
+        .displayName("Release Originals Early")
+        .description("If true, each incoming FlowFile is routed to 'original' as soon as its records have been written to the bin, rather than being held "
+            + "until the bin is merged. This keeps only the merged content and a small amount of bookkeeping per bin, which allows very large bins and many "
+            + "concurrent bins without holding all of their FlowFiles. However, the records of any bin that cannot be completed (for example, because the "
+            + "Record Writer fails or NiFi is restarted while the bin is open) are lost, because the originals have already been released. When the Processor "
+            + "is stopped, open bins are merged rather than rolled back. Only supported with the Bin-Packing Algorithm Merge Strategy.")
+        .required(true)
+        .allowableValues("true", "false")
+        .defaultValue("false")
+        .build();
 
 
     public static final Relationship REL_MERGED = new Relationship.Builder()
@@ -243,6 +259,7 @@ public class MergeRecord extends AbstractSessionFactoryProcessor {
         properties.add(MAX_SIZE);
         properties.add(MAX_BIN_AGE);
         properties.add(MAX_BIN_COUNT);
+        properties.add(RELEASE_ORIGINALS);
         return properties;
     }
 
@@ -308,6 +325,16 @@ public class MergeRecord extends AbstractSessionFactoryProcessor {
                 .build());
         }
 
+        final String mergeStrategy = validationContext.getProperty(MERGE_STRATEGY).getValue();
+        if (MERGE_STRATEGY_DEFRAGMENT.getValue().equals(mergeStrategy) && validationContext.getProperty(RELEASE_ORIGINALS).asBoolean()) {
+            results.add(new ValidationResult.Builder()
+                .subject("Release Originals Early")
+                .input("true")
+                .valid(false)
+                .explanation("<Release Originals Early> cannot be used with the Defragment Merge Strategy because incomplete bundles must be routed to failure")
+                .build());
+        }
+
         return results;
     }
 
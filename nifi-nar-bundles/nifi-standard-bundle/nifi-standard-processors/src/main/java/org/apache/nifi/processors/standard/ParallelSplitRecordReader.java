@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard;
+
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.schema.access.SchemaNotFoundException;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.RecordContentSplitter;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.SplittableRecordReaderFactory;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordSchema;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A RecordReader that divides the content of a FlowFile into splits and parses the splits in parallel, returning the Records in the same order
+ * as they appear in the content. The first split is read by the calling thread, using a Record Reader that is created in the usual way; every
+ * other split is read into memory by the calling thread and parsed by a background thread. At most a fixed number of splits are held in memory
+ * at any one time. If the splitter is unable to split the rest of the content, that remainder is read as a stream by the calling thread once
+ * every split before it has been read.
+ */
+class ParallelSplitRecordReader implements RecordReader {
+    private final SplittableRecordReaderFactory readerFactory;
+    private final RecordContentSplitter splitter;
+    private final Map<String, String> variables;
+    private final InputStream in;
+    private final int splitSize;
+    private final ExecutorService executor;
+    private final int maxSplitsInFlight;
+    private final ComponentLog logger;
+    private final RecordSchema schema;
+
+    private final Deque<Future<SplitResult>> splitsInFlight = new ArrayDeque<>();
+    private RecordReader firstSplitReader;
+    private final int firstSplitBytes;
+    private final long firstSplitStart;
+    private int firstSplitRecordCount = 0;
+    private Iterator<Record> splitRecords = Collections.emptyIterator();
+    private InputStream remainingContent;
+    private RecordReader remainingContentReader;
+    private boolean endOfContent = false;
+    private int splitsSubmitted = 0;
+
+    ParallelSplitRecordReader(final SplittableRecordReaderFactory readerFactory, final RecordContentSplitter splitter, final Map<String, String> variables, final InputStream in,
+                              final int splitSize, final ExecutorService executor, final int maxSplitsInFlight, final ComponentLog logger)
+            throws IOException, MalformedRecordException, SchemaNotFoundException {
+        this.readerFactory = readerFactory;
+        this.splitter = splitter;
+        this.variables = variables;
+        this.in = in;
+        this.splitSize = splitSize;
+        this.executor = executor;
+        this.maxSplitsInFlight = maxSplitsInFlight;
+        this.logger = logger;
+
+        firstSplitStart = System.nanoTime();
+
+        final byte[] firstSplit = splitter.nextSplit(in, splitSize);
+        if (firstSplit == null) {
+            endOfContent = true;
+            firstSplitBytes = 0;
+
+            // The content either is empty or cannot be split at all, in which case it is read as a stream just as it would be without splitting
+            final InputStream unsplitContent = splitter.getRemainingContent(in);
+            if (unsplitContent == null) {
+                firstSplitReader = readerFactory.createRecordReader(variables, new ByteArrayInputStream(new byte[0]), 0, logger);
+            } else {
+                logger.debug("Content could not be split; it will be read by a single thread");
+                firstSplitReader = readerFactory.createRecordReader(variables, unsplitContent, -1, logger);
+            }
+        } else {
+            firstSplitBytes = firstSplit.length;
+            firstSplitReader = readerFactory.createRecordReader(variables, new ByteArrayInputStream(firstSplit), firstSplit.length, logger);
+        }
+
+        schema = firstSplitReader.getSchema();
+    }
+
+    @Override
+    public Record nextRecord(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
+        // Keep the background threads busy while the first split is read by this thread
+        submitSplits(coerceTypes, dropUnknownFields);
+
+        if (firstSplitReader != null) {
+            final Record record = firstSplitReader.nextRecord(coerceTypes, dropUnknownFields);
+            if (record != null) {
+                firstSplitRecordCount++;
+                return record;
+            }
+
+            firstSplitReader.close();
+            firstSplitReader = null;
+            logSplit(0, firstSplitRecordCount, firstSplitBytes, System.nanoTime() - firstSplitStart);
+        }
+
+        while (!splitRecords.hasNext()) {
+            final Future<SplitResult> future = splitsInFlight.poll();
+            if (future == null) {
+                return nextRemainingRecord(coerceTypes, dropUnknownFields);
+            }
+
+            final SplitResult result = getResult(future);
+            logSplit(result.index, result.records.size(), result.bytes, result.nanos);
+
+            splitRecords = result.records.iterator();
+            submitSplits(coerceTypes, dropUnknownFields);
+        }
+
+        return splitRecords.next();
+    }
+
+    private Record nextRemainingRecord(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
+        if (remainingContent == null) {
+            return null;
+        }
+
+        if (remainingContentReader == null) {
+            logger.debug("The rest of the content could not be split after {} splits; it will be read by a single thread", new Object[] {splitsSubmitted + 1});
+            final InputStream prefixedContent = new SequenceInputStream(new ByteArrayInputStream(splitter.getSplitPrefix()), remainingContent);
+            try {
+                remainingContentReader = readerFactory.createSplitRecordReader(variables, prefixedContent, schema, logger);
+            } catch (final SchemaNotFoundException e) {
+                throw new IOException("Failed to create a Record Reader for the remainder of the content", e);
+            }
+        }
+
+        return remainingContentReader.nextRecord(coerceTypes, dropUnknownFields);
+    }
+
+    private void logSplit(final int index, final int recordCount, final int bytes, final long nanos) {
+        if (logger.isDebugEnabled()) {
+            final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            final long bytesPerSecond = nanos == 0 ? 0 : bytes * TimeUnit.SECONDS.toNanos(1) / nanos;
+            logger.debug("Read {} records from split {} of {} bytes in {} millis ({} bytes/second)", new Object[] {recordCount, index, bytes, millis, bytesPerSecond});
+        }
+    }
+
+    private void submitSplits(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException {
+        while (!endOfContent && splitsInFlight.size() < maxSplitsInFlight) {
+            final byte[] split = splitter.nextSplit(in, splitSize);
+            if (split == null) {
+                endOfContent = true;
+                remainingContent = splitter.getRemainingContent(in);
+                return;
+            }
+
+            final int index = ++splitsSubmitted;
+            final byte[] prefix = splitter.getSplitPrefix();
+            splitsInFlight.add(executor.submit(() -> readSplit(index, prefix, split, coerceTypes, dropUnknownFields)));
+        }
+    }
+
+    private SplitResult readSplit(final int index, final byte[] prefix, final byte[] split, final boolean coerceTypes, final boolean dropUnknownFields) throws Exception {
+        final long start = System.nanoTime();
+        final List<Record> records = new ArrayList<>();
+
+        final InputStream splitIn = new SequenceInputStream(new ByteArrayInputStream(prefix), new ByteArrayInputStream(split));
+        try (final RecordReader reader = readerFactory.createSplitRecordReader(variables, splitIn, schema, logger)) {
+            Record record;
+            while ((record = reader.nextRecord(coerceTypes, dropUnknownFields)) != null) {
+                records.add(record);
+            }
+        }
+
+        return new SplitResult(index, split.length, records, System.nanoTime() - start);
+    }
+
+    private SplitResult getResult(final Future<SplitResult> future) throws IOException, MalformedRecordException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a split of the content to be read", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof MalformedRecordException) {
+                throw (MalformedRecordException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new IOException("Failed to read a split of the content", cause);
+        }
+    }
+
+    @Override
+    public RecordSchema getSchema() {
+        return schema;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Future<SplitResult> future : splitsInFlight) {
+            future.cancel(true);
+        }
+        splitsInFlight.clear();
+
+        if (firstSplitReader != null) {
+            firstSplitReader.close();
+            firstSplitReader = null;
+        }
+
+        if (remainingContentReader != null) {
+            remainingContentReader.close();
+            remainingContentReader = null;
+        }
+    }
+
+    private static class SplitResult {
+        private final int index;
+        private final int bytes;
+        private final List<Record> records;
+        private final long nanos;
+
+        private SplitResult(final int index, final int bytes, final List<Record> records, final long nanos) {
+            this.index = index;
+            this.bytes = bytes;
+            this.records = records;
+            this.nanos = nanos;
+        }
+    }
+}
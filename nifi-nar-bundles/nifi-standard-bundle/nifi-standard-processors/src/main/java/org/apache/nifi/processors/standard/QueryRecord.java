@@ -46,12 +46,14 @@ import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.processor.AbstractProcessor;
+import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.ProcessorInitializationContext;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.processor.io.OutputStreamCallback;
+import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.queryrecord.FlowFileTable;
 import org.apache.nifi.record.path.FieldValue;
 import org.apache.nifi.record.path.RecordPath;
@@ -166,6 +168,17 @@ public class QueryRecord extends AbstractProcessor {
         .defaultValue("true")
         .required(true)
         .build();
+    static final PropertyDescriptor MAX_BUFFERED_CONTENT_SIZE = new PropertyDescriptor.Builder()
+        .name("max-buffered-content-size")
+        .displayName("Max Buffered Content Size")
+        .description("When more than one query is configured, the records of a FlowFile whose content is no larger than this are parsed only once and held in memory, "
+            + "and every query is evaluated against those records. Larger FlowFiles are parsed once for each query. Note that the parsed records generally take up "
+            + "considerably more heap than the content they were read from. A value of 0 B disables this.")
+        .expressionLanguageSupported(ExpressionLanguageScope.NONE)
+        .addValidator(StandardValidators.DATA_SIZE_VALIDATOR)
+        .defaultValue("10 MB")
+        .required(true)
+        .build();
 
     public static final Relationship REL_ORIGINAL = new Relationship.Builder()
         .name("original")
@@ -199,6 +212,7 @@ public class QueryRecord extends AbstractProcessor {
         properties.add(RECORD_WRITER_FACTORY);
         properties.add(INCLUDE_ZERO_RECORD_FLOWFILES);
         properties.add(CACHE_SCHEMA);
+        properties.add(MAX_BUFFERED_CONTENT_SIZE);
         this.properties = Collections.unmodifiableList(properties);
 
         relationships.add(REL_FAILURE);
@@ -281,15 +295,32 @@ public class QueryRecord extends AbstractProcessor {
         final Map<FlowFile, Relationship> transformedFlowFiles = new HashMap<>();
         final Set<FlowFile> createdFlowFiles = new HashSet<>();
 
+        // If more than one query is to be run and the FlowFile is small enough, parse the records only once and run all queries against them.
+        final long queryCount = context.getProperties().keySet().stream()
+            .filter(PropertyDescriptor::isDynamic)
+            .count();
+        final boolean bufferRecords = queryCount > 1 && original.getSize() <= context.getProperty(MAX_BUFFERED_CONTENT_SIZE).asDataSize(DataUnit.B);
+
         // Determine the Record Reader's schema
         final RecordSchema writerSchema;
         final RecordSchema readerSchema;
+        final List<Record> bufferedRecords;
         try (final InputStream rawIn = session.read(original)) {
             final Map<String, String> originalAttributes = original.getAttributes();
             final RecordReader reader = recordReaderFactory.createRecordReader(originalAttributes, rawIn, original.getSize(), getLogger());
             readerSchema = reader.getSchema();
 
             writerSchema = recordSetWriterFactory.getSchema(originalAttributes, readerSchema);
+
+            if (bufferRecords) {
+                bufferedRecords = new ArrayList<>();
+                Record record;
+                while ((record = reader.nextRecord()) != null) {
+                    bufferedRecords.add(record);
+                }
+            } else {
+                bufferedRecords = null;
+            }
         } catch (final Exception e) {
             getLogger().error("Failed to determine Record Schema from {}; routing to failure", new Object[] {original, e});
             session.transfer(original, REL_FAILURE);
@@ -317,7 +348,7 @@ public class QueryRecord extends AbstractProcessor {
                 try {
                     final String sql = context.getProperty(descriptor).evaluateAttributeExpressions(original).getValue();
                     final AtomicReference<WriteResult> writeResultRef = new AtomicReference<>();
-                    final QueryResult queryResult = query(session, original, readerSchema, sql, recordReaderFactory);
+                    final QueryResult queryResult = query(session, original, bufferedRecords, readerSchema, sql, recordReaderFactory);
 
                     final AtomicReference<String> mimeTypeRef = new AtomicReference<>();
                     try {
@@ -450,15 +481,15 @@ public class QueryRecord extends AbstractProcessor {
     }
 
 
-    protected QueryResult query(final ProcessSession session, final FlowFile flowFile, final RecordSchema schema, final String sql, final RecordReaderFactory recordReaderFactory)
-                throws SQLException {
+    protected QueryResult query(final ProcessSession session, final FlowFile flowFile, final List<Record> records, final RecordSchema schema, final String sql,
+                                final RecordReaderFactory recordReaderFactory) throws SQLException {
 
         final Supplier<CachedStatement> statementBuilder = () -> buildCachedStatement(sql, session, flowFile, schema, recordReaderFactory);
 
         final CachedStatement cachedStatement = getStatement(sql, schema, statementBuilder);
         final PreparedStatement stmt = cachedStatement.getStatement();
         final FlowFileTable table = cachedStatement.getTable();
-        table.setFlowFile(session, flowFile);
+        table.setFlowFile(session, flowFile, records);
 
         final ResultSet rs;
         try {
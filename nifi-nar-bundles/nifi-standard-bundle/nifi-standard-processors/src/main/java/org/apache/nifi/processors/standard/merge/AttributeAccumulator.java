@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.processors.standard.merge;
+
+import java.util.Map;
+
+import org.apache.nifi.flowfile.FlowFile;
+
+/**
+ * Incrementally computes the attributes of a merged FlowFile, one input FlowFile at a time, so that a bin does not
+ * need to hold on to every FlowFile that it has consumed in order to determine the attributes of the bundle.
+ */
+public interface AttributeAccumulator {
+
+    void add(FlowFile flowFile);
+
+    Map<String, String> getMergedAttributes();
+}
@@ -23,5 +23,15 @@ import java.util.Map;
 import org.apache.nifi.flowfile.FlowFile;
 
 public interface AttributeStrategy {
-    Map<String, String> getMergedAttributes(List<FlowFile> flowFiles);
+
+    AttributeAccumulator createAccumulator();
+
+    default Map<String, String> getMergedAttributes(List<FlowFile> flowFiles) {
+        final AttributeAccumulator accumulator = createAccumulator();
+        if (flowFiles != null) {
+            flowFiles.forEach(accumulator::add);
+        }
+
+        return accumulator.getMergedAttributes();
+    }
 }
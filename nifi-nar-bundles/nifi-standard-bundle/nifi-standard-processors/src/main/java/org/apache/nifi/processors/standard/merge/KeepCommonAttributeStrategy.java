@@ -18,7 +18,6 @@
 package org.apache.nifi.processors.standard.merge;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.apache.nifi.flowfile.FlowFile;
@@ -27,38 +26,36 @@ import org.apache.nifi.flowfile.attributes.CoreAttributes;
 public class KeepCommonAttributeStrategy implements AttributeStrategy {
 
     @Override
-    public Map<String, String> getMergedAttributes(final List<FlowFile> flowFiles) {
-        final Map<String, String> result = new HashMap<>();
-
-        //trivial cases
-        if (flowFiles == null || flowFiles.isEmpty()) {
-            return result;
-        } else if (flowFiles.size() == 1) {
-            result.putAll(flowFiles.iterator().next().getAttributes());
-        }
+    public AttributeAccumulator createAccumulator() {
+        return new CommonAttributeAccumulator();
+    }
 
-        /*
-         * Start with the first attribute map and only put an entry to the
-         * resultant map if it is common to every map.
-         */
-        final Map<String, String> firstMap = flowFiles.iterator().next().getAttributes();
+    private static class CommonAttributeAccumulator implements AttributeAccumulator {
+        private Map<String, String> common;
 
-        outer: for (final Map.Entry<String, String> mapEntry : firstMap.entrySet()) {
-            final String key = mapEntry.getKey();
-            final String value = mapEntry.getValue();
+        @Override
+        public void add(final FlowFile flowFile) {
+            final Map<String, String> currMap = flowFile.getAttributes();
 
-            for (final FlowFile flowFile : flowFiles) {
-                final Map<String, String> currMap = flowFile.getAttributes();
-                final String curVal = currMap.get(key);
-                if (curVal == null || !curVal.equals(value)) {
-                    continue outer;
-                }
+            /*
+             * Start with the first attribute map and only keep an entry in the
+             * resultant map while it is common to every map that is added.
+             */
+            if (common == null) {
+                common = new HashMap<>(currMap);
+                return;
             }
-            result.put(key, value);
+
+            common.entrySet().removeIf(entry -> !entry.getValue().equals(currMap.get(entry.getKey())));
         }
 
-        // Never copy the UUID from the parents - which could happen if we don't remove it and there is only 1 parent.
-        result.remove(CoreAttributes.UUID.key());
-        return result;
+        @Override
+        public Map<String, String> getMergedAttributes() {
+            final Map<String, String> result = common == null ? new HashMap<>() : new HashMap<>(common);
+
+            // Never copy the UUID from the parents - which could happen if we don't remove it and there is only 1 parent.
+            result.remove(CoreAttributes.UUID.key());
+            return result;
+        }
     }
-}
\ No newline at end of file
+}
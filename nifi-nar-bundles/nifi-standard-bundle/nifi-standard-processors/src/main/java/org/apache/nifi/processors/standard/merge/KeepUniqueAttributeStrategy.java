@@ -19,7 +19,6 @@ package org.apache.nifi.processors.standard.merge;
 
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,11 +28,16 @@ import org.apache.nifi.flowfile.attributes.CoreAttributes;
 public class KeepUniqueAttributeStrategy implements AttributeStrategy {
 
     @Override
-    public Map<String, String> getMergedAttributes(final List<FlowFile> flowFiles) {
-        final Map<String, String> newAttributes = new HashMap<>();
-        final Set<String> conflicting = new HashSet<>();
+    public AttributeAccumulator createAccumulator() {
+        return new UniqueAttributeAccumulator();
+    }
+
+    private static class UniqueAttributeAccumulator implements AttributeAccumulator {
+        private final Map<String, String> newAttributes = new HashMap<>();
+        private final Set<String> conflicting = new HashSet<>();
 
-        for (final FlowFile flowFile : flowFiles) {
+        @Override
+        public void add(final FlowFile flowFile) {
             for (final Map.Entry<String, String> attributeEntry : flowFile.getAttributes().entrySet()) {
                 final String name = attributeEntry.getKey();
                 final String value = attributeEntry.getValue();
@@ -47,12 +51,16 @@ public class KeepUniqueAttributeStrategy implements AttributeStrategy {
             }
         }
 
-        for (final String attributeToRemove : conflicting) {
-            newAttributes.remove(attributeToRemove);
-        }
+        @Override
+        public Map<String, String> getMergedAttributes() {
+            final Map<String, String> result = new HashMap<>(newAttributes);
+            for (final String attributeToRemove : conflicting) {
+                result.remove(attributeToRemove);
+            }
 
-        // Never copy the UUID from the parents - which could happen if we don't remove it and there is only 1 parent.
-        newAttributes.remove(CoreAttributes.UUID.key());
-        return newAttributes;
+            // Never copy the UUID from the parents - which could happen if we don't remove it and there is only 1 parent.
+            result.remove(CoreAttributes.UUID.key());
+            return result;
+        }
     }
-}
\ No newline at end of file
+}
@@ -51,9 +51,14 @@ public class RecordBin {
     private final ProcessSession session;
     private final RecordSetWriterFactory writerFactory;
     private final RecordBinThresholds thresholds;
-    private final ProcessContext context;
+    private final AttributeAccumulator attributeAccumulator;
+    private final boolean releaseOriginals;
 
+    // Input FlowFiles are only retained if they are not released to 'original' as soon as they have been written to the bin.
     private final List<FlowFile> flowFiles = new ArrayList<>();
+    // Released FlowFiles have already been committed by another session. Only their records are kept, so that the JOIN event of the merged
+    // FlowFile can name them as its parents; their content and their place in a session are not.
+    private final List<FlowFile> releasedFlowFiles = new ArrayList<>();
     private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
     private final Lock readLock = rwLock.readLock();
     private final Lock writeLock = rwLock.writeLock();
@@ -64,6 +69,7 @@ public class RecordBin {
     private ByteCountingOutputStream out;
     private int recordCount = 0;
     private int fragmentCount = 0;
+    private int flowFileCount = 0;
     private volatile boolean complete = false;
 
     private static final AtomicLong idGenerator = new AtomicLong(0L);
@@ -76,7 +82,8 @@ public class RecordBin {
         this.session = session;
         this.writerFactory = context.getProperty(MergeRecord.RECORD_WRITER).asControllerService(RecordSetWriterFactory.class);
         this.logger = logger;
-        this.context = context;
+        this.attributeAccumulator = AttributeStrategyUtil.strategyFor(context).createAccumulator();
+        this.releaseOriginals = context.getProperty(MergeRecord.RELEASE_ORIGINALS).asBoolean();
 
         this.merged = session.create();
         this.thresholds = thresholds;
@@ -95,6 +102,14 @@ public class RecordBin {
         return complete;
     }
 
+    /**
+     * @return <code>true</code> if the input FlowFiles of this bin are routed to 'original' as soon as their records are written, in which case
+     *         the bin must be completed rather than rolled back in order to avoid losing those records
+     */
+    public boolean isReleasingOriginals() {
+        return releaseOriginals;
+    }
+
     public boolean offer(final FlowFile flowFile, final RecordReader recordReader, final ProcessSession flowFileSession, final boolean block) throws IOException {
         if (isComplete()) {
             logger.debug("RecordBin.offer for id={} returning false because {} is complete", new Object[] {flowFile.getId(), this});
@@ -144,11 +159,24 @@ public class RecordBin {
             // here because it needs to be closed before we are able to migrate the FlowFile
             // to a new Session.
             recordReader.close();
-            flowFileSession.migrate(this.session, Collections.singleton(flowFile));
-            flowFileMigrated = true;
-            this.flowFiles.add(flowFile);
+            flowFileCount++;
+            attributeAccumulator.add(flowFile);
+
+            if (releaseOriginals) {
+                final FlowFile released = flowFileSession.putAttribute(flowFile, MergeRecord.MERGE_UUID_ATTRIBUTE, merged.getAttribute(CoreAttributes.UUID.key()));
+                flowFileSession.transfer(released, MergeRecord.REL_ORIGINAL);
+                flowFileMigrated = true;
+                this.releasedFlowFiles.add(released);
+            } else {
+                flowFileSession.migrate(this.session, Collections.singleton(flowFile));
+                flowFileMigrated = true;
+                this.flowFiles.add(flowFile);
+            }
 
-            thresholds.getFragmentCountAttribute().ifPresent(this::validateFragmentCount);
+            final Optional<String> countAttr = thresholds.getFragmentCountAttribute();
+            if (countAttr.isPresent()) {
+                validateFragmentCount(countAttr.get(), flowFile);
+            }
 
             if (recordCount >= getMinimumRecordCount()) {
                 // If we have met our minimum record count, we need to flush so that when we reach the desired number of bytes
@@ -166,7 +194,12 @@ public class RecordBin {
 
             return true;
         } catch (final Exception e) {
-            logger.error("Failed to create merged FlowFile from " + (flowFiles.size() + 1) + " input FlowFiles; routing originals to failure", e);
+            if (releaseOriginals && flowFileCount > 0) {
+                logger.error("Failed to create merged FlowFile from " + (flowFileCount + 1) + " input FlowFiles; the records of the " + flowFileCount
+                    + " input FlowFiles that were already released to 'original' are lost; routing " + flowFile + " to failure", e);
+            } else {
+                logger.error("Failed to create merged FlowFile from " + (flowFiles.size() + 1) + " input FlowFiles; routing originals to failure", e);
+            }
 
             try {
                 // This will be closed by the MergeRecord class anyway but we have to close it
@@ -236,7 +269,7 @@ public class RecordBin {
     public boolean isFullEnough() {
         readLock.lock();
         try {
-            if (flowFiles.isEmpty()) {
+            if (flowFileCount == 0) {
                 return false;
             }
 
@@ -305,44 +338,42 @@ public class RecordBin {
     }
 
     /**
-     * Ensure that at least one FlowFile has a fragment.count attribute and that they all have the same value, if they have a value.
+     * Ensure that the given FlowFile's fragment.count attribute, if it has one, matches the value seen on the other FlowFiles in the bin, and that
+     * at least one FlowFile added so far has a value. Each FlowFile is validated as it is added so that the bin never has to re-scan its contents.
      */
-    private void validateFragmentCount(String countAttributeName) {
-        Integer expectedFragmentCount = thresholds.getFragmentCount();
-        for (final FlowFile flowFile : flowFiles) {
-            final String countVal = flowFile.getAttribute(countAttributeName);
-            if (countVal == null) {
-                continue;
-            }
+    private void validateFragmentCount(final String countAttributeName, final FlowFile flowFile) {
+        final Integer expectedFragmentCount = thresholds.getFragmentCount();
+        final String countVal = flowFile.getAttribute(countAttributeName);
 
+        if (countVal != null) {
             final int count;
             try {
                 count = Integer.parseInt(countVal);
             } catch (final NumberFormatException nfe) {
                 logger.error("Could not merge bin with {} FlowFiles because the '{}' attribute had a value of '{}' for {} but expected a number",
-                    new Object[] {flowFiles.size(), countAttributeName, countVal, flowFile});
+                    new Object[] {flowFileCount, countAttributeName, countVal, flowFile});
                 fail();
                 return;
             }
 
             if (expectedFragmentCount != null && count != expectedFragmentCount) {
                 logger.error("Could not merge bin with {} FlowFiles because the '{}' attribute had a value of '{}' for {} but another FlowFile in the bin had a value of {}",
-                    new Object[] {flowFiles.size(), countAttributeName, countVal, flowFile, expectedFragmentCount});
+                    new Object[] {flowFileCount, countAttributeName, countVal, flowFile, expectedFragmentCount});
                 fail();
                 return;
             }
 
             if (expectedFragmentCount == null) {
-                expectedFragmentCount = count;
                 thresholds.setFragmentCount(count);
             }
+
+            return;
         }
 
         if (expectedFragmentCount == null) {
             logger.error("Could not merge bin with {} FlowFiles because the '{}' attribute was not present on any of the FlowFiles",
-                new Object[] {flowFiles.size(), countAttributeName});
+                new Object[] {flowFileCount, countAttributeName});
             fail();
-            return;
         }
     }
 
@@ -361,44 +392,43 @@ public class RecordBin {
             recordWriter.close();
             logger.debug("Closed Record Writer using session {} for {}", new Object[] {session, this});
 
-            if (flowFiles.isEmpty()) {
+            if (flowFileCount == 0) {
                 session.remove(merged);
                 return;
             }
 
             final Optional<String> countAttr = thresholds.getFragmentCountAttribute();
             if (countAttr.isPresent()) {
-                validateFragmentCount(countAttr.get());
-
                 // If using defragment mode, and we don't have enough FlowFiles, then we need to fail this bin.
-                Integer expectedFragmentCount = thresholds.getFragmentCount();
-                if (expectedFragmentCount != flowFiles.size()) {
+                final Integer expectedFragmentCount = thresholds.getFragmentCount();
+                if (expectedFragmentCount == null || expectedFragmentCount != flowFileCount) {
                     logger.error("Could not merge bin with {} FlowFiles because the '{}' attribute had a value of '{}' but only {} of {} FlowFiles were encountered before this bin was evicted "
                                     + "(due to to Max Bin Age being reached or due to the Maximum Number of Bins being exceeded).",
-                            new Object[] {flowFiles.size(), countAttr.get(), expectedFragmentCount, flowFiles.size(), expectedFragmentCount});
+                            new Object[] {flowFileCount, countAttr.get(), expectedFragmentCount, flowFileCount, expectedFragmentCount});
                     fail();
                     return;
                 }
             }
 
             final Map<String, String> attributes = new HashMap<>();
-
-            final AttributeStrategy attributeStrategy = AttributeStrategyUtil.strategyFor(context);
-            final Map<String, String> mergedAttributes = attributeStrategy.getMergedAttributes(flowFiles);
-            attributes.putAll(mergedAttributes);
+            attributes.putAll(attributeAccumulator.getMergedAttributes());
 
             attributes.putAll(writeResult.getAttributes());
             attributes.put("record.count", String.valueOf(writeResult.getRecordCount()));
             attributes.put(CoreAttributes.MIME_TYPE.key(), recordWriter.getMimeType());
-            attributes.put(MergeRecord.MERGE_COUNT_ATTRIBUTE, Integer.toString(flowFiles.size()));
+            attributes.put(MergeRecord.MERGE_COUNT_ATTRIBUTE, Integer.toString(flowFileCount));
             attributes.put(MergeRecord.MERGE_BIN_AGE_ATTRIBUTE, Long.toString(getBinAge()));
 
             merged = session.putAllAttributes(merged, attributes);
-            flowFiles.forEach(ff -> session.putAttribute(ff, MergeRecord.MERGE_UUID_ATTRIBUTE, merged.getAttribute(CoreAttributes.UUID.key())));
+            if (releaseOriginals) {
+                session.getProvenanceReporter().join(releasedFlowFiles, merged, "Records Merged due to: " + completionReason);
+            } else {
+                flowFiles.forEach(ff -> session.putAttribute(ff, MergeRecord.MERGE_UUID_ATTRIBUTE, merged.getAttribute(CoreAttributes.UUID.key())));
+                session.getProvenanceReporter().join(flowFiles, merged, "Records Merged due to: " + completionReason);
+                session.transfer(flowFiles, MergeRecord.REL_ORIGINAL);
+            }
 
-            session.getProvenanceReporter().join(flowFiles, merged, "Records Merged due to: " + completionReason);
             session.transfer(merged, MergeRecord.REL_MERGED);
-            session.transfer(flowFiles, MergeRecord.REL_ORIGINAL);
             session.adjustCounter("Records Merged", writeResult.getRecordCount(), false);
             session.commit();
 
@@ -418,7 +448,7 @@ public class RecordBin {
     public String toString() {
         readLock.lock();
         try {
-            return "RecordBin[size=" + flowFiles.size() + ", full=" + isFull() + ", isComplete=" + isComplete() + ", id=" + id + "]";
+            return "RecordBin[size=" + flowFileCount + ", full=" + isFull() + ", isComplete=" + isComplete() + ", id=" + id + "]";
         } finally {
             readLock.unlock();
         }
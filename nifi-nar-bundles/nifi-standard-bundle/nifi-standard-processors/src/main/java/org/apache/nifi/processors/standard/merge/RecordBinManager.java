@@ -32,6 +32,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -51,6 +53,8 @@ public class RecordBinManager {
 
     private final AtomicLong maxBinAgeNanos = new AtomicLong(Long.MAX_VALUE);
     private final Map<String, List<RecordBin>> groupBinMap = new HashMap<>(); // guarded by lock
+    // Every open bin and its group, in the order that the bins were added, so that the oldest bin can be found without scanning every group.
+    private final Map<RecordBin, String> binGroupsByAge = new LinkedHashMap<>(); // guarded by lock
     private final Lock lock = new ReentrantLock();
 
     private final AtomicInteger binCount = new AtomicInteger(0);
@@ -72,10 +76,15 @@ public class RecordBinManager {
         try {
             for (final List<RecordBin> binList : groupBinMap.values()) {
                 for (final RecordBin bin : binList) {
-                    bin.rollback();
+                    if (bin.isReleasingOriginals()) {
+                        completeReleasedBin(bin);
+                    } else {
+                        bin.rollback();
+                    }
                 }
             }
             groupBinMap.clear();
+            binGroupsByAge.clear();
             binCount.set(0);
         } finally {
             lock.unlock();
@@ -83,6 +92,19 @@ public class RecordBinManager {
     }
 
 
+    /**
+     * The input FlowFiles of a bin that releases its originals early have already been routed to 'original', so rolling back
+     * the bin would lose their records. Instead, the bin is merged with whatever it contains.
+     */
+    private void completeReleasedBin(final RecordBin bin) {
+        try {
+            bin.complete("Processor was stopped");
+        } catch (final Exception e) {
+            logger.error("Failed to complete {} while stopping; the records that were written to it are lost", new Object[] {bin, e});
+            bin.rollback();
+        }
+    }
+
     public void setMaxBinAge(final Long timePeriod, final TimeUnit timeUnit) {
         if (timePeriod == null) {
             maxBinAgeNanos.set(Long.MAX_VALUE);
@@ -169,6 +191,7 @@ public class RecordBinManager {
                 // track of a Bin. If we don't lose this, we could completely lose a Bin.
                 final List<RecordBin> bins = groupBinMap.computeIfAbsent(groupIdentifier, grpId -> new CopyOnWriteArrayList<>());
                 bins.add(bin);
+                binGroupsByAge.put(bin, groupIdentifier);
             } finally {
                 lock.unlock();
             }
@@ -211,21 +234,15 @@ public class RecordBinManager {
 
         lock.lock();
         try {
-            String oldestBinGroup = null;
-
-            for (final Map.Entry<String, List<RecordBin>> group : groupBinMap.entrySet()) {
-                for (final RecordBin bin : group.getValue()) {
-                    if (oldestBin == null || bin.isOlderThan(oldestBin)) {
-                        oldestBin = bin;
-                        oldestBinGroup = group.getKey();
-                    }
-                }
-            }
-
-            if (oldestBin == null) {
+            final Iterator<Map.Entry<RecordBin, String>> itr = binGroupsByAge.entrySet().iterator();
+            if (!itr.hasNext()) {
                 return;
             }
 
+            final Map.Entry<RecordBin, String> oldest = itr.next();
+            oldestBin = oldest.getKey();
+            final String oldestBinGroup = oldest.getValue();
+
             removeBins(oldestBinGroup, Collections.singletonList(oldestBin));
         } finally {
             lock.unlock();
@@ -290,6 +307,7 @@ public class RecordBinManager {
             if (list != null) {
                 final int initialSize = list.size();
                 list.removeAll(bins);
+                bins.forEach(binGroupsByAge::remove);
 
                 // Determine how many items were removed from the list and
                 // update our binCount to keep track of this.
@@ -22,18 +22,24 @@ import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.exception.ProcessException;
+import org.apache.nifi.serialization.BatchRecordReader;
 import org.apache.nifi.serialization.RecordReader;
 import org.apache.nifi.serialization.RecordReaderFactory;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 
 import java.io.InputStream;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 public class FlowFileEnumerator implements Enumerator<Object> {
+    private static final int RECORD_BATCH_SIZE = 1024;
+
     private final ProcessSession session;
     private final FlowFile flowFile;
+    private final List<Record> records;
     private final ComponentLog logger;
     private final RecordReaderFactory recordParserFactory;
     private final int[] fields;
@@ -41,11 +47,24 @@ public class FlowFileEnumerator implements Enumerator<Object> {
     private InputStream rawIn;
     private Object currentRow;
     private RecordReader recordParser;
+    private Iterator<Record> recordIterator;
+    private RecordBatch recordBatch;
+    private int batchRow;
     private int recordsRead = 0;
 
     public FlowFileEnumerator(final ProcessSession session, final FlowFile flowFile, final ComponentLog logger, final RecordReaderFactory parserFactory, final int[] fields) {
+        this(session, flowFile, null, logger, parserFactory, fields);
+    }
+
+    /**
+     * Creates an enumerator over the given records, which were already parsed from the FlowFile. If <code>records</code> is null,
+     * the records are instead parsed from the FlowFile's content.
+     */
+    public FlowFileEnumerator(final ProcessSession session, final FlowFile flowFile, final List<Record> records, final ComponentLog logger, final RecordReaderFactory parserFactory,
+                              final int[] fields) {
         this.session = session;
         this.flowFile = flowFile;
+        this.records = records;
         this.recordParserFactory = parserFactory;
         this.logger = logger;
         this.fields = fields;
@@ -61,8 +80,8 @@ public class FlowFileEnumerator implements Enumerator<Object> {
     public boolean moveNext() {
         currentRow = null;
         try {
-            final Record record = recordParser.nextRecord();
-            if (record == null) {
+            final Object[] row = nextRow();
+            if (row == null) {
                 // If we are out of data, close the InputStream. We do this because
                 // Calcite does not necessarily call our close() method.
                 close();
@@ -75,7 +94,7 @@ public class FlowFileEnumerator implements Enumerator<Object> {
                 return false;
             }
 
-            currentRow = filterColumns(record);
+            currentRow = filterColumns(row);
         } catch (final Exception e) {
             throw new ProcessException("Failed to read next record in stream for " + flowFile + " due to " + e.getMessage(), e);
         }
@@ -84,6 +103,37 @@ public class FlowFileEnumerator implements Enumerator<Object> {
         return true;
     }
 
+    private Object[] nextRow() throws Exception {
+        if (recordIterator != null) {
+            return recordIterator.hasNext() ? recordIterator.next().getValues() : null;
+        }
+
+        if (recordBatch != null) {
+            return nextBatchRow();
+        }
+
+        final Record record = recordParser.nextRecord();
+        return record == null ? null : record.getValues();
+    }
+
+    private Object[] nextBatchRow() throws Exception {
+        if (batchRow >= recordBatch.getRowCount()) {
+            batchRow = 0;
+            if (((BatchRecordReader) recordParser).nextBatch(recordBatch) == 0) {
+                return null;
+            }
+        }
+
+        // Build the row straight from the batch's columns, rather than creating a Record for it
+        final Object[] row = new Object[recordBatch.getSchema().getFieldCount()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = recordBatch.getValue(batchRow, i);
+        }
+
+        batchRow++;
+        return row;
+    }
+
     protected int getRecordsRead() {
         return recordsRead;
     }
@@ -91,13 +141,7 @@ public class FlowFileEnumerator implements Enumerator<Object> {
     protected void onFinish() {
     }
 
-    private Object filterColumns(final Record record) {
-        if (record == null) {
-            return null;
-        }
-
-        final Object[] row = record.getValues();
-
+    private Object filterColumns(final Object[] row) {
         // If we want no fields or if the row is null, just return null
         if (fields == null || row == null) {
             return row;
@@ -136,6 +180,11 @@ public class FlowFileEnumerator implements Enumerator<Object> {
 
     @Override
     public void reset() {
+        if (records != null) {
+            recordIterator = records.iterator();
+            return;
+        }
+
         if (rawIn != null) {
             try {
                 rawIn.close();
@@ -148,6 +197,8 @@ public class FlowFileEnumerator implements Enumerator<Object> {
 
         try {
             recordParser = recordParserFactory.createRecordReader(flowFile, rawIn, logger);
+            recordBatch = recordParser instanceof BatchRecordReader ? new RecordBatch(recordParser.getSchema(), RECORD_BATCH_SIZE) : null;
+            batchRow = 0;
         } catch (final Exception e) {
             throw new ProcessException("Failed to reset stream", e);
         }
@@ -163,10 +214,12 @@ public class FlowFileEnumerator implements Enumerator<Object> {
             }
         }
 
-        try {
-            rawIn.close();
-        } catch (final Exception e) {
-            logger.warn("Failed to close InputStream for " + flowFile, e);
+        if (rawIn != null) {
+            try {
+                rawIn.close();
+            } catch (final Exception e) {
+                logger.warn("Failed to close InputStream for " + flowFile, e);
+            }
         }
     }
 }
@@ -62,6 +62,7 @@ public class FlowFileTable extends AbstractTable implements QueryableTable, Tran
 
     private volatile ProcessSession session;
     private volatile FlowFile flowFile;
+    private volatile List<Record> records;
     private volatile int maxRecordsRead;
 
     private final Set<FlowFileEnumerator> enumerators = new HashSet<>();
@@ -78,8 +79,17 @@ public class FlowFileTable extends AbstractTable implements QueryableTable, Tran
     }
 
     public void setFlowFile(final ProcessSession session, final FlowFile flowFile) {
+        setFlowFile(session, flowFile, null);
+    }
+
+    /**
+     * Sets the FlowFile to query. If <code>records</code> is not null, it must hold the records that were already parsed from
+     * the FlowFile, and queries will be run against those records rather than parsing the FlowFile's content again.
+     */
+    public void setFlowFile(final ProcessSession session, final FlowFile flowFile, final List<Record> records) {
         this.session = session;
         this.flowFile = flowFile;
+        this.records = records;
         this.maxRecordsRead = 0;
     }
 
@@ -95,6 +105,9 @@ public class FlowFileTable extends AbstractTable implements QueryableTable, Tran
                 enumerator.close();
             }
         }
+
+        // Do not hold on to the records once the query is complete, as this table may be cached for the next FlowFile.
+        records = null;
     }
 
     /**
@@ -108,7 +121,7 @@ public class FlowFileTable extends AbstractTable implements QueryableTable, Tran
             @Override
             @SuppressWarnings({"unchecked", "rawtypes"})
             public Enumerator<Object> enumerator() {
-                final FlowFileEnumerator flowFileEnumerator = new FlowFileEnumerator(session, flowFile, logger, recordReaderFactory, fields) {
+                final FlowFileEnumerator flowFileEnumerator = new FlowFileEnumerator(session, flowFile, records, logger, recordReaderFactory, fields) {
                     @Override
                     protected void onFinish() {
                         final int recordCount = getRecordsRead();
@@ -27,9 +27,16 @@ import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.nifi.avro.AvroRecordSetWriter;
+import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.controller.ControllerService;
 import org.apache.nifi.csv.CSVReader;
 import org.apache.nifi.csv.CSVRecordSetWriter;
 import org.apache.nifi.csv.CSVUtils;
@@ -269,4 +276,151 @@ public class TestConvertRecord {
                 "`123`\t`John`\t`|'^`\n";
         assertEquals(expected, new String(flowFile.toByteArray()));
     }
+
+    @Test
+    public void testBatchConversionFromCSVToAvro() throws InitializationException, IOException {
+        final String schemaText = "{\"type\": \"record\", \"name\": \"person\", \"fields\": [{\"name\": \"id\", \"type\": \"int\"}, {\"name\": \"name\", \"type\": \"string\"}]}";
+        final TestRunner runner = TestRunners.newTestRunner(ConvertRecord.class);
+
+        // the byte-scanning CSV reader and the Avro writer both support record batches, so records are copied in batches
+        final CSVReader csvReader = new CSVReader();
+        runner.addControllerService("reader", csvReader);
+        runner.setProperty(csvReader, SchemaAccessUtils.SCHEMA_ACCESS_STRATEGY, SchemaAccessUtils.SCHEMA_TEXT_PROPERTY);
+        runner.setProperty(csvReader, SchemaAccessUtils.SCHEMA_TEXT, schemaText);
+        runner.setProperty(csvReader, CSVReader.CSV_PARSER, CSVReader.BYTE_CSV.getValue());
+        runner.setProperty(csvReader, CSVUtils.FIRST_LINE_IS_HEADER, "true");
+        runner.enableControllerService(csvReader);
+
+        final AvroRecordSetWriter avroWriter = new AvroRecordSetWriter();
+        runner.addControllerService("writer", avroWriter);
+        runner.setProperty(avroWriter, SchemaAccessUtils.SCHEMA_ACCESS_STRATEGY, SchemaAccessUtils.SCHEMA_TEXT_PROPERTY);
+        runner.setProperty(avroWriter, SchemaAccessUtils.SCHEMA_TEXT, schemaText);
+        runner.enableControllerService(avroWriter);
+
+        runner.setProperty(ConvertRecord.RECORD_READER, "reader");
+        runner.setProperty(ConvertRecord.RECORD_WRITER, "writer");
+
+        // more records than fit in a single batch
+        final int recordCount = 2500;
+        final StringBuilder content = new StringBuilder("id,name\n");
+        for (int i = 0; i < recordCount; i++) {
+            content.append(i).append(",\"name, ").append(i).append("\"\n");
+        }
+
+        runner.enqueue(content.toString());
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(ConvertRecord.REL_SUCCESS, 1);
+        final MockFlowFile flowFile = runner.getFlowFilesForRelationship(ConvertRecord.REL_SUCCESS).get(0);
+        flowFile.assertAttributeEquals("record.count", String.valueOf(recordCount));
+
+        try (final DataFileStream<GenericRecord> avroStream = new DataFileStream<>(new ByteArrayInputStream(flowFile.toByteArray()), new GenericDatumReader<>())) {
+            int i = 0;
+            while (avroStream.hasNext()) {
+                final GenericRecord record = avroStream.next();
+                assertEquals(i, record.get("id"));
+                assertEquals("name, " + i, record.get("name").toString());
+                i++;
+            }
+            assertEquals(recordCount, i);
+        }
+    }
+
+    @Test
+    public void testParallelSplitsOfJSON() throws InitializationException {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            content.append("{\"id\": ").append(i).append(", \"name\": \"name {").append(i).append("}\"}\n");
+        }
+
+        final String expected = convertInSplits(new JsonTreeReader(), Collections.emptyMap(), content.toString(), "1", 5000);
+        final String actual = convertInSplits(new JsonTreeReader(), Collections.emptyMap(), content.toString(), "4", 5000);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testParallelSplitsOfJSONArray() throws InitializationException {
+        final StringBuilder content = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            if (i > 0) {
+                content.append(",\n");
+            }
+            content.append("{\"id\": ").append(i).append(", \"name\": \"name [").append(i).append("]\"}");
+        }
+        content.append("]");
+
+        final String expected = convertInSplits(new JsonTreeReader(), Collections.emptyMap(), content.toString(), "1", 5000);
+        final String actual = convertInSplits(new JsonTreeReader(), Collections.emptyMap(), content.toString(), "4", 5000);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testParallelSplitsStreamContentThatCannotBeSplit() throws InitializationException {
+        final StringBuilder largeName = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            largeName.append('x');
+        }
+
+        final StringBuilder content = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            if (i > 0) {
+                content.append(",\n");
+            }
+            final String name = i == 2500 ? largeName.toString() : "name " + i;
+            content.append("{\"id\": ").append(i).append(", \"name\": \"").append(name).append("\"}");
+        }
+        content.append("]");
+
+        // No record ends within the bounded distance that is scanned past the split size while in the large record,
+        // so everything from that record onward is read as a stream
+        final String expected = convertInSplits(new JsonTreeReader(), Collections.emptyMap(), content.toString(), "1", 5000);
+        final String actual = convertInSplits(new JsonTreeReader(), Collections.emptyMap(), content.toString(), "4", 5000);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testParallelSplitsOfCSV() throws InitializationException {
+        final StringBuilder content = new StringBuilder("id,name\n");
+        for (int i = 0; i < 5000; i++) {
+            content.append(i).append(",\"name\n").append(i).append("\"\n");
+        }
+
+        final Map<PropertyDescriptor, String> readerProperties = Collections.singletonMap(CSVUtils.FIRST_LINE_IS_HEADER, "true");
+        final String expected = convertInSplits(new CSVReader(), readerProperties, content.toString(), "1", 5000);
+        final String actual = convertInSplits(new CSVReader(), readerProperties, content.toString(), "4", 5000);
+        assertEquals(expected, actual);
+    }
+
+    private String convertInSplits(final ControllerService reader, final Map<PropertyDescriptor, String> readerProperties, final String content, final String splitConcurrency,
+                                   final int expectedRecordCount) throws InitializationException {
+        final String schemaText = "{\"type\": \"record\", \"name\": \"person\", \"fields\": [{\"name\": \"id\", \"type\": \"int\"}, {\"name\": \"name\", \"type\": \"string\"}]}";
+
+        final TestRunner runner = TestRunners.newTestRunner(ConvertRecord.class);
+        runner.addControllerService("reader", reader);
+        runner.setProperty(reader, SchemaAccessUtils.SCHEMA_ACCESS_STRATEGY, SchemaAccessUtils.SCHEMA_TEXT_PROPERTY);
+        runner.setProperty(reader, SchemaAccessUtils.SCHEMA_TEXT, schemaText);
+        for (final Map.Entry<PropertyDescriptor, String> entry : readerProperties.entrySet()) {
+            runner.setProperty(reader, entry.getKey(), entry.getValue());
+        }
+        runner.enableControllerService(reader);
+
+        final JsonRecordSetWriter jsonWriter = new JsonRecordSetWriter();
+        runner.addControllerService("writer", jsonWriter);
+        runner.setProperty(jsonWriter, SchemaAccessUtils.SCHEMA_ACCESS_STRATEGY, SchemaAccessUtils.SCHEMA_TEXT_PROPERTY);
+        runner.setProperty(jsonWriter, SchemaAccessUtils.SCHEMA_TEXT, schemaText);
+        runner.enableControllerService(jsonWriter);
+
+        runner.setProperty(ConvertRecord.RECORD_READER, "reader");
+        runner.setProperty(ConvertRecord.RECORD_WRITER, "writer");
+        runner.setProperty(ConvertRecord.SPLIT_CONCURRENCY, splitConcurrency);
+        runner.setProperty(ConvertRecord.SPLIT_SIZE, "4 KB");
+
+        runner.enqueue(content);
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(ConvertRecord.REL_SUCCESS, 1);
+        final MockFlowFile flowFile = runner.getFlowFilesForRelationship(ConvertRecord.REL_SUCCESS).get(0);
+        flowFile.assertAttributeEquals("record.count", String.valueOf(expectedRecordCount));
+        return new String(flowFile.toByteArray(), StandardCharsets.UTF_8);
+    }
 }
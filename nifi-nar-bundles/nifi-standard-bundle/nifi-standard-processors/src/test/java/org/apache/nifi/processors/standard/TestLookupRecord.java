@@ -19,6 +19,7 @@ package org.apache.nifi.processors.standard;
 
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.controller.AbstractControllerService;
+import org.apache.nifi.lookup.CachingLookupService;
 import org.apache.nifi.lookup.RecordLookupService;
 import org.apache.nifi.lookup.StringLookupService;
 import org.apache.nifi.reporting.InitializationException;
@@ -127,6 +128,30 @@ public class TestLookupRecord {
         out.assertContentEquals("John Doe,48,Soccer\nJane Doe,47,Basketball\nJimmy Doe,14,Football\n");
     }
 
+    @Test
+    public void testCachingLookupServiceHitsAcrossFlowFiles() throws InitializationException {
+        final CachingLookupService cachingLookupService = new CachingLookupService();
+        runner.addControllerService("caching-lookup", cachingLookupService);
+        runner.setProperty(cachingLookupService, "caching-lookup-service", "lookup");
+        runner.enableControllerService(cachingLookupService);
+        runner.setProperty(LookupRecord.LOOKUP_SERVICE, "caching-lookup");
+
+        lookupService.addValue("John Doe", "Soccer");
+        lookupService.addValue("Jane Doe", "Basketball");
+        lookupService.addValue("Jimmy Doe", "Football");
+
+        // With the default configuration, the records of the second FlowFile are enriched from the cache
+        runner.enqueue("");
+        runner.enqueue("");
+        runner.run(2);
+
+        runner.assertAllFlowFilesTransferred(LookupRecord.REL_MATCHED, 2);
+        for (final MockFlowFile out : runner.getFlowFilesForRelationship(LookupRecord.REL_MATCHED)) {
+            out.assertContentEquals("John Doe,48,Soccer\nJane Doe,47,Basketball\nJimmy Doe,14,Football\n");
+        }
+        Assert.assertEquals(3, lookupService.lookupCount);
+    }
+
     @Test
     public void testAllUnmatched() {
         runner.enqueue("");
@@ -164,6 +189,44 @@ public class TestLookupRecord {
     }
 
 
+    @Test
+    public void testLookupBatching() {
+        lookupService.addValue("John Doe", "Soccer");
+        lookupService.addValue("Jimmy Doe", "Football");
+        recordReader.addRecord("John Doe", 49, null);
+
+        runner.setProperty(LookupRecord.LOOKUP_BATCH_SIZE, "10");
+        runner.enqueue("");
+        runner.run();
+
+        // Records that share coordinates within a batch are looked up once
+        Assert.assertEquals(3, lookupService.lookupCount);
+
+        final MockFlowFile matched = runner.getFlowFilesForRelationship(LookupRecord.REL_MATCHED).get(0);
+        matched.assertAttributeEquals("record.count", "3");
+        matched.assertContentEquals("John Doe,48,Soccer\nJimmy Doe,14,Football\nJohn Doe,49,Soccer\n");
+
+        final MockFlowFile unmatched = runner.getFlowFilesForRelationship(LookupRecord.REL_UNMATCHED).get(0);
+        unmatched.assertAttributeEquals("record.count", "1");
+        unmatched.assertContentEquals("Jane Doe,47,\n");
+    }
+
+    @Test
+    public void testLookupBatchSizeOfOne() {
+        lookupService.addValue("John Doe", "Soccer");
+        lookupService.addValue("Jimmy Doe", "Football");
+        recordReader.addRecord("John Doe", 49, null);
+
+        runner.setProperty(LookupRecord.LOOKUP_BATCH_SIZE, "1");
+        runner.enqueue("");
+        runner.run();
+
+        Assert.assertEquals(4, lookupService.lookupCount);
+
+        final MockFlowFile matched = runner.getFlowFilesForRelationship(LookupRecord.REL_MATCHED).get(0);
+        matched.assertContentEquals("John Doe,48,Soccer\nJimmy Doe,14,Football\nJohn Doe,49,Soccer\n");
+    }
+
     @Test
     public void testResultPathNotFound() {
         runner.setProperty(LookupRecord.RESULT_RECORD_PATH, "/other");
@@ -439,6 +502,7 @@ public class TestLookupRecord {
     private static class MapLookup extends AbstractControllerService implements StringLookupService {
         private final Map<String, String> values = new HashMap<>();
         private Map<String, Object> expectedContext;
+        private int lookupCount;
 
         public void addValue(final String key, final String value) {
             values.put(key, value);
@@ -456,6 +520,7 @@ public class TestLookupRecord {
 
         @Override
         public Optional<String> lookup(final Map<String, Object> coordinates) {
+            lookupCount++;
             if (coordinates == null || coordinates.get("lookup") == null) {
                 return Optional.empty();
             }
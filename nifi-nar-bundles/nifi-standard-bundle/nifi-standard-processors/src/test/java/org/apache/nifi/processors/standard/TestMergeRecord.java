@@ -18,6 +18,8 @@
 package org.apache.nifi.processors.standard;
 
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
+import org.apache.nifi.provenance.ProvenanceEventRecord;
+import org.apache.nifi.provenance.ProvenanceEventType;
 import org.apache.nifi.reporting.InitializationException;
 import org.apache.nifi.serialization.record.CommaSeparatedRecordReader;
 import org.apache.nifi.serialization.record.MockRecordWriter;
@@ -29,8 +31,11 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 
@@ -475,6 +480,82 @@ public class TestMergeRecord {
         assertEquals(5, ((MergeRecord) runner.getProcessor()).getBinCount());
     }
 
+    @Test
+    public void testReleaseOriginalsEarly() {
+        runner.setProperty(MergeRecord.MIN_RECORDS, "3");
+        runner.setProperty(MergeRecord.MAX_RECORDS, "3");
+        runner.setProperty(MergeRecord.RELEASE_ORIGINALS, "true");
+
+        final Map<String, String> attrs = new HashMap<>();
+        attrs.put("greeting", "hello");
+        runner.enqueue("Name, Age\nJohn, 35", attrs);
+        runner.enqueue("Name, Age\nJane, 34", attrs);
+
+        runner.run(1, false);
+
+        // The originals are released as soon as their records are written, before the bin is merged
+        runner.assertTransferCount(MergeRecord.REL_MERGED, 0);
+        runner.assertTransferCount(MergeRecord.REL_ORIGINAL, 2);
+
+        runner.enqueue("Name, Age\nJake, 3", attrs);
+        runner.run(1, true, false);
+
+        runner.assertTransferCount(MergeRecord.REL_MERGED, 1);
+        runner.assertTransferCount(MergeRecord.REL_ORIGINAL, 3);
+        runner.assertTransferCount(MergeRecord.REL_FAILURE, 0);
+
+        final MockFlowFile mff = runner.getFlowFilesForRelationship(MergeRecord.REL_MERGED).get(0);
+        mff.assertAttributeEquals("record.count", "3");
+        mff.assertAttributeEquals(MergeRecord.MERGE_COUNT_ATTRIBUTE, "3");
+        mff.assertAttributeEquals("greeting", "hello");
+        mff.assertContentEquals("header\nJohn,35\nJane,34\nJake,3\n");
+
+        runner.getFlowFilesForRelationship(MergeRecord.REL_ORIGINAL).forEach(
+            ff -> assertEquals(mff.getAttribute(CoreAttributes.UUID.key()), ff.getAttribute(MergeRecord.MERGE_UUID_ATTRIBUTE)));
+
+        // The merged FlowFile keeps its lineage to the originals even though they were released before it was created
+        final List<ProvenanceEventRecord> joinEvents = runner.getProvenanceEvents().stream()
+            .filter(event -> event.getEventType() == ProvenanceEventType.JOIN)
+            .collect(Collectors.toList());
+        assertEquals(1, joinEvents.size());
+
+        final ProvenanceEventRecord joinEvent = joinEvents.get(0);
+        assertEquals(mff.getAttribute(CoreAttributes.UUID.key()), joinEvent.getFlowFileUuid());
+
+        final Set<String> originalUuids = runner.getFlowFilesForRelationship(MergeRecord.REL_ORIGINAL).stream()
+            .map(ff -> ff.getAttribute(CoreAttributes.UUID.key()))
+            .collect(Collectors.toSet());
+        assertEquals(originalUuids, new HashSet<>(joinEvent.getParentUuids()));
+    }
+
+    @Test
+    public void testReleaseOriginalsEarlyMergesOpenBinsOnStop() {
+        runner.setProperty(MergeRecord.MIN_RECORDS, "10");
+        runner.setProperty(MergeRecord.MAX_RECORDS, "10");
+        runner.setProperty(MergeRecord.RELEASE_ORIGINALS, "true");
+
+        runner.enqueue("Name, Age\nJohn, 35");
+        runner.enqueue("Name, Age\nJane, 34");
+
+        runner.run(1);
+
+        runner.assertTransferCount(MergeRecord.REL_MERGED, 1);
+        runner.assertTransferCount(MergeRecord.REL_ORIGINAL, 2);
+
+        final MockFlowFile mff = runner.getFlowFilesForRelationship(MergeRecord.REL_MERGED).get(0);
+        mff.assertAttributeEquals("record.count", "2");
+        mff.assertContentEquals("header\nJohn,35\nJane,34\n");
+    }
+
+    @Test
+    public void testReleaseOriginalsEarlyNotValidWithDefragment() {
+        runner.setProperty(MergeRecord.RELEASE_ORIGINALS, "true");
+        runner.assertValid();
+
+        runner.setProperty(MergeRecord.MERGE_STRATEGY, MergeRecord.MERGE_STRATEGY_DEFRAGMENT);
+        runner.assertNotValid();
+    }
+
     @Test
     public void testDefragmentOldestBinFailsWhenTooManyBins() {
         runner.setProperty(MergeRecord.MIN_RECORDS, "5");
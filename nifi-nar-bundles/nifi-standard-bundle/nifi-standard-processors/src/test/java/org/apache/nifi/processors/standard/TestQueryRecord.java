@@ -965,6 +965,59 @@ public class TestQueryRecord {
         runner.assertTransferCount(REL_NAME, 1);
     }
 
+    @Test
+    public void testMultipleQueriesWithBufferedRecords() throws InitializationException {
+        testMultipleQueries("10 MB");
+    }
+
+    @Test
+    public void testMultipleQueriesWithoutBufferedRecords() throws InitializationException {
+        testMultipleQueries("0 B");
+    }
+
+    private void testMultipleQueries(final String maxBufferedContentSize) throws InitializationException {
+        final MockRecordParser parser = new MockRecordParser();
+        parser.addSchemaField("name", RecordFieldType.STRING);
+        parser.addSchemaField("points", RecordFieldType.INT);
+        parser.addRecord("Tom", 1);
+        parser.addRecord("Jerry", 2);
+        parser.addRecord("Tom", 99);
+
+        final MockRecordWriter writer = new MockRecordWriter(null, false);
+
+        TestRunner runner = getRunner();
+        runner.addControllerService("parser", parser);
+        runner.enableControllerService(parser);
+        runner.addControllerService("writer", writer);
+        runner.enableControllerService(writer);
+
+        runner.setProperty("toms", "select points from FLOWFILE where name = 'Tom'");
+        runner.setProperty("jerries", "select points from FLOWFILE where name = 'Jerry'");
+        runner.setProperty("total", "select sum(points) as total from FLOWFILE");
+        runner.setProperty(QueryRecord.RECORD_READER_FACTORY, "parser");
+        runner.setProperty(QueryRecord.RECORD_WRITER_FACTORY, "writer");
+        runner.setProperty(QueryRecord.MAX_BUFFERED_CONTENT_SIZE, maxBufferedContentSize);
+
+        runner.enqueue("");
+        runner.enqueue("");
+        runner.run(2);
+
+        runner.assertTransferCount("toms", 2);
+        runner.assertTransferCount("jerries", 2);
+        runner.assertTransferCount("total", 2);
+        runner.assertTransferCount(QueryRecord.REL_ORIGINAL, 2);
+
+        for (final MockFlowFile flowFile : runner.getFlowFilesForRelationship("toms")) {
+            flowFile.assertContentEquals("1\n99\n");
+        }
+        for (final MockFlowFile flowFile : runner.getFlowFilesForRelationship("jerries")) {
+            flowFile.assertContentEquals("2\n");
+        }
+        for (final MockFlowFile flowFile : runner.getFlowFilesForRelationship("total")) {
+            flowFile.assertContentEquals("102\n");
+        }
+    }
+
 
     private static class ResultSetValidatingRecordWriter extends AbstractControllerService implements RecordSetWriterFactory {
         private final List<String> columnNames;
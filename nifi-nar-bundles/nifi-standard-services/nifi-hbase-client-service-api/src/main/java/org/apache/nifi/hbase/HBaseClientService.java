@@ -150,6 +150,23 @@ public interface HBaseClientService extends ControllerService {
      */
     void scan(String tableName, byte[] startRow, byte[] endRow, Collection<Column> columns, List<String> authorizations, ResultHandler handler) throws IOException;
 
+    /**
+     * Fetches each of the given rows from the given table and passes the rows that exist to the handler. Implementations
+     * should retrieve the rows with as few round trips as possible; the default implementation performs one scan per row.
+     *
+     * @param tableName the name of an HBase table
+     * @param rowIds the row identifiers to fetch
+     * @param columns optional columns to return, if not specified all columns are returned
+     * @param authorizations optional list of visibility labels to use when fetching the rows
+     * @param handler a handler to process rows of the result
+     * @throws IOException thrown when there are communication errors with HBase
+     */
+    default void get(String tableName, Collection<byte[]> rowIds, Collection<Column> columns, List<String> authorizations, ResultHandler handler) throws IOException {
+        for (final byte[] rowId : rowIds) {
+            scan(tableName, rowId, rowId, columns, authorizations, handler);
+        }
+    }
+
     /**
      * Scans the given table for the given range of row keys or time rage and passes the result to a handler.<br/>
      *
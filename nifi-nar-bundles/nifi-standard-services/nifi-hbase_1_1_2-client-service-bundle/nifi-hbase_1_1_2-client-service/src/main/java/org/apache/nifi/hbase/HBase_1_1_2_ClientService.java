@@ -28,6 +28,7 @@ import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.ConnectionFactory;
 import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
@@ -609,6 +610,51 @@ public class HBase_1_1_2_ClientService extends AbstractControllerService impleme
         }
     }
 
+    @Override
+    public void get(final String tableName, final Collection<byte[]> rowIds, final Collection<Column> columns, List<String> authorizations, final ResultHandler handler)
+            throws IOException {
+
+        final List<Get> gets = new ArrayList<>(rowIds.size());
+        for (final byte[] rowId : rowIds) {
+            final Get get = new Get(rowId);
+
+            if (authorizations != null && authorizations.size() > 0) {
+                get.setAuthorizations(new Authorizations(authorizations));
+            }
+
+            if (columns != null) {
+                for (Column col : columns) {
+                    if (col.getQualifier() == null) {
+                        get.addFamily(col.getFamily());
+                    } else {
+                        get.addColumn(col.getFamily(), col.getQualifier());
+                    }
+                }
+            }
+
+            gets.add(get);
+        }
+
+        try (final Table table = connection.getTable(TableName.valueOf(tableName))) {
+            for (final Result result : getResults(table, gets)) {
+                final Cell[] cells = result == null ? null : result.rawCells();
+
+                if (cells == null || cells.length == 0) {
+                    continue;
+                }
+
+                // convert HBase cells to NiFi cells
+                final ResultCell[] resultCells = new ResultCell[cells.length];
+                for (int i=0; i < cells.length; i++) {
+                    resultCells[i] = getResultCell(cells[i]);
+                }
+
+                // delegate to the handler
+                handler.handle(result.getRow(), resultCells);
+            }
+        }
+    }
+
     @Override
     public void scan(final String tableName, final String startRow, final String endRow, String filterExpression,
             final Long timerangeMin, final Long timerangeMax, final Integer limitRows, final Boolean isReversed,
@@ -721,6 +767,11 @@ public class HBase_1_1_2_ClientService extends AbstractControllerService impleme
         return table.getScanner(scan);
     }
 
+    // protected and extracted into separate method for testing
+    protected Result[] getResults(final Table table, final List<Get> gets) throws IOException {
+        return table.get(gets);
+    }
+
     // protected and extracted into separate method for testing
     protected ResultScanner getResults(final Table table, final Collection<Column> columns, final Filter filter, final long minTime, List<String> authorizations) throws IOException {
         // Create a new scan. We will set the min timerange as the latest timestamp that
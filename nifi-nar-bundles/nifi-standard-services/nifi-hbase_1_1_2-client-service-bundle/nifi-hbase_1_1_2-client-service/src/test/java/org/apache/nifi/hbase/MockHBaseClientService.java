@@ -18,6 +18,7 @@ package org.apache.nifi.hbase;
 
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
@@ -148,6 +149,15 @@ public class MockHBaseClientService extends HBase_1_1_2_ClientService {
         return scanner;
     }
 
+    @Override
+    protected Result[] getResults(Table table, List<Get> gets) throws IOException {
+        final Result[] found = new Result[gets.size()];
+        for (int i = 0; i < gets.size(); i++) {
+            found[i] = results.get(new String(gets.get(i).getRow(), StandardCharsets.UTF_8));
+        }
+        return found;
+    }
+
     @Override
     protected ResultScanner getResults(Table table, Collection<Column> columns, Filter filter, long minTime, List<String> labels) throws IOException {
         final ResultScanner scanner = Mockito.mock(ResultScanner.class);
@@ -29,9 +29,12 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.mockito.Mockito.when;
 
@@ -95,6 +98,30 @@ public class TestHBase_1_1_2_RecordLookupService {
         Assert.assertEquals("v2", record.getAsString("cq2"));
     }
 
+    @Test
+    public void testLookupAll() throws Exception {
+        final Map<String,String> cells1 = new HashMap<>();
+        cells1.put("cq1", "v1");
+        clientService.addResult("row1", cells1, System.currentTimeMillis());
+
+        final Map<String,String> cells2 = new HashMap<>();
+        cells2.put("cq1", "v2");
+        clientService.addResult("row2", cells2, System.currentTimeMillis());
+
+        final List<Map<String, Object>> coordinates = new ArrayList<>();
+        coordinates.add(Collections.singletonMap("rowKey", "row2"));
+        coordinates.add(Collections.singletonMap("rowKey", "row3"));
+        coordinates.add(Collections.singletonMap("rowKey", ""));
+        coordinates.add(Collections.singletonMap("rowKey", "row1"));
+
+        final List<Optional<Record>> results = lookupService.lookupAll(coordinates, Collections.emptyMap());
+        Assert.assertEquals(4, results.size());
+        Assert.assertEquals("v2", results.get(0).get().getAsString("cq1"));
+        Assert.assertFalse(results.get(1).isPresent());
+        Assert.assertFalse(results.get(2).isPresent());
+        Assert.assertEquals("v1", results.get(3).get().getAsString("cq1"));
+    }
+
     @Test
     public void testLookupWithNoResults() {
         // run the processor
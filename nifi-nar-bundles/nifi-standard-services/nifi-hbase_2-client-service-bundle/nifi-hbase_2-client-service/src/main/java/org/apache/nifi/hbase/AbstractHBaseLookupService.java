@@ -26,12 +26,14 @@ import org.apache.nifi.hbase.scan.Column;
 import org.apache.nifi.hbase.scan.ResultCell;
 import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.reporting.InitializationException;
+import org.apache.nifi.util.StringUtils;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -139,19 +141,49 @@ public abstract class AbstractHBaseLookupService extends AbstractControllerServi
         return columnsList;
     }
 
+    /**
+     * @return the row key of the given coordinates, or <code>null</code> if there is none
+     */
+    protected String getRowKey(final Map<String, Object> coordinates) {
+        final Object rowKey = coordinates.get(ROW_KEY_KEY);
+        if (rowKey == null || StringUtils.isBlank(rowKey.toString())) {
+            return null;
+        }
+
+        return rowKey.toString();
+    }
+
     protected Map<String, Object> scan(byte[] rowKeyBytes) throws IOException {
         final Map<String, Object> values = new HashMap<>();
 
-        hBaseClientService.scan(tableName, rowKeyBytes, rowKeyBytes, columns, authorizations, (byte[] row, ResultCell[] resultCells) ->  {
-            for (final ResultCell cell : resultCells) {
-                final byte[] qualifier = Arrays.copyOfRange(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierOffset() + cell.getQualifierLength());
-                final byte[] value = Arrays.copyOfRange(cell.getValueArray(), cell.getValueOffset(), cell.getValueOffset() + cell.getValueLength());
-                values.put(new String(qualifier, charset), new String(value, charset));
-            }
-        });
+        hBaseClientService.scan(tableName, rowKeyBytes, rowKeyBytes, columns, authorizations, (byte[] row, ResultCell[] resultCells) -> addCells(values, resultCells));
 
         return values;
     }
 
+    /**
+     * Fetches all of the given rows with a single multi-get.
+     *
+     * @return the values of each row that was found, keyed by row key
+     */
+    protected Map<String, Map<String, Object>> get(final Collection<String> rowKeys) throws IOException {
+        final List<byte[]> rowKeysBytes = new ArrayList<>(rowKeys.size());
+        for (final String rowKey : rowKeys) {
+            rowKeysBytes.add(rowKey.getBytes(StandardCharsets.UTF_8));
+        }
 
+        final Map<String, Map<String, Object>> rows = new HashMap<>();
+        hBaseClientService.get(tableName, rowKeysBytes, columns, authorizations, (byte[] row, ResultCell[] resultCells) ->
+            addCells(rows.computeIfAbsent(new String(row, StandardCharsets.UTF_8), key -> new HashMap<>()), resultCells));
+
+        return rows;
+    }
+
+    private void addCells(final Map<String, Object> values, final ResultCell[] resultCells) {
+        for (final ResultCell cell : resultCells) {
+            final byte[] qualifier = Arrays.copyOfRange(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierOffset() + cell.getQualifierLength());
+            final byte[] value = Arrays.copyOfRange(cell.getValueArray(), cell.getValueOffset(), cell.getValueOffset() + cell.getValueLength());
+            values.put(new String(qualifier, charset), new String(value, charset));
+        }
+    }
 }
@@ -25,7 +25,6 @@ import org.apache.nifi.controller.ConfigurationContext;
 import org.apache.nifi.lookup.LookupFailureException;
 import org.apache.nifi.lookup.LookupService;
 import org.apache.nifi.reporting.InitializationException;
-import org.apache.nifi.util.StringUtils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -33,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -67,34 +67,49 @@ public class HBase_2_ListLookupService extends AbstractHBaseLookupService implem
 
     @Override
     public Optional<List> lookup(Map<String, Object> coordinates) throws LookupFailureException {
-        if (coordinates.get(ROW_KEY_KEY) == null) {
-            return Optional.empty();
-        }
-
-        final String rowKey = coordinates.get(ROW_KEY_KEY).toString();
-        if (StringUtils.isBlank(rowKey)) {
+        final String rowKey = getRowKey(coordinates);
+        if (rowKey == null) {
             return Optional.empty();
         }
 
         final byte[] rowKeyBytes = rowKey.getBytes(StandardCharsets.UTF_8);
 
         try {
-            final Map<String, Object> values = scan(rowKeyBytes);
-
-            if (values.size() > 0) {
-                List<String> retVal = returnType.equals(KEY_LIST.getValue())
-                        ? new ArrayList<>(values.keySet())
-                        : values.values().stream().map( obj -> obj.toString() ).collect(Collectors.toList());
-                return Optional.ofNullable(retVal);
-            } else {
-                return Optional.empty();
-            }
+            return toList(scan(rowKeyBytes));
         } catch (IOException e) {
             getLogger().error("Error occurred loading {}", new Object[] { coordinates.get("rowKey") }, e);
             throw new LookupFailureException(e);
         }
     }
 
+    @Override
+    public List<Optional<List>> lookupAll(List<Map<String, Object>> coordinates, Map<String, String> context) throws LookupFailureException {
+        final List<String> rowKeys = coordinates.stream().map(this::getRowKey).collect(Collectors.toList());
+        try {
+            final Map<String, Map<String, Object>> rows = get(rowKeys.stream().filter(Objects::nonNull).collect(Collectors.toSet()));
+
+            final List<Optional<List>> results = new ArrayList<>(rowKeys.size());
+            for (final String rowKey : rowKeys) {
+                results.add(rowKey == null ? Optional.empty() : toList(rows.getOrDefault(rowKey, Collections.emptyMap())));
+            }
+            return results;
+        } catch (IOException e) {
+            getLogger().error("Error occurred loading {}", new Object[] { rowKeys }, e);
+            throw new LookupFailureException(e);
+        }
+    }
+
+    private Optional<List> toList(final Map<String, Object> values) {
+        if (values.size() > 0) {
+            List<String> retVal = returnType.equals(KEY_LIST.getValue())
+                ? new ArrayList<>(values.keySet())
+                : values.values().stream().map( obj -> obj.toString() ).collect(Collectors.toList());
+            return Optional.ofNullable(retVal);
+        } else {
+            return Optional.empty();
+        }
+    }
+
     private String returnType;
 
     @OnEnabled
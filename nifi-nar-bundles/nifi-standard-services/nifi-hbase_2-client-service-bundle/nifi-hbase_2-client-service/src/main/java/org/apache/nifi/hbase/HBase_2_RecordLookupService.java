@@ -27,15 +27,17 @@ import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
-import org.apache.nifi.util.StringUtils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Tags({"hbase", "record", "lookup", "service"})
 @CapabilityDescription("A lookup service that retrieves one or more columns from HBase and returns them as a record. The lookup coordinates " +
@@ -43,35 +45,50 @@ import java.util.Set;
 public class HBase_2_RecordLookupService extends AbstractHBaseLookupService implements LookupService<Record> {
     @Override
     public Optional<Record> lookup(Map<String, Object> coordinates) throws LookupFailureException {
-        if (coordinates.get(ROW_KEY_KEY) == null) {
+        final String rowKey = getRowKey(coordinates);
+        if (rowKey == null) {
             return Optional.empty();
         }
 
-        final String rowKey = coordinates.get(ROW_KEY_KEY).toString();
-        if (StringUtils.isBlank(rowKey)) {
-            return Optional.empty();
+        final byte[] rowKeyBytes = rowKey.getBytes(StandardCharsets.UTF_8);
+        try {
+            return toRecord(scan(rowKeyBytes));
+        } catch (IOException e) {
+            getLogger().error("Error occurred loading {}", new Object[] { coordinates.get("rowKey") }, e);
+            throw new LookupFailureException(e);
         }
+    }
 
-        final byte[] rowKeyBytes = rowKey.getBytes(StandardCharsets.UTF_8);
+    @Override
+    public List<Optional<Record>> lookupAll(List<Map<String, Object>> coordinates, Map<String, String> context) throws LookupFailureException {
+        final List<String> rowKeys = coordinates.stream().map(this::getRowKey).collect(Collectors.toList());
         try {
-            final Map<String, Object> values = scan(rowKeyBytes);
+            final Map<String, Map<String, Object>> rows = get(rowKeys.stream().filter(Objects::nonNull).collect(Collectors.toSet()));
 
-            if (values.size() > 0) {
-                final List<RecordField> fields = new ArrayList<>();
-                for (String key : values.keySet()) {
-                    fields.add(new RecordField(key, RecordFieldType.STRING.getDataType()));
-                }
-                final RecordSchema schema = new SimpleRecordSchema(fields);
-                return Optional.ofNullable(new MapRecord(schema, values));
-            } else {
-                return Optional.empty();
+            final List<Optional<Record>> results = new ArrayList<>(rowKeys.size());
+            for (final String rowKey : rowKeys) {
+                results.add(rowKey == null ? Optional.empty() : toRecord(rows.getOrDefault(rowKey, Collections.emptyMap())));
             }
+            return results;
         } catch (IOException e) {
-            getLogger().error("Error occurred loading {}", new Object[] { coordinates.get("rowKey") }, e);
+            getLogger().error("Error occurred loading {}", new Object[] { rowKeys }, e);
             throw new LookupFailureException(e);
         }
     }
 
+    private Optional<Record> toRecord(final Map<String, Object> values) {
+        if (values.size() > 0) {
+            final List<RecordField> fields = new ArrayList<>();
+            for (String key : values.keySet()) {
+                fields.add(new RecordField(key, RecordFieldType.STRING.getDataType()));
+            }
+            final RecordSchema schema = new SimpleRecordSchema(fields);
+            return Optional.ofNullable(new MapRecord(schema, values));
+        } else {
+            return Optional.empty();
+        }
+    }
+
     @Override
     public Class<?> getValueType() {
         return Record.class;
@@ -17,6 +17,8 @@
 
 package org.apache.nifi.lookup;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -48,6 +50,24 @@ public interface LookupService<T> extends ControllerService {
         return lookup(coordinates);
     }
 
+    /**
+     * Looks up the values that correspond to each of the given coordinate maps. Implementations that are able to resolve many coordinates
+     * in a single round trip to the underlying store should override this method; the default implementation simply calls
+     * {@link #lookup(Map, Map)} once for each element.
+     *
+     * @param coordinates the coordinate maps to lookup
+     * @param context a Map of additional information, shared by all of the lookups
+     * @return one value per element of <code>coordinates</code>, in the same order
+     * @throws LookupFailureException if unable to lookup a value for any of the given coordinates
+     */
+    default List<Optional<T>> lookupAll(List<Map<String, Object>> coordinates, Map<String, String> context) throws LookupFailureException {
+        final List<Optional<T>> results = new ArrayList<>(coordinates.size());
+        for (final Map<String, Object> coordinate : coordinates) {
+            results.add(lookup(coordinate, context));
+        }
+        return results;
+    }
+
     /**
      * @return the Class that represents the type of value that will be returned by {@link #lookup(Map)}
      */
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.lookup;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.nifi.annotation.documentation.CapabilityDescription;
+import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.annotation.lifecycle.OnDisabled;
+import org.apache.nifi.annotation.lifecycle.OnEnabled;
+import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.controller.AbstractControllerService;
+import org.apache.nifi.controller.ConfigurationContext;
+import org.apache.nifi.flowfile.attributes.CoreAttributes;
+import org.apache.nifi.processor.util.StandardValidators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Tags({"lookup", "cache", "enrich", "join", "key", "value", "record"})
+@CapabilityDescription("Caches the results of another Lookup Service in memory, so that repeated lookups of the same coordinates do not have to "
+    + "reach the underlying database, web service or other store. The cache is bounded by size and, optionally, by the time since an entry was loaded. "
+    + "Lookups that do not return a value can also be cached. By default, both the coordinates and any additional context, such as FlowFile attributes, "
+    + "are part of the cache key, except for core FlowFile attributes such as uuid, filename and path, which differ for every FlowFile. If the results of the Lookup Service do not depend on that context, it can be left out of the key, so that lookups with the "
+    + "same coordinates are served from the cache regardless of the FlowFile that they are made for.")
+public class CachingLookupService extends AbstractControllerService implements LookupService<Object> {
+
+    static final PropertyDescriptor LOOKUP_SERVICE = new PropertyDescriptor.Builder()
+        .name("caching-lookup-service")
+        .displayName("Lookup Service")
+        .description("The Lookup Service whose results should be cached")
+        .identifiesControllerService(LookupService.class)
+        .required(true)
+        .build();
+
+    static final PropertyDescriptor CACHE_SIZE = new PropertyDescriptor.Builder()
+        .name("caching-lookup-cache-size")
+        .displayName("Cache Size")
+        .description("The maximum number of lookup results to keep in the cache. When the cache is full, the least recently used entries are evicted.")
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("10000")
+        .required(true)
+        .build();
+
+    static final PropertyDescriptor CACHE_EXPIRATION = new PropertyDescriptor.Builder()
+        .name("caching-lookup-cache-expiration")
+        .displayName("Cache Expiration")
+        .description("How long a lookup result may be kept in the cache after it was loaded from the Lookup Service. If not set, entries are only "
+            + "evicted when the cache is full.")
+        .addValidator(StandardValidators.TIME_PERIOD_VALIDATOR)
+        .required(false)
+        .build();
+
+    static final PropertyDescriptor CACHE_UNMATCHED = new PropertyDescriptor.Builder()
+        .name("caching-lookup-cache-unmatched")
+        .displayName("Cache Unmatched Lookups")
+        .description("Whether lookups for which the Lookup Service returned no value should be cached as well. This avoids repeatedly querying "
+            + "the Lookup Service for coordinates that are known not to match, at the cost of not noticing values that are added later until the "
+            + "entry expires.")
+        .allowableValues("true", "false")
+        .addValidator(StandardValidators.BOOLEAN_VALIDATOR)
+        .defaultValue("false")
+        .required(true)
+        .build();
+
+    static final PropertyDescriptor CACHE_BY_CONTEXT = new PropertyDescriptor.Builder()
+        .name("caching-lookup-cache-by-context")
+        .displayName("Include Context in Cache Key")
+        .description("Whether the context of a lookup, such as the attributes of the FlowFile that it is made for, is part of the cache key. This should "
+            + "only be set to false if the results of the Lookup Service depend solely on the coordinates, as otherwise a result that was looked up for "
+            + "one context may be returned for another. Core FlowFile attributes, such as uuid, filename, path and mime.type, are never part of the "
+            + "cache key, as otherwise no two FlowFiles would share a cached result; Lookup Services whose results depend on them should not be cached.")
+        .allowableValues("true", "false")
+        .addValidator(StandardValidators.BOOLEAN_VALIDATOR)
+        .defaultValue("true")
+        .required(true)
+        .build();
+
+    // Core attributes identify the FlowFile rather than describe the lookup, and uuid alone would make the context of every FlowFile unique
+    private static final Set<String> EXCLUDED_CONTEXT_KEYS = Collections.unmodifiableSet(Stream.of(CoreAttributes.values())
+        .map(CoreAttributes::key)
+        .collect(Collectors.toSet()));
+
+    private volatile LookupService<?> lookupService;
+    private volatile Cache<CacheKey, Optional<Object>> cache;
+    private volatile boolean cacheUnmatched;
+    private volatile boolean cacheByContext;
+
+    private final AtomicLong hits = new AtomicLong(0L);
+    private final AtomicLong misses = new AtomicLong(0L);
+
+    @Override
+    protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
+        final List<PropertyDescriptor> properties = new ArrayList<>();
+        properties.add(LOOKUP_SERVICE);
+        properties.add(CACHE_SIZE);
+        properties.add(CACHE_EXPIRATION);
+        properties.add(CACHE_UNMATCHED);
+        properties.add(CACHE_BY_CONTEXT);
+        return properties;
+    }
+
+    @OnEnabled
+    public void onEnabled(final ConfigurationContext context) {
+        this.lookupService = context.getProperty(LOOKUP_SERVICE).asControllerService(LookupService.class);
+        this.cacheUnmatched = context.getProperty(CACHE_UNMATCHED).asBoolean();
+        this.cacheByContext = context.getProperty(CACHE_BY_CONTEXT).asBoolean();
+
+        final Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .maximumSize(context.getProperty(CACHE_SIZE).asInteger());
+        if (context.getProperty(CACHE_EXPIRATION).isSet()) {
+            builder.expireAfterWrite(context.getProperty(CACHE_EXPIRATION).asTimePeriod(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        }
+        this.cache = builder.build();
+
+        hits.set(0L);
+        misses.set(0L);
+    }
+
+    @OnDisabled
+    public void onDisabled() {
+        getLogger().info("Lookup cache served {} of {} lookups ({} entries at shutdown)", new Object[] {hits.get(), hits.get() + misses.get(), cache.estimatedSize()});
+
+        this.cache.invalidateAll();
+        this.cache = null;
+        this.lookupService = null;
+    }
+
+    @Override
+    public Optional<Object> lookup(final Map<String, Object> coordinates) throws LookupFailureException {
+        return lookup(coordinates, null);
+    }
+
+    @Override
+    public Optional<Object> lookup(final Map<String, Object> coordinates, final Map<String, String> context) throws LookupFailureException {
+        final CacheKey cacheKey = new CacheKey(coordinates, getCachedContext(context));
+
+        // Not using the function param of cache.get so we can propagate the checked exception
+        final Optional<Object> cached = cache.getIfPresent(cacheKey);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        final Optional<Object> result = lookupService.lookup(coordinates, context).map(value -> (Object) value);
+        if (result.isPresent() || cacheUnmatched) {
+            cache.put(cacheKey, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public List<Optional<Object>> lookupAll(final List<Map<String, Object>> coordinates, final Map<String, String> context) throws LookupFailureException {
+        final List<Optional<Object>> results = new ArrayList<>(coordinates.size());
+
+        // Only the coordinates that are not cached are passed on to the Lookup Service, each of them once
+        final Map<String, String> cachedContext = getCachedContext(context);
+        final Map<CacheKey, List<Integer>> missIndexes = new LinkedHashMap<>();
+        for (final Map<String, Object> coordinate : coordinates) {
+            final CacheKey cacheKey = new CacheKey(coordinate, cachedContext);
+            final Optional<Object> cached = cache.getIfPresent(cacheKey);
+            if (cached == null) {
+                missIndexes.computeIfAbsent(cacheKey, key -> new ArrayList<>()).add(results.size());
+            } else {
+                hits.incrementAndGet();
+            }
+            results.add(cached);
+        }
+
+        if (missIndexes.isEmpty()) {
+            return results;
+        }
+
+        misses.addAndGet(missIndexes.size());
+        final List<CacheKey> missed = new ArrayList<>(missIndexes.keySet());
+        final List<Map<String, Object>> missedCoordinates = new ArrayList<>(missed.size());
+        for (final CacheKey cacheKey : missed) {
+            missedCoordinates.add(cacheKey.coordinates);
+        }
+        final List<? extends Optional<?>> loaded = lookupService.lookupAll(missedCoordinates, context);
+
+        for (int i = 0; i < missed.size(); i++) {
+            final Optional<Object> result = loaded.get(i).map(value -> (Object) value);
+            if (result.isPresent() || cacheUnmatched) {
+                cache.put(missed.get(i), result);
+            }
+
+            for (final Integer index : missIndexes.get(missed.get(i))) {
+                results.set(index, result);
+            }
+        }
+
+        return results;
+    }
+
+    private Map<String, String> getCachedContext(final Map<String, String> context) {
+        if (!cacheByContext || context == null || context.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, String> cachedContext = new HashMap<>(context);
+        cachedContext.keySet().removeAll(EXCLUDED_CONTEXT_KEYS);
+        return cachedContext;
+    }
+
+    @Override
+    public Class<?> getValueType() {
+        final LookupService<?> service = lookupService;
+        return service == null ? Object.class : service.getValueType();
+    }
+
+    @Override
+    public Set<String> getRequiredKeys() {
+        final LookupService<?> service = lookupService;
+        return service == null ? Collections.emptySet() : service.getRequiredKeys();
+    }
+
+    private static class CacheKey {
+        private final Map<String, Object> coordinates;
+        private final Map<String, String> context;
+
+        private CacheKey(final Map<String, Object> coordinates, final Map<String, String> context) {
+            this.coordinates = new HashMap<>(coordinates);
+            this.context = context;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+
+            final CacheKey other = (CacheKey) obj;
+            return coordinates.equals(other.coordinates) && context.equals(other.context);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(coordinates, context);
+        }
+    }
+}
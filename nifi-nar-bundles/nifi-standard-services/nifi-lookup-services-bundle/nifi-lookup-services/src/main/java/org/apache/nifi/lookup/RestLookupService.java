@@ -21,6 +21,8 @@ import com.burgstaller.okhttp.AuthenticationCacheInterceptor;
 import com.burgstaller.okhttp.CachingAuthenticatorDecorator;
 import com.burgstaller.okhttp.digest.CachingAuthenticator;
 import com.burgstaller.okhttp.digest.DigestAuthenticator;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Credentials;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -73,6 +75,7 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -80,7 +83,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -325,6 +330,63 @@ public class RestLookupService extends AbstractControllerService implements Reco
 
     @Override
     public Optional<Record> lookup(Map<String, Object> coordinates, Map<String, String> context) throws LookupFailureException {
+        final Request request = createRequest(coordinates);
+        try {
+            final Response response = executeRequest(request);
+            return readResponse(response, coordinates, context);
+        } catch (Exception e) {
+            getLogger().error("Could not execute lookup.", e);
+            throw new LookupFailureException(e);
+        }
+    }
+
+    /**
+     * Issues the requests for all of the given coordinates concurrently rather than one after another, so that the
+     * time taken is bounded by the slowest request (and the client's per-host concurrency limit) instead of the sum of all of them.
+     * The responses are then parsed in order.
+     */
+    @Override
+    public List<Optional<Record>> lookupAll(List<Map<String, Object>> coordinates, Map<String, String> context) throws LookupFailureException {
+        final List<Request> requests = new ArrayList<>(coordinates.size());
+        for (final Map<String, Object> coordinate : coordinates) {
+            requests.add(createRequest(coordinate));
+        }
+
+        final List<CompletableFuture<Response>> responses = new ArrayList<>(requests.size());
+        for (final Request request : requests) {
+            responses.add(executeRequestAsync(request));
+        }
+
+        final List<Optional<Record>> results = new ArrayList<>(coordinates.size());
+        try {
+            for (int i = 0; i < responses.size(); i++) {
+                final Response response;
+                try {
+                    response = responses.get(i).get();
+                } catch (final ExecutionException ee) {
+                    throw ee.getCause() instanceof Exception ? (Exception) ee.getCause() : ee;
+                }
+
+                results.add(readResponse(response, coordinates.get(i), context));
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            // Do not leave connections of the requests that are still outstanding open
+            for (int i = results.size() + 1; i < responses.size(); i++) {
+                responses.get(i).thenAccept(Response::close);
+            }
+
+            getLogger().error("Could not execute lookup.", e);
+            throw new LookupFailureException(e);
+        }
+
+        return results;
+    }
+
+    private Request createRequest(Map<String, Object> coordinates) throws LookupFailureException {
         final String endpoint = determineEndpoint(coordinates);
         final String mimeType = (String)coordinates.get(MIME_TYPE_KEY);
         final String method   = ((String)coordinates.getOrDefault(METHOD_KEY, "get")).trim().toLowerCase();
@@ -346,31 +408,28 @@ public class RestLookupService extends AbstractControllerService implements Reco
             }
         }
 
-        Request request = buildRequest(mimeType, method, body, endpoint);
-        try {
-            Response response = executeRequest(request);
-
-            if (getLogger().isDebugEnabled()) {
-                getLogger().debug("Response code {} was returned for coordinate {}",
-                        new Object[]{response.code(), coordinates});
-            }
+        return buildRequest(mimeType, method, body, endpoint);
+    }
 
-            final ResponseBody responseBody = response.body();
-            if (responseBody == null) {
-                return Optional.empty();
-            }
+    private Optional<Record> readResponse(Response response, Map<String, Object> coordinates, Map<String, String> context)
+            throws SchemaNotFoundException, MalformedRecordException, IOException {
+        if (getLogger().isDebugEnabled()) {
+            getLogger().debug("Response code {} was returned for coordinate {}",
+                    new Object[]{response.code(), coordinates});
+        }
 
-            final Record record;
-            try (final InputStream is = responseBody.byteStream();
-                final InputStream bufferedIn = new BufferedInputStream(is)) {
-                record = handleResponse(bufferedIn, responseBody.contentLength(), context);
-            }
+        final ResponseBody responseBody = response.body();
+        if (responseBody == null) {
+            return Optional.empty();
+        }
 
-            return Optional.ofNullable(record);
-        } catch (Exception e) {
-            getLogger().error("Could not execute lookup.", e);
-            throw new LookupFailureException(e);
+        final Record record;
+        try (final InputStream is = responseBody.byteStream();
+            final InputStream bufferedIn = new BufferedInputStream(is)) {
+            record = handleResponse(bufferedIn, responseBody.contentLength(), context);
         }
+
+        return Optional.ofNullable(record);
     }
 
     protected void validateVerb(String method) throws LookupFailureException {
@@ -403,6 +462,22 @@ public class RestLookupService extends AbstractControllerService implements Reco
         return client.newCall(request).execute();
     }
 
+    protected CompletableFuture<Response> executeRequestAsync(Request request) {
+        final CompletableFuture<Response> future = new CompletableFuture<>();
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(final Call call, final IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(final Call call, final Response response) {
+                future.complete(response);
+            }
+        });
+        return future;
+    }
+
     private Record handleResponse(InputStream is, long inputLength, Map<String, String> context) throws SchemaNotFoundException, MalformedRecordException, IOException {
 
         try (RecordReader reader = readerFactory.createRecordReader(context, is, inputLength, getLogger())) {
@@ -34,6 +34,14 @@ public class AbstractDatabaseLookupService extends AbstractControllerService {
 
     static final Set<String> REQUIRED_KEYS = Collections.unmodifiableSet(Stream.of(KEY).collect(Collectors.toSet()));
 
+    /**
+     * The maximum number of keys that are resolved by a single query when performing a bulk lookup
+     */
+    static final int MAX_KEYS_PER_QUERY = 100;
+
+    static final String BATCH_INDEX_COLUMN = "NIFI_LOOKUP_INDEX";
+    static final String BATCH_TABLE_ALIAS = "NIFI_LOOKUP_TABLE";
+
     static final PropertyDescriptor DBCP_SERVICE = new PropertyDescriptor.Builder()
             .name("dbrecord-lookup-dbcp-service")
             .displayName("Database Connection Pooling Service")
@@ -101,4 +109,32 @@ public class AbstractDatabaseLookupService extends AbstractControllerService {
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
         return properties;
     }
+
+    /**
+     * Builds a query that looks up <code>keyCount</code> keys at once. Each key is bound to its own <code>SELECT</code>, and the
+     * selects are combined with <code>UNION ALL</code>, so that every returned row carries the (zero-based) position of the key
+     * that produced it in the {@link #BATCH_INDEX_COLUMN} column. This avoids having to match rows back to keys by comparing
+     * values whose types may have been coerced by the database.
+     *
+     * @param lookupValueColumns the columns to select, or <code>*</code> for all columns
+     * @param tableName the table to query
+     * @param keyCount the number of keys, and therefore parameters, in the query
+     * @return the query text
+     */
+    String getBatchSelectQuery(final String lookupValueColumns, final String tableName, final int keyCount) {
+        final String columns = "*".equals(lookupValueColumns) ? BATCH_TABLE_ALIAS + ".*" : lookupValueColumns;
+
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keyCount; i++) {
+            if (i > 0) {
+                sb.append(" UNION ALL ");
+            }
+
+            sb.append("SELECT ").append(i).append(" AS ").append(BATCH_INDEX_COLUMN).append(", ").append(columns)
+                .append(" FROM ").append(tableName).append(" ").append(BATCH_TABLE_ALIAS)
+                .append(" WHERE ").append(lookupKeyColumn).append(" = ?");
+        }
+
+        return sb.toString();
+    }
 }
@@ -31,7 +31,11 @@ import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.lookup.LookupFailureException;
 import org.apache.nifi.lookup.RecordLookupService;
 import org.apache.nifi.processor.util.StandardValidators;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.nifi.serialization.record.ResultSetRecordSet;
 import org.apache.nifi.util.Tuple;
 
@@ -43,6 +47,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -134,18 +139,7 @@ public class DatabaseRecordLookupService extends AbstractDatabaseLookupService i
         }
 
         final String tableName = getProperty(TABLE_NAME).evaluateAttributeExpressions(context).getValue();
-        final String lookupValueColumnsList = getProperty(LOOKUP_VALUE_COLUMNS).evaluateAttributeExpressions(context).getValue();
-
-        Set<String> lookupValueColumnsSet = new LinkedHashSet<>();
-        if (lookupValueColumnsList != null) {
-            Stream.of(lookupValueColumnsList)
-                    .flatMap(path -> Arrays.stream(path.split(",")))
-                    .filter(DatabaseRecordLookupService::isNotBlank)
-                    .map(String::trim)
-                    .forEach(lookupValueColumnsSet::add);
-        }
-
-        final String lookupValueColumns = lookupValueColumnsSet.isEmpty() ? "*" : String.join(",", lookupValueColumnsSet);
+        final String lookupValueColumns = getLookupValueColumns(context);
 
         Tuple<String, Object> cacheLookupKey = new Tuple<>(tableName, key);
 
@@ -179,6 +173,111 @@ public class DatabaseRecordLookupService extends AbstractDatabaseLookupService i
         return Optional.ofNullable(foundRecord);
     }
 
+    @Override
+    public List<Optional<Record>> lookupAll(final List<Map<String, Object>> coordinates, final Map<String, String> context) throws LookupFailureException {
+        final String tableName = getProperty(TABLE_NAME).evaluateAttributeExpressions(context).getValue();
+        final String lookupValueColumns = getLookupValueColumns(context);
+
+        final List<Optional<Record>> results = new ArrayList<>(coordinates.size());
+        final List<Integer> missIndexes = new ArrayList<>();
+        for (final Map<String, Object> coordinate : coordinates) {
+            final Object key = coordinate == null ? null : coordinate.get(KEY);
+            if (key == null || StringUtils.isBlank(key.toString())) {
+                results.add(Optional.empty());
+                continue;
+            }
+
+            final Record cachedRecord = cache.get(new Tuple<>(tableName, key), k -> null);
+            if (cachedRecord == null) {
+                missIndexes.add(results.size());
+            }
+            results.add(Optional.ofNullable(cachedRecord));
+        }
+
+        for (int start = 0; start < missIndexes.size(); start += MAX_KEYS_PER_QUERY) {
+            final List<Integer> chunk = missIndexes.subList(start, Math.min(start + MAX_KEYS_PER_QUERY, missIndexes.size()));
+            final Record[] foundRecords = lookupChunk(chunk, coordinates, tableName, lookupValueColumns, context);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                final Record foundRecord = foundRecords[i];
+                if (foundRecord != null) {
+                    final int index = chunk.get(i);
+                    cache.put(new Tuple<>(tableName, coordinates.get(index).get(KEY)), foundRecord);
+                    results.set(index, Optional.of(foundRecord));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private Record[] lookupChunk(final List<Integer> chunk, final List<Map<String, Object>> coordinates, final String tableName, final String lookupValueColumns,
+                                 final Map<String, String> context) throws LookupFailureException {
+        final Record[] foundRecords = new Record[chunk.size()];
+
+        final String selectQuery = getBatchSelectQuery(lookupValueColumns, tableName, chunk.size());
+        try (final Connection con = dbcpService.getConnection(context);
+             final PreparedStatement st = con.prepareStatement(selectQuery)) {
+
+            for (int i = 0; i < chunk.size(); i++) {
+                st.setObject(i + 1, coordinates.get(chunk.get(i)).get(KEY));
+            }
+
+            final ResultSet resultSet = st.executeQuery();
+            final ResultSetRecordSet resultSetRecordSet = new ResultSetRecordSet(resultSet, null);
+
+            // The index column is only needed to pair rows with keys, so the Records that are returned use a schema without it
+            final RecordSchema resultSchema = resultSetRecordSet.getSchema();
+            final String indexFieldName = resultSchema.getFieldNames().stream()
+                    .filter(BATCH_INDEX_COLUMN::equalsIgnoreCase)
+                    .findFirst()
+                    .orElseThrow(() -> new SQLException("Result set for SQL statement: " + selectQuery + " did not contain column " + BATCH_INDEX_COLUMN));
+
+            final List<RecordField> lookupFields = new ArrayList<>(resultSchema.getFieldCount() - 1);
+            for (final RecordField field : resultSchema.getFields()) {
+                if (!field.getFieldName().equals(indexFieldName)) {
+                    lookupFields.add(field);
+                }
+            }
+            final RecordSchema lookupSchema = new SimpleRecordSchema(lookupFields);
+
+            Record row;
+            while ((row = resultSetRecordSet.next()) != null) {
+                final int keyIndex = ((Number) row.getValue(indexFieldName)).intValue();
+                if (foundRecords[keyIndex] != null) {
+                    continue;
+                }
+
+                final Map<String, Object> values = new HashMap<>(row.toMap());
+                values.remove(indexFieldName);
+                foundRecords[keyIndex] = new MapRecord(lookupSchema, values);
+            }
+        } catch (SQLException se) {
+            throw new LookupFailureException("Error executing SQL statement: " + selectQuery + " for " + chunk.size() + " values"
+                    + " : " + (se.getCause() == null ? se.getMessage() : se.getCause().getMessage()), se);
+        } catch (IOException ioe) {
+            throw new LookupFailureException("Error retrieving result set for SQL statement: " + selectQuery + " for " + chunk.size() + " values"
+                    + " : " + (ioe.getCause() == null ? ioe.getMessage() : ioe.getCause().getMessage()), ioe);
+        }
+
+        return foundRecords;
+    }
+
+    private String getLookupValueColumns(final Map<String, String> context) {
+        final String lookupValueColumnsList = getProperty(LOOKUP_VALUE_COLUMNS).evaluateAttributeExpressions(context).getValue();
+
+        Set<String> lookupValueColumnsSet = new LinkedHashSet<>();
+        if (lookupValueColumnsList != null) {
+            Stream.of(lookupValueColumnsList)
+                    .flatMap(path -> Arrays.stream(path.split(",")))
+                    .filter(DatabaseRecordLookupService::isNotBlank)
+                    .map(String::trim)
+                    .forEach(lookupValueColumnsSet::add);
+        }
+
+        return lookupValueColumnsSet.isEmpty() ? "*" : String.join(",", lookupValueColumnsSet);
+    }
+
     private static boolean isNotBlank(final String value) {
         return value != null && !value.trim().isEmpty();
     }
@@ -167,6 +167,70 @@ public class SimpleDatabaseLookupService extends AbstractDatabaseLookupService i
         return Optional.ofNullable(foundRecord);
     }
 
+    @Override
+    public List<Optional<String>> lookupAll(final List<Map<String, Object>> coordinates, final Map<String, String> context) throws LookupFailureException {
+        final String tableName = getProperty(TABLE_NAME).evaluateAttributeExpressions(context).getValue();
+        final String lookupValueColumn = getProperty(LOOKUP_VALUE_COLUMN).evaluateAttributeExpressions(context).getValue();
+
+        final List<Optional<String>> results = new ArrayList<>(coordinates.size());
+        final List<Integer> missIndexes = new ArrayList<>();
+        for (final Map<String, Object> coordinate : coordinates) {
+            final Object key = coordinate == null ? null : coordinate.get(KEY);
+            if (key == null || StringUtils.isBlank(key.toString())) {
+                results.add(Optional.empty());
+                continue;
+            }
+
+            final String cachedValue = cache.get(new Tuple<>(tableName, key), k -> null);
+            if (cachedValue == null) {
+                missIndexes.add(results.size());
+            }
+            results.add(Optional.ofNullable(cachedValue));
+        }
+
+        for (int start = 0; start < missIndexes.size(); start += MAX_KEYS_PER_QUERY) {
+            final List<Integer> chunk = missIndexes.subList(start, Math.min(start + MAX_KEYS_PER_QUERY, missIndexes.size()));
+            final String[] foundValues = new String[chunk.size()];
+            final boolean[] rowFound = new boolean[chunk.size()];
+
+            final String selectQuery = getBatchSelectQuery(lookupValueColumn, tableName, chunk.size());
+            try (final Connection con = dbcpService.getConnection(context);
+                 final PreparedStatement st = con.prepareStatement(selectQuery)) {
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    st.setObject(i + 1, coordinates.get(chunk.get(i)).get(KEY));
+                }
+
+                final ResultSet resultSet = st.executeQuery();
+                while (resultSet.next()) {
+                    final int keyIndex = resultSet.getInt(BATCH_INDEX_COLUMN);
+                    if (rowFound[keyIndex]) {
+                        continue;
+                    }
+                    rowFound[keyIndex] = true;
+
+                    final Object o = resultSet.getObject(lookupValueColumn);
+                    if (o != null) {
+                        foundValues[keyIndex] = o.toString();
+                    }
+                }
+            } catch (SQLException se) {
+                throw new LookupFailureException("Error executing SQL statement: " + selectQuery + " for " + chunk.size() + " values"
+                        + " : " + (se.getCause() == null ? se.getMessage() : se.getCause().getMessage()), se);
+            }
+
+            for (int i = 0; i < chunk.size(); i++) {
+                if (foundValues[i] != null) {
+                    final int index = chunk.get(i);
+                    cache.put(new Tuple<>(tableName, coordinates.get(index).get(KEY)), foundValues[i]);
+                    results.set(index, Optional.of(foundValues[i]));
+                }
+            }
+        }
+
+        return results;
+    }
+
     @Override
     public Set<String> getRequiredKeys() {
         return REQUIRED_KEYS;
@@ -154,6 +154,56 @@ class TestDatabaseRecordLookupService {
         assertEquals(EMPTY_RECORD, property3)
     }
 
+    @Test
+    void testDatabaseLookupServiceLookupAll() throws InitializationException, IOException, LookupFailureException {
+        // remove previous test database, if any
+        final File dbLocation = new File(DB_LOCATION)
+        dbLocation.delete()
+
+        // load test data to database
+        final Connection con = ((DBCPService) runner.getControllerService("dbcp")).connection
+        final Statement stmt = con.createStatement()
+
+        try {
+            stmt.execute("drop table TEST")
+        } catch (final SQLException sqle) {
+        }
+
+        stmt.execute("create table TEST (id integer not null, val1 integer, val2 varchar(10), constraint my_pk primary key (id))")
+        stmt.execute("insert into TEST (id, val1, val2) VALUES (0, NULL, 'Hello')")
+        stmt.execute("insert into TEST (id, val1, val2) VALUES (1, 1, 'World')")
+
+        final DatabaseRecordLookupService service = new DatabaseRecordLookupService()
+
+        runner.addControllerService("db-lookup-service", service)
+        runner.setProperty(service, DatabaseRecordLookupService.DBCP_SERVICE, "dbcp")
+        runner.setProperty(service, DatabaseRecordLookupService.TABLE_NAME, "TEST")
+        runner.setProperty(service, DatabaseRecordLookupService.LOOKUP_KEY_COLUMN, "id")
+        runner.setProperty(service, DatabaseRecordLookupService.CACHE_SIZE, "10")
+        runner.enableControllerService(service)
+        runner.assertValid(service)
+
+        def lookupService = (DatabaseRecordLookupService) runner.processContext.controllerServiceLookup.getControllerService("db-lookup-service")
+
+        // Warm the cache with one of the keys, so that the batch is served partly from the cache and partly from the database
+        assertEquals("World", lookupService.lookup(Collections.singletonMap("key", "1")).get().getAsString("VAL2"))
+
+        final List<Map<String, Object>> coordinates = ["1", "2", "0", "", "1"].collect { Collections.singletonMap("key", it) as Map<String, Object> }
+        final List<Optional<Record>> results = lookupService.lookupAll(coordinates, null)
+
+        assertEquals(5, results.size())
+        assertEquals(1, results[0].get().getAsInt("VAL1"))
+        assertEquals("World", results[0].get().getAsString("VAL2"))
+        assertEquals(EMPTY_RECORD, results[1])
+        assertNull(results[2].get().getAsInt("VAL1"))
+        assertEquals("Hello", results[2].get().getAsString("VAL2"))
+        assertEquals(EMPTY_RECORD, results[3])
+        assertEquals("World", results[4].get().getAsString("VAL2"))
+
+        // The column that pairs rows with keys must not leak into the returned records
+        assertEquals(["ID", "VAL1", "VAL2"], results[2].get().schema.fieldNames)
+    }
+
     @Test
     void exerciseCacheLogic() {
         // remove previous test database, if any
@@ -108,6 +108,48 @@ class TestSimpleDatabaseLookupService {
         assertEquals("World", property2.get())
     }
 
+    @Test
+    void testDatabaseLookupServiceLookupAll() throws InitializationException, IOException, LookupFailureException {
+        // remove previous test database, if any
+        final File dbLocation = new File(DB_LOCATION)
+        dbLocation.delete()
+
+        // load test data to database
+        final Connection con = ((DBCPService) runner.getControllerService("dbcp")).connection
+        final Statement stmt = con.createStatement()
+
+        try {
+            stmt.execute("drop table TEST")
+        } catch (final SQLException sqle) {
+        }
+
+        stmt.execute("create table TEST (id integer not null, val1 integer, val2 varchar(10), constraint my_pk primary key (id))")
+        stmt.execute("insert into TEST (id, val1, val2) VALUES (0, NULL, 'Hello')")
+        stmt.execute("insert into TEST (id, val1, val2) VALUES (1, 1, 'World')")
+
+        final SimpleDatabaseLookupService service = new SimpleDatabaseLookupService()
+
+        runner.addControllerService("db-lookup-service", service)
+        runner.setProperty(service, SimpleDatabaseLookupService.DBCP_SERVICE, "dbcp")
+        runner.setProperty(service, SimpleDatabaseLookupService.TABLE_NAME, "TEST")
+        runner.setProperty(service, SimpleDatabaseLookupService.LOOKUP_KEY_COLUMN, "id")
+        runner.setProperty(service, SimpleDatabaseLookupService.LOOKUP_VALUE_COLUMN, "VAL1")
+        runner.enableControllerService(service)
+        runner.assertValid(service)
+
+        def lookupService = (SimpleDatabaseLookupService) runner.processContext.controllerServiceLookup.getControllerService("db-lookup-service")
+
+        final List<Map<String, Object>> coordinates = ["1", "0", "2", ""].collect { Collections.singletonMap("key", it) as Map<String, Object> }
+        final List<Optional<String>> results = lookupService.lookupAll(coordinates, null)
+
+        assertEquals(4, results.size())
+        assertEquals("1", results[0].get())
+        // VAL1 is NULL for key 0
+        assertFalse(results[1].isPresent())
+        assertEquals(EMPTY_RECORD, results[2])
+        assertEquals(EMPTY_RECORD, results[3])
+    }
+
     @Test
     void exerciseCacheLogic() {
         // remove previous test database, if any
@@ -21,6 +21,8 @@ import okhttp3.Request
 import okhttp3.Response
 import org.apache.nifi.lookup.RestLookupService
 
+import java.util.concurrent.CompletableFuture
+
 class MockRestLookupService extends RestLookupService {
     Response response
 
@@ -28,4 +30,9 @@ class MockRestLookupService extends RestLookupService {
     protected Response executeRequest(Request request) {
         return response
     }
+
+    @Override
+    protected CompletableFuture<Response> executeRequestAsync(Request request) {
+        return CompletableFuture.completedFuture(response)
+    }
 }
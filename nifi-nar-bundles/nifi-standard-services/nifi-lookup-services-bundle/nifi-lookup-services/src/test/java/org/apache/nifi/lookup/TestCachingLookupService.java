@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.lookup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.nifi.controller.AbstractControllerService;
+import org.apache.nifi.util.MockFlowFile;
+import org.apache.nifi.reporting.InitializationException;
+import org.apache.nifi.util.TestRunner;
+import org.apache.nifi.util.TestRunners;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TestCachingLookupService {
+
+    private TestRunner runner;
+    private CountingLookupService delegate;
+    private CachingLookupService service;
+
+    @Before
+    public void setup() throws InitializationException {
+        runner = TestRunners.newTestRunner(TestProcessor.class);
+
+        delegate = new CountingLookupService();
+        delegate.values.put("key1", "value1");
+        delegate.values.put("key2", "value2");
+        runner.addControllerService("delegate", delegate);
+        runner.enableControllerService(delegate);
+
+        service = new CachingLookupService();
+        runner.addControllerService("caching-lookup-service", service);
+        runner.setProperty(service, CachingLookupService.LOOKUP_SERVICE, "delegate");
+    }
+
+    @Test
+    public void testLookupIsCached() throws LookupFailureException {
+        runner.enableControllerService(service);
+        runner.assertValid(service);
+
+        assertEquals(Collections.singleton("key"), service.getRequiredKeys());
+        assertEquals(String.class, service.getValueType());
+
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1")));
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1")));
+        assertEquals(1, delegate.lookups);
+
+        // Unmatched lookups are not cached by default
+        assertFalse(service.lookup(coordinates("key3")).isPresent());
+        assertFalse(service.lookup(coordinates("key3")).isPresent());
+        assertEquals(3, delegate.lookups);
+    }
+
+    @Test
+    public void testUnmatchedLookupIsCached() throws LookupFailureException {
+        runner.setProperty(service, CachingLookupService.CACHE_UNMATCHED, "true");
+        runner.enableControllerService(service);
+
+        assertFalse(service.lookup(coordinates("key3")).isPresent());
+        assertFalse(service.lookup(coordinates("key3")).isPresent());
+        assertEquals(1, delegate.lookups);
+    }
+
+    @Test
+    public void testLookupAllOnlyDelegatesMisses() throws LookupFailureException {
+        runner.enableControllerService(service);
+
+        assertEquals(Optional.of("value2"), service.lookup(coordinates("key2")));
+
+        final List<Map<String, Object>> coordinates = Arrays.asList(coordinates("key1"), coordinates("key2"), coordinates("key3"), coordinates("key1"));
+        final List<Optional<Object>> results = service.lookupAll(coordinates, Collections.emptyMap());
+
+        assertEquals(Arrays.asList(Optional.of("value1"), Optional.of("value2"), Optional.empty(), Optional.of("value1")), results);
+        assertEquals(1, delegate.batches);
+        assertEquals(Arrays.asList(coordinates("key1"), coordinates("key3")), delegate.lastBatch);
+
+        // Everything that matched is now cached
+        service.lookupAll(Arrays.asList(coordinates("key1"), coordinates("key2")), Collections.emptyMap());
+        assertEquals(1, delegate.batches);
+    }
+
+    @Test
+    public void testContextIsPartOfCacheKey() throws LookupFailureException {
+        runner.enableControllerService(service);
+
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1"), Collections.singletonMap("attr", "a")));
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1"), Collections.singletonMap("attr", "a")));
+        assertEquals(1, delegate.lookups);
+
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1"), Collections.singletonMap("attr", "b")));
+        assertEquals(2, delegate.lookups);
+
+        service.lookupAll(Arrays.asList(coordinates("key1"), coordinates("key2")), Collections.singletonMap("attr", "a"));
+        assertEquals(Collections.singletonList(coordinates("key2")), delegate.lastBatch);
+    }
+
+    @Test
+    public void testCoreAttributesExcludedFromCacheKey() throws LookupFailureException {
+        runner.enableControllerService(service);
+
+        // Every FlowFile has its own uuid and filename, which must not prevent lookups for different FlowFiles from being served by the cache
+        final MockFlowFile flowFile1 = new MockFlowFile(1L);
+        flowFile1.putAttributes(Collections.singletonMap("attr", "a"));
+        final MockFlowFile flowFile2 = new MockFlowFile(2L);
+        flowFile2.putAttributes(Collections.singletonMap("attr", "a"));
+        final MockFlowFile flowFile3 = new MockFlowFile(3L);
+        flowFile3.putAttributes(Collections.singletonMap("attr", "b"));
+
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1"), flowFile1.getAttributes()));
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1"), flowFile2.getAttributes()));
+        assertEquals(1, delegate.lookups);
+
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1"), flowFile3.getAttributes()));
+        assertEquals(2, delegate.lookups);
+    }
+
+    @Test
+    public void testContextExcludedFromCacheKey() throws LookupFailureException {
+        runner.setProperty(service, CachingLookupService.CACHE_BY_CONTEXT, "false");
+        runner.enableControllerService(service);
+
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1"), Collections.singletonMap("attr", "a")));
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1"), Collections.singletonMap("attr", "b")));
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1")));
+        assertEquals(1, delegate.lookups);
+    }
+
+    @Test
+    public void testCacheExpiration() throws LookupFailureException, InterruptedException {
+        runner.setProperty(service, CachingLookupService.CACHE_EXPIRATION, "10 millis");
+        runner.enableControllerService(service);
+
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1")));
+        Thread.sleep(50L);
+        assertEquals(Optional.of("value1"), service.lookup(coordinates("key1")));
+        assertEquals(2, delegate.lookups);
+    }
+
+    private static Map<String, Object> coordinates(final String key) {
+        return Collections.singletonMap("key", key);
+    }
+
+    private static class CountingLookupService extends AbstractControllerService implements StringLookupService {
+        private final Map<String, String> values = new HashMap<>();
+        private int lookups;
+        private int batches;
+        private List<Map<String, Object>> lastBatch;
+
+        @Override
+        public Optional<String> lookup(final Map<String, Object> coordinates) {
+            lookups++;
+            return Optional.ofNullable(values.get(coordinates.get("key")));
+        }
+
+        @Override
+        public List<Optional<String>> lookupAll(final List<Map<String, Object>> coordinates, final Map<String, String> context) {
+            batches++;
+            lastBatch = new ArrayList<>(coordinates);
+
+            final List<Optional<String>> results = new ArrayList<>();
+            for (final Map<String, Object> coordinate : coordinates) {
+                results.add(Optional.ofNullable(values.get(coordinate.get("key"))));
+            }
+            return results;
+        }
+
+        @Override
+        public Set<String> getRequiredKeys() {
+            return Collections.singleton("key");
+        }
+    }
+}
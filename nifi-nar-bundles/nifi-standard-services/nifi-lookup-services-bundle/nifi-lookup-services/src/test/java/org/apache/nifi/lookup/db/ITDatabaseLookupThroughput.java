@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.lookup.db;
+
+import org.apache.nifi.controller.AbstractControllerService;
+import org.apache.nifi.dbcp.DBCPService;
+import org.apache.nifi.lookup.CachingLookupService;
+import org.apache.nifi.lookup.LookupFailureException;
+import org.apache.nifi.lookup.LookupService;
+import org.apache.nifi.lookup.TestProcessor;
+import org.apache.nifi.processor.exception.ProcessException;
+import org.apache.nifi.reporting.InitializationException;
+import org.apache.nifi.util.TestRunner;
+import org.apache.nifi.util.TestRunners;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Looks up a skewed stream of keys in an embedded Derby database one key at a time, in batches, and in batches through
+ * a {@link CachingLookupService}, in order to compare the throughput of the three.
+ */
+public class ITDatabaseLookupThroughput {
+    private static final String DB_URL = "jdbc:derby:memory:lookupThroughput;create=true";
+    private static final int ROW_COUNT = 10_000;
+    private static final int LOOKUP_COUNT = 100_000;
+    private static final int BATCH_SIZE = 100;
+
+    private static List<Map<String, Object>> coordinates;
+    private static int expectedMatches;
+
+    private TestRunner runner;
+
+    @BeforeClass
+    public static void setupClass() throws Exception {
+        System.setProperty("derby.stream.error.file", "target/derby.log");
+        Class.forName("org.apache.derby.jdbc.EmbeddedDriver");
+
+        try (final Connection con = DriverManager.getConnection(DB_URL);
+             final Statement stmt = con.createStatement()) {
+            stmt.execute("create table LOOKUP_TEST (id integer not null, name varchar(32), amount double, constraint lookup_test_pk primary key (id))");
+
+            try (final PreparedStatement insert = con.prepareStatement("insert into LOOKUP_TEST (id, name, amount) values (?, ?, ?)")) {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    insert.setInt(1, i);
+                    insert.setString(2, "name " + i);
+                    insert.setDouble(3, i * 1.5D);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        // Most lookups hit a small set of hot keys, and a few ask for keys that do not exist
+        final Random random = new Random(42L);
+        coordinates = new ArrayList<>(LOOKUP_COUNT);
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            final int key = random.nextInt(10) < 8 ? random.nextInt(100) : random.nextInt(ROW_COUNT + ROW_COUNT / 10);
+            if (key < ROW_COUNT) {
+                expectedMatches++;
+            }
+            coordinates.add(Collections.singletonMap("key", String.valueOf(key)));
+        }
+    }
+
+    @Before
+    public void setup() throws InitializationException {
+        runner = TestRunners.newTestRunner(TestProcessor.class);
+
+        final DBCPService dbcp = new DerbyDBCPService();
+        runner.addControllerService("dbcp", dbcp);
+        runner.enableControllerService(dbcp);
+
+        final DatabaseRecordLookupService service = new DatabaseRecordLookupService();
+        runner.addControllerService("db-lookup-service", service);
+        runner.setProperty(service, DatabaseRecordLookupService.DBCP_SERVICE, "dbcp");
+        runner.setProperty(service, DatabaseRecordLookupService.TABLE_NAME, "LOOKUP_TEST");
+        runner.setProperty(service, DatabaseRecordLookupService.LOOKUP_KEY_COLUMN, "id");
+        runner.enableControllerService(service);
+    }
+
+    private LookupService<?> getCachingLookupService() throws InitializationException {
+        final CachingLookupService service = new CachingLookupService();
+        runner.addControllerService("caching-lookup-service", service);
+        runner.setProperty(service, "caching-lookup-service", "db-lookup-service");
+        runner.setProperty(service, "caching-lookup-cache-unmatched", "true");
+        runner.enableControllerService(service);
+        return service;
+    }
+
+    private void lookupEach(final LookupService<?> service) throws LookupFailureException {
+        int matches = 0;
+        for (final Map<String, Object> coordinate : coordinates) {
+            if (service.lookup(coordinate, Collections.emptyMap()).isPresent()) {
+                matches++;
+            }
+        }
+
+        assertEquals(expectedMatches, matches);
+    }
+
+    private void lookupBatches(final LookupService<?> service) throws LookupFailureException {
+        int matches = 0;
+        for (int start = 0; start < coordinates.size(); start += BATCH_SIZE) {
+            final List<Map<String, Object>> batch = coordinates.subList(start, Math.min(start + BATCH_SIZE, coordinates.size()));
+            for (final Optional<?> result : service.lookupAll(batch, Collections.emptyMap())) {
+                if (result.isPresent()) {
+                    matches++;
+                }
+            }
+        }
+
+        assertEquals(expectedMatches, matches);
+    }
+
+    @Test
+    public void testLookupPerKeyThroughput() throws LookupFailureException {
+        lookupEach((LookupService<?>) runner.getControllerService("db-lookup-service"));
+    }
+
+    @Test
+    public void testLookupAllThroughput() throws LookupFailureException {
+        lookupBatches((LookupService<?>) runner.getControllerService("db-lookup-service"));
+    }
+
+    @Test
+    public void testCachedLookupPerKeyThroughput() throws LookupFailureException, InitializationException {
+        lookupEach(getCachingLookupService());
+    }
+
+    @Test
+    public void testCachedLookupAllThroughput() throws LookupFailureException, InitializationException {
+        lookupBatches(getCachingLookupService());
+    }
+
+    private static class DerbyDBCPService extends AbstractControllerService implements DBCPService {
+        @Override
+        public Connection getConnection() throws ProcessException {
+            try {
+                return DriverManager.getConnection(DB_URL);
+            } catch (final SQLException e) {
+                throw new ProcessException("getConnection failed: " + e);
+            }
+        }
+    }
+}
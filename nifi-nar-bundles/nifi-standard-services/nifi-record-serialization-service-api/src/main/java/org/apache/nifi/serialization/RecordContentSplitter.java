@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>
+ * Divides the content of a FlowFile into splits that each hold one or more whole records, so that the splits can be
+ * parsed independently of one another. A RecordContentSplitter is stateful and is used to split a single stream of
+ * content, from its beginning, by calling {@link #nextSplit(InputStream, int)} until it returns <code>null</code>.
+ * </p>
+ *
+ * <p>
+ * The first split is the beginning of the content and is to be read as any other content would be read. Every later
+ * split is to be read with {@link #getSplitPrefix()} in front of it, so that it can be parsed the same way as the first
+ * split, for instance by repeating the header line of CSV data or the file header of an Avro data file.
+ * </p>
+ */
+public interface RecordContentSplitter {
+
+    /**
+     * Reads the next split from the given InputStream. The split holds at least <code>targetSize</code> bytes, unless the end of the
+     * stream is reached first, and ends at a record boundary. A splitter does not read arbitrarily far past <code>targetSize</code> in
+     * search of a record boundary: if none is found within a bounded distance, the splitter stops splitting, returns <code>null</code>,
+     * and the rest of the content is available from {@link #getRemainingContent(InputStream)}.
+     *
+     * @param in the InputStream to read from. The same InputStream must be provided on each invocation.
+     * @param targetSize the minimum number of bytes to put into the split
+     * @return the bytes of the next split, or <code>null</code> if there are no more splits
+     * @throws IOException if unable to read from the InputStream or if the content is not well-formed enough to find a record boundary
+     */
+    byte[] nextSplit(InputStream in, int targetSize) throws IOException;
+
+    /**
+     * Provides the content that has not been returned in a split once {@link #nextSplit(InputStream, int)} has returned <code>null</code>
+     * because the content could not be split any further. That content is to be read by a single Record Reader, as a stream, with
+     * {@link #getSplitPrefix()} in front of it unless no split has been returned yet.
+     *
+     * @param in the InputStream that was provided to {@link #nextSplit(InputStream, int)}
+     * @return the content that remains to be read, or <code>null</code> if all of the content has been returned in splits
+     */
+    InputStream getRemainingContent(InputStream in);
+
+    /**
+     * @return the bytes that are to be placed in front of every split other than the first one in order to read it. This
+     *         value is known only once the first split has been read. May be empty but will never be <code>null</code>.
+     */
+    byte[] getSplitPrefix();
+}
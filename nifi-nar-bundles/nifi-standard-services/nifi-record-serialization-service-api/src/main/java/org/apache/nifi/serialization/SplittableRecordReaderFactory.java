@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.serialization;
+
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.schema.access.SchemaNotFoundException;
+import org.apache.nifi.serialization.record.RecordSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * <p>
+ * A {@link RecordReaderFactory} whose content can be divided into splits of whole records that are able to be read independently of one another,
+ * such as by different threads. A Processor reads the first split using {@link #createRecordReader(Map, InputStream, long, ComponentLog)} and
+ * every other split using {@link #createSplitRecordReader(Map, InputStream, RecordSchema, ComponentLog)}, providing the schema of the first split's
+ * Record Reader, so that all of the Records are read the same way as if the content had been read by a single Record Reader.
+ * </p>
+ */
+public interface SplittableRecordReaderFactory extends RecordReaderFactory {
+
+    /**
+     * Creates a RecordContentSplitter that is capable of dividing content into splits of whole records.
+     *
+     * @param variables A map containing variables which is used to resolve the format of the content via Expression Language. This can be null or empty.
+     * @param logger A logger bound to a component
+     * @return a RecordContentSplitter for the content, or <code>null</code> if the content cannot be split with the current configuration, for
+     *         example because the schema is to be inferred from the content as a whole
+     */
+    RecordContentSplitter createContentSplitter(Map<String, String> variables, ComponentLog logger);
+
+    /**
+     * Creates a RecordReader for a split other than the first one.
+     *
+     * @param variables A map containing variables which is used to resolve the format of the content via Expression Language. This can be null or empty.
+     * @param in InputStream containing the {@link RecordContentSplitter#getSplitPrefix() split prefix}, followed by the split
+     * @param schema the schema of the Record Reader that was used to read the first split
+     * @param logger A logger bound to a component
+     * @return Created RecordReader instance
+     */
+    RecordReader createSplitRecordReader(Map<String, String> variables, InputStream in, RecordSchema schema, ComponentLog logger)
+        throws MalformedRecordException, IOException, SchemaNotFoundException;
+}
@@ -32,9 +32,10 @@ import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.schema.access.SchemaAccessStrategy;
 import org.apache.nifi.schema.access.SchemaNotFoundException;
 import org.apache.nifi.schemaregistry.services.SchemaRegistry;
+import org.apache.nifi.serialization.RecordContentSplitter;
 import org.apache.nifi.serialization.RecordReader;
-import org.apache.nifi.serialization.RecordReaderFactory;
 import org.apache.nifi.serialization.SchemaRegistryService;
+import org.apache.nifi.serialization.SplittableRecordReaderFactory;
 import org.apache.nifi.serialization.record.RecordSchema;
 
 import java.io.IOException;
@@ -47,7 +48,7 @@ import java.util.Optional;
 @Tags({"avro", "parse", "record", "row", "reader", "delimited", "comma", "separated", "values"})
 @CapabilityDescription("Parses Avro data and returns each Avro record as an separate Record object. The Avro data may contain the schema itself, "
     + "or the schema can be externalized and accessed by one of the methods offered by the 'Schema Access Strategy' property.")
-public class AvroReader extends SchemaRegistryService implements RecordReaderFactory {
+public class AvroReader extends SchemaRegistryService implements SplittableRecordReaderFactory {
     private final AllowableValue EMBEDDED_AVRO_SCHEMA = new AllowableValue("embedded-avro-schema",
         "Use Embedded Avro Schema", "The FlowFile has the Avro Schema embedded within the content, and this schema will be used.");
 
@@ -60,12 +61,25 @@ public class AvroReader extends SchemaRegistryService implements RecordReaderFac
             .required(true)
             .build();
 
+    static final PropertyDescriptor DECODE_DIRECTLY = new PropertyDescriptor.Builder()
+            .name("decode-directly")
+            .displayName("Decode Directly to Records")
+            .description("Specifies whether Avro data should be decoded directly into Records. If true, the fields of each Avro record are read straight "
+                + "into the values of a Record. If false, each Avro record is first read into an Avro GenericRecord, which is then converted into a Record. "
+                + "Both produce the same Records, but decoding directly avoids creating and converting an intermediate object for every record.")
+            .allowableValues("true", "false")
+            .defaultValue("true")
+            .required(true)
+            .build();
+
     private LoadingCache<String, Schema> compiledAvroSchemaCache;
+    private volatile boolean decodeDirectly;
 
     @Override
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
         final List<PropertyDescriptor> properties = new ArrayList<>(super.getSupportedPropertyDescriptors());
         properties.add(CACHE_SIZE);
+        properties.add(DECODE_DIRECTLY);
         return properties;
     }
 
@@ -75,6 +89,7 @@ public class AvroReader extends SchemaRegistryService implements RecordReaderFac
         compiledAvroSchemaCache = Caffeine.newBuilder()
                 .maximumSize(cacheSize)
                 .build(schemaText -> new Schema.Parser().parse(schemaText));
+        decodeDirectly = context.getProperty(DECODE_DIRECTLY).asBoolean();
     }
 
     @Override
@@ -97,7 +112,7 @@ public class AvroReader extends SchemaRegistryService implements RecordReaderFac
     public RecordReader createRecordReader(final Map<String, String> variables, final InputStream in, final long inputLength, final ComponentLog logger) throws IOException, SchemaNotFoundException {
         final String schemaAccessStrategy = getConfigurationContext().getProperty(getSchemaAcessStrategyDescriptor()).getValue();
         if (EMBEDDED_AVRO_SCHEMA.getValue().equals(schemaAccessStrategy)) {
-            return new AvroReaderWithEmbeddedSchema(in);
+            return new AvroReaderWithEmbeddedSchema(in, decodeDirectly);
         } else {
             final RecordSchema recordSchema = getSchema(variables, in, null);
 
@@ -117,10 +132,26 @@ public class AvroReader extends SchemaRegistryService implements RecordReaderFac
                 throw new SchemaNotFoundException("Failed to compile Avro Schema", e);
             }
 
-            return new AvroReaderWithExplicitSchema(in, recordSchema, avroSchema);
+            return new AvroReaderWithExplicitSchema(in, recordSchema, avroSchema, decodeDirectly);
         }
     }
 
+    @Override
+    public RecordContentSplitter createContentSplitter(final Map<String, String> variables, final ComponentLog logger) {
+        // Only content with an embedded schema is an Avro data file that is made up of blocks; otherwise, it is a bare sequence of records
+        final String schemaAccessStrategy = getConfigurationContext().getProperty(getSchemaAcessStrategyDescriptor()).getValue();
+        if (EMBEDDED_AVRO_SCHEMA.getValue().equals(schemaAccessStrategy)) {
+            return new AvroRecordContentSplitter();
+        }
+
+        return null;
+    }
+
+    @Override
+    public RecordReader createSplitRecordReader(final Map<String, String> variables, final InputStream in, final RecordSchema schema, final ComponentLog logger) throws IOException {
+        return new AvroReaderWithEmbeddedSchema(in, decodeDirectly);
+    }
+
     @Override
     protected AllowableValue getDefaultSchemaAccessStrategy() {
         return EMBEDDED_AVRO_SCHEMA;
@@ -20,6 +20,7 @@ package org.apache.nifi.avro;
 import org.apache.avro.Schema;
 import org.apache.avro.file.DataFileStream;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.nifi.serialization.MalformedRecordException;
 import org.apache.nifi.serialization.record.RecordSchema;
 
 import java.io.IOException;
@@ -27,20 +28,39 @@ import java.io.InputStream;
 
 public class AvroReaderWithEmbeddedSchema extends AvroRecordReader {
     private final DataFileStream<GenericRecord> dataFileStream;
+    private final DataFileStream<Object[]> valuesStream;
     private final InputStream in;
     private final Schema avroSchema;
     private final RecordSchema recordSchema;
 
     public AvroReaderWithEmbeddedSchema(final InputStream in) throws IOException {
+        this(in, false);
+    }
+
+    public AvroReaderWithEmbeddedSchema(final InputStream in, final boolean decodeDirectly) throws IOException {
         this.in = in;
-        dataFileStream = new DataFileStream<>(in, new NonCachingDatumReader<>());
-        this.avroSchema = dataFileStream.getSchema();
-        recordSchema = AvroTypeUtil.createSchema(avroSchema);
+
+        if (decodeDirectly) {
+            final RecordDatumReader datumReader = new RecordDatumReader();
+            valuesStream = new DataFileStream<>(in, datumReader);
+            dataFileStream = null;
+            this.avroSchema = valuesStream.getSchema();
+            recordSchema = datumReader.getRecordSchema();
+        } else {
+            dataFileStream = new DataFileStream<>(in, new NonCachingDatumReader<>());
+            valuesStream = null;
+            this.avroSchema = dataFileStream.getSchema();
+            recordSchema = AvroTypeUtil.createSchema(avroSchema);
+        }
     }
 
     @Override
     public void close() throws IOException {
-        dataFileStream.close();
+        if (dataFileStream == null) {
+            valuesStream.close();
+        } else {
+            dataFileStream.close();
+        }
         in.close();
     }
 
@@ -53,6 +73,24 @@ public class AvroReaderWithEmbeddedSchema extends AvroRecordReader {
         return dataFileStream.next();
     }
 
+    @Override
+    protected boolean isDecodingDirectly() {
+        return valuesStream != null;
+    }
+
+    @Override
+    protected Object[] nextRecordValues(final Object[] reuse) throws IOException, MalformedRecordException {
+        if (valuesStream == null) {
+            return super.nextRecordValues(reuse);
+        }
+
+        if (!valuesStream.hasNext()) {
+            return null;
+        }
+
+        return valuesStream.next(reuse);
+    }
+
     @Override
     public RecordSchema getSchema() {
         return recordSchema;
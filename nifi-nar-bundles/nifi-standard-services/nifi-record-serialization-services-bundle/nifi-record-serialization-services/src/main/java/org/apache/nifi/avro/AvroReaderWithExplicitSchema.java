@@ -22,6 +22,7 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DecoderFactory;
+import org.apache.nifi.serialization.MalformedRecordException;
 import org.apache.nifi.serialization.record.RecordSchema;
 
 import java.io.EOFException;
@@ -32,14 +33,25 @@ public class AvroReaderWithExplicitSchema extends AvroRecordReader {
     private final InputStream in;
     private final RecordSchema recordSchema;
     private final DatumReader<GenericRecord> datumReader;
+    private final RecordDatumReader recordDatumReader;
     private final BinaryDecoder decoder;
     private GenericRecord genericRecord;
 
     public AvroReaderWithExplicitSchema(final InputStream in, final RecordSchema recordSchema, final Schema avroSchema) {
+        this(in, recordSchema, avroSchema, false);
+    }
+
+    public AvroReaderWithExplicitSchema(final InputStream in, final RecordSchema recordSchema, final Schema avroSchema, final boolean decodeDirectly) {
         this.in = in;
         this.recordSchema = recordSchema;
 
-        datumReader = new NonCachingDatumReader<>(avroSchema);
+        if (decodeDirectly) {
+            recordDatumReader = new RecordDatumReader(avroSchema, recordSchema);
+            datumReader = null;
+        } else {
+            datumReader = new NonCachingDatumReader<>(avroSchema);
+            recordDatumReader = null;
+        }
         decoder = DecoderFactory.get().binaryDecoder(in, null);
     }
 
@@ -63,6 +75,28 @@ public class AvroReaderWithExplicitSchema extends AvroRecordReader {
         return genericRecord;
     }
 
+    @Override
+    protected boolean isDecodingDirectly() {
+        return recordDatumReader != null;
+    }
+
+    @Override
+    protected Object[] nextRecordValues(final Object[] reuse) throws IOException, MalformedRecordException {
+        if (recordDatumReader == null) {
+            return super.nextRecordValues(reuse);
+        }
+
+        if (decoder.isEnd()) {
+            return null;
+        }
+
+        try {
+            return recordDatumReader.read(reuse, decoder);
+        } catch (final EOFException eof) {
+            return null;
+        }
+    }
+
     @Override
     public RecordSchema getSchema() {
         return recordSchema;
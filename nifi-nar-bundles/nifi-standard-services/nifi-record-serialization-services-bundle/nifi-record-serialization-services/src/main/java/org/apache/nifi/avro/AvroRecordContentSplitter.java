@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.avro;
+
+import org.apache.nifi.serialization.RecordContentSplitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Splits an Avro data file between its data blocks. The file header, which holds the schema, the codec and the sync marker of the file,
+ * is the split prefix, so that every split can be read as an Avro data file of its own.
+ */
+class AvroRecordContentSplitter implements RecordContentSplitter {
+    private static final byte[] MAGIC = {'O', 'b', 'j', 1};
+    private static final int SYNC_SIZE = 16;
+
+    private byte[] header;
+
+    @Override
+    public byte[] nextSplit(final InputStream in, final int targetSize) throws IOException {
+        final ByteArrayOutputStream split = new ByteArrayOutputStream();
+
+        if (header == null) {
+            final ByteArrayOutputStream headerOut = new ByteArrayOutputStream();
+            if (!readHeader(in, headerOut)) {
+                return null;
+            }
+
+            header = headerOut.toByteArray();
+            split.write(header);
+        }
+
+        while (split.size() < targetSize) {
+            if (!readBlock(in, split)) {
+                break;
+            }
+        }
+
+        return split.size() == 0 ? null : split.toByteArray();
+    }
+
+    @Override
+    public InputStream getRemainingContent(final InputStream in) {
+        // Data blocks are length-prefixed, so a split never has to be scanned for its end and the content can always be split to the end
+        return null;
+    }
+
+    @Override
+    public byte[] getSplitPrefix() {
+        return header == null ? new byte[0] : header;
+    }
+
+    private boolean readHeader(final InputStream in, final ByteArrayOutputStream out) throws IOException {
+        final int first = in.read();
+        if (first < 0) {
+            return false;
+        }
+
+        out.write(first);
+        copy(in, out, MAGIC.length - 1);
+
+        final byte[] magic = out.toByteArray();
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw new IOException("Content is not an Avro data file");
+            }
+        }
+
+        // The metadata map is written as blocks of key/value pairs; a negative count is followed by the size of the block in bytes
+        long count;
+        while ((count = copyLong(in, out)) != 0) {
+            if (count < 0) {
+                copyLong(in, out);
+                count = -count;
+            }
+
+            for (long i = 0; i < count; i++) {
+                copyBytes(in, out);
+                copyBytes(in, out);
+            }
+        }
+
+        copy(in, out, SYNC_SIZE);
+        return true;
+    }
+
+    private boolean readBlock(final InputStream in, final ByteArrayOutputStream out) throws IOException {
+        final int first = in.read();
+        if (first < 0) {
+            return false;
+        }
+
+        out.write(first);
+        finishLong(first, in, out);
+        copyBytes(in, out);
+        copy(in, out, SYNC_SIZE);
+        return true;
+    }
+
+    private static long copyLong(final InputStream in, final ByteArrayOutputStream out) throws IOException {
+        final int first = readByte(in);
+        out.write(first);
+        return finishLong(first, in, out);
+    }
+
+    private static long finishLong(final int first, final InputStream in, final ByteArrayOutputStream out) throws IOException {
+        long value = first & 0x7F;
+        int b = first;
+        int shift = 7;
+        while ((b & 0x80) != 0) {
+            if (shift > 63) {
+                throw new IOException("Invalid long encoding in Avro data file");
+            }
+
+            b = readByte(in);
+            out.write(b);
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        }
+
+        // Avro uses zig-zag encoding
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void copyBytes(final InputStream in, final ByteArrayOutputStream out) throws IOException {
+        final long length = copyLong(in, out);
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length of " + length + " in Avro data file");
+        }
+
+        copy(in, out, (int) length);
+    }
+
+    private static void copy(final InputStream in, final ByteArrayOutputStream out, final int length) throws IOException {
+        final byte[] buffer = new byte[Math.min(length, 8192)];
+        int remaining = length;
+        while (remaining > 0) {
+            final int read = in.read(buffer, 0, Math.min(remaining, buffer.length));
+            if (read < 0) {
+                throw new EOFException("Avro data file ended unexpectedly");
+            }
+
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    private static int readByte(final InputStream in) throws IOException {
+        final int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Avro data file ended unexpectedly");
+        }
+        return b;
+    }
+}
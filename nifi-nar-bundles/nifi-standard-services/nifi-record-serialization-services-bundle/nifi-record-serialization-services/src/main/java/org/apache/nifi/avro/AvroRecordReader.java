@@ -18,24 +18,83 @@
 package org.apache.nifi.avro;
 
 import org.apache.avro.generic.GenericRecord;
+import org.apache.nifi.serialization.BatchRecordReader;
 import org.apache.nifi.serialization.MalformedRecordException;
-import org.apache.nifi.serialization.RecordReader;
 import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
+import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.SchemaIndexedMap;
 
 import com.google.common.base.Throwables;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
-public abstract class AvroRecordReader implements RecordReader {
+public abstract class AvroRecordReader implements BatchRecordReader {
+    private Object[] recordValues;
 
     protected abstract GenericRecord nextAvroRecord() throws IOException;
 
+    /**
+     * Indicates whether this reader decodes records directly into Record values via {@link #nextRecordValues(Object[])}
+     * rather than into GenericRecords via {@link #nextAvroRecord()}
+     *
+     * @return <code>true</code> if records are decoded directly, <code>false</code> otherwise
+     */
+    protected boolean isDecodingDirectly() {
+        return false;
+    }
+
+    /**
+     * Returns the values of the next record, indexed by the fields of {@link #getSchema()}. Readers that decode records directly, as
+     * indicated by {@link #isDecodingDirectly()}, override this method to decode the values without first creating a GenericRecord.
+     * By default, the next GenericRecord is read via {@link #nextAvroRecord()} and its values are converted.
+     *
+     * @param reuse an array to decode the values into, or <code>null</code>
+     * @return the values of the next record, indexed by the fields of {@link #getSchema()}, or <code>null</code> if there are no more records
+     * @throws IOException if unable to read from the underlying data
+     * @throws MalformedRecordException if the schema of the records cannot be determined
+     */
+    protected Object[] nextRecordValues(final Object[] reuse) throws IOException, MalformedRecordException {
+        final GenericRecord record = nextAvroRecord();
+        if (record == null) {
+            return null;
+        }
+
+        final RecordSchema schema = getSchema();
+        final Map<String, Object> values = AvroTypeUtil.convertAvroRecordToMap(record, schema);
+
+        final List<RecordField> fields = schema.getFields();
+        final Object[] recordValues = (reuse == null || reuse.length != fields.size()) ? new Object[fields.size()] : reuse;
+        for (int i = 0; i < recordValues.length; i++) {
+            recordValues[i] = values.get(fields.get(i).getFieldName());
+        }
+
+        return recordValues;
+    }
+
     @Override
     public Record nextRecord(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
         try {
+            if (isDecodingDirectly()) {
+                recordValues = nextRecordValues(recordValues);
+                if (recordValues == null) {
+                    return null;
+                }
+
+                final RecordSchema schema = getSchema();
+                final SchemaIndexedMap values = new SchemaIndexedMap(schema);
+                for (int i = 0; i < recordValues.length; i++) {
+                    values.setFieldValue(i, recordValues[i]);
+                }
+
+                return new MapRecord(schema, values);
+            }
+
             GenericRecord record = nextAvroRecord();
             if (record == null) {
                 return null;
@@ -52,4 +111,43 @@ public abstract class AvroRecordReader implements RecordReader {
             throw new MalformedRecordException("Error while getting next record. Root cause: " + Throwables.getRootCause(e), e);
         }
     }
+
+    @Override
+    public int nextBatch(final RecordBatch batch) throws IOException, MalformedRecordException {
+        try {
+            int rowCount = 0;
+            if (isDecodingDirectly()) {
+                while (rowCount < batch.getCapacity()) {
+                    recordValues = nextRecordValues(recordValues);
+                    if (recordValues == null) {
+                        break;
+                    }
+
+                    for (int i = 0; i < recordValues.length; i++) {
+                        batch.setValue(rowCount, i, recordValues[i]);
+                    }
+                    rowCount++;
+                }
+
+                batch.setRowCount(rowCount);
+                return rowCount;
+            }
+
+            while (rowCount < batch.getCapacity()) {
+                final GenericRecord record = nextAvroRecord();
+                if (record == null) {
+                    break;
+                }
+
+                AvroTypeUtil.convertAvroRecordToBatch(record, batch, rowCount++, StandardCharsets.UTF_8);
+            }
+
+            batch.setRowCount(rowCount);
+            return rowCount;
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MalformedRecordException("Error while getting next record. Root cause: " + Throwables.getRootCause(e), e);
+        }
+    }
 }
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.avro;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.Schema.Type;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.util.DataTypeConverter;
+import org.apache.nifi.serialization.record.util.DataTypeUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * A DatumReader that decodes each Avro record directly into the values of a NiFi Record, indexed by the fields of a RecordSchema, rather than
+ * into a GenericRecord that then has to be converted. Fields of simple types, and nullable unions of them, are decoded straight from the Decoder and
+ * converted into the type of their Record field. Fields of any other type are read as Avro objects and converted by
+ * {@link AvroTypeUtil#convertAvroValue(Object, Schema, RecordField, Charset)}, so the values are the same as those produced by
+ * {@link AvroTypeUtil#convertAvroRecordToMap(GenericRecord, RecordSchema, Charset)}. If a Record field may take its value from an Avro field
+ * that is named by one of its aliases, each record is instead read as a GenericRecord and converted as a whole. An array that is passed to
+ * {@link #read(Object[], Decoder)} is reused.
+ * </p>
+ *
+ * <p>
+ * GenericDatumReader caches the ResolvingDecoder for each pair of writer and reader schema, but it keys that cache on the identity of the schemas.
+ * Because each Avro data file carries its own copy of its schema, writer schemas are replaced by a shared instance that is equal to them, so that the
+ * ResolvingDecoder is generated once rather than once per file. The plan for decoding the fields is created once per reader schema.
+ * </p>
+ */
+public class RecordDatumReader extends NonCachingDatumReader<Object[]> {
+    private static final int MAX_CACHED_SCHEMAS = 100;
+    private static final Cache<Schema, Schema> CANONICAL_SCHEMAS = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_SCHEMAS)
+        .build();
+
+    private RecordSchema recordSchema;
+    private Schema planSchema;
+    private FieldDecoder[] fieldDecoders;
+    private int[] recordFieldIndices;
+
+    /**
+     * Creates a reader whose Record schema is derived from the writer schema, once that schema is known
+     */
+    public RecordDatumReader() {
+        super();
+    }
+
+    public RecordDatumReader(final Schema schema, final RecordSchema recordSchema) {
+        super(getCanonicalSchema(schema));
+        this.recordSchema = recordSchema;
+    }
+
+    /**
+     * Indicates whether or not values that are decoded directly for the given Record schema are the same as those produced by
+     * {@link AvroTypeUtil#convertAvroRecordToMap(GenericRecord, RecordSchema, Charset)}. This is not the case when the value of a
+     * Record field may be taken from an Avro field that is named by one of its aliases.
+     */
+    private static boolean isDirectDecodingSupported(final Schema avroSchema, final RecordSchema recordSchema) {
+        for (final RecordField recordField : recordSchema.getFields()) {
+            for (final String alias : recordField.getAliases()) {
+                if (avroSchema.getField(alias) != null) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static Schema getCanonicalSchema(final Schema schema) {
+        return CANONICAL_SCHEMAS.get(schema, key -> key);
+    }
+
+    @Override
+    public void setSchema(final Schema writer) {
+        final Schema canonical = getCanonicalSchema(writer);
+        super.setSchema(canonical);
+
+        if (recordSchema == null) {
+            recordSchema = AvroTypeUtil.createSchema(canonical);
+        }
+    }
+
+    /**
+     * @return the Record schema that values are decoded for, or <code>null</code> if it is to be derived from a writer schema that is not yet known
+     */
+    public RecordSchema getRecordSchema() {
+        return recordSchema;
+    }
+
+    @Override
+    public Object[] read(final Object[] reuse, final Decoder in) throws IOException {
+        final Schema expected = getExpected();
+        if (expected != planSchema) {
+            createPlan(expected);
+        }
+
+        final Object[] values;
+        if (reuse == null || reuse.length != recordSchema.getFieldCount()) {
+            values = new Object[recordSchema.getFieldCount()];
+        } else {
+            values = reuse;
+            Arrays.fill(values, null);
+        }
+
+        final ResolvingDecoder resolver = getResolver(getSchema(), expected);
+        resolver.configure(in);
+
+        if (fieldDecoders == null) {
+            final GenericRecord avroRecord = (GenericRecord) read(null, expected, resolver);
+            final Map<String, Object> recordValues = AvroTypeUtil.convertAvroRecordToMap(avroRecord, recordSchema);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = recordValues.get(recordSchema.getField(i).getFieldName());
+            }
+
+            resolver.drain();
+            return values;
+        }
+
+        for (final Field field : resolver.readFieldOrder()) {
+            final int position = field.pos();
+            final Object value = fieldDecoders[position].decode(resolver);
+
+            final int recordFieldIndex = recordFieldIndices[position];
+            if (recordFieldIndex >= 0) {
+                values[recordFieldIndex] = value;
+            }
+        }
+
+        resolver.drain();
+        return values;
+    }
+
+    private void createPlan(final Schema expected) {
+        planSchema = expected;
+        if (!isDirectDecodingSupported(expected, recordSchema)) {
+            fieldDecoders = null;
+            recordFieldIndices = null;
+            return;
+        }
+
+        final List<RecordField> recordFields = recordSchema.getFields();
+        final Map<String, Integer> recordFieldIndexMap = new HashMap<>(recordFields.size() * 2);
+        for (int i = 0; i < recordFields.size(); i++) {
+            recordFieldIndexMap.put(recordFields.get(i).getFieldName(), i);
+        }
+
+        final List<Field> avroFields = expected.getFields();
+        final FieldDecoder[] decoders = new FieldDecoder[avroFields.size()];
+        final int[] indices = new int[avroFields.size()];
+        for (final Field avroField : avroFields) {
+            final Integer recordFieldIndex = recordFieldIndexMap.get(avroField.name());
+            if (recordFieldIndex == null) {
+                // The field is not part of the Record, but its value must still be consumed
+                final Schema fieldSchema = avroField.schema();
+                decoders[avroField.pos()] = in -> read(null, fieldSchema, in);
+                indices[avroField.pos()] = -1;
+            } else {
+                decoders[avroField.pos()] = createFieldDecoder(avroField.schema(), recordFields.get(recordFieldIndex));
+                indices[avroField.pos()] = recordFieldIndex;
+            }
+        }
+
+        fieldDecoders = decoders;
+        recordFieldIndices = indices;
+    }
+
+    private FieldDecoder createFieldDecoder(final Schema fieldSchema, final RecordField recordField) {
+        final String fieldName = recordField.getFieldName();
+        final DataTypeConverter converter = DataTypeUtils.getConverter(recordField.getDataType());
+
+        final FieldDecoder simpleDecoder = createSimpleDecoder(fieldSchema);
+        if (simpleDecoder != null) {
+            return in -> converter.convert(simpleDecoder.decode(in), fieldName);
+        }
+
+        if (fieldSchema.getType() == Type.UNION && fieldSchema.getTypes().size() == 2) {
+            final List<Schema> types = fieldSchema.getTypes();
+            final int nullIndex = types.get(0).getType() == Type.NULL ? 0 : 1;
+            final FieldDecoder valueDecoder = types.get(nullIndex).getType() == Type.NULL ? createSimpleDecoder(types.get(1 - nullIndex)) : null;
+
+            if (valueDecoder != null) {
+                return in -> {
+                    if (in.readIndex() == nullIndex) {
+                        in.readNull();
+                        return null;
+                    }
+
+                    return converter.convert(valueDecoder.decode(in), fieldName);
+                };
+            }
+        }
+
+        return in -> AvroTypeUtil.convertAvroValue(read(null, fieldSchema, in), fieldSchema, recordField, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a decoder for a schema whose values can be read straight from the Decoder as they would be represented in a Record,
+     * or returns <code>null</code> if values of the schema must be read as Avro objects and then converted.
+     */
+    private FieldDecoder createSimpleDecoder(final Schema schema) {
+        if (schema.getLogicalType() != null) {
+            return null;
+        }
+
+        switch (schema.getType()) {
+            case STRING:
+                return Decoder::readString;
+            case INT:
+                return Decoder::readInt;
+            case LONG:
+                return Decoder::readLong;
+            case FLOAT:
+                return Decoder::readFloat;
+            case DOUBLE:
+                return Decoder::readDouble;
+            case BOOLEAN:
+                return Decoder::readBoolean;
+            case ENUM:
+                final List<String> symbols = schema.getEnumSymbols();
+                return in -> symbols.get(in.readEnum());
+            case NULL:
+                return in -> {
+                    in.readNull();
+                    return null;
+                };
+            default:
+                return null;
+        }
+    }
+
+    private interface FieldDecoder {
+        Object decode(ResolvingDecoder in) throws IOException;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.nifi.avro;
 
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryEncoder;
@@ -26,16 +27,20 @@ import org.apache.avro.io.EncoderFactory;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.schema.access.SchemaAccessWriter;
 import org.apache.nifi.serialization.AbstractRecordSetWriter;
+import org.apache.nifi.serialization.BatchRecordWriter;
+import org.apache.nifi.serialization.WriteResult;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 import org.apache.nifi.serialization.record.RecordSchema;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 
-public class WriteAvroResultWithExternalSchema extends AbstractRecordSetWriter {
+public class WriteAvroResultWithExternalSchema extends AbstractRecordSetWriter implements BatchRecordWriter {
     private final SchemaAccessWriter schemaAccessWriter;
     private final RecordSchema recordSchema;
     private final Schema avroSchema;
@@ -89,6 +94,24 @@ public class WriteAvroResultWithExternalSchema extends AbstractRecordSetWriter {
         return schemaAccessWriter.getAttributes(recordSchema);
     }
 
+    @Override
+    public WriteResult write(final RecordBatch batch) throws IOException {
+        // The DatumWriter serializes each record as it is written, so a single GenericRecord can be reused for every row
+        final GenericRecord rec = new GenericData.Record(avroSchema);
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            if (!isActiveRecordSet()) {
+                flush();
+                schemaAccessWriter.writeHeader(recordSchema, getOutputStream());
+            }
+
+            AvroTypeUtil.populateAvroRecord(batch, row, rec, StandardCharsets.UTF_8);
+            datumWriter.write(rec, encoder);
+            incrementRecordCount();
+        }
+
+        return WriteResult.of(getRecordCount(), schemaAccessWriter.getAttributes(recordSchema));
+    }
+
     @Override
     public void flush() throws IOException {
         encoder.flush();
@@ -19,18 +19,23 @@ package org.apache.nifi.avro;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 
 import org.apache.avro.Schema;
 import org.apache.avro.file.CodecFactory;
 import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.nifi.serialization.AbstractRecordSetWriter;
+import org.apache.nifi.serialization.BatchRecordWriter;
+import org.apache.nifi.serialization.WriteResult;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 
-public class WriteAvroResultWithSchema extends AbstractRecordSetWriter {
+public class WriteAvroResultWithSchema extends AbstractRecordSetWriter implements BatchRecordWriter {
 
     private final DataFileWriter<GenericRecord> dataFileWriter;
     private final Schema schema;
@@ -62,6 +67,19 @@ public class WriteAvroResultWithSchema extends AbstractRecordSetWriter {
         return Collections.emptyMap();
     }
 
+    @Override
+    public WriteResult write(final RecordBatch batch) throws IOException {
+        // The DataFileWriter serializes each record as it is appended, so a single GenericRecord can be reused for every row
+        final GenericRecord rec = new GenericData.Record(schema);
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            AvroTypeUtil.populateAvroRecord(batch, row, rec, StandardCharsets.UTF_8);
+            dataFileWriter.append(rec);
+            incrementRecordCount();
+        }
+
+        return WriteResult.of(getRecordCount(), Collections.emptyMap());
+    }
+
     @Override
     public String getMimeType() {
         return "application/avro-binary";
@@ -21,8 +21,11 @@ import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.serialization.RecordReader;
 import org.apache.nifi.serialization.record.DataType;
 import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.util.DataTypeConverter;
 import org.apache.nifi.serialization.record.util.DataTypeUtils;
 import java.text.DateFormat;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 abstract public class AbstractCSVRecordReader implements RecordReader {
@@ -41,6 +44,8 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
 
     protected final RecordSchema schema;
 
+    private final Map<DataType, DataTypeConverter> converters = new IdentityHashMap<>();
+
     AbstractCSVRecordReader(final ComponentLog logger, final RecordSchema schema, final boolean hasHeader, final boolean ignoreHeader,
                             final String dateFormat, final String timeFormat, final String timestampFormat) {
         this.logger = logger;
@@ -53,7 +58,7 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             LAZY_DATE_FORMAT = null;
         } else {
             this.dateFormat = dateFormat;
-            LAZY_DATE_FORMAT = () -> DataTypeUtils.getDateFormat(dateFormat);
+            LAZY_DATE_FORMAT = DataTypeUtils.getDateFormatSupplier(dateFormat);
         }
 
         if (timeFormat == null || timeFormat.isEmpty()) {
@@ -61,7 +66,7 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             LAZY_TIME_FORMAT = null;
         } else {
             this.timeFormat = timeFormat;
-            LAZY_TIME_FORMAT = () -> DataTypeUtils.getDateFormat(timeFormat);
+            LAZY_TIME_FORMAT = DataTypeUtils.getDateFormatSupplier(timeFormat);
         }
 
         if (timestampFormat == null || timestampFormat.isEmpty()) {
@@ -69,7 +74,7 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             LAZY_TIMESTAMP_FORMAT = null;
         } else {
             this.timestampFormat = timestampFormat;
-            LAZY_TIMESTAMP_FORMAT = () -> DataTypeUtils.getDateFormat(timestampFormat);
+            LAZY_TIMESTAMP_FORMAT = DataTypeUtils.getDateFormatSupplier(timestampFormat);
         }
     }
 
@@ -83,7 +88,17 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             return null;
         }
 
-        return DataTypeUtils.convertType(trimmed, dataType, LAZY_DATE_FORMAT, LAZY_TIME_FORMAT, LAZY_TIMESTAMP_FORMAT, fieldName);
+        return getConverter(dataType).convert(trimmed, fieldName);
+    }
+
+    private DataTypeConverter getConverter(final DataType dataType) {
+        DataTypeConverter converter = converters.get(dataType);
+        if (converter == null) {
+            converter = DataTypeUtils.getConverter(dataType, dateFormat, timeFormat, timestampFormat);
+            converters.put(dataType, converter);
+        }
+
+        return converter;
     }
 
     protected final Object convertSimpleIfPossible(final String value, final DataType dataType, final String fieldName) {
@@ -108,22 +123,22 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             case CHAR:
             case SHORT:
                 if (DataTypeUtils.isCompatibleDataType(trimmed, dataType)) {
-                    return DataTypeUtils.convertType(trimmed, dataType, LAZY_DATE_FORMAT, LAZY_TIME_FORMAT, LAZY_TIMESTAMP_FORMAT, fieldName);
+                    return getConverter(dataType).convert(trimmed, fieldName);
                 }
                 break;
             case DATE:
                 if (DataTypeUtils.isDateTypeCompatible(trimmed, dateFormat)) {
-                    return DataTypeUtils.convertType(trimmed, dataType, LAZY_DATE_FORMAT, LAZY_TIME_FORMAT, LAZY_TIMESTAMP_FORMAT, fieldName);
+                    return getConverter(dataType).convert(trimmed, fieldName);
                 }
                 break;
             case TIME:
                 if (DataTypeUtils.isTimeTypeCompatible(trimmed, timeFormat)) {
-                    return DataTypeUtils.convertType(trimmed, dataType, LAZY_DATE_FORMAT, LAZY_TIME_FORMAT, LAZY_TIMESTAMP_FORMAT, fieldName);
+                    return getConverter(dataType).convert(trimmed, fieldName);
                 }
                 break;
             case TIMESTAMP:
                 if (DataTypeUtils.isTimestampTypeCompatible(trimmed, timestampFormat)) {
-                    return DataTypeUtils.convertType(trimmed, dataType, LAZY_DATE_FORMAT, LAZY_TIME_FORMAT, LAZY_TIMESTAMP_FORMAT, fieldName);
+                    return getConverter(dataType).convert(trimmed, fieldName);
                 }
                 break;
         }
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.serialization.BatchRecordReader;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.SchemaIndexedMap;
+
+import com.google.common.base.Throwables;
+
+/**
+ * A CSV Record Reader that produces the same Records as {@link CSVRecordReader}, but scans the bytes of the content directly rather than
+ * decoding the content into characters first. Values are only decoded into Strings when needed, and integral and decimal values are
+ * converted straight from their bytes where possible.
+ */
+public class ByteCSVRecordReader extends AbstractCSVRecordReader implements BatchRecordReader {
+    private final ByteCSVTokenizer tokenizer;
+    private final List<RecordField> recordFields;
+    private final int[] schemaIndices;
+
+    public ByteCSVRecordReader(final InputStream in, final ComponentLog logger, final RecordSchema schema, final CSVFormat csvFormat, final boolean hasHeader, final boolean ignoreHeader,
+                               final String dateFormat, final String timeFormat, final String timestampFormat, final String encoding) throws IOException {
+        super(logger, schema, hasHeader, ignoreHeader, dateFormat, timeFormat, timestampFormat);
+
+        tokenizer = new ByteCSVTokenizer(in, Charset.forName(encoding), csvFormat.getDelimiter(), csvFormat.getQuoteCharacter(), csvFormat.getEscapeCharacter(),
+            csvFormat.getCommentMarker(), csvFormat.getIgnoreEmptyLines(), csvFormat.getIgnoreSurroundingSpaces(), csvFormat.getTrim(), csvFormat.getTrailingDelimiter(),
+            csvFormat.getNullString());
+
+        final List<String> fieldNames;
+        if (hasHeader && !ignoreHeader) {
+            fieldNames = readHeader();
+        } else {
+            if (hasHeader) {
+                skipHeader();
+            }
+            fieldNames = schema.getFieldNames();
+        }
+
+        recordFields = new ArrayList<>(fieldNames.size());
+        schemaIndices = new int[fieldNames.size()];
+        for (int i = 0; i < fieldNames.size(); i++) {
+            final String fieldName = fieldNames.get(i);
+            final Optional<RecordField> option = schema.getField(fieldName);
+            if (option.isPresent()) {
+                recordFields.add(option.get());
+                schemaIndices[i] = schema.getFieldIndex(option.get().getFieldName());
+            } else {
+                recordFields.add(new RecordField(fieldName, RecordFieldType.STRING.getDataType()));
+                schemaIndices[i] = -1;
+            }
+        }
+    }
+
+    /**
+     * Creates a ByteCSVRecordReader if the given format and character set can be read by scanning bytes, or a {@link CSVRecordReader} otherwise.
+     */
+    public static AbstractCSVRecordReader create(final InputStream in, final ComponentLog logger, final RecordSchema schema, final CSVFormat csvFormat, final boolean hasHeader,
+                                                 final boolean ignoreHeader, final String dateFormat, final String timeFormat, final String timestampFormat, final String encoding)
+            throws IOException {
+        if (isSupported(csvFormat, encoding)) {
+            return new ByteCSVRecordReader(in, logger, schema, csvFormat, hasHeader, ignoreHeader, dateFormat, timeFormat, timestampFormat, encoding);
+        }
+
+        logger.debug("Cannot scan the bytes of CSV content using character set {} and format {}; falling back to Apache Commons CSV", new Object[] {encoding, csvFormat});
+        return new CSVRecordReader(in, logger, schema, csvFormat, hasHeader, ignoreHeader, dateFormat, timeFormat, timestampFormat, encoding);
+    }
+
+    static boolean isSupported(final CSVFormat csvFormat, final String encoding) {
+        final Charset charset = Charset.forName(encoding);
+        if (!ByteCSVTokenizer.isSupported(charset, csvFormat.getDelimiter())) {
+            return false;
+        }
+
+        for (final Character c : new Character[] {csvFormat.getQuoteCharacter(), csvFormat.getEscapeCharacter(), csvFormat.getCommentMarker()}) {
+            if (c != null && !ByteCSVTokenizer.isSupported(charset, c)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private List<String> readHeader() throws IOException {
+        if (!tokenizer.nextRecord()) {
+            return new ArrayList<>();
+        }
+
+        // As with Apache Commons CSV, a name that appears more than once refers to the last column with that name
+        final Map<String, Integer> headerMap = new HashMap<>();
+        for (int i = 0; i < tokenizer.getValueCount(); i++) {
+            headerMap.put(tokenizer.getString(i), i);
+        }
+
+        final SortedMap<Integer, String> sortedMap = new TreeMap<>();
+        for (final Map.Entry<String, Integer> entry : headerMap.entrySet()) {
+            sortedMap.put(entry.getValue(), entry.getKey());
+        }
+
+        return new ArrayList<>(sortedMap.values());
+    }
+
+    private void skipHeader() throws IOException {
+        tokenizer.nextRecord();
+    }
+
+    @Override
+    public Record nextRecord(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
+        try {
+            if (!tokenizer.nextRecord()) {
+                return null;
+            }
+
+            final RecordSchema schema = getSchema();
+            final SchemaIndexedMap values = new SchemaIndexedMap(schema);
+            final int numFieldNames = recordFields.size();
+
+            final int valueCount = tokenizer.getValueCount();
+            for (int i = 0; i < valueCount; i++) {
+                if (i >= numFieldNames) {
+                    if (!dropUnknownFields) {
+                        values.put("unknown_field_index_" + i, tokenizer.getString(i));
+                    }
+
+                    continue;
+                }
+
+                final RecordField recordField = recordFields.get(i);
+                final Object value = getValue(i, recordField.getFieldName(), recordField.getDataType(), coerceTypes);
+
+                final int schemaIndex = schemaIndices[i];
+                if (schemaIndex < 0) {
+                    values.put(recordField.getFieldName(), value);
+                } else {
+                    values.setFieldValue(schemaIndex, value);
+                }
+            }
+
+            return new MapRecord(schema, values, coerceTypes, dropUnknownFields);
+        } catch (final Exception e) {
+            throw new MalformedRecordException("Error while getting next record. Root cause: " + Throwables.getRootCause(e), e);
+        }
+    }
+
+    @Override
+    public int nextBatch(final RecordBatch batch) throws IOException, MalformedRecordException {
+        try {
+            final int fieldCount = batch.getSchema().getFieldCount();
+            final int numFieldNames = recordFields.size();
+
+            int rowCount = 0;
+            while (rowCount < batch.getCapacity() && tokenizer.nextRecord()) {
+                final int row = rowCount++;
+                for (int i = 0; i < fieldCount; i++) {
+                    batch.setValue(row, i, null);
+                }
+
+                // Values that are not in the schema are dropped, as they are by nextRecord()
+                final int valueCount = Math.min(tokenizer.getValueCount(), numFieldNames);
+                for (int i = 0; i < valueCount; i++) {
+                    final int schemaIndex = schemaIndices[i];
+                    if (schemaIndex >= 0) {
+                        final RecordField recordField = recordFields.get(i);
+                        batch.setValue(row, schemaIndex, getValue(i, recordField.getFieldName(), recordField.getDataType(), true));
+                    }
+                }
+            }
+
+            batch.setRowCount(rowCount);
+            return rowCount;
+        } catch (final Exception e) {
+            throw new MalformedRecordException("Error while getting next record. Root cause: " + Throwables.getRootCause(e), e);
+        }
+    }
+
+    private Object getValue(final int index, final String fieldName, final DataType dataType, final boolean coerceTypes) {
+        if (tokenizer.isNull(index)) {
+            return null;
+        }
+
+        // Plain integral and decimal values convert the same way whether or not types are coerced, so they can be parsed from the bytes
+        switch (dataType.getFieldType()) {
+            case INT: {
+                final Long parsed = tokenizer.parseLong(index);
+                if (parsed != null && parsed >= Integer.MIN_VALUE && parsed <= Integer.MAX_VALUE) {
+                    return parsed.intValue();
+                }
+                break;
+            }
+            case LONG: {
+                final Long parsed = tokenizer.parseLong(index);
+                if (parsed != null) {
+                    return parsed;
+                }
+                break;
+            }
+            case DOUBLE: {
+                final Double parsed = tokenizer.parseDouble(index);
+                if (parsed != null) {
+                    return parsed;
+                }
+                break;
+            }
+        }
+
+        final String rawValue = tokenizer.getString(index);
+        if (coerceTypes) {
+            return convert(rawValue, dataType, fieldName);
+        } else {
+            // The CSV Reader is going to return all fields as Strings, because CSV doesn't have any way to
+            // dictate a field type. As a result, we will use the schema that we have to attempt to convert
+            // the value into the desired type if it's a simple type.
+            return convertSimpleIfPossible(rawValue, dataType, fieldName);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        tokenizer.close();
+    }
+}
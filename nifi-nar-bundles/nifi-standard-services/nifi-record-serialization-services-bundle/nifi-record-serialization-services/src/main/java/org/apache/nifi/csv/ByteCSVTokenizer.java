@@ -0,0 +1,651 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Splits CSV content into records and values by scanning the raw bytes of the content, following the same rules as the
+ * Apache Commons CSV parser. Values are not decoded into Strings unless they are requested, and numeric values can be parsed
+ * directly from the bytes.
+ * </p>
+ *
+ * <p>
+ * The content is read into a buffer that is large enough to hold at least one full record. The values of the current record
+ * are located by their offsets into that buffer. Quotes and escape sequences are removed in place, which is always possible
+ * because a value never becomes longer when they are removed.
+ * </p>
+ *
+ * <p>
+ * This is only correct for character sets in which the bytes of the ASCII range always represent ASCII characters, which is
+ * why {@link #isSupported(Charset, char...)} must be checked before a tokenizer is created.
+ * </p>
+ */
+class ByteCSVTokenizer implements Closeable {
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final int END_OF_STREAM = -1;
+    private static final int DELIMITER_REACHED = 0;
+    private static final int END_OF_LINE_REACHED = 1;
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    // Largest number of significant digits for which the value is exactly representable as both a long and a double
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1D;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10D;
+        }
+    }
+
+    private final InputStream in;
+    private final Charset charset;
+    private final int delimiter;
+    private final int quote;
+    private final int escape;
+    private final int commentMarker;
+    private final boolean ignoreEmptyLines;
+    private final boolean ignoreSurroundingSpaces;
+    private final boolean trim;
+    private final boolean trailingDelimiter;
+    private final byte[] nullBytes;
+
+    // Bytes that end a run of ordinary bytes outside of and within quotes, respectively
+    private final boolean[] unquotedStops = new boolean[256];
+    private final boolean[] quotedStops = new boolean[256];
+
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+
+    // Offsets into the buffer, which are adjusted whenever the buffer is compacted
+    private int recordStart;
+    private int valueStart;
+    private int writePosition;
+    private int[] valueStarts = new int[16];
+    private int[] valueEnds = new int[16];
+    private int valueCount;
+
+    ByteCSVTokenizer(final InputStream in, final Charset charset, final char delimiter, final Character quote, final Character escape, final Character commentMarker,
+                     final boolean ignoreEmptyLines, final boolean ignoreSurroundingSpaces, final boolean trim, final boolean trailingDelimiter, final String nullString)
+            throws IOException {
+        this(in, charset, delimiter, quote, escape, commentMarker, ignoreEmptyLines, ignoreSurroundingSpaces, trim, trailingDelimiter, nullString, DEFAULT_BUFFER_SIZE);
+    }
+
+    ByteCSVTokenizer(final InputStream in, final Charset charset, final char delimiter, final Character quote, final Character escape, final Character commentMarker,
+                     final boolean ignoreEmptyLines, final boolean ignoreSurroundingSpaces, final boolean trim, final boolean trailingDelimiter, final String nullString,
+                     final int bufferSize) throws IOException {
+        if (!isSupported(charset, delimiter) || (quote != null && !isSupported(charset, quote)) || (escape != null && !isSupported(charset, escape))
+                || (commentMarker != null && !isSupported(charset, commentMarker))) {
+            throw new IllegalArgumentException("Cannot scan the bytes of CSV content that uses the " + charset + " character set with the given delimiter, quote, escape and comment characters");
+        }
+
+        this.in = in;
+        this.charset = charset;
+        this.delimiter = delimiter;
+        this.quote = quote == null ? END_OF_STREAM : quote;
+        this.escape = escape == null ? END_OF_STREAM : escape;
+        this.commentMarker = commentMarker == null ? END_OF_STREAM : commentMarker;
+        this.ignoreEmptyLines = ignoreEmptyLines;
+        this.ignoreSurroundingSpaces = ignoreSurroundingSpaces;
+        this.trim = trim;
+        this.trailingDelimiter = trailingDelimiter;
+        this.nullBytes = nullString == null ? null : nullString.getBytes(charset);
+        this.buffer = new byte[Math.max(bufferSize, 16)];
+
+        unquotedStops[delimiter] = true;
+        unquotedStops[CR] = true;
+        unquotedStops[LF] = true;
+        if (escape != null) {
+            unquotedStops[escape] = true;
+            quotedStops[escape] = true;
+        }
+        if (quote != null) {
+            quotedStops[quote] = true;
+        }
+
+        skipByteOrderMark();
+    }
+
+    /**
+     * Indicates whether CSV content in the given character set can be tokenized by scanning its bytes for the given special characters.
+     * This is the case when each of the characters is encoded as a single ASCII byte and that byte is never part of the encoding of
+     * any other character.
+     *
+     * @param charset the character set of the content
+     * @param specialCharacters the delimiter, quote, escape and comment characters that are used
+     * @return <code>true</code> if the content can be tokenized by this class
+     */
+    static boolean isSupported(final Charset charset, final char... specialCharacters) {
+        for (final char c : specialCharacters) {
+            if (c >= 0x80) {
+                return false;
+            }
+        }
+
+        if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset)) {
+            return true;
+        }
+
+        final String name = charset.name();
+        return name.startsWith("ISO-8859-") || name.startsWith("windows-125");
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        while (limit < UTF8_BOM.length && fill()) {
+        }
+
+        if (limit >= UTF8_BOM.length && buffer[0] == UTF8_BOM[0] && buffer[1] == UTF8_BOM[1] && buffer[2] == UTF8_BOM[2]) {
+            position = UTF8_BOM.length;
+        }
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return <code>true</code> if a record was found, <code>false</code> if the end of the content has been reached
+     * @throws IOException if unable to read from the underlying stream or if the content is not valid CSV
+     */
+    boolean nextRecord() throws IOException {
+        valueCount = 0;
+
+        // Skip over any empty lines and comments that precede the record
+        while (true) {
+            recordStart = position;
+
+            final int c = peek();
+            if (c == END_OF_STREAM) {
+                return false;
+            }
+
+            if (ignoreEmptyLines && (c == CR || c == LF)) {
+                position++;
+                skipLineFeedAfter(c);
+                continue;
+            }
+
+            if (c == commentMarker) {
+                skipLine();
+                continue;
+            }
+
+            break;
+        }
+
+        while (true) {
+            final int terminator = readValue();
+            addValue();
+
+            if (terminator != DELIMITER_REACHED) {
+                break;
+            }
+        }
+
+        if (trailingDelimiter && valueEnds[valueCount - 1] == valueStarts[valueCount - 1]) {
+            valueCount--;
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the next value of the current record, leaving its bounds in valueStart and writePosition.
+     *
+     * @return the reason that the value ended
+     */
+    private int readValue() throws IOException {
+        if (ignoreSurroundingSpaces) {
+            int c = peek();
+            while (isWhitespace(c)) {
+                position++;
+                c = peek();
+            }
+        }
+
+        valueStart = position;
+        writePosition = position;
+
+        final int c = peek();
+        if (c == END_OF_STREAM) {
+            return END_OF_STREAM;
+        }
+        if (c == delimiter) {
+            position++;
+            return DELIMITER_REACHED;
+        }
+        if (c == CR || c == LF) {
+            position++;
+            skipLineFeedAfter(c);
+            return END_OF_LINE_REACHED;
+        }
+        if (c == quote) {
+            position++;
+            valueStart = position;
+            writePosition = position;
+            return readQuotedValue();
+        }
+
+        return readUnquotedValue();
+    }
+
+    private int readUnquotedValue() throws IOException {
+        while (true) {
+            scan(unquotedStops);
+
+            final int c = peek();
+            if (c == END_OF_STREAM) {
+                trimTrailingSpaces();
+                return END_OF_STREAM;
+            }
+
+            position++;
+            if (c == delimiter) {
+                trimTrailingSpaces();
+                return DELIMITER_REACHED;
+            }
+            if (c == CR || c == LF) {
+                skipLineFeedAfter(c);
+                trimTrailingSpaces();
+                return END_OF_LINE_REACHED;
+            }
+
+            readEscape();
+        }
+    }
+
+    private int readQuotedValue() throws IOException {
+        while (true) {
+            scan(quotedStops);
+
+            final int c = peek();
+            if (c == END_OF_STREAM) {
+                throw new IOException("End of content reached before the end of a quoted value");
+            }
+
+            position++;
+            if (c == escape) {
+                readEscape();
+                continue;
+            }
+
+            // Two consecutive quotes represent a single quote character
+            if (peek() == quote) {
+                position++;
+                write((byte) quote);
+                continue;
+            }
+
+            // Only whitespace may come between the closing quote and the end of the value
+            while (true) {
+                final int next = peek();
+                if (next == END_OF_STREAM) {
+                    return END_OF_STREAM;
+                }
+
+                position++;
+                if (next == delimiter) {
+                    return DELIMITER_REACHED;
+                }
+                if (next == CR || next == LF) {
+                    skipLineFeedAfter(next);
+                    return END_OF_LINE_REACHED;
+                }
+                if (!isWhitespace(next)) {
+                    throw new IOException("Invalid character found between the end of a quoted value and the next delimiter");
+                }
+            }
+        }
+    }
+
+    /**
+     * Advances past all bytes that are not stop bytes, moving them down to the write position if an escape or quote has been removed
+     * from the current value. The lookup table keeps this loop free of any per-byte state so that it compiles down to a tight loop.
+     */
+    private void scan(final boolean[] stops) throws IOException {
+        while (true) {
+            final byte[] bytes = buffer;
+            final int end = limit;
+            int index = position;
+            while (index < end && !stops[bytes[index] & 0xFF]) {
+                index++;
+            }
+
+            final int length = index - position;
+            if (writePosition != position && length > 0) {
+                System.arraycopy(bytes, position, bytes, writePosition, length);
+            }
+            writePosition += length;
+            position = index;
+
+            if (index < end || !fill()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Handles the character that follows an escape character, which has already been consumed, in the same way as Apache Commons CSV:
+     * the escape sequences for control characters are translated, special characters are taken literally, and any other character is
+     * retained along with the escape character.
+     */
+    private void readEscape() throws IOException {
+        final int c = peek();
+        if (c == END_OF_STREAM) {
+            throw new IOException("End of content reached while processing an escape sequence");
+        }
+
+        position++;
+        switch (c) {
+            case 'r':
+                write(CR);
+                return;
+            case 'n':
+                write(LF);
+                return;
+            case 't':
+                write((byte) '\t');
+                return;
+            case 'b':
+                write((byte) '\b');
+                return;
+            case 'f':
+                write((byte) '\f');
+                return;
+            case '\r':
+            case '\n':
+            case '\t':
+            case '\b':
+            case '\f':
+                write((byte) c);
+                return;
+        }
+
+        if (c == delimiter || c == escape || c == quote || c == commentMarker) {
+            write((byte) c);
+        } else {
+            write((byte) escape);
+            write((byte) c);
+        }
+    }
+
+    private void write(final byte b) {
+        buffer[writePosition++] = b;
+    }
+
+    private void trimTrailingSpaces() {
+        if (ignoreSurroundingSpaces) {
+            while (writePosition > valueStart && isWhitespace(buffer[writePosition - 1] & 0xFF)) {
+                writePosition--;
+            }
+        }
+    }
+
+    private void addValue() {
+        if (valueCount == valueStarts.length) {
+            valueStarts = Arrays.copyOf(valueStarts, valueCount * 2);
+            valueEnds = Arrays.copyOf(valueEnds, valueCount * 2);
+        }
+
+        int start = valueStart;
+        int end = writePosition;
+        if (trim) {
+            while (start < end && (buffer[start] & 0xFF) <= ' ') {
+                start++;
+            }
+            while (end > start && (buffer[end - 1] & 0xFF) <= ' ') {
+                end--;
+            }
+        }
+
+        valueStarts[valueCount] = start;
+        valueEnds[valueCount] = end;
+        valueCount++;
+    }
+
+    private boolean isWhitespace(final int c) {
+        if (c == delimiter) {
+            return false;
+        }
+
+        return c == ' ' || (c >= '\t' && c <= '\r') || (c >= 0x1C && c <= 0x1F);
+    }
+
+    private void skipLineFeedAfter(final int c) throws IOException {
+        if (c == CR && peek() == LF) {
+            position++;
+        }
+    }
+
+    private void skipLine() throws IOException {
+        while (true) {
+            final int c = peek();
+            if (c == END_OF_STREAM) {
+                return;
+            }
+
+            position++;
+            if (c == CR || c == LF) {
+                skipLineFeedAfter(c);
+                return;
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return END_OF_STREAM;
+        }
+
+        return buffer[position] & 0xFF;
+    }
+
+    /**
+     * Reads more content into the buffer, first discarding everything before the current record or growing the buffer if it is full.
+     *
+     * @return <code>true</code> if more content was read, <code>false</code> if the end of the stream has been reached
+     */
+    private boolean fill() throws IOException {
+        if (endOfStream) {
+            return false;
+        }
+
+        if (limit == buffer.length) {
+            compact();
+
+            // Grow the buffer if the current record takes up most of it, so that long records are not compacted over and over
+            if (limit > buffer.length / 2) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+
+        final int read = in.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfStream = true;
+            return false;
+        }
+
+        limit += read;
+        return true;
+    }
+
+    private void compact() {
+        final int offset = recordStart;
+        if (offset == 0) {
+            return;
+        }
+
+        System.arraycopy(buffer, offset, buffer, 0, limit - offset);
+
+        limit -= offset;
+        position -= offset;
+        recordStart = 0;
+        valueStart -= offset;
+        writePosition -= offset;
+        for (int i = 0; i < valueCount; i++) {
+            valueStarts[i] -= offset;
+            valueEnds[i] -= offset;
+        }
+    }
+
+    /**
+     * @return the number of values in the current record
+     */
+    int getValueCount() {
+        return valueCount;
+    }
+
+    /**
+     * @param index the index of the value within the current record
+     * @return <code>true</code> if the value is equal to the configured null String
+     */
+    boolean isNull(final int index) {
+        if (nullBytes == null) {
+            return false;
+        }
+
+        final int start = valueStarts[index];
+        final int length = valueEnds[index] - start;
+        if (length != nullBytes.length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (buffer[start + i] != nullBytes[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param index the index of the value within the current record
+     * @return the value, decoded into a String, or <code>null</code> if the value is equal to the configured null String
+     */
+    String getString(final int index) {
+        if (isNull(index)) {
+            return null;
+        }
+
+        final int start = valueStarts[index];
+        return new String(buffer, start, valueEnds[index] - start, charset);
+    }
+
+    /**
+     * Parses a value that consists only of decimal digits, optionally preceded by a minus sign, without decoding it into a String first.
+     * Values in any other form, including those with too many digits to be certain that they fit into a long, are not parsed.
+     *
+     * @param index the index of the value within the current record
+     * @return the parsed value, or <code>null</code> if the value is not in the supported form
+     */
+    Long parseLong(final int index) {
+        final byte[] bytes = buffer;
+        final int end = valueEnds[index];
+        int i = valueStarts[index];
+
+        final boolean negative = i < end && bytes[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        final int digits = end - i;
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return null;
+        }
+
+        long value = 0L;
+        for (; i < end; i++) {
+            final int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a value that consists of decimal digits with an optional fractional part, optionally preceded by a minus sign, without
+     * decoding it into a String first. Only values with few enough digits that the result is exactly the same as that of
+     * {@link Double#parseDouble(String)} are parsed: both the digits and the power of ten that they are divided by are then exactly
+     * representable, so a single division is correctly rounded.
+     *
+     * @param index the index of the value within the current record
+     * @return the parsed value, or <code>null</code> if the value is not in the supported form
+     */
+    Double parseDouble(final int index) {
+        final byte[] bytes = buffer;
+        final int end = valueEnds[index];
+        int i = valueStarts[index];
+
+        final boolean negative = i < end && bytes[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        long digits = 0L;
+        int digitCount = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            final byte b = bytes[i];
+            if (b == '.') {
+                if (fractionDigits >= 0 || digitCount == 0) {
+                    return null;
+                }
+                fractionDigits = 0;
+                continue;
+            }
+
+            final int digit = b - '0';
+            if (digit < 0 || digit > 9 || ++digitCount > MAX_EXACT_DIGITS) {
+                return null;
+            }
+
+            digits = digits * 10 + digit;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+
+        if (digitCount == 0 || fractionDigits == 0) {
+            return null;
+        }
+
+        final double value = fractionDigits > 0 ? digits / POWERS_OF_TEN[fractionDigits] : (double) digits;
+        return negative ? -value : value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -37,9 +37,10 @@ import org.apache.nifi.schema.inference.SchemaInferenceUtil;
 import org.apache.nifi.schema.inference.TimeValueInference;
 import org.apache.nifi.schemaregistry.services.SchemaRegistry;
 import org.apache.nifi.serialization.DateTimeUtils;
+import org.apache.nifi.serialization.RecordContentSplitter;
 import org.apache.nifi.serialization.RecordReader;
-import org.apache.nifi.serialization.RecordReaderFactory;
 import org.apache.nifi.serialization.SchemaRegistryService;
+import org.apache.nifi.serialization.SplittableRecordReaderFactory;
 import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.nifi.stream.io.NonCloseableInputStream;
 
@@ -54,7 +55,7 @@ import java.util.Map;
 @CapabilityDescription("Parses CSV-formatted data, returning each row in the CSV file as a separate record. "
     + "This reader assumes that the first line in the content is the column names and all subsequent lines are "
     + "the values. See Controller Service's Usage for further documentation.")
-public class CSVReader extends SchemaRegistryService implements RecordReaderFactory {
+public class CSVReader extends SchemaRegistryService implements SplittableRecordReaderFactory {
 
     private static final AllowableValue HEADER_DERIVED = new AllowableValue("csv-header-derived", "Use String Fields From Header",
         "The first non-comment line of the CSV file is a header line that contains the names of the columns. The schema will be derived by using the "
@@ -67,6 +68,12 @@ public class CSVReader extends SchemaRegistryService implements RecordReaderFact
     public static final AllowableValue JACKSON_CSV = new AllowableValue("jackson-csv", "Jackson CSV",
             "The CSV parser implementation from the Jackson Dataformats library.");
 
+    public static final AllowableValue BYTE_CSV = new AllowableValue("byte-csv", "Byte-Scanning CSV",
+            "A CSV parser that scans the bytes of the content directly, without first decoding them into characters, and converts integral and decimal "
+                    + "values straight from those bytes. It produces the same records as the Apache Commons CSV parser. It can only be used with character sets "
+                    + "such as UTF-8 and ISO-8859-1, in which every ASCII character is encoded as a single byte, and with ASCII value separator, quote, escape and "
+                    + "comment characters; in all other cases the Apache Commons CSV parser is used instead.");
+
 
     public static final PropertyDescriptor CSV_PARSER = new PropertyDescriptor.Builder()
             .name("csv-reader-csv-parser")
@@ -74,7 +81,7 @@ public class CSVReader extends SchemaRegistryService implements RecordReaderFact
             .description("Specifies which parser to use to read CSV records. NOTE: Different parsers may support different subsets of functionality "
                     + "and may also exhibit different levels of performance.")
             .expressionLanguageSupported(ExpressionLanguageScope.NONE)
-            .allowableValues(APACHE_COMMONS_CSV, JACKSON_CSV)
+            .allowableValues(APACHE_COMMONS_CSV, JACKSON_CSV, BYTE_CSV)
             .defaultValue(APACHE_COMMONS_CSV.getValue())
             .required(true)
             .build();
@@ -145,17 +152,45 @@ public class CSVReader extends SchemaRegistryService implements RecordReaderFact
         final RecordSchema schema = getSchema(variables, new NonCloseableInputStream(in), null);
         in.reset();
 
-        CSVFormat csvFormat;
+        return createRecordReader(in, logger, schema, getCSVFormat(variables));
+    }
+
+    @Override
+    public RecordContentSplitter createContentSplitter(final Map<String, String> variables, final ComponentLog logger) {
+        // An inferred schema must be derived from all of the content, not just the first split
+        final String accessStrategy = context.getProperty(SchemaAccessUtils.SCHEMA_ACCESS_STRATEGY).getValue();
+        if (SchemaInferenceUtil.INFER_SCHEMA.getValue().equals(accessStrategy)) {
+            return null;
+        }
+
+        final CSVFormat csvFormat = getCSVFormat(variables);
+        if (!ByteCSVRecordReader.isSupported(csvFormat, charSet)) {
+            return null;
+        }
+
+        return new CSVRecordContentSplitter(csvFormat, firstLineIsHeader);
+    }
+
+    @Override
+    public RecordReader createSplitRecordReader(final Map<String, String> variables, final InputStream in, final RecordSchema schema, final ComponentLog logger) throws IOException {
+        return createRecordReader(in, logger, schema, getCSVFormat(variables));
+    }
+
+    private CSVFormat getCSVFormat(final Map<String, String> variables) {
         if (this.csvFormat != null) {
-            csvFormat = this.csvFormat;
-        } else {
-            csvFormat = CSVUtils.createCSVFormat(context, variables);
+            return this.csvFormat;
         }
 
+        return CSVUtils.createCSVFormat(context, variables);
+    }
+
+    private RecordReader createRecordReader(final InputStream in, final ComponentLog logger, final RecordSchema schema, final CSVFormat csvFormat) throws IOException {
         if(APACHE_COMMONS_CSV.getValue().equals(csvParser)) {
             return new CSVRecordReader(in, logger, schema, csvFormat, firstLineIsHeader, ignoreHeader, dateFormat, timeFormat, timestampFormat, charSet);
         } else if(JACKSON_CSV.getValue().equals(csvParser)) {
             return new JacksonCSVRecordReader(in, logger, schema, csvFormat, firstLineIsHeader, ignoreHeader, dateFormat, timeFormat, timestampFormat, charSet);
+        } else if(BYTE_CSV.getValue().equals(csvParser)) {
+            return ByteCSVRecordReader.create(in, logger, schema, csvFormat, firstLineIsHeader, ignoreHeader, dateFormat, timeFormat, timestampFormat, charSet);
         } else {
             throw new IOException("Parser not supported");
         }
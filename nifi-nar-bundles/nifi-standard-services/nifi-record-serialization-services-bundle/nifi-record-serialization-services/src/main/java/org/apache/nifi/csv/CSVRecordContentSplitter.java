@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.csv;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.nifi.serialization.AbstractRecordContentSplitter;
+
+import java.util.Arrays;
+
+/**
+ * Splits CSV content at line endings that are not within a quoted value and not escaped, following the same rules as the Apache Commons CSV
+ * lexer. The content must be in a character set that encodes the special characters as single bytes, as determined by
+ * {@link ByteCSVRecordReader#isSupported(CSVFormat, String)}. If the content has a header line, the header line is the split prefix.
+ */
+class CSVRecordContentSplitter extends AbstractRecordContentSplitter {
+    private static final byte[] EMPTY_PREFIX = new byte[0];
+    private static final int NONE = -1;
+
+    private final int delimiter;
+    private final int quote;
+    private final int escape;
+    private final int commentMarker;
+    private final boolean ignoreSurroundingSpaces;
+
+    private boolean headerPending;
+    private byte[] prefix = EMPTY_PREFIX;
+
+    private boolean lineStart;
+    private boolean valueStart;
+    private boolean lineHasContent;
+    private boolean inComment;
+    private boolean inQuotes;
+    private boolean quotePending;
+    private boolean escapePending;
+    private boolean carriageReturnPending;
+
+    CSVRecordContentSplitter(final CSVFormat csvFormat, final boolean hasHeader) {
+        this.delimiter = csvFormat.getDelimiter();
+        this.quote = toByte(csvFormat.getQuoteCharacter());
+        this.escape = toByte(csvFormat.getEscapeCharacter());
+        this.commentMarker = toByte(csvFormat.getCommentMarker());
+        this.ignoreSurroundingSpaces = csvFormat.getIgnoreSurroundingSpaces();
+        this.headerPending = hasHeader;
+    }
+
+    private static int toByte(final Character c) {
+        return c == null ? NONE : c;
+    }
+
+    @Override
+    public byte[] getSplitPrefix() {
+        return prefix;
+    }
+
+    @Override
+    protected void startSplit() {
+        startLine();
+        inQuotes = false;
+        quotePending = false;
+        escapePending = false;
+        carriageReturnPending = false;
+    }
+
+    private void startLine() {
+        lineStart = true;
+        valueStart = true;
+        lineHasContent = false;
+        inComment = false;
+    }
+
+    @Override
+    protected int findRecordEnd(final byte[] buffer, final int offset, final int length) {
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            final int b = buffer[i] & 0xFF;
+
+            if (carriageReturnPending) {
+                carriageReturnPending = false;
+                final int lineEnd = b == '\n' ? i + 1 : i;
+                if (endLine(buffer, lineEnd)) {
+                    return lineEnd;
+                }
+                if (b == '\n') {
+                    continue;
+                }
+            }
+
+            if (escapePending) {
+                escapePending = false;
+                valueStart = false;
+                continue;
+            }
+
+            if (inQuotes) {
+                if (quotePending) {
+                    quotePending = false;
+                    if (b == quote) {
+                        continue;
+                    }
+
+                    inQuotes = false;
+                } else {
+                    if (b == escape && escape != quote) {
+                        escapePending = true;
+                    } else if (b == quote) {
+                        quotePending = true;
+                    }
+                    continue;
+                }
+            }
+
+            if (b == '\n') {
+                if (endLine(buffer, i + 1)) {
+                    return i + 1;
+                }
+                continue;
+            }
+            if (b == '\r') {
+                carriageReturnPending = true;
+                continue;
+            }
+            if (inComment) {
+                continue;
+            }
+
+            if (lineStart && b == commentMarker) {
+                lineStart = false;
+                inComment = true;
+                continue;
+            }
+
+            lineStart = false;
+            lineHasContent = true;
+
+            if (b == delimiter) {
+                valueStart = true;
+                continue;
+            }
+
+            if (valueStart) {
+                if (b == quote) {
+                    valueStart = false;
+                    inQuotes = true;
+                    continue;
+                }
+                if (ignoreSurroundingSpaces && Character.isWhitespace(b)) {
+                    continue;
+                }
+            }
+
+            valueStart = false;
+            if (b == escape) {
+                escapePending = true;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return <code>true</code> if the content may be split at the end of the line. Content is not split before the end of its header line,
+     *         so that the first split always holds the header.
+     */
+    private boolean endLine(final byte[] buffer, final int lineEnd) {
+        if (headerPending && lineHasContent && !inComment) {
+            prefix = Arrays.copyOf(buffer, lineEnd);
+            headerPending = false;
+        }
+
+        startLine();
+        return !headerPending;
+    }
+}
@@ -21,24 +21,28 @@ import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.nifi.schema.access.SchemaAccessWriter;
 import org.apache.nifi.serialization.AbstractRecordSetWriter;
+import org.apache.nifi.serialization.BatchRecordWriter;
 import org.apache.nifi.serialization.RecordSetWriter;
 import org.apache.nifi.serialization.WriteResult;
 import org.apache.nifi.serialization.record.DataType;
 import org.apache.nifi.serialization.record.RawRecordWriter;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.util.DataTypeUtils;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-public class WriteCSVResult extends AbstractRecordSetWriter implements RecordSetWriter, RawRecordWriter {
+public class WriteCSVResult extends AbstractRecordSetWriter implements RecordSetWriter, RawRecordWriter, BatchRecordWriter {
     private final RecordSchema recordSchema;
     private final SchemaAccessWriter schemaWriter;
     private final String dateFormat;
@@ -171,6 +175,73 @@ public class WriteCSVResult extends AbstractRecordSetWriter implements RecordSet
         return record.getAsString(recordField, getFormat(recordField));
     }
 
+    @Override
+    public WriteResult write(final RecordBatch batch) throws IOException {
+        // Determine which field of the batch holds the value of each of the fields that we write, in the same way that a Record would resolve it
+        final List<RecordField> recordFields = recordSchema.getFields();
+        final RecordSchema batchSchema = batch.getSchema();
+        final int[] columnIndices = new int[recordFields.size()];
+        for (int i = 0; i < columnIndices.length; i++) {
+            final RecordField recordField = recordFields.get(i);
+            Optional<RecordField> batchField = batchSchema.getField(recordField.getFieldName());
+            for (final String alias : recordField.getAliases()) {
+                if (batchField.isPresent()) {
+                    break;
+                }
+                batchField = batchSchema.getField(alias);
+            }
+
+            columnIndices[i] = batchField.isPresent() ? batchSchema.getFieldIndex(batchField.get().getFieldName()) : -1;
+        }
+
+        Map<String, String> attributes = schemaWriter.getAttributes(recordSchema);
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            if (!isActiveRecordSet()) {
+                schemaWriter.writeHeader(recordSchema, getOutputStream());
+            }
+
+            includeHeaderIfNecessary(null, true);
+
+            for (int i = 0; i < columnIndices.length; i++) {
+                final RecordField recordField = recordFields.get(i);
+                Object value = columnIndices[i] < 0 ? null : batch.getValue(row, columnIndices[i]);
+                if (value == null) {
+                    value = recordField.getDefaultValue();
+                }
+
+                fieldValues[i] = getFieldValue(value, recordField);
+            }
+
+            printer.printRecord(fieldValues);
+            incrementRecordCount();
+            attributes = schemaWriter.getAttributes(recordSchema);
+        }
+
+        return WriteResult.of(getRecordCount(), attributes);
+    }
+
+    private Object getFieldValue(final Object value, final RecordField recordField) {
+        if (value == null) {
+            return null;
+        }
+
+        switch (recordField.getDataType().getFieldType()) {
+            case BIGINT:
+            case BYTE:
+            case DOUBLE:
+            case FLOAT:
+            case LONG:
+            case INT:
+            case SHORT:
+                if (value instanceof Number) {
+                    return value;
+                }
+                break;
+        }
+
+        return DataTypeUtils.toString(value, getFormat(recordField));
+    }
+
     @Override
     public WriteResult writeRawRecord(final Record record) throws IOException {
         // If we are not writing an active record set, then we need to ensure that we write the
@@ -26,6 +26,7 @@ import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.SchemaIndexedMap;
 import org.apache.nifi.serialization.record.type.ArrayDataType;
 import org.apache.nifi.serialization.record.type.ChoiceDataType;
 import org.apache.nifi.serialization.record.type.RecordDataType;
@@ -42,7 +43,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.text.DateFormat;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -202,7 +202,7 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
 
                     final RecordSchema possibleSchema = ((RecordDataType) possibleDataType).getChildSchema();
 
-                    final Map<String, Object> childValues = new HashMap<>();
+                    final Map<String, Object> childValues = new SchemaIndexedMap(possibleSchema);
                     final Iterator<String> fieldNames = fieldNode.getFieldNames();
                     while (fieldNames.hasNext()) {
                         final String childFieldName = fieldNames.next();
@@ -223,7 +223,7 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
             }
 
             final Iterator<String> fieldNames = fieldNode.getFieldNames();
-            final Map<String, Object> childValues = new HashMap<>();
+            final Map<String, Object> childValues = new SchemaIndexedMap(childSchema);
             while (fieldNames.hasNext()) {
                 final String childFieldName = fieldNames.next();
 
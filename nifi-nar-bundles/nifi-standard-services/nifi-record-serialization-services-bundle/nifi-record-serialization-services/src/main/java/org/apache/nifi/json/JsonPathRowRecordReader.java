@@ -31,6 +31,7 @@ import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.SchemaIndexedMap;
 import org.apache.nifi.serialization.record.type.ArrayDataType;
 import org.apache.nifi.serialization.record.type.RecordDataType;
 import org.apache.nifi.serialization.record.util.DataTypeUtils;
@@ -82,7 +83,7 @@ public class JsonPathRowRecordReader extends AbstractJsonRowRecordReader {
         }
 
         final DocumentContext ctx = JsonPath.using(STRICT_PROVIDER_CONFIGURATION).parse(jsonNode.toString());
-        final Map<String, Object> values = new HashMap<>(schema.getFieldCount());
+        final Map<String, Object> values = new SchemaIndexedMap(schema);
 
         for (final Map.Entry<String, JsonPath> entry : jsonPaths.entrySet()) {
             final String fieldName = entry.getKey();
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.json;
+
+import org.apache.nifi.serialization.AbstractRecordContentSplitter;
+
+import java.util.Arrays;
+
+/**
+ * Splits JSON content between top-level JSON values, such as the objects of 'JSON-per-line' content. If the content is a top-level JSON array,
+ * it is split between the elements of the array instead: every split is made into an array of its own by dropping the comma that separates it
+ * from the previous split and closing it with a ']', and the split prefix is the '[' that opens it.
+ */
+class JsonRecordContentSplitter extends AbstractRecordContentSplitter {
+    private static final byte[] EMPTY_PREFIX = new byte[0];
+    private static final byte[] ARRAY_PREFIX = {'['};
+
+    private int depth;
+    private boolean inString;
+    private boolean escapePending;
+
+    private boolean contentStarted = false;
+    private boolean arrayContent = false;
+    private boolean arrayClosed = false;
+    private boolean arrayClosedBeforeSplit = false;
+    private boolean firstSplit = true;
+
+    @Override
+    public byte[] getSplitPrefix() {
+        return arrayContent ? ARRAY_PREFIX : EMPTY_PREFIX;
+    }
+
+    @Override
+    protected void startSplit() {
+        // Every split of an array, other than the first, begins within the array
+        depth = arrayContent && !arrayClosed ? 1 : 0;
+        inString = false;
+        escapePending = false;
+        arrayClosedBeforeSplit = arrayClosed;
+    }
+
+    @Override
+    protected int findRecordEnd(final byte[] buffer, final int offset, final int length) {
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            final byte b = buffer[i];
+
+            if (inString) {
+                if (escapePending) {
+                    escapePending = false;
+                } else if (b == '\\') {
+                    escapePending = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            if (!contentStarted && !isWhitespace(b)) {
+                contentStarted = true;
+                arrayContent = b == '[';
+            }
+
+            switch (b) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    depth--;
+                    if (depth == 0) {
+                        if (arrayContent) {
+                            arrayClosed = true;
+                        }
+                        return i + 1;
+                    }
+                    if (depth == 1 && arrayContent && !arrayClosed) {
+                        return i + 1;
+                    }
+                    break;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    protected byte[] createSplit(final byte[] buffer, final int splitLength) {
+        if (!arrayContent) {
+            firstSplit = false;
+            return super.createSplit(buffer, splitLength);
+        }
+
+        final int start = firstSplit ? 0 : skipSeparator(buffer, splitLength);
+        firstSplit = false;
+
+        if (arrayClosedBeforeSplit) {
+            // Only whatever follows the end of the array remains. An empty array is read as no records at all.
+            return start == splitLength ? new byte[] {']'} : Arrays.copyOfRange(buffer, start, splitLength);
+        }
+
+        final int closeLength = arrayClosed ? 0 : 1;
+        final byte[] split = new byte[splitLength - start + closeLength];
+        System.arraycopy(buffer, start, split, 0, splitLength - start);
+        if (closeLength > 0) {
+            split[split.length - 1] = ']';
+        }
+
+        return split;
+    }
+
+    @Override
+    protected byte[] createRemainder(final byte[] buffer, final int remainingLength) {
+        if (!arrayContent || firstSplit) {
+            return super.createRemainder(buffer, remainingLength);
+        }
+
+        return Arrays.copyOfRange(buffer, skipSeparator(buffer, remainingLength), remainingLength);
+    }
+
+    /**
+     * @return the index of the first byte after any whitespace and the comma that separate the beginning of a split from the previous element of the array
+     */
+    private static int skipSeparator(final byte[] buffer, final int length) {
+        int index = 0;
+        while (index < length && isWhitespace(buffer[index])) {
+            index++;
+        }
+        if (index < length && buffer[index] == ',') {
+            index++;
+        }
+        while (index < length && isWhitespace(buffer[index])) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+}
@@ -0,0 +1,474 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.SchemaIndexedMap;
+import org.apache.nifi.serialization.record.type.ArrayDataType;
+import org.apache.nifi.serialization.record.type.ChoiceDataType;
+import org.apache.nifi.serialization.record.type.MapDataType;
+import org.apache.nifi.serialization.record.type.RecordDataType;
+import org.apache.nifi.serialization.record.util.DataTypeUtils;
+import org.apache.nifi.serialization.record.util.IllegalTypeConversionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A RecordReader that produces the same Records as {@link JsonTreeRowRecordReader}, but maps the tokens of the JSON
+ * directly into field values rather than first reading each JSON object into a tree. When unknown fields are to be dropped,
+ * their values are skipped without being materialized.
+ * </p>
+ *
+ * <p>
+ * Unlike the tree-based reader, the Records that are produced do not retain the JSON text that they were read from, so a
+ * JSON writer always serializes them from their field values.
+ * </p>
+ */
+public class JsonStreamingRowRecordReader implements RecordReader {
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final RecordSchema EMPTY_SCHEMA = new SimpleRecordSchema(Collections.emptyList());
+
+    private final ComponentLog logger;
+    private final RecordSchema schema;
+    private final JsonParser jsonParser;
+    private final Supplier<DateFormat> LAZY_DATE_FORMAT;
+    private final Supplier<DateFormat> LAZY_TIME_FORMAT;
+    private final Supplier<DateFormat> LAZY_TIMESTAMP_FORMAT;
+
+    private boolean firstTokenConsumed = false;
+
+    public JsonStreamingRowRecordReader(final InputStream in, final ComponentLog logger, final RecordSchema schema,
+        final String dateFormat, final String timeFormat, final String timestampFormat) throws IOException, MalformedRecordException {
+
+        this.logger = logger;
+        this.schema = schema;
+
+        LAZY_DATE_FORMAT = DataTypeUtils.getDateFormatSupplier(dateFormat);
+        LAZY_TIME_FORMAT = DataTypeUtils.getDateFormatSupplier(timeFormat);
+        LAZY_TIMESTAMP_FORMAT = DataTypeUtils.getDateFormatSupplier(timestampFormat);
+
+        try {
+            jsonParser = jsonFactory.createParser(in);
+        } catch (final JsonParseException e) {
+            throw new MalformedRecordException("Could not parse data as JSON", e);
+        }
+    }
+
+    @Override
+    public Record nextRecord(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
+        final boolean objectFound;
+        try {
+            objectFound = advanceToNextObject();
+        } catch (final JsonParseException e) {
+            throw new MalformedRecordException("Could not parse data as JSON", e);
+        }
+
+        if (!objectFound) {
+            return null;
+        }
+
+        final JsonStreamContext enclosingContext = jsonParser.getParsingContext().getParent();
+        try {
+            return readRecord(jsonParser, schema, null, coerceTypes, dropUnknownFields);
+        } catch (final JsonParseException e) {
+            throw new MalformedRecordException("Could not parse data as JSON", e);
+        } catch (final Exception e) {
+            // Skip the remainder of the JSON object so that the next call starts with the next record
+            skipToContext(enclosingContext);
+
+            logger.debug("Failed to convert JSON Element into a Record object using schema {} due to {}", new Object[] {schema, e.toString(), e});
+            throw new MalformedRecordException("Successfully parsed a JSON object from input but failed to convert into a Record object with the given schema", e);
+        }
+    }
+
+    private boolean advanceToNextObject() throws IOException, MalformedRecordException {
+        if (!firstTokenConsumed) {
+            firstTokenConsumed = true;
+
+            JsonToken token = jsonParser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = jsonParser.nextToken(); // advance to START_OBJECT token
+            }
+
+            return token == JsonToken.START_OBJECT;
+        }
+
+        while (true) {
+            final JsonToken token = jsonParser.nextToken();
+            if (token == null) {
+                return false;
+            }
+
+            switch (token) {
+                case START_OBJECT:
+                    return true;
+                case END_OBJECT:
+                case END_ARRAY:
+                case START_ARRAY:
+                    continue;
+                default:
+                    throw new MalformedRecordException("Expected to get a JSON Object but got a token of type " + token.name());
+            }
+        }
+    }
+
+    private void skipToContext(final JsonStreamContext context) throws IOException {
+        while (jsonParser.getParsingContext() != context) {
+            if (jsonParser.nextToken() == null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads the JSON object at which the parser is positioned into a Record, leaving the parser positioned at the END_OBJECT token
+     */
+    private Record readRecord(final JsonParser parser, final RecordSchema schema, final String fieldNamePrefix, final boolean coerceTypes, final boolean dropUnknown)
+            throws IOException, MalformedRecordException {
+
+        final Map<String, Object> values = new SchemaIndexedMap(schema);
+
+        if (dropUnknown) {
+            // A field may be present under its own name and under any of its aliases. As in the tree-based reader, the field's own name
+            // takes precedence, followed by the aliases in the order in which they are defined, regardless of the order of the JSON.
+            int[] matchPriorities = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String jsonFieldName = parser.getCurrentName();
+                parser.nextToken();
+
+                final RecordField recordField = schema.getField(jsonFieldName).orElse(null);
+                if (recordField == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                final String fieldName = recordField.getFieldName();
+                final int priority = getMatchPriority(recordField, jsonFieldName);
+                if (priority > 0 || matchPriorities != null) {
+                    if (matchPriorities == null) {
+                        matchPriorities = createMatchPriorities(schema, values);
+                    }
+
+                    final int fieldIndex = schema.getFieldIndex(fieldName);
+                    if (priority > matchPriorities[fieldIndex]) {
+                        parser.skipChildren();
+                        continue;
+                    }
+
+                    matchPriorities[fieldIndex] = priority;
+                }
+
+                final Object value;
+                if (coerceTypes) {
+                    final String fullFieldName = fieldNamePrefix == null ? fieldName : fieldNamePrefix + fieldName;
+                    value = convertField(parser, fullFieldName, recordField.getDataType(), dropUnknown);
+                } else {
+                    value = readRawValue(parser, recordField.getDataType(), fieldName);
+                }
+
+                values.put(fieldName, value);
+            }
+        } else {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                parser.nextToken();
+
+                final RecordField recordField = schema.getField(fieldName).orElse(null);
+
+                final Object value;
+                if (coerceTypes && recordField != null) {
+                    final String fullFieldName = fieldNamePrefix == null ? fieldName : fieldNamePrefix + fieldName;
+                    value = convertField(parser, fullFieldName, recordField.getDataType(), dropUnknown);
+                } else {
+                    value = readRawValue(parser, recordField == null ? null : recordField.getDataType(), fieldName);
+                }
+
+                values.put(fieldName, value);
+            }
+        }
+
+        return new MapRecord(schema, values, false, dropUnknown);
+    }
+
+    private int getMatchPriority(final RecordField recordField, final String jsonFieldName) {
+        if (recordField.getFieldName().equals(jsonFieldName)) {
+            return 0;
+        }
+
+        int priority = 1;
+        for (final String alias : recordField.getAliases()) {
+            if (alias.equals(jsonFieldName)) {
+                return priority;
+            }
+
+            priority++;
+        }
+
+        return priority;
+    }
+
+    private int[] createMatchPriorities(final RecordSchema schema, final Map<String, Object> values) {
+        final int[] priorities = new int[schema.getFieldCount()];
+        Arrays.fill(priorities, Integer.MAX_VALUE);
+
+        // Any value already present was found under the field's own name
+        for (int i = 0; i < priorities.length; i++) {
+            if (values.containsKey(schema.getField(i).getFieldName())) {
+                priorities[i] = 0;
+            }
+        }
+
+        return priorities;
+    }
+
+    private Object convertField(final JsonParser parser, final String fieldName, final DataType desiredType, final boolean dropUnknown) throws IOException, MalformedRecordException {
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        switch (desiredType.getFieldType()) {
+            case BOOLEAN:
+            case BYTE:
+            case CHAR:
+            case DOUBLE:
+            case FLOAT:
+            case INT:
+            case LONG:
+            case SHORT:
+            case STRING:
+            case DATE:
+            case TIME:
+            case TIMESTAMP: {
+                final Object rawValue = readRawValue(parser, null, fieldName);
+                return DataTypeUtils.convertType(rawValue, desiredType, LAZY_DATE_FORMAT, LAZY_TIME_FORMAT, LAZY_TIMESTAMP_FORMAT, fieldName);
+            }
+            case MAP: {
+                final DataType valueType = ((MapDataType) desiredType).getValueType();
+
+                final Map<String, Object> map = new HashMap<>();
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    return map;
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String childName = parser.getCurrentName();
+                    parser.nextToken();
+                    map.put(childName, convertField(parser, fieldName, valueType, dropUnknown));
+                }
+
+                return map;
+            }
+            case ARRAY: {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new IllegalTypeConversionException("Cannot convert JSON value of type " + token + " to an Array for field " + fieldName);
+                }
+
+                final DataType elementType = ((ArrayDataType) desiredType).getElementType();
+                final List<Object> elements = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elements.add(convertField(parser, fieldName, elementType, dropUnknown));
+                }
+
+                return elements.toArray();
+            }
+            case RECORD: {
+                if (token != JsonToken.START_OBJECT || !(desiredType instanceof RecordDataType)) {
+                    parser.skipChildren();
+                    return null;
+                }
+
+                final RecordSchema childSchema = ((RecordDataType) desiredType).getChildSchema();
+                if (childSchema != null) {
+                    return readRecord(parser, childSchema, fieldName + ".", true, dropUnknown);
+                }
+
+                // Without a child schema, every field of the object becomes a String field, so the names must be known up front
+                final TokenBuffer buffer = bufferCurrentValue(parser);
+                final List<RecordField> fields = new ArrayList<>();
+                try (final JsonParser namesParser = buffer.asParser()) {
+                    namesParser.nextToken();
+                    while (namesParser.nextToken() == JsonToken.FIELD_NAME) {
+                        fields.add(new RecordField(namesParser.getCurrentName(), RecordFieldType.STRING.getDataType()));
+                        namesParser.nextToken();
+                        namesParser.skipChildren();
+                    }
+                }
+
+                try (final JsonParser bufferedParser = buffer.asParser()) {
+                    bufferedParser.nextToken();
+                    return readRecord(bufferedParser, new SimpleRecordSchema(fields), fieldName + ".", true, dropUnknown);
+                }
+            }
+            case CHOICE: {
+                final Object rawValue = readRawValue(parser, desiredType, fieldName);
+                return DataTypeUtils.convertType(rawValue, desiredType, fieldName);
+            }
+        }
+
+        parser.skipChildren();
+        return null;
+    }
+
+    private Object readRawValue(final JsonParser parser, final DataType dataType, final String fieldName) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token == null) {
+            return null;
+        }
+
+        switch (token) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_EMBEDDED_OBJECT:
+                return parser.getEmbeddedObject();
+            case VALUE_STRING: {
+                final String textValue = parser.getText();
+                if (dataType == null) {
+                    return textValue;
+                }
+
+                switch (dataType.getFieldType()) {
+                    case DATE:
+                    case TIME:
+                    case TIMESTAMP:
+                        try {
+                            return DataTypeUtils.convertType(textValue, dataType, LAZY_DATE_FORMAT, LAZY_TIME_FORMAT, LAZY_TIMESTAMP_FORMAT, fieldName);
+                        } catch (final Exception e) {
+                            return textValue;
+                        }
+                }
+
+                return textValue;
+            }
+            case START_ARRAY: {
+                final DataType elementDataType;
+                if (dataType != null && dataType.getFieldType() == RecordFieldType.ARRAY) {
+                    elementDataType = ((ArrayDataType) dataType).getElementType();
+                } else {
+                    elementDataType = dataType;
+                }
+
+                final List<Object> elements = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elements.add(readRawValue(parser, elementDataType, fieldName));
+                }
+
+                return elements.toArray();
+            }
+            case START_OBJECT:
+                return readRawObject(parser, dataType, fieldName);
+            default:
+                return null;
+        }
+    }
+
+    private Object readRawObject(final JsonParser parser, final DataType dataType, final String fieldName) throws IOException {
+        if (dataType != null && RecordFieldType.RECORD == dataType.getFieldType()) {
+            final RecordSchema childSchema = ((RecordDataType) dataType).getChildSchema();
+            return readRawRecord(parser, childSchema == null ? EMPTY_SCHEMA : childSchema, fieldName);
+        }
+
+        if (dataType != null && RecordFieldType.CHOICE == dataType.getFieldType()) {
+            // Each of the possible Record types must be tried against the same object, so its tokens are buffered
+            final TokenBuffer buffer = bufferCurrentValue(parser);
+
+            for (final DataType possibleDataType : ((ChoiceDataType) dataType).getPossibleSubTypes()) {
+                if (possibleDataType.getFieldType() != RecordFieldType.RECORD) {
+                    continue;
+                }
+
+                final RecordSchema possibleSchema = ((RecordDataType) possibleDataType).getChildSchema();
+                try (final JsonParser bufferedParser = buffer.asParser()) {
+                    bufferedParser.nextToken();
+                    final Record possibleRecord = readRawRecord(bufferedParser, possibleSchema, fieldName);
+                    if (DataTypeUtils.isCompatibleDataType(possibleRecord, possibleDataType)) {
+                        return possibleRecord;
+                    }
+                }
+            }
+
+            try (final JsonParser bufferedParser = buffer.asParser()) {
+                bufferedParser.nextToken();
+                return readRawRecord(bufferedParser, EMPTY_SCHEMA, fieldName);
+            }
+        }
+
+        return readRawRecord(parser, EMPTY_SCHEMA, fieldName);
+    }
+
+    private Record readRawRecord(final JsonParser parser, final RecordSchema childSchema, final String fieldName) throws IOException {
+        final Map<String, Object> childValues = new SchemaIndexedMap(childSchema);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String childFieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            final DataType childDataType = childSchema.getDataType(childFieldName).orElse(null);
+            childValues.put(childFieldName, readRawValue(parser, childDataType, childFieldName));
+        }
+
+        return new MapRecord(childSchema, childValues);
+    }
+
+    private TokenBuffer bufferCurrentValue(final JsonParser parser) throws IOException {
+        final TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.copyCurrentStructure(parser);
+        return buffer;
+    }
+
+    @Override
+    public RecordSchema getSchema() {
+        return schema;
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonParser.close();
+    }
+}
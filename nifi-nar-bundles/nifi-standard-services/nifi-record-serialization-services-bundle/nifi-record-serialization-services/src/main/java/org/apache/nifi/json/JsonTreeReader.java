@@ -25,6 +25,7 @@ import org.apache.nifi.components.AllowableValue;
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.context.PropertyContext;
 import org.apache.nifi.controller.ConfigurationContext;
+import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.schema.access.SchemaAccessStrategy;
 import org.apache.nifi.schema.access.SchemaNotFoundException;
@@ -35,9 +36,10 @@ import org.apache.nifi.schema.inference.TimeValueInference;
 import org.apache.nifi.schemaregistry.services.SchemaRegistry;
 import org.apache.nifi.serialization.DateTimeUtils;
 import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.RecordContentSplitter;
 import org.apache.nifi.serialization.RecordReader;
-import org.apache.nifi.serialization.RecordReaderFactory;
 import org.apache.nifi.serialization.SchemaRegistryService;
+import org.apache.nifi.serialization.SplittableRecordReaderFactory;
 import org.apache.nifi.serialization.record.RecordSchema;
 import org.codehaus.jackson.JsonNode;
 
@@ -60,8 +62,30 @@ import static org.apache.nifi.schema.inference.SchemaInferenceUtil.SCHEMA_CACHE;
         + "a field that is not present in the schema, that field will be skipped. "
     + "See the Usage of the Controller Service for more information and examples.")
 @SeeAlso(JsonPathReader.class)
-public class JsonTreeReader extends SchemaRegistryService implements RecordReaderFactory {
+public class JsonTreeReader extends SchemaRegistryService implements SplittableRecordReaderFactory {
 
+    // JSON parsers
+    public static final AllowableValue TREE_PARSER = new AllowableValue("tree", "Tree",
+            "Each JSON object is read into a tree before it is converted into a Record. The Record retains the JSON that it was read from, "
+                    + "so that a JSON writer is able to write it out unchanged when the schema allows.");
+
+    public static final AllowableValue STREAMING_PARSER = new AllowableValue("streaming", "Streaming",
+            "The tokens of each JSON object are mapped directly into the fields of a Record, and fields that are not in the schema are skipped without "
+                    + "being read into memory when unknown fields are dropped. The Record does not retain the JSON that it was read from, so a JSON writer "
+                    + "always serializes it from its field values.");
+
+    public static final PropertyDescriptor JSON_PARSER = new PropertyDescriptor.Builder()
+            .name("json-tree-reader-parser")
+            .displayName("JSON Parser")
+            .description("Specifies how JSON objects are turned into Records. Both parsers produce the same Records; they differ in the amount of memory "
+                    + "used per record and in whether the original JSON is retained along with each Record.")
+            .expressionLanguageSupported(ExpressionLanguageScope.NONE)
+            .allowableValues(TREE_PARSER, STREAMING_PARSER)
+            .defaultValue(TREE_PARSER.getValue())
+            .required(true)
+            .build();
+
+    private volatile String jsonParser;
     private volatile String dateFormat;
     private volatile String timeFormat;
     private volatile String timestampFormat;
@@ -70,6 +94,7 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
         final List<PropertyDescriptor> properties = new ArrayList<>(super.getSupportedPropertyDescriptors());
         properties.add(SCHEMA_CACHE);
+        properties.add(JSON_PARSER);
         properties.add(DateTimeUtils.DATE_FORMAT);
         properties.add(DateTimeUtils.TIME_FORMAT);
         properties.add(DateTimeUtils.TIMESTAMP_FORMAT);
@@ -78,6 +103,7 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
 
     @OnEnabled
     public void storeFormats(final ConfigurationContext context) {
+        this.jsonParser = context.getProperty(JSON_PARSER).getValue();
         this.dateFormat = context.getProperty(DateTimeUtils.DATE_FORMAT).getValue();
         this.timeFormat = context.getProperty(DateTimeUtils.TIME_FORMAT).getValue();
         this.timestampFormat = context.getProperty(DateTimeUtils.TIMESTAMP_FORMAT).getValue();
@@ -108,6 +134,31 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
     public RecordReader createRecordReader(final Map<String, String> variables, final InputStream in, final long inputLength, final ComponentLog logger)
             throws IOException, MalformedRecordException, SchemaNotFoundException {
         final RecordSchema schema = getSchema(variables, in, null);
+        return createRecordReader(in, logger, schema);
+    }
+
+    @Override
+    public RecordContentSplitter createContentSplitter(final Map<String, String> variables, final ComponentLog logger) {
+        // An inferred schema must be derived from all of the content, not just the first split
+        final String schemaAccessStrategy = getConfigurationContext().getProperty(getSchemaAcessStrategyDescriptor()).getValue();
+        if (INFER_SCHEMA.getValue().equals(schemaAccessStrategy)) {
+            return null;
+        }
+
+        return new JsonRecordContentSplitter();
+    }
+
+    @Override
+    public RecordReader createSplitRecordReader(final Map<String, String> variables, final InputStream in, final RecordSchema schema, final ComponentLog logger)
+            throws IOException, MalformedRecordException {
+        return createRecordReader(in, logger, schema);
+    }
+
+    private RecordReader createRecordReader(final InputStream in, final ComponentLog logger, final RecordSchema schema) throws IOException, MalformedRecordException {
+        if (STREAMING_PARSER.getValue().equals(jsonParser)) {
+            return new JsonStreamingRowRecordReader(in, logger, schema, dateFormat, timeFormat, timestampFormat);
+        }
+
         return new JsonTreeRowRecordReader(in, logger, schema, dateFormat, timeFormat, timestampFormat);
     }
 }
@@ -27,6 +27,7 @@ import java.io.InputStream;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 public class InferSchemaAccessStrategy<T> implements SchemaAccessStrategy {
     private final RecordSourceFactory<T> recordSourceFactory;
@@ -46,9 +47,11 @@ public class InferSchemaAccessStrategy<T> implements SchemaAccessStrategy {
         contentStream.mark(10_000_000);
         try {
             final RecordSource<T> recordSource = recordSourceFactory.create(variables, new NonCloseableInputStream(contentStream));
+            final long start = System.nanoTime();
             final RecordSchema schema = schemaInference.inferSchema(recordSource);
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
 
-            logger.debug("Successfully inferred schema {}", new Object[] {schema});
+            logger.debug("Successfully inferred schema {} in {} millis", new Object[] {schema, millis});
             return schema;
         } finally {
             contentStream.reset();
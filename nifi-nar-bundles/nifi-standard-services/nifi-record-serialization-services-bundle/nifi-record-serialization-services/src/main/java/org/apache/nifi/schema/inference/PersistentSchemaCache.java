@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.schema.inference;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.nifi.annotation.documentation.CapabilityDescription;
+import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.annotation.lifecycle.OnDisabled;
+import org.apache.nifi.annotation.lifecycle.OnEnabled;
+import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.components.PropertyDescriptor.Builder;
+import org.apache.nifi.controller.AbstractControllerService;
+import org.apache.nifi.controller.ConfigurationContext;
+import org.apache.nifi.serialization.RecordSchemaCacheService;
+import org.apache.nifi.serialization.record.RecordSchema;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.apache.nifi.expression.ExpressionLanguageScope.VARIABLE_REGISTRY;
+import static org.apache.nifi.processor.util.StandardValidators.POSITIVE_INTEGER_VALIDATOR;
+import static org.apache.nifi.processor.util.StandardValidators.createDirectoryExistsValidator;
+
+@CapabilityDescription("Provides a Schema Cache that writes each schema to a file in a directory and keeps the most recently used schemas in memory. Because the schemas are written to disk, " +
+    "they remain available when NiFi is restarted or the Controller Service is stopped and restarted. If the directory is on storage that is shared by all nodes in a cluster, a schema " +
+    "that is cached by one node can be retrieved by any other node. A schema's identifier is a fingerprint of the schema, so the same schema is given the same identifier on every node. " +
+    "The number of schemas kept in the directory is bounded; once it is exceeded, the schemas that were written least recently are deleted.")
+@Tags({"record", "schema", "cache", "persistent", "file", "cluster"})
+public class PersistentSchemaCache extends AbstractControllerService implements RecordSchemaCacheService {
+    private static final String FILENAME_SUFFIX = ".schema.json";
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[0-9a-f]+(-[0-9a-f\\-]+)?");
+
+    static final PropertyDescriptor DIRECTORY = new Builder()
+        .name("schema-cache-directory")
+        .displayName("Directory")
+        .description("The directory to write the cached schemas to. To share the cached schemas between the nodes of a cluster, this must be a directory on storage that every node has access to.")
+        .required(true)
+        .addValidator(createDirectoryExistsValidator(true, true))
+        .expressionLanguageSupported(VARIABLE_REGISTRY)
+        .build();
+
+    static final PropertyDescriptor MAX_SIZE = new Builder()
+        .fromPropertyDescriptor(VolatileSchemaCache.MAX_SIZE)
+        .description("The maximum number of Schemas to keep in memory. Schemas that are not in memory are read from the directory when they are requested.")
+        .build();
+
+    static final PropertyDescriptor MAX_PERSISTED_SCHEMAS = new Builder()
+        .name("max-persisted-schemas")
+        .displayName("Maximum Persisted Schemas")
+        .description("The maximum number of Schemas to keep in the directory. When the Controller Service is enabled, and whenever writing a Schema exceeds this number, "
+            + "the files of the Schemas that were written least recently are deleted until a tenth of this number is free again. FlowFiles that refer to a deleted Schema "
+            + "can no longer retrieve it unless it is still held in memory. Nodes that share the directory should be configured with the same value.")
+        .required(true)
+        .addValidator(POSITIVE_INTEGER_VALIDATOR)
+        .expressionLanguageSupported(VARIABLE_REGISTRY)
+        .defaultValue("10000")
+        .build();
+
+    private final AtomicLong memoryHits = new AtomicLong(0L);
+    private final AtomicLong diskHits = new AtomicLong(0L);
+    private final AtomicLong misses = new AtomicLong(0L);
+    private final AtomicInteger persistedSchemaCount = new AtomicInteger(0);
+
+    private volatile Path directory;
+    private volatile int maxPersistedSchemas;
+    private volatile Cache<String, RecordSchema> cache;
+
+    @Override
+    protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
+        final List<PropertyDescriptor> properties = new ArrayList<>();
+        properties.add(DIRECTORY);
+        properties.add(MAX_SIZE);
+        properties.add(MAX_PERSISTED_SCHEMAS);
+        return properties;
+    }
+
+    @OnEnabled
+    public void setup(final ConfigurationContext context) {
+        directory = Paths.get(context.getProperty(DIRECTORY).evaluateAttributeExpressions().getValue());
+        final int maxSize = context.getProperty(MAX_SIZE).evaluateAttributeExpressions().asInteger();
+        maxPersistedSchemas = context.getProperty(MAX_PERSISTED_SCHEMAS).evaluateAttributeExpressions().asInteger();
+
+        cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .build();
+
+        memoryHits.set(0L);
+        diskHits.set(0L);
+        misses.set(0L);
+
+        pruneSchemaFiles();
+    }
+
+    @OnDisabled
+    public void shutdown() {
+        getLogger().info("Schema lookups while enabled: {} found in memory, {} read from {}, {} not found", new Object[] {memoryHits.get(), diskHits.get(), directory, misses.get()});
+        cache = null;
+    }
+
+    @Override
+    public String cacheSchema(final RecordSchema schema) {
+        String serialized;
+        String identifier;
+        try {
+            serialized = RecordSchemaSerializer.serialize(schema);
+            identifier = Hex.encodeHexString(digest(serialized));
+        } catch (final IllegalArgumentException e) {
+            // The schema cannot be written to disk, so it is cached only in memory, under an identifier that cannot be found on disk.
+            getLogger().debug("Schema {} will be cached only in memory because it cannot be persisted: {}", new Object[] {schema, e.getMessage()});
+            serialized = null;
+            identifier = Hex.encodeHexString(digest(schema.toString())) + "-local";
+        }
+
+        final RecordSchema existingSchema = findSchema(identifier);
+        if (schema.equals(existingSchema)) {
+            getLogger().debug("Successfully cached schema with ID {} (existing schema with this ID was equal)", new Object[] {identifier});
+            return identifier;
+        }
+
+        // If a different schema has the same identifier, append a randomly generated UUID to the identifier.
+        if (existingSchema != null) {
+            identifier = identifier + "-" + UUID.randomUUID().toString();
+        }
+
+        cache.put(identifier, schema);
+        if (serialized != null) {
+            try {
+                writeSchema(identifier, serialized);
+                if (persistedSchemaCount.incrementAndGet() > maxPersistedSchemas) {
+                    pruneSchemaFiles();
+                }
+            } catch (final IOException e) {
+                getLogger().warn("Cached schema with ID {} in memory but failed to write it to {}", new Object[] {identifier, directory, e});
+            }
+        }
+
+        getLogger().debug("Successfully cached schema with ID {}", new Object[] {identifier});
+        return identifier;
+    }
+
+    @Override
+    public Optional<RecordSchema> getSchema(final String schemaIdentifier) {
+        final RecordSchema cachedSchema = cache.getIfPresent(schemaIdentifier);
+        if (cachedSchema != null) {
+            memoryHits.incrementAndGet();
+            return Optional.of(cachedSchema);
+        }
+
+        final RecordSchema persistedSchema = readSchema(schemaIdentifier);
+        if (persistedSchema == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        diskHits.incrementAndGet();
+        cache.put(schemaIdentifier, persistedSchema);
+        return Optional.of(persistedSchema);
+    }
+
+    private RecordSchema findSchema(final String schemaIdentifier) {
+        final RecordSchema cachedSchema = cache.getIfPresent(schemaIdentifier);
+        return cachedSchema == null ? readSchema(schemaIdentifier) : cachedSchema;
+    }
+
+    private RecordSchema readSchema(final String schemaIdentifier) {
+        // The identifier may come from a FlowFile attribute, so ensure that it cannot refer to a file outside of the directory.
+        if (!IDENTIFIER_PATTERN.matcher(schemaIdentifier).matches()) {
+            return null;
+        }
+
+        final Path file = directory.resolve(schemaIdentifier + FILENAME_SUFFIX);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try {
+            final String serialized = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            return RecordSchemaSerializer.deserialize(serialized);
+        } catch (final IOException e) {
+            getLogger().warn("Failed to read cached schema with ID {} from {}", new Object[] {schemaIdentifier, file, e});
+            return null;
+        }
+    }
+
+    private void writeSchema(final String schemaIdentifier, final String serialized) throws IOException {
+        final Path file = directory.resolve(schemaIdentifier + FILENAME_SUFFIX);
+
+        // Write to a temporary file and then move it into place, so that other nodes sharing the directory never read a partially written schema.
+        final Path tempFile = directory.resolve("." + schemaIdentifier + "." + UUID.randomUUID().toString() + ".tmp");
+        try {
+            Files.write(tempFile, serialized.getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Deletes the files of the least recently written schemas if the directory holds more than the maximum number of schemas. Other nodes
+     * may be writing to the same directory, so the directory is listed rather than relying on the number of schemas that this node wrote.
+     * Enough schemas are deleted to leave a tenth of the maximum free, so that the directory is not listed again on every subsequent write.
+     */
+    private synchronized void pruneSchemaFiles() {
+        final Map<Path, Long> lastModifiedTimes = new HashMap<>();
+        try (final Stream<Path> files = Files.list(directory)) {
+            for (final Path file : files.filter(file -> file.getFileName().toString().endsWith(FILENAME_SUFFIX)).collect(Collectors.toList())) {
+                lastModifiedTimes.put(file, getLastModifiedTime(file));
+            }
+        } catch (final IOException e) {
+            getLogger().warn("Failed to list the cached schemas in {}; no schemas will be deleted", new Object[] {directory, e});
+            return;
+        }
+
+        if (lastModifiedTimes.size() <= maxPersistedSchemas) {
+            persistedSchemaCount.set(lastModifiedTimes.size());
+            return;
+        }
+
+        final int retained = maxPersistedSchemas - maxPersistedSchemas / 10;
+        final List<Path> oldestFiles = lastModifiedTimes.keySet().stream()
+            .sorted(Comparator.comparing(lastModifiedTimes::get))
+            .limit(lastModifiedTimes.size() - retained)
+            .collect(Collectors.toList());
+
+        int deleted = 0;
+        for (final Path file : oldestFiles) {
+            try {
+                Files.deleteIfExists(file);
+                deleted++;
+            } catch (final IOException e) {
+                getLogger().warn("Failed to delete cached schema {}", new Object[] {file, e});
+            }
+        }
+
+        persistedSchemaCount.set(lastModifiedTimes.size() - deleted);
+        getLogger().debug("Deleted {} of {} cached schemas from {}", new Object[] {deleted, lastModifiedTimes.size(), directory});
+    }
+
+    private static long getLastModifiedTime(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (final IOException e) {
+            // The file may have been deleted by another node in the meantime
+            return 0L;
+        }
+    }
+
+    private static byte[] digest(final String value) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+
+        return digest.digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
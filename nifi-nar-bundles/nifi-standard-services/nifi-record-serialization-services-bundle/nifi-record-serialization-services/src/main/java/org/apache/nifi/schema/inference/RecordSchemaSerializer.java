@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.schema.inference;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.SchemaIdentifier;
+import org.apache.nifi.serialization.record.type.ArrayDataType;
+import org.apache.nifi.serialization.record.type.ChoiceDataType;
+import org.apache.nifi.serialization.record.type.MapDataType;
+import org.apache.nifi.serialization.record.type.RecordDataType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Converts a RecordSchema to and from a JSON representation that, unlike an Avro schema, retains everything that
+ * determines whether or not two schemas are equal, including the format of each field's type.
+ */
+class RecordSchemaSerializer {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Serializes the given schema
+     *
+     * @param schema the schema to serialize
+     * @return the JSON representation of the schema
+     * @throws IllegalArgumentException if the schema cannot be serialized, because a field has a default value or because the schema is recursive
+     */
+    static String serialize(final RecordSchema schema) {
+        final ObjectNode schemaNode = objectMapper.createObjectNode();
+
+        final Optional<String> schemaText = schema.getSchemaText();
+        if (schemaText.isPresent()) {
+            schemaNode.put("schemaText", schemaText.get());
+            schema.getSchemaFormat().ifPresent(format -> schemaNode.put("schemaFormat", format));
+        }
+
+        schemaNode.set("fields", serializeFields(schema, Collections.newSetFromMap(new IdentityHashMap<>())));
+
+        try {
+            return objectMapper.writeValueAsString(schemaNode);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Could not serialize " + schema, e);
+        }
+    }
+
+    private static ArrayNode serializeFields(final RecordSchema schema, final Set<RecordSchema> schemasInProgress) {
+        if (!schemasInProgress.add(schema)) {
+            throw new IllegalArgumentException("Cannot serialize a recursive schema");
+        }
+
+        final ArrayNode fieldsNode = objectMapper.createArrayNode();
+        for (final RecordField field : schema.getFields()) {
+            if (field.getDefaultValue() != null) {
+                throw new IllegalArgumentException("Cannot serialize field " + field.getFieldName() + " because it has a default value");
+            }
+
+            final ObjectNode fieldNode = fieldsNode.addObject();
+            fieldNode.put("name", field.getFieldName());
+            fieldNode.set("type", serializeDataType(field.getDataType(), schemasInProgress));
+            fieldNode.put("nullable", field.isNullable());
+
+            if (!field.getAliases().isEmpty()) {
+                final ArrayNode aliasesNode = fieldNode.putArray("aliases");
+                field.getAliases().forEach(aliasesNode::add);
+            }
+        }
+
+        schemasInProgress.remove(schema);
+        return fieldsNode;
+    }
+
+    private static ObjectNode serializeDataType(final DataType dataType, final Set<RecordSchema> schemasInProgress) {
+        final ObjectNode typeNode = objectMapper.createObjectNode();
+        typeNode.put("type", dataType.getFieldType().name());
+        if (dataType.getFormat() != null) {
+            typeNode.put("format", dataType.getFormat());
+        }
+
+        switch (dataType.getFieldType()) {
+            case ARRAY:
+                typeNode.set("elementType", serializeDataType(((ArrayDataType) dataType).getElementType(), schemasInProgress));
+                break;
+            case MAP:
+                typeNode.set("valueType", serializeDataType(((MapDataType) dataType).getValueType(), schemasInProgress));
+                break;
+            case CHOICE:
+                final ArrayNode subTypesNode = typeNode.putArray("subTypes");
+                for (final DataType subType : ((ChoiceDataType) dataType).getPossibleSubTypes()) {
+                    subTypesNode.add(serializeDataType(subType, schemasInProgress));
+                }
+                break;
+            case RECORD:
+                final RecordSchema childSchema = ((RecordDataType) dataType).getChildSchema();
+                if (childSchema != null) {
+                    typeNode.set("fields", serializeFields(childSchema, schemasInProgress));
+                }
+                break;
+        }
+
+        return typeNode;
+    }
+
+    /**
+     * Deserializes a schema that was serialized via {@link #serialize(RecordSchema)}
+     *
+     * @param serialized the JSON representation of the schema
+     * @return the schema
+     * @throws IOException if the JSON cannot be parsed or does not represent a schema
+     */
+    static RecordSchema deserialize(final String serialized) throws IOException {
+        final JsonNode schemaNode = objectMapper.readTree(serialized);
+        if (schemaNode == null || !schemaNode.isObject()) {
+            throw new IOException("Serialized schema is not a JSON object");
+        }
+
+        final List<RecordField> fields = deserializeFields(schemaNode.get("fields"));
+
+        final JsonNode schemaTextNode = schemaNode.get("schemaText");
+        if (schemaTextNode == null) {
+            return new SimpleRecordSchema(fields);
+        }
+
+        final JsonNode schemaFormatNode = schemaNode.get("schemaFormat");
+        final String schemaFormat = schemaFormatNode == null ? null : schemaFormatNode.asText();
+        return new SimpleRecordSchema(fields, schemaTextNode.asText(), schemaFormat, SchemaIdentifier.EMPTY);
+    }
+
+    private static List<RecordField> deserializeFields(final JsonNode fieldsNode) throws IOException {
+        if (fieldsNode == null || !fieldsNode.isArray()) {
+            throw new IOException("Serialized schema does not contain an array of fields");
+        }
+
+        final List<RecordField> fields = new ArrayList<>(fieldsNode.size());
+        for (final JsonNode fieldNode : fieldsNode) {
+            final String fieldName = getRequiredText(fieldNode, "name");
+            final DataType dataType = deserializeDataType(fieldNode.get("type"));
+            final boolean nullable = fieldNode.path("nullable").asBoolean(true);
+
+            final Set<String> aliases = new HashSet<>();
+            for (final JsonNode aliasNode : fieldNode.path("aliases")) {
+                aliases.add(aliasNode.asText());
+            }
+
+            fields.add(new RecordField(fieldName, dataType, aliases, nullable));
+        }
+
+        return fields;
+    }
+
+    private static DataType deserializeDataType(final JsonNode typeNode) throws IOException {
+        if (typeNode == null || !typeNode.isObject()) {
+            throw new IOException("Serialized schema contains a field without a type");
+        }
+
+        final String typeName = getRequiredText(typeNode, "type");
+        final RecordFieldType fieldType;
+        try {
+            fieldType = RecordFieldType.valueOf(typeName);
+        } catch (final IllegalArgumentException e) {
+            throw new IOException("Serialized schema contains unknown type " + typeName, e);
+        }
+
+        switch (fieldType) {
+            case ARRAY:
+                return fieldType.getArrayDataType(deserializeDataType(typeNode.get("elementType")));
+            case MAP:
+                return fieldType.getMapDataType(deserializeDataType(typeNode.get("valueType")));
+            case CHOICE:
+                final List<DataType> subTypes = new ArrayList<>();
+                for (final JsonNode subTypeNode : typeNode.path("subTypes")) {
+                    subTypes.add(deserializeDataType(subTypeNode));
+                }
+                return fieldType.getChoiceDataType(subTypes);
+            case RECORD:
+                final JsonNode fieldsNode = typeNode.get("fields");
+                return fieldType.getRecordDataType(fieldsNode == null ? null : new SimpleRecordSchema(deserializeFields(fieldsNode)));
+            default:
+                final JsonNode formatNode = typeNode.get("format");
+                return formatNode == null ? fieldType.getDataType() : fieldType.getDataType(formatNode.asText());
+        }
+    }
+
+    private static String getRequiredText(final JsonNode node, final String fieldName) throws IOException {
+        final JsonNode valueNode = node.get(fieldName);
+        if (valueNode == null || !valueNode.isTextual()) {
+            throw new IOException("Serialized schema is missing required element '" + fieldName + "'");
+        }
+
+        return valueNode.asText();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+
+/**
+ * A RecordContentSplitter for text formats whose records can be found by scanning the content one byte at a time. Bytes that have been read
+ * beyond the end of a split are kept and become the beginning of the next split. A split is never scanned more than twice its target size
+ * in search of a record boundary; if a boundary cannot be found by then, the content is not split any further.
+ */
+public abstract class AbstractRecordContentSplitter implements RecordContentSplitter {
+    private static final int READ_SIZE = 64 * 1024;
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    private byte[] buffer = new byte[READ_SIZE];
+    private int length = 0;
+    private boolean endOfStream = false;
+    private boolean unsplittable = false;
+
+    @Override
+    public byte[] nextSplit(final InputStream in, final int targetSize) throws IOException {
+        if (unsplittable) {
+            return null;
+        }
+
+        final int maxScanSize = (int) Math.min(Math.max(2L * targetSize, (long) targetSize + READ_SIZE), MAX_BUFFER_SIZE - READ_SIZE);
+        int scanned = 0;
+        int lastRecordEnd = -1;
+        int splitEnd = -1;
+        startSplit();
+
+        while (splitEnd < 0) {
+            while (scanned < length) {
+                final int recordEnd = findRecordEnd(buffer, scanned, length - scanned);
+                if (recordEnd < 0) {
+                    scanned = length;
+                } else {
+                    scanned = recordEnd;
+                    lastRecordEnd = recordEnd;
+                    if (recordEnd >= targetSize) {
+                        splitEnd = recordEnd;
+                        break;
+                    }
+                }
+            }
+
+            if (splitEnd >= 0) {
+                break;
+            }
+
+            if (scanned >= maxScanSize) {
+                // No record ends within a reasonable distance of the target size. Rather than reading the rest of the content into memory,
+                // end the split at the last record boundary, if there is one, and leave the rest of the content to be read as a stream.
+                unsplittable = true;
+                if (lastRecordEnd <= 0) {
+                    return null;
+                }
+
+                splitEnd = lastRecordEnd;
+                break;
+            }
+
+            if (endOfStream || !fill(in)) {
+                if (length == 0) {
+                    return null;
+                }
+
+                splitEnd = length;
+            }
+        }
+
+        final byte[] split = createSplit(buffer, splitEnd);
+        System.arraycopy(buffer, splitEnd, buffer, 0, length - splitEnd);
+        length -= splitEnd;
+        return split;
+    }
+
+    @Override
+    public InputStream getRemainingContent(final InputStream in) {
+        if (!unsplittable) {
+            return null;
+        }
+
+        return new SequenceInputStream(new ByteArrayInputStream(createRemainder(buffer, length)), in);
+    }
+
+    private boolean fill(final InputStream in) throws IOException {
+        if (buffer.length - length < READ_SIZE) {
+            buffer = Arrays.copyOf(buffer, (int) Math.min(Math.max(2L * buffer.length, (long) length + READ_SIZE), MAX_BUFFER_SIZE));
+        }
+
+        final int read = in.read(buffer, length, buffer.length - length);
+        if (read < 0) {
+            endOfStream = true;
+            return false;
+        }
+
+        length += read;
+        return true;
+    }
+
+    /**
+     * Creates a split from the bytes at the beginning of the buffer. Subclasses may override this in order to make the split readable on its own.
+     *
+     * @param buffer the bytes that have been read, starting with the bytes of the split
+     * @param splitLength the number of bytes in the split
+     * @return the bytes of the split
+     */
+    protected byte[] createSplit(final byte[] buffer, final int splitLength) {
+        return Arrays.copyOf(buffer, splitLength);
+    }
+
+    /**
+     * Creates the beginning of the content that is read as a stream once the content cannot be split any further. Subclasses may override this in
+     * order to make the remaining content readable with the split prefix in front of it.
+     *
+     * @param buffer the bytes that have been read but not returned in a split
+     * @param remainingLength the number of bytes in the buffer
+     * @return the bytes that precede the rest of the InputStream
+     */
+    protected byte[] createRemainder(final byte[] buffer, final int remainingLength) {
+        return Arrays.copyOf(buffer, remainingLength);
+    }
+
+    /**
+     * Called before a new split is scanned. Every split begins at the start of a record.
+     */
+    protected abstract void startSplit();
+
+    /**
+     * Scans the given bytes, continuing from wherever the previous invocation for the current split left off.
+     *
+     * @param buffer the bytes of the current split, which start at index 0 of the buffer
+     * @param offset the index of the first byte to scan
+     * @param length the number of bytes to scan
+     * @return the index just past the end of the first record that ends within the given range, or <code>-1</code> if no record ends within it
+     */
+    protected abstract int findRecordEnd(byte[] buffer, int offset, int length);
+}
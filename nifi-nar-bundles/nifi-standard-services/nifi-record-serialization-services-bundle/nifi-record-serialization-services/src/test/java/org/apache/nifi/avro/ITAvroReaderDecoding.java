@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.Schema.Type;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.record.RecordBatch;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Reads a large Avro data file with and without decoding directly into Records, in order to compare the cost of the two.
+ */
+public class ITAvroReaderDecoding {
+    private static final int RECORD_COUNT = 2_000_000;
+    private static final int BATCH_SIZE = 1024;
+
+    private static byte[] avroBytes;
+
+    @BeforeClass
+    public static void createAvroFile() throws IOException {
+        final Schema nullableString = Schema.createUnion(Arrays.asList(Schema.create(Type.NULL), Schema.create(Type.STRING)));
+
+        final List<Field> fields = new ArrayList<>();
+        fields.add(new Field("id", Schema.create(Type.LONG), null, (Object) null));
+        fields.add(new Field("name", Schema.create(Type.STRING), null, (Object) null));
+        fields.add(new Field("age", Schema.create(Type.INT), null, (Object) null));
+        fields.add(new Field("balance", Schema.create(Type.DOUBLE), null, (Object) null));
+        fields.add(new Field("active", Schema.create(Type.BOOLEAN), null, (Object) null));
+        fields.add(new Field("city", nullableString, null, (Object) null));
+        fields.add(new Field("tags", Schema.createArray(Schema.create(Type.STRING)), null, (Object) null));
+        final Schema schema = Schema.createRecord("account", null, null, false);
+        schema.setFields(fields);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (final DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(schema)).create(schema, baos)) {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                final GenericRecord record = new GenericData.Record(schema);
+                record.put("id", (long) i);
+                record.put("name", "John Doe " + i);
+                record.put("age", i % 100);
+                record.put("balance", i * 1.5D);
+                record.put("active", i % 2 == 0);
+                record.put("city", i % 3 == 0 ? null : "My City");
+                record.put("tags", Arrays.asList("a", "b"));
+                writer.append(record);
+            }
+        }
+
+        avroBytes = baos.toByteArray();
+    }
+
+    private void readRecords(final boolean decodeDirectly) throws IOException, MalformedRecordException {
+        int recordCount = 0;
+        try (final InputStream in = new ByteArrayInputStream(avroBytes);
+             final AvroRecordReader reader = new AvroReaderWithEmbeddedSchema(in, decodeDirectly)) {
+
+            while (reader.nextRecord() != null) {
+                recordCount++;
+            }
+        }
+
+        assertEquals(RECORD_COUNT, recordCount);
+    }
+
+    private void readBatches(final boolean decodeDirectly) throws IOException, MalformedRecordException {
+        int recordCount = 0;
+        try (final InputStream in = new ByteArrayInputStream(avroBytes);
+             final AvroRecordReader reader = new AvroReaderWithEmbeddedSchema(in, decodeDirectly)) {
+
+            final RecordBatch batch = new RecordBatch(reader.getSchema(), BATCH_SIZE);
+            int rowCount;
+            while ((rowCount = reader.nextBatch(batch)) > 0) {
+                recordCount += rowCount;
+                batch.clear();
+            }
+        }
+
+        assertEquals(RECORD_COUNT, recordCount);
+    }
+
+    @Test
+    public void testGenericRecordPerformance() throws IOException, MalformedRecordException {
+        readRecords(false);
+    }
+
+    @Test
+    public void testDirectDecodingPerformance() throws IOException, MalformedRecordException {
+        readRecords(true);
+    }
+
+    @Test
+    public void testGenericRecordBatchPerformance() throws IOException, MalformedRecordException {
+        readBatches(false);
+    }
+
+    @Test
+    public void testDirectDecodingBatchPerformance() throws IOException, MalformedRecordException {
+        readBatches(true);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.nifi.avro;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
 import java.io.ByteArrayInputStream;
@@ -52,6 +53,7 @@ import org.apache.nifi.serialization.MalformedRecordException;
 import org.apache.nifi.serialization.SimpleRecordSchema;
 import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
@@ -125,6 +127,8 @@ public class TestAvroReaderWithEmbeddedSchema {
             assertEquals(noTimeOfDayDateFormat.format(new java.sql.Date(timeLong)), noTimeOfDayDateFormat.format(record.getValue("date")));
             assertEquals(bigDecimal.doubleValue(), record.getValue("decimal"));
         }
+
+        assertDirectDecodingMatches(serialized);
     }
 
     @Test
@@ -288,6 +292,8 @@ public class TestAvroReaderWithEmbeddedSchema {
 
             assertEquals(catRecord, values[14]);
         }
+
+        assertDirectDecodingMatches(source);
     }
 
     @Test
@@ -331,6 +337,99 @@ public class TestAvroReaderWithEmbeddedSchema {
             record = reader.nextRecord();
             assertEquals("not a number", record.getValue("field"));
         }
+
+        assertDirectDecodingMatches(serialized);
+    }
+
+    @Test
+    public void testNextBatch() throws IOException, MalformedRecordException {
+        final Schema schema = new Schema.Parser().parse(new File("src/test/resources/avro/simple.avsc"));
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        final DatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>(schema);
+        try (final DataFileWriter<GenericRecord> dataFileWriter = new DataFileWriter<>(datumWriter);
+            final DataFileWriter<GenericRecord> writer = dataFileWriter.create(schema, baos)) {
+
+            for (int i = 0; i < 5; i++) {
+                final GenericRecord record = new GenericData.Record(schema);
+                record.put("msg", "nifi" + i);
+                writer.append(record);
+            }
+        }
+
+        for (final boolean decodeDirectly : new boolean[] {false, true}) {
+            try (final InputStream in = new ByteArrayInputStream(baos.toByteArray())) {
+                final AvroRecordReader reader = new AvroReaderWithEmbeddedSchema(in, decodeDirectly);
+                final RecordBatch batch = new RecordBatch(reader.getSchema(), 2);
+
+                final List<Object> values = new ArrayList<>();
+                final List<Integer> batchSizes = new ArrayList<>();
+                int rowCount;
+                while ((rowCount = reader.nextBatch(batch)) > 0) {
+                    batchSizes.add(rowCount);
+                    for (int row = 0; row < rowCount; row++) {
+                        values.add(batch.getValue(row, 0));
+                    }
+                    batch.clear();
+                }
+
+                assertEquals(Arrays.asList(2, 2, 1), batchSizes);
+                assertEquals(Arrays.asList("nifi0", "nifi1", "nifi2", "nifi3", "nifi4"), values);
+                assertEquals(0, batch.getRowCount());
+            }
+        }
+    }
+
+    @Test
+    public void testNextRecordValuesWithoutDirectDecoding() throws IOException, MalformedRecordException {
+        final Schema schema = new Schema.Parser().parse(new File("src/test/resources/avro/simple.avsc"));
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        final DatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>(schema);
+        try (final DataFileWriter<GenericRecord> dataFileWriter = new DataFileWriter<>(datumWriter);
+            final DataFileWriter<GenericRecord> writer = dataFileWriter.create(schema, baos)) {
+
+            for (int i = 0; i < 3; i++) {
+                final GenericRecord record = new GenericData.Record(schema);
+                record.put("msg", "nifi" + i);
+                writer.append(record);
+            }
+        }
+
+        try (final InputStream in = new ByteArrayInputStream(baos.toByteArray());
+            final InputStream directIn = new ByteArrayInputStream(baos.toByteArray())) {
+
+            final AvroRecordReader reader = new AvroReaderWithEmbeddedSchema(in);
+            final AvroRecordReader directReader = new AvroReaderWithEmbeddedSchema(directIn, true);
+
+            Object[] values = null;
+            for (int i = 0; i < 3; i++) {
+                values = reader.nextRecordValues(values);
+                assertArrayEquals(new Object[] {"nifi" + i}, values);
+                assertArrayEquals(directReader.nextRecordValues(null), values);
+            }
+
+            assertNull(reader.nextRecordValues(values));
+        }
+    }
+
+    private void assertDirectDecodingMatches(final byte[] serialized) throws IOException, MalformedRecordException {
+        try (final InputStream in = new ByteArrayInputStream(serialized);
+            final InputStream directIn = new ByteArrayInputStream(serialized)) {
+
+            final AvroRecordReader reader = new AvroReaderWithEmbeddedSchema(in);
+            final AvroRecordReader directReader = new AvroReaderWithEmbeddedSchema(directIn, true);
+            assertEquals(reader.getSchema(), directReader.getSchema());
+
+            Record record;
+            while ((record = reader.nextRecord()) != null) {
+                final Record directRecord = directReader.nextRecord();
+                assertNotNull(directRecord);
+                assertArrayEquals(record.getValues(), directRecord.getValues());
+            }
+
+            assertNull(directReader.nextRecord());
+        }
     }
 
     private Object[] toObjectArray(final byte[] bytes) {
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.record.Record;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestAvroRecordContentSplitter {
+
+    private static final String SCHEMA_TEXT = "{\"type\": \"record\", \"name\": \"person\", \"fields\": ["
+        + "{\"name\": \"id\", \"type\": \"int\"}, {\"name\": \"name\", \"type\": [\"null\", \"string\"]}]}";
+
+    private byte[] createDataFile(final int recordCount, final CodecFactory codec) throws IOException {
+        final Schema schema = new Schema.Parser().parse(SCHEMA_TEXT);
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        try (final DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(schema))) {
+            writer.setCodec(codec);
+            writer.setSyncInterval(1024);
+            writer.setMeta("comment", "splitter test");
+            writer.create(schema, baos);
+
+            for (int i = 0; i < recordCount; i++) {
+                final GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                record.put("name", i % 10 == 0 ? null : "name " + i);
+                writer.append(record);
+            }
+        }
+
+        return baos.toByteArray();
+    }
+
+    @Test
+    public void testSplitsReadSameRecords() throws IOException, MalformedRecordException {
+        testSplitsReadSameRecords(CodecFactory.nullCodec());
+    }
+
+    @Test
+    public void testSplitsReadSameRecordsWithCompression() throws IOException, MalformedRecordException {
+        testSplitsReadSameRecords(CodecFactory.deflateCodec(1));
+    }
+
+    private void testSplitsReadSameRecords(final CodecFactory codec) throws IOException, MalformedRecordException {
+        final byte[] dataFile = createDataFile(20_000, codec);
+
+        final AvroRecordContentSplitter splitter = new AvroRecordContentSplitter();
+        final InputStream in = new ByteArrayInputStream(dataFile);
+
+        final List<byte[]> splits = new ArrayList<>();
+        byte[] split;
+        while ((split = splitter.nextSplit(in, 4096)) != null) {
+            splits.add(split);
+        }
+        assertTrue(splits.size() > 1);
+
+        int splitBytes = 0;
+        for (final byte[] bytes : splits) {
+            splitBytes += bytes.length;
+        }
+        assertEquals(dataFile.length, splitBytes);
+
+        final List<Record> expected = readRecords(new ByteArrayInputStream(dataFile));
+        final List<Record> actual = new ArrayList<>(readRecords(new ByteArrayInputStream(splits.get(0))));
+        for (int i = 1; i < splits.size(); i++) {
+            actual.addAll(readRecords(new SequenceInputStream(new ByteArrayInputStream(splitter.getSplitPrefix()), new ByteArrayInputStream(splits.get(i)))));
+        }
+
+        assertEquals(20_000, expected.size());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toMap(), actual.get(i).toMap());
+        }
+    }
+
+    @Test
+    public void testEmptyContent() throws IOException {
+        final AvroRecordContentSplitter splitter = new AvroRecordContentSplitter();
+        assertNull(splitter.nextSplit(new ByteArrayInputStream(new byte[0]), 1));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotAvroDataFile() throws IOException {
+        final AvroRecordContentSplitter splitter = new AvroRecordContentSplitter();
+        splitter.nextSplit(new ByteArrayInputStream("id,name\n1,John\n".getBytes()), 1);
+    }
+
+    private List<Record> readRecords(final InputStream in) throws IOException, MalformedRecordException {
+        final List<Record> records = new ArrayList<>();
+        try (final AvroReaderWithEmbeddedSchema reader = new AvroReaderWithEmbeddedSchema(in)) {
+            Record record;
+            while ((record = reader.nextRecord()) != null) {
+                records.add(record);
+            }
+        }
+
+        return records;
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.avro.LogicalType;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData.Array;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.nifi.serialization.BatchRecordWriter;
 import org.apache.nifi.serialization.RecordSetWriter;
 import org.apache.nifi.serialization.SimpleRecordSchema;
 import org.apache.nifi.serialization.WriteResult;
@@ -29,6 +30,7 @@ import org.apache.nifi.serialization.record.DataType;
 import org.apache.nifi.serialization.record.ListRecordSet;
 import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
@@ -138,6 +140,80 @@ public abstract class TestWriteAvroResult {
         }
     }
 
+    @Test
+    public void testWriteRecordBatch() throws IOException {
+        final Schema schema = new Schema.Parser().parse(new File("src/test/resources/avro/simple.avsc"));
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("msg", RecordFieldType.STRING.getDataType()));
+        final RecordSchema recordSchema = new SimpleRecordSchema(fields);
+
+        final int recordCount = 3;
+        final RecordBatch batch = new RecordBatch(recordSchema, 2);
+
+        try (final RecordSetWriter writer = createWriter(schema, baos)) {
+            assertTrue(writer instanceof BatchRecordWriter);
+            final BatchRecordWriter batchWriter = (BatchRecordWriter) writer;
+
+            writer.beginRecordSet();
+            int row = 0;
+            for (int i = 0; i < recordCount; i++) {
+                batch.setValue(row++, 0, "nifi" + i);
+                if (row == batch.getCapacity() || i == recordCount - 1) {
+                    batch.setRowCount(row);
+                    batchWriter.write(batch);
+                    batch.clear();
+                    row = 0;
+                }
+            }
+
+            final WriteResult writeResult = writer.finishRecordSet();
+            assertEquals(recordCount, writeResult.getRecordCount());
+        }
+
+        final byte[] data = baos.toByteArray();
+
+        try (final InputStream in = new ByteArrayInputStream(data)) {
+            final List<GenericRecord> avroRecords = readRecords(in, schema, recordCount);
+            for (int i = 0; i < recordCount; i++) {
+                final GenericRecord avroRecord = avroRecords.get(i);
+
+                assertNotNull(avroRecord);
+                assertNotNull(avroRecord.get("msg"));
+                assertEquals("nifi" + i, avroRecord.get("msg").toString());
+            }
+        }
+    }
+
+    @Test
+    public void testWriteRecordBatchWithDefaultValue() throws IOException {
+        final Schema schema = new Schema.Parser().parse(new File("src/test/resources/avro/simple.avsc"));
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("msg", RecordFieldType.STRING.getDataType(), "default-msg"));
+        final RecordSchema recordSchema = new SimpleRecordSchema(fields);
+
+        final RecordBatch batch = new RecordBatch(recordSchema, 2);
+        batch.setValue(0, 0, "nifi");
+        batch.setRowCount(2);
+
+        try (final RecordSetWriter writer = createWriter(schema, baos)) {
+            writer.beginRecordSet();
+            ((BatchRecordWriter) writer).write(batch);
+            assertEquals(2, writer.finishRecordSet().getRecordCount());
+        }
+
+        try (final InputStream in = new ByteArrayInputStream(baos.toByteArray())) {
+            final List<GenericRecord> avroRecords = readRecords(in, schema, 2);
+            assertEquals("nifi", avroRecords.get(0).get("msg").toString());
+            assertEquals("default-msg", avroRecords.get(1).get("msg").toString());
+        }
+    }
+
     @Test
     public void testLogicalTypes() throws IOException, ParseException {
         final Schema schema = new Schema.Parser().parse(new File("src/test/resources/avro/logical-types.avsc"));
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.csv;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.QuoteMode;
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Throwables;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+
+public class ITByteCSVRecordReader {
+    private static final Logger logger = LoggerFactory.getLogger(ITByteCSVRecordReader.class);
+
+    private final CSVFormat format = CSVFormat.DEFAULT.withFirstRecordAsHeader().withTrim().withQuote('"');
+
+    private List<RecordField> getTypedFields() {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("id", RecordFieldType.LONG.getDataType()));
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("balance", RecordFieldType.DOUBLE.getDataType()));
+        fields.add(new RecordField("address", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("city", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("state", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("zipCode", RecordFieldType.INT.getDataType()));
+        fields.add(new RecordField("country", RecordFieldType.STRING.getDataType()));
+        return fields;
+    }
+
+    private interface ReaderFactory {
+        RecordReader create(InputStream in, RecordSchema schema) throws IOException;
+    }
+
+    @Test
+    public void testParserPerformance() throws IOException, MalformedRecordException {
+        // Generates about 150MB of data
+        final int NUM_LINES = 2500000;
+        final StringBuilder sb = new StringBuilder("id,name,balance,address,city,state,zipCode,country\n");
+        for (int i = 0; i < NUM_LINES; i++) {
+            sb.append(i).append(",John Doe,").append(i % 10000).append(".89,\"123 My Street, Apt 4\",My City,MS,11111,USA\n");
+        }
+        final byte[] data = sb.toString().getBytes(StandardCharsets.UTF_8);
+        final RecordSchema schema = new SimpleRecordSchema(getTypedFields());
+        final ComponentLog componentLog = Mockito.mock(ComponentLog.class);
+
+        final ReaderFactory commonsCsv = (in, s) -> new CSVRecordReader(in, componentLog, s, format, true, false,
+            RecordFieldType.DATE.getDefaultFormat(), RecordFieldType.TIME.getDefaultFormat(), RecordFieldType.TIMESTAMP.getDefaultFormat(), "UTF-8");
+        final ReaderFactory jacksonCsv = (in, s) -> new JacksonCSVRecordReader(in, componentLog, s, format, true, false,
+            RecordFieldType.DATE.getDefaultFormat(), RecordFieldType.TIME.getDefaultFormat(), RecordFieldType.TIMESTAMP.getDefaultFormat(), "UTF-8");
+        final ReaderFactory byteCsv = (in, s) -> new ByteCSVRecordReader(in, componentLog, s, format, true, false,
+            RecordFieldType.DATE.getDefaultFormat(), RecordFieldType.TIME.getDefaultFormat(), RecordFieldType.TIMESTAMP.getDefaultFormat(), "UTF-8");
+
+        for (int iteration = 0; iteration < 3; iteration++) {
+            time("Apache Commons CSV", commonsCsv, data, schema, NUM_LINES);
+            time("Jackson CSV", jacksonCsv, data, schema, NUM_LINES);
+            time("Byte-Scanning CSV", byteCsv, data, schema, NUM_LINES);
+        }
+    }
+
+    private void time(final String parserName, final ReaderFactory factory, final byte[] data, final RecordSchema schema, final int expectedRecords)
+            throws IOException, MalformedRecordException {
+        final long start = System.nanoTime();
+
+        try (final InputStream bais = new ByteArrayInputStream(data);
+             final RecordReader reader = factory.create(bais, schema)) {
+
+            Record record;
+            int numRecords = 0;
+            while ((record = reader.nextRecord()) != null) {
+                assertNotNull(record);
+                numRecords++;
+            }
+            assertEquals(expectedRecords, numRecords);
+        }
+
+        final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("{} took {} millis to read {} records ({} bytes)", parserName, millis, expectedRecords, data.length);
+    }
+
+    @Test
+    public void testExceptionThrownOnParseProblem() throws IOException, MalformedRecordException {
+        CSVFormat csvFormat = CSVFormat.DEFAULT.withFirstRecordAsHeader().withQuoteMode(QuoteMode.ALL).withTrim().withDelimiter(',');
+        final int NUM_LINES = 25;
+        StringBuilder sb = new StringBuilder("\"id\",\"name\",\"balance\"");
+        for (int i = 0; i < NUM_LINES; i++) {
+            sb.append(String.format("\"%s\",\"John Doe\",\"4750.89D\"\n", i));
+        }
+        // cause a parse problem
+        sb.append(String.format("\"%s\"dieParser,\"John Doe\",\"4750.89D\"\n", NUM_LINES ));
+        sb.append(String.format("\"%s\",\"John Doe\",\"4750.89D\"\n", NUM_LINES + 1));
+        final List<RecordField> fields = new ArrayList<>();
+        for (final String fieldName : new String[] {"id", "name", "balance"}) {
+            fields.add(new RecordField(fieldName, RecordFieldType.STRING.getDataType()));
+        }
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+
+        try (final InputStream bais = new ByteArrayInputStream(sb.toString().getBytes());
+             final ByteCSVRecordReader reader = new ByteCSVRecordReader(bais, Mockito.mock(ComponentLog.class), schema, csvFormat, true, false,
+                     RecordFieldType.DATE.getDefaultFormat(), RecordFieldType.TIME.getDefaultFormat(), RecordFieldType.TIMESTAMP.getDefaultFormat(), "UTF-8")) {
+
+            while (reader.nextRecord() != null) {}
+        } catch (Exception e) {
+            assertThat(e, instanceOf(MalformedRecordException.class));
+            assertThat(Throwables.getRootCause(e), instanceOf(IOException.class));
+        }
+    }
+}
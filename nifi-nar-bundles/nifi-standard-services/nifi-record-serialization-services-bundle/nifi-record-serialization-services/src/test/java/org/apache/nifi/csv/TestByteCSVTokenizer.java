@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.csv;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestByteCSVTokenizer {
+
+    private ByteCSVTokenizer createTokenizer(final String text, final Character escape, final Character commentMarker, final boolean ignoreEmptyLines,
+                                             final boolean ignoreSurroundingSpaces, final boolean trim, final boolean trailingDelimiter, final String nullString,
+                                             final int bufferSize) throws IOException {
+        return new ByteCSVTokenizer(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, ',', '"', escape, commentMarker,
+            ignoreEmptyLines, ignoreSurroundingSpaces, trim, trailingDelimiter, nullString, bufferSize);
+    }
+
+    private List<List<String>> tokenize(final ByteCSVTokenizer tokenizer) throws IOException {
+        final List<List<String>> records = new ArrayList<>();
+        while (tokenizer.nextRecord()) {
+            final List<String> values = new ArrayList<>();
+            for (int i = 0; i < tokenizer.getValueCount(); i++) {
+                values.add(tokenizer.getString(i));
+            }
+            records.add(values);
+        }
+        tokenizer.close();
+        return records;
+    }
+
+    private List<List<String>> tokenize(final String text) throws IOException {
+        return tokenize(createTokenizer(text, null, null, true, false, false, false, null, ByteCSVTokenizer.DEFAULT_BUFFER_SIZE));
+    }
+
+    @Test
+    public void testSimpleRecords() throws IOException {
+        assertEquals(Arrays.asList(Arrays.asList("id", "name"), Arrays.asList("1", "John"), Arrays.asList("2", "")), tokenize("id,name\n1,John\r\n2,\r"));
+        assertEquals(Arrays.asList(Arrays.asList("1", "John")), tokenize("1,John"));
+        assertEquals(Arrays.asList(Arrays.asList("1", "")), tokenize("1,"));
+        assertEquals(new ArrayList<>(), tokenize(""));
+    }
+
+    @Test
+    public void testQuotedValues() throws IOException {
+        final String text = "\"a,b\",\"say \"\"hi\"\"\"  ,\"multi\nline\"\nx\"y,\"\"\n";
+        assertEquals(Arrays.asList(Arrays.asList("a,b", "say \"hi\"", "multi\nline"), Arrays.asList("x\"y", "")), tokenize(text));
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidCharacterAfterQuotedValue() throws IOException {
+        tokenize("\"a\"b,c\n");
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnterminatedQuotedValue() throws IOException {
+        tokenize("a,\"bc\n");
+    }
+
+    @Test
+    public void testEscapes() throws IOException {
+        final String text = "a\\,b,c\\nd,e\\xf,\"g\\\"h\"\n";
+        final List<List<String>> records = tokenize(createTokenizer(text, '\\', null, true, false, false, false, null, ByteCSVTokenizer.DEFAULT_BUFFER_SIZE));
+        assertEquals(Arrays.asList(Arrays.asList("a,b", "c\nd", "e\\xf", "g\"h")), records);
+    }
+
+    @Test
+    public void testEmptyLinesAndComments() throws IOException {
+        final String text = "\n# a comment\na,b\n\n\r\n#another\nc,d\n\n";
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d")),
+            tokenize(createTokenizer(text, null, '#', true, false, false, false, null, ByteCSVTokenizer.DEFAULT_BUFFER_SIZE)));
+
+        assertEquals(Arrays.asList(Arrays.asList(""), Arrays.asList("a", "b"), Arrays.asList(""), Arrays.asList(""), Arrays.asList("c", "d"), Arrays.asList("")),
+            tokenize(createTokenizer(text, null, '#', false, false, false, false, null, ByteCSVTokenizer.DEFAULT_BUFFER_SIZE)));
+    }
+
+    @Test
+    public void testSurroundingSpacesAndTrim() throws IOException {
+        final String text = "  a  , \"b \" , c\n";
+        assertEquals(Arrays.asList(Arrays.asList("a", "b ", "c")),
+            tokenize(createTokenizer(text, null, null, true, true, false, false, null, ByteCSVTokenizer.DEFAULT_BUFFER_SIZE)));
+        assertEquals(Arrays.asList(Arrays.asList("a", "\"b \"", "c")),
+            tokenize(createTokenizer(text, null, null, true, false, true, false, null, ByteCSVTokenizer.DEFAULT_BUFFER_SIZE)));
+        assertEquals(Arrays.asList(Arrays.asList("  a  ", " \"b \" ", " c")), tokenize(text));
+    }
+
+    @Test
+    public void testTrailingDelimiterAndNullString() throws IOException {
+        final String text = "a,\\N,b,\n";
+        assertEquals(Arrays.asList(Arrays.asList("a", null, "b")),
+            tokenize(createTokenizer(text, null, null, true, false, false, true, "\\N", ByteCSVTokenizer.DEFAULT_BUFFER_SIZE)));
+        assertEquals(Arrays.asList(Arrays.asList("a", "\\N", "b", "")), tokenize(text));
+    }
+
+    @Test
+    public void testByteOrderMarkAndMultiByteCharacters() throws IOException {
+        final byte[] text = "name,city\n黃凱揚,Zürich\n".getBytes(StandardCharsets.UTF_8);
+        final byte[] withBom = new byte[text.length + 3];
+        withBom[0] = (byte) 0xEF;
+        withBom[1] = (byte) 0xBB;
+        withBom[2] = (byte) 0xBF;
+        System.arraycopy(text, 0, withBom, 3, text.length);
+
+        final ByteCSVTokenizer tokenizer = new ByteCSVTokenizer(new ByteArrayInputStream(withBom), StandardCharsets.UTF_8, ',', '"', null, null,
+            true, false, false, false, null);
+        assertEquals(Arrays.asList(Arrays.asList("name", "city"), Arrays.asList("黃凱揚", "Zürich")), tokenize(tokenizer));
+    }
+
+    @Test
+    public void testRecordsSpanningBufferRefills() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        final List<List<String>> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final String longValue = new String(new char[i % 40]).replace('\0', 'x');
+            sb.append(i).append(",\"").append(longValue).append("\"\"q\",").append(longValue).append("\\,z\n");
+            expected.add(Arrays.asList(String.valueOf(i), longValue + "\"q", longValue + ",z"));
+        }
+
+        for (final int bufferSize : new int[] {16, 17, 64, 1024}) {
+            assertEquals(expected, tokenize(createTokenizer(sb.toString(), '\\', null, true, false, false, false, null, bufferSize)));
+        }
+    }
+
+    @Test
+    public void testParseNumbers() throws IOException {
+        final ByteCSVTokenizer tokenizer = createTokenizer("12,-0,007,1234567890123456789,+5,1.5,-0.25,3.,.5,1e5,,-,abc,123456.789012345,1234567.8901234567\n",
+            null, null, true, false, false, false, null, ByteCSVTokenizer.DEFAULT_BUFFER_SIZE);
+        assertTrue(tokenizer.nextRecord());
+
+        assertEquals(Long.valueOf(12L), tokenizer.parseLong(0));
+        assertEquals(Long.valueOf(0L), tokenizer.parseLong(1));
+        assertEquals(Long.valueOf(7L), tokenizer.parseLong(2));
+        assertNull(tokenizer.parseLong(3));
+        assertNull(tokenizer.parseLong(4));
+        assertNull(tokenizer.parseLong(5));
+
+        assertEquals(Double.valueOf(12D), tokenizer.parseDouble(0));
+        assertEquals(Double.valueOf(-0D), tokenizer.parseDouble(1));
+        assertEquals(Double.valueOf(1.5D), tokenizer.parseDouble(5));
+        assertEquals(Double.valueOf(-0.25D), tokenizer.parseDouble(6));
+        assertEquals(Double.valueOf(123456.789012345D), tokenizer.parseDouble(13));
+        for (final int index : new int[] {3, 4, 7, 8, 9, 10, 11, 12, 14}) {
+            assertNull(tokenizer.parseDouble(index));
+        }
+
+        assertFalse(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void testParseDoubleMatchesParseDouble() throws IOException {
+        final Random random = new Random(42L);
+        final StringBuilder sb = new StringBuilder();
+        final List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            final int digits = 1 + random.nextInt(15);
+            final StringBuilder value = new StringBuilder();
+            if (random.nextBoolean()) {
+                value.append('-');
+            }
+            for (int j = 0; j < digits; j++) {
+                value.append((char) ('0' + random.nextInt(10)));
+            }
+            final int point = random.nextInt(digits);
+            if (point > 0) {
+                value.insert(value.length() - point, '.');
+            }
+
+            values.add(value.toString());
+            sb.append(value).append('\n');
+        }
+
+        final ByteCSVTokenizer tokenizer = createTokenizer(sb.toString(), null, null, true, false, false, false, null, ByteCSVTokenizer.DEFAULT_BUFFER_SIZE);
+        for (final String value : values) {
+            assertTrue(tokenizer.nextRecord());
+            assertEquals(value, Double.valueOf(Double.parseDouble(value)), tokenizer.parseDouble(0));
+        }
+    }
+
+    @Test
+    public void testSupportedCharsets() {
+        assertTrue(ByteCSVTokenizer.isSupported(StandardCharsets.UTF_8, ',', '"'));
+        assertTrue(ByteCSVTokenizer.isSupported(StandardCharsets.ISO_8859_1, '\t'));
+        assertTrue(ByteCSVTokenizer.isSupported(Charset.forName("windows-1252"), ';'));
+        assertFalse(ByteCSVTokenizer.isSupported(StandardCharsets.UTF_16, ','));
+        assertFalse(ByteCSVTokenizer.isSupported(StandardCharsets.UTF_8, '\u00a7'));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.csv;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class TestCSVRecordContentSplitter {
+
+    private List<String> split(final CSVRecordContentSplitter splitter, final String content, final int targetSize) throws IOException {
+        final InputStream in = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        final List<String> splits = new ArrayList<>();
+
+        byte[] split;
+        while ((split = splitter.nextSplit(in, targetSize)) != null) {
+            splits.add(new String(split, StandardCharsets.UTF_8));
+        }
+
+        assertNull(splitter.nextSplit(in, targetSize));
+        return splits;
+    }
+
+    @Test
+    public void testSplitsAtLineEndings() throws IOException {
+        final CSVRecordContentSplitter splitter = new CSVRecordContentSplitter(CSVFormat.DEFAULT, true);
+        final List<String> splits = split(splitter, "id,name\n1,John\n2,Jane\n3,Jim\n", 1);
+
+        assertEquals(4, splits.size());
+        assertEquals("id,name\n", splits.get(0));
+        assertEquals("1,John\n", splits.get(1));
+        assertEquals("2,Jane\n", splits.get(2));
+        assertEquals("3,Jim\n", splits.get(3));
+        assertEquals("id,name\n", new String(splitter.getSplitPrefix(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSplitsHoldAtLeastTargetSize() throws IOException {
+        final CSVRecordContentSplitter splitter = new CSVRecordContentSplitter(CSVFormat.DEFAULT, true);
+        final List<String> splits = split(splitter, "id,name\n1,John\n2,Jane\n3,Jim", 12);
+
+        assertEquals(2, splits.size());
+        assertEquals("id,name\n1,John\n", splits.get(0));
+        assertEquals("2,Jane\n3,Jim", splits.get(1));
+    }
+
+    @Test
+    public void testUnbalancedQuoteIsLeftAsStream() throws IOException {
+        final StringBuilder unterminated = new StringBuilder("2,\"Jane");
+        for (int i = 0; i < 20_000; i++) {
+            unterminated.append('\n').append(i).append(",Jim");
+        }
+
+        final String content = "id,name\n1,John\n" + unterminated;
+        final CSVRecordContentSplitter splitter = new CSVRecordContentSplitter(CSVFormat.DEFAULT, true);
+        final InputStream in = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+
+        assertNull(splitter.getRemainingContent(in));
+        assertEquals("id,name\n1,John\n", new String(splitter.nextSplit(in, 10), StandardCharsets.UTF_8));
+
+        // No line ending outside of the quoted value is ever found, so the rest of the content is not held in memory and is left to be streamed
+        assertNull(splitter.nextSplit(in, 10));
+        assertNull(splitter.nextSplit(in, 10));
+
+        final InputStream remaining = splitter.getRemainingContent(in);
+        assertNotNull(remaining);
+        assertEquals(unterminated.toString(), IOUtils.toString(remaining, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLineEndingWithinQuotedValue() throws IOException {
+        final CSVRecordContentSplitter splitter = new CSVRecordContentSplitter(CSVFormat.DEFAULT, true);
+        final List<String> splits = split(splitter, "id,name\n1,\"John\nDoe\"\n2,\"Jane \"\"\n\"\"\"\n3,Ji\"m\n", 1);
+
+        assertEquals(4, splits.size());
+        assertEquals("1,\"John\nDoe\"\n", splits.get(1));
+        assertEquals("2,\"Jane \"\"\n\"\"\"\n", splits.get(2));
+        assertEquals("3,Ji\"m\n", splits.get(3));
+    }
+
+    @Test
+    public void testCarriageReturns() throws IOException {
+        final CSVRecordContentSplitter splitter = new CSVRecordContentSplitter(CSVFormat.DEFAULT, true);
+        final List<String> splits = split(splitter, "id,name\r\n1,John\r2,Jane\r\n", 1);
+
+        assertEquals(3, splits.size());
+        assertEquals("id,name\r\n", splits.get(0));
+        assertEquals("1,John\r", splits.get(1));
+        assertEquals("2,Jane\r\n", splits.get(2));
+        assertEquals("id,name\r\n", new String(splitter.getSplitPrefix(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEscapedLineEnding() throws IOException {
+        final CSVFormat format = CSVFormat.DEFAULT.withEscape('\\');
+        final CSVRecordContentSplitter splitter = new CSVRecordContentSplitter(format, true);
+        final List<String> splits = split(splitter, "id,name\n1,John\\\nDoe\n2,\"Jane\\\"\nDoe\"\n", 1);
+
+        assertEquals(3, splits.size());
+        assertEquals("1,John\\\nDoe\n", splits.get(1));
+        assertEquals("2,\"Jane\\\"\nDoe\"\n", splits.get(2));
+    }
+
+    @Test
+    public void testCommentsBeforeHeader() throws IOException {
+        final CSVFormat format = CSVFormat.DEFAULT.withCommentMarker('#');
+        final CSVRecordContentSplitter splitter = new CSVRecordContentSplitter(format, true);
+        final List<String> splits = split(splitter, "# \"comment\n\nid,name\n1,John\n", 1);
+
+        // The content is not split before the header line, so that the header is not read as a record
+        assertEquals(2, splits.size());
+        assertEquals("# \"comment\n\nid,name\n", splits.get(0));
+        assertEquals("1,John\n", splits.get(1));
+        assertEquals("# \"comment\n\nid,name\n", new String(splitter.getSplitPrefix(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNoHeader() throws IOException {
+        final CSVRecordContentSplitter splitter = new CSVRecordContentSplitter(CSVFormat.DEFAULT, false);
+        final List<String> splits = split(splitter, "1,John\n2,Jane\n", 1);
+
+        assertEquals(2, splits.size());
+        assertEquals(0, splitter.getSplitPrefix().length);
+    }
+
+    @Test
+    public void testLargeContent() throws IOException {
+        final StringBuilder sb = new StringBuilder("id,name\n");
+        for (int i = 0; i < 100_000; i++) {
+            sb.append(i).append(",\"name\n").append(i).append("\"\n");
+        }
+
+        final CSVRecordContentSplitter splitter = new CSVRecordContentSplitter(CSVFormat.DEFAULT, true);
+        final List<String> splits = split(splitter, sb.toString(), 100_000);
+
+        final StringBuilder joined = new StringBuilder();
+        for (final String split : splits) {
+            joined.append(split);
+            assertEquals('\n', split.charAt(split.length() - 1));
+            assertEquals('"', split.charAt(split.length() - 2));
+        }
+        assertEquals(sb.toString(), joined.toString());
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.nifi.serialization.SimpleRecordSchema;
 import org.apache.nifi.serialization.record.DataType;
 import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordBatch;
 import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
@@ -40,6 +41,7 @@ import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -161,6 +163,46 @@ public class TestWriteCSVResult {
         assertEquals(expectedValues, values);
     }
 
+    @Test
+    public void testWriteRecordBatch() throws IOException {
+        final CSVFormat csvFormat = CSVFormat.DEFAULT.withQuoteMode(QuoteMode.MINIMAL).withRecordSeparator("\n");
+
+        final List<RecordField> writeFields = new ArrayList<>();
+        writeFields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        writeFields.add(new RecordField("name", RecordFieldType.STRING.getDataType(), null, Collections.singleton("username")));
+        writeFields.add(new RecordField("status", RecordFieldType.STRING.getDataType(), "active"));
+        final RecordSchema writeSchema = new SimpleRecordSchema(writeFields);
+
+        // the batch holds the name under an alias, has a default for it, and does not hold the status at all
+        final List<RecordField> batchFields = new ArrayList<>();
+        batchFields.add(new RecordField("username", RecordFieldType.STRING.getDataType(), "anonymous"));
+        batchFields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        final RecordBatch batch = new RecordBatch(new SimpleRecordSchema(batchFields), 2);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (final WriteCSVResult result = new WriteCSVResult(csvFormat, writeSchema, new SchemaNameAsAttribute(), baos,
+            RecordFieldType.DATE.getDefaultFormat(), RecordFieldType.TIME.getDefaultFormat(), RecordFieldType.TIMESTAMP.getDefaultFormat(), true, "UTF-8")) {
+
+            result.beginRecordSet();
+
+            batch.setValue(0, 0, "John, Jr.");
+            batch.setValue(0, 1, 1);
+            batch.setValue(1, 1, 2);
+            batch.setRowCount(2);
+            result.write(batch);
+            batch.clear();
+
+            batch.setValue(0, 0, "Jane");
+            batch.setValue(0, 1, 3);
+            batch.setRowCount(1);
+            result.write(batch);
+
+            assertEquals(3, result.finishRecordSet().getRecordCount());
+        }
+
+        assertEquals("id,name,status\n1,\"John, Jr.\",active\n2,anonymous,active\n3,Jane,active\n", baos.toString("UTF-8"));
+    }
+
     @Test
     public void testExtraFieldInWriteRecord() throws IOException {
         final CSVFormat csvFormat = CSVFormat.DEFAULT.withEscape('\\').withQuoteMode(QuoteMode.NONE).withRecordSeparator("\n");
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.json;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestJsonRecordContentSplitter {
+
+    private List<String> split(final String content, final int targetSize) throws IOException {
+        final JsonRecordContentSplitter splitter = new JsonRecordContentSplitter();
+        final List<String> splits = split(splitter, content, targetSize);
+
+        assertEquals(0, splitter.getSplitPrefix().length);
+        return splits;
+    }
+
+    private List<String> split(final JsonRecordContentSplitter splitter, final String content, final int targetSize) throws IOException {
+        final InputStream in = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        final List<String> splits = new ArrayList<>();
+
+        byte[] split;
+        while ((split = splitter.nextSplit(in, targetSize)) != null) {
+            splits.add(new String(split, StandardCharsets.UTF_8));
+        }
+
+        assertNull(splitter.getRemainingContent(in));
+        return splits;
+    }
+
+    @Test
+    public void testSplitsBetweenObjects() throws IOException {
+        final List<String> splits = split("{\"id\": 1, \"name\": \"John\"}\n{\"id\": 2, \"name\": \"Jane\"}\n{\"id\": 3}", 1);
+
+        assertEquals(3, splits.size());
+        assertEquals("{\"id\": 1, \"name\": \"John\"}", splits.get(0));
+        assertEquals("\n{\"id\": 2, \"name\": \"Jane\"}", splits.get(1));
+        assertEquals("\n{\"id\": 3}", splits.get(2));
+    }
+
+    @Test
+    public void testBracesWithinStrings() throws IOException {
+        final List<String> splits = split("{\"name\": \"}{\\\"}\", \"tags\": [\"]\"], \"child\": {\"id\": 1}}{\"name\": \"\\\\\"}", 1);
+
+        assertEquals(2, splits.size());
+        assertEquals("{\"name\": \"}{\\\"}\", \"tags\": [\"]\"], \"child\": {\"id\": 1}}", splits.get(0));
+        assertEquals("{\"name\": \"\\\\\"}", splits.get(1));
+    }
+
+    @Test
+    public void testSplitsArrayBetweenElements() throws IOException {
+        final JsonRecordContentSplitter splitter = new JsonRecordContentSplitter();
+        final List<String> splits = split(splitter, " [{\"id\": 1, \"tags\": [\"a\", \"]\"]}, {\"id\": 2, \"child\": {\"id\": 3}} ,\n{\"id\": 4}]\n", 1);
+
+        assertEquals("[", new String(splitter.getSplitPrefix(), StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList(" [{\"id\": 1, \"tags\": [\"a\", \"]\"]}]", "{\"id\": 2, \"child\": {\"id\": 3}}]", "{\"id\": 4}]", "]", "]"), splits);
+    }
+
+    @Test
+    public void testSplitsOfArrayReadSameRecords() throws IOException, MalformedRecordException {
+        final StringBuilder sb = new StringBuilder("[\n");
+        for (int i = 0; i < 10_000; i++) {
+            if (i > 0) {
+                sb.append(",\n");
+            }
+            sb.append("  {\"id\": ").append(i).append(", \"name\": \"name [").append(i).append("]\"}");
+        }
+        sb.append("\n]\n");
+
+        final JsonRecordContentSplitter splitter = new JsonRecordContentSplitter();
+        final List<String> splits = split(splitter, sb.toString(), 10_000);
+        assertTrue(splits.size() > 1);
+
+        final List<Record> expected = readRecords(sb.toString(), createSchema());
+        final List<Record> actual = new ArrayList<>(readRecords(splits.get(0), createSchema()));
+        for (final String split : splits.subList(1, splits.size())) {
+            actual.addAll(readRecords("[" + split, createSchema()));
+        }
+
+        assertEquals(10_000, expected.size());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toMap(), actual.get(i).toMap());
+        }
+    }
+
+    @Test
+    public void testArrayOfScalarsIsLeftAsStream() throws IOException {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 50_000; i++) {
+            sb.append(i).append(", ");
+        }
+        sb.append("0]");
+
+        final JsonRecordContentSplitter splitter = new JsonRecordContentSplitter();
+        final InputStream in = new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        // The elements are not records, so no record ends within the bounded distance that the splitter scans
+        assertNull(splitter.nextSplit(in, 100));
+
+        final InputStream remaining = splitter.getRemainingContent(in);
+        assertNotNull(remaining);
+        assertEquals(sb.toString(), IOUtils.toString(remaining, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLargeValueIsLeftAsStream() throws IOException {
+        final StringBuilder large = new StringBuilder(",\n{\"id\": 3, \"name\": \"");
+        for (int i = 0; i < 200_000; i++) {
+            large.append('x');
+        }
+        large.append("\"}]");
+
+        final JsonRecordContentSplitter splitter = new JsonRecordContentSplitter();
+        final InputStream in = new ByteArrayInputStream(("[{\"id\": 1},\n{\"id\": 2}" + large).getBytes(StandardCharsets.UTF_8));
+
+        // The split ends at the last element that ends before the splitter gives up looking for the end of the large element
+        assertEquals("[{\"id\": 1},\n{\"id\": 2}]", new String(splitter.nextSplit(in, 100), StandardCharsets.UTF_8));
+        assertNull(splitter.nextSplit(in, 100));
+
+        // The rest of the content is made readable as an array once the split prefix is put in front of it
+        final InputStream remaining = splitter.getRemainingContent(in);
+        assertNotNull(remaining);
+        assertEquals(large.substring(2), IOUtils.toString(remaining, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSplitsReadSameRecords() throws IOException, MalformedRecordException {
+        final RecordSchema schema = createSchema();
+
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            sb.append("{\"id\": ").append(i).append(", \"name\": \"name {").append(i).append("}\"}\n");
+        }
+
+        final List<String> splits = split(sb.toString(), 10_000);
+        assertTrue(splits.size() > 1);
+
+        final List<Record> expected = readRecords(sb.toString(), schema);
+        final List<Record> actual = new ArrayList<>();
+        for (final String split : splits) {
+            actual.addAll(readRecords(split, schema));
+        }
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toMap(), actual.get(i).toMap());
+        }
+    }
+
+    private RecordSchema createSchema() {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        return new SimpleRecordSchema(fields);
+    }
+
+    private List<Record> readRecords(final String content, final RecordSchema schema) throws IOException, MalformedRecordException {
+        final List<Record> records = new ArrayList<>();
+        try (final InputStream in = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+             final JsonTreeRowRecordReader reader = new JsonTreeRowRecordReader(in, Mockito.mock(ComponentLog.class), schema, null, null, null)) {
+
+            Record record;
+            while ((record = reader.nextRecord()) != null) {
+                records.add(record);
+            }
+        }
+
+        return records;
+    }
+}
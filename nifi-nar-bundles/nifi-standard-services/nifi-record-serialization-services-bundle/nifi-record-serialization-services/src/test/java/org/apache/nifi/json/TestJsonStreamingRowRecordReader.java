@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.json;
+
+import org.apache.avro.Schema;
+import org.apache.nifi.avro.AvroTypeUtil;
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.serialization.MalformedRecordException;
+import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class TestJsonStreamingRowRecordReader {
+    private final String dateFormat = RecordFieldType.DATE.getDefaultFormat();
+    private final String timeFormat = RecordFieldType.TIME.getDefaultFormat();
+    private final String timestampFormat = RecordFieldType.TIMESTAMP.getDefaultFormat();
+
+    private List<RecordField> getDefaultFields() {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("balance", RecordFieldType.DOUBLE.getDataType()));
+        fields.add(new RecordField("address", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("city", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("state", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("zipCode", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("country", RecordFieldType.STRING.getDataType()));
+        return fields;
+    }
+
+    @Test
+    public void testSameRecordsAsTreeReader() throws IOException, MalformedRecordException {
+        final RecordSchema schema = new SimpleRecordSchema(getDefaultFields());
+
+        final String[] files = new String[] {"bank-account-array.json", "bank-account-array-optional-balance.json", "bank-account-multiline.json",
+            "bank-account-oneline.json", "bank-account-multiarray.json", "bank-account-mixed.json", "single-bank-account.json",
+            "single-element-nested.json", "single-element-nested-array.json", "json-with-unicode.json", "prov-events.json"};
+
+        for (final String file : files) {
+            assertSameRecords(new File("src/test/resources/json/" + file), schema);
+            assertSameRecords(new File("src/test/resources/json/" + file), new SimpleRecordSchema(Collections.emptyList()));
+        }
+    }
+
+    @Test
+    public void testSameRecordsForNestedSchema() throws IOException, MalformedRecordException {
+        final List<RecordField> accountFields = new ArrayList<>();
+        accountFields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        accountFields.add(new RecordField("balance", RecordFieldType.DOUBLE.getDataType()));
+        final DataType accountType = RecordFieldType.RECORD.getRecordDataType(new SimpleRecordSchema(accountFields));
+
+        final List<RecordField> fields = getDefaultFields();
+        fields.add(new RecordField("account", accountType));
+        fields.add(new RecordField("accounts", RecordFieldType.ARRAY.getArrayDataType(accountType)));
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+
+        assertSameRecords(new File("src/test/resources/json/single-element-nested.json"), schema);
+        assertSameRecords(new File("src/test/resources/json/single-element-nested-array.json"), schema);
+    }
+
+    @Test
+    public void testSameRecordsForRecordChoice() throws IOException, MalformedRecordException {
+        final Schema avroSchema = new Schema.Parser().parse(new File("src/test/resources/json/record-choice.avsc"));
+        final RecordSchema schema = AvroTypeUtil.createSchema(avroSchema);
+
+        assertSameRecords(new File("src/test/resources/json/elements-for-record-choice.json"), schema);
+    }
+
+    @Test
+    public void testAliasPrecedence() throws IOException, MalformedRecordException {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("id", RecordFieldType.INT.getDataType(), new LinkedHashSet<>(Arrays.asList("ident", "identifier"))));
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+
+        final String json = "[{\"identifier\": 3, \"ident\": 2, \"name\": \"a\"}, {\"ident\": 2, \"id\": 1, \"identifier\": 3}, {\"identifier\": 3}]";
+        final List<Map<String, Object>> expected = readAll(new JsonTreeRowRecordReader(toStream(json), Mockito.mock(ComponentLog.class), schema,
+            dateFormat, timeFormat, timestampFormat), true, true);
+        final List<Map<String, Object>> actual = readAll(new JsonStreamingRowRecordReader(toStream(json), Mockito.mock(ComponentLog.class), schema,
+            dateFormat, timeFormat, timestampFormat), true, true);
+
+        assertEquals(expected, actual);
+        assertEquals(2, actual.get(0).get("id"));
+        assertEquals(1, actual.get(1).get("id"));
+        assertEquals(3, actual.get(2).get("id"));
+    }
+
+    @Test
+    public void testUnknownFieldsSkipped() throws IOException, MalformedRecordException {
+        final RecordSchema schema = new SimpleRecordSchema(getDefaultFields());
+        final String json = "{\"id\": 1, \"extra\": {\"nested\": [1, 2, {\"deep\": true}]}, \"name\": \"John\"}\n{\"id\": 2, \"other\": [[], {}]}";
+
+        try (final RecordReader reader = new JsonStreamingRowRecordReader(toStream(json), Mockito.mock(ComponentLog.class), schema,
+            dateFormat, timeFormat, timestampFormat)) {
+
+            final Record first = reader.nextRecord(true, true);
+            assertEquals(1, first.getValue("id"));
+            assertEquals("John", first.getValue("name"));
+            assertFalse(first.toMap().containsKey("extra"));
+            assertFalse(first.getSerializedForm().isPresent());
+
+            final Record second = reader.nextRecord(true, true);
+            assertEquals(2, second.getValue("id"));
+            assertFalse(second.toMap().containsKey("other"));
+
+            assertNull(reader.nextRecord());
+        }
+    }
+
+    @Test
+    public void testRecordAfterConversionFailureIsRead() throws IOException, MalformedRecordException {
+        final RecordSchema schema = new SimpleRecordSchema(getDefaultFields());
+        final String json = "[{\"id\": \"not a number\", \"name\": {\"first\": \"John\"}}, {\"id\": 2, \"name\": \"Jane\"}]";
+
+        try (final RecordReader reader = new JsonStreamingRowRecordReader(toStream(json), Mockito.mock(ComponentLog.class), schema,
+            dateFormat, timeFormat, timestampFormat)) {
+
+            try {
+                reader.nextRecord();
+                fail("Expected a MalformedRecordException");
+            } catch (final MalformedRecordException expected) {
+            }
+
+            final Record record = reader.nextRecord();
+            assertNotNull(record);
+            assertEquals(2, record.getValue("id"));
+            assertEquals("Jane", record.getValue("name"));
+            assertNull(reader.nextRecord());
+        }
+    }
+
+    @Test(expected = MalformedRecordException.class)
+    public void testIncorrectTopLevelToken() throws IOException, MalformedRecordException {
+        final RecordSchema schema = new SimpleRecordSchema(getDefaultFields());
+
+        try (final RecordReader reader = new JsonStreamingRowRecordReader(toStream("{\"id\": 1} 5"), Mockito.mock(ComponentLog.class), schema,
+            dateFormat, timeFormat, timestampFormat)) {
+            assertNotNull(reader.nextRecord());
+            reader.nextRecord();
+        }
+    }
+
+    private void assertSameRecords(final File file, final RecordSchema schema) throws IOException, MalformedRecordException {
+        final byte[] data = Files.readAllBytes(file.toPath());
+        final ComponentLog logger = Mockito.mock(ComponentLog.class);
+
+        for (final boolean coerceTypes : new boolean[] {true, false}) {
+            for (final boolean dropUnknown : new boolean[] {true, false}) {
+                final List<Map<String, Object>> expected = readAll(new JsonTreeRowRecordReader(new ByteArrayInputStream(data), logger, schema,
+                    dateFormat, timeFormat, timestampFormat), coerceTypes, dropUnknown);
+                final List<Map<String, Object>> actual = readAll(new JsonStreamingRowRecordReader(new ByteArrayInputStream(data), logger, schema,
+                    dateFormat, timeFormat, timestampFormat), coerceTypes, dropUnknown);
+
+                assertEquals("Records differ for " + file + " with coerceTypes=" + coerceTypes + ", dropUnknown=" + dropUnknown, expected, actual);
+            }
+        }
+    }
+
+    private List<Map<String, Object>> readAll(final RecordReader reader, final boolean coerceTypes, final boolean dropUnknown) throws IOException, MalformedRecordException {
+        final List<Map<String, Object>> records = new ArrayList<>();
+        try {
+            Record record;
+            while ((record = reader.nextRecord(coerceTypes, dropUnknown)) != null) {
+                records.add(toComparable(record));
+            }
+        } finally {
+            reader.close();
+        }
+
+        return records;
+    }
+
+    private Map<String, Object> toComparable(final Record record) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("schema", record.getSchema());
+        for (final Map.Entry<String, Object> entry : record.toMap().entrySet()) {
+            map.put(entry.getKey(), toComparable(entry.getValue()));
+        }
+        return map;
+    }
+
+    private Object toComparable(final Object value) {
+        if (value instanceof Record) {
+            return toComparable((Record) value);
+        }
+        if (value instanceof Object[]) {
+            final List<Object> list = new ArrayList<>();
+            for (final Object element : (Object[]) value) {
+                list.add(toComparable(element));
+            }
+            return list;
+        }
+        if (value instanceof Map) {
+            final Map<Object, Object> map = new LinkedHashMap<>();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), toComparable(entry.getValue()));
+            }
+            return map;
+        }
+        return value;
+    }
+
+    private InputStream toStream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.schema.inference;
+
+import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.controller.ConfigurationContext;
+import org.apache.nifi.reporting.InitializationException;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.util.MockConfigurationContext;
+import org.apache.nifi.util.MockControllerServiceInitializationContext;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestPersistentSchemaCache {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private PersistentSchemaCache createCache(final File directory) throws InitializationException {
+        return createCache(directory, 100);
+    }
+
+    private PersistentSchemaCache createCache(final File directory, final int maxPersistedSchemas) throws InitializationException {
+        final Map<PropertyDescriptor, String> properties = new HashMap<>();
+        properties.put(PersistentSchemaCache.DIRECTORY, directory.getAbsolutePath());
+        properties.put(PersistentSchemaCache.MAX_SIZE, "100");
+        properties.put(PersistentSchemaCache.MAX_PERSISTED_SCHEMAS, String.valueOf(maxPersistedSchemas));
+        final ConfigurationContext configContext = new MockConfigurationContext(properties, null);
+
+        final PersistentSchemaCache cache = new PersistentSchemaCache();
+        cache.initialize(new MockControllerServiceInitializationContext(cache, "id"));
+        cache.setup(configContext);
+        return cache;
+    }
+
+    private RecordSchema createSchema(final DataType dataType) {
+        final List<RecordField> fields = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            fields.add(new RecordField(String.valueOf(i), dataType));
+        }
+
+        return new SimpleRecordSchema(fields);
+    }
+
+    private void setLastModifiedTime(final File directory, final String identifier, final long millis) throws Exception {
+        Files.setLastModifiedTime(new File(directory, identifier + ".schema.json").toPath(), FileTime.fromMillis(millis));
+    }
+
+    @Test
+    public void testEqualSchemasSameIdentifier() throws Exception {
+        final PersistentSchemaCache cache = createCache(tempFolder.newFolder());
+
+        final String firstId = cache.cacheSchema(createSchema(RecordFieldType.STRING.getDataType()));
+        final String secondId = cache.cacheSchema(createSchema(RecordFieldType.STRING.getDataType()));
+        assertEquals(firstId, secondId);
+    }
+
+    @Test
+    public void testDifferentSchemasDifferentIdentifier() throws Exception {
+        final PersistentSchemaCache cache = createCache(tempFolder.newFolder());
+
+        final String firstId = cache.cacheSchema(createSchema(RecordFieldType.STRING.getDataType()));
+        final String secondId = cache.cacheSchema(createSchema(RecordFieldType.INT.getDataType()));
+        assertNotEquals(firstId, secondId);
+    }
+
+    @Test
+    public void testSchemaSharedThroughDirectory() throws Exception {
+        final File directory = tempFolder.newFolder();
+
+        final List<RecordField> childFields = new ArrayList<>();
+        childFields.add(new RecordField("timestamp", RecordFieldType.TIMESTAMP.getDataType("yyyy/MM/dd HH:mm:ss"), Collections.singleton("ts")));
+        childFields.add(new RecordField("value", RecordFieldType.CHOICE.getChoiceDataType(RecordFieldType.INT.getDataType(), RecordFieldType.STRING.getDataType()), false));
+        final RecordSchema childSchema = new SimpleRecordSchema(childFields);
+
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        fields.add(new RecordField("readings", RecordFieldType.ARRAY.getArrayDataType(RecordFieldType.RECORD.getRecordDataType(childSchema))));
+        fields.add(new RecordField("tags", RecordFieldType.MAP.getMapDataType(RecordFieldType.STRING.getDataType())));
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+
+        final String identifier = createCache(directory).cacheSchema(schema);
+
+        // A second cache using the same directory, as another node or the same node after a restart would, finds the schema and gives it the same identifier.
+        final PersistentSchemaCache otherCache = createCache(directory);
+        final Optional<RecordSchema> cachedSchema = otherCache.getSchema(identifier);
+        assertTrue(cachedSchema.isPresent());
+        assertEquals(schema, cachedSchema.get());
+        assertEquals(identifier, otherCache.cacheSchema(schema));
+    }
+
+    @Test
+    public void testSchemaWithDefaultValueCachedInMemoryOnly() throws Exception {
+        final File directory = tempFolder.newFolder();
+
+        final RecordSchema schema = new SimpleRecordSchema(Collections.singletonList(new RecordField("name", RecordFieldType.STRING.getDataType(), "unknown")));
+        final PersistentSchemaCache cache = createCache(directory);
+        final String identifier = cache.cacheSchema(schema);
+
+        assertEquals(schema, cache.getSchema(identifier).get());
+        assertEquals(identifier, cache.cacheSchema(schema));
+        assertFalse(createCache(directory).getSchema(identifier).isPresent());
+    }
+
+    @Test
+    public void testLeastRecentlyWrittenSchemasDeleted() throws Exception {
+        final File directory = tempFolder.newFolder();
+        final PersistentSchemaCache cache = createCache(directory, 2);
+
+        final String stringId = cache.cacheSchema(createSchema(RecordFieldType.STRING.getDataType()));
+        final String intId = cache.cacheSchema(createSchema(RecordFieldType.INT.getDataType()));
+        setLastModifiedTime(directory, stringId, 1000L);
+        setLastModifiedTime(directory, intId, 2000L);
+        assertEquals(2, directory.list().length);
+
+        final String longId = cache.cacheSchema(createSchema(RecordFieldType.LONG.getDataType()));
+        assertEquals(2, directory.list().length);
+
+        final PersistentSchemaCache otherCache = createCache(directory, 2);
+        assertFalse(otherCache.getSchema(stringId).isPresent());
+        assertTrue(otherCache.getSchema(intId).isPresent());
+        assertTrue(otherCache.getSchema(longId).isPresent());
+
+        // The schemas are also pruned when a cache with a lower maximum is enabled
+        setLastModifiedTime(directory, longId, 3000L);
+        final PersistentSchemaCache smallerCache = createCache(directory, 1);
+        assertEquals(1, directory.list().length);
+        assertTrue(smallerCache.getSchema(longId).isPresent());
+    }
+
+    @Test
+    public void testIdentifierOutsideDirectoryNotFound() throws Exception {
+        final File directory = tempFolder.newFolder();
+        final PersistentSchemaCache cache = createCache(directory);
+        cache.cacheSchema(createSchema(RecordFieldType.STRING.getDataType()));
+
+        assertFalse(cache.getSchema("../" + directory.getName() + "/abc").isPresent());
+        assertFalse(cache.getSchema("unknown").isPresent());
+    }
+}